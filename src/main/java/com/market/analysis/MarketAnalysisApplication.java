@@ -2,17 +2,31 @@ package com.market.analysis;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Market Analysis Application Entry Point.
  * Spring Boot main application class.
  */
 @SpringBootApplication
+@ConfigurationPropertiesScan
 @EnableCaching
+@EnableScheduling
 public class MarketAnalysisApplication {
 
+    /**
+     * Maximum number of recorded startup steps. Enough for an eager start;
+     * steps past the limit are dropped.
+     */
+    private static final int STARTUP_STEP_CAPACITY = 8192;
+
     public static void main(String[] args) {
-        SpringApplication.run(MarketAnalysisApplication.class, args);
+        SpringApplication application = new SpringApplication(MarketAnalysisApplication.class);
+        // Records startup steps for the startup report and the actuator startup endpoint
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        application.run(args);
     }
 }
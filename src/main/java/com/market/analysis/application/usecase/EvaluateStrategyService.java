@@ -0,0 +1,113 @@
+package com.market.analysis.application.usecase;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.market.analysis.domain.model.AnalysisResult;
+import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.domain.model.TickerData;
+import com.market.analysis.domain.model.Timeframe;
+import com.market.analysis.domain.port.in.EvaluateStrategyUseCase;
+import com.market.analysis.domain.port.in.FetchMarketDataUseCase;
+import com.market.analysis.domain.port.out.AnalysisHistoryRepository;
+import com.market.analysis.domain.service.CompiledPortfolio;
+import com.market.analysis.domain.service.CompiledPortfolioCache;
+import com.market.analysis.domain.service.EvaluationBuffer;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service implementing strategy evaluation use cases.
+ * Compiles strategies into a shared evaluation DAG once and evaluates it
+ * against every requested ticker. Compiled portfolios come from the
+ * {@link CompiledPortfolioCache}, so unchanged strategies are not recompiled
+ * per call. Every result is handed over to the
+ * analysis history, which persists it asynchronously; results it rejects
+ * are still returned and logged as missing from the history. Screening only
+ * materializes matches and does not record history. Screening by ticker
+ * symbol loads the bars of every timeframe the compiled rules reference.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class EvaluateStrategyService implements EvaluateStrategyUseCase {
+
+    private final CompiledPortfolioCache compiledPortfolioCache;
+    private final FetchMarketDataUseCase fetchMarketDataUseCase;
+    private final AnalysisHistoryRepository analysisHistoryRepository;
+
+    @Override
+    public AnalysisResult evaluateStrategy(Strategy strategy, TickerData tickerData) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Strategy cannot be null");
+        }
+        if (tickerData == null) {
+            throw new IllegalArgumentException("TickerData cannot be null");
+        }
+        AnalysisResult result = compiledPortfolioCache.get(List.of(strategy)).evaluate(tickerData).get(0);
+        if (!analysisHistoryRepository.save(result)) {
+            log.warn("Analysis history rejected the result of {} on {}", strategy.getName(),
+                    result.getTicker());
+        }
+        return result;
+    }
+
+    @Override
+    public List<AnalysisResult> evaluateStrategies(List<Strategy> strategies, List<TickerData> tickers) {
+        if (strategies == null) {
+            throw new IllegalArgumentException("Strategies cannot be null");
+        }
+        if (tickers == null) {
+            throw new IllegalArgumentException("Tickers cannot be null");
+        }
+
+        CompiledPortfolio portfolio = compiledPortfolioCache.get(strategies);
+        List<AnalysisResult> results = new ArrayList<>(strategies.size() * tickers.size());
+        int rejected = 0;
+        for (TickerData tickerData : tickers) {
+            List<AnalysisResult> tickerResults = portfolio.evaluate(tickerData);
+            rejected += tickerResults.size() - analysisHistoryRepository.saveAll(tickerResults);
+            results.addAll(tickerResults);
+        }
+        if (rejected > 0) {
+            log.warn("Analysis history rejected {} of {} results", rejected, results.size());
+        }
+        return results;
+    }
+
+    @Override
+    public List<AnalysisResult> screenStrategies(List<Strategy> strategies, List<TickerData> tickers) {
+        if (strategies == null) {
+            throw new IllegalArgumentException("Strategies cannot be null");
+        }
+        if (tickers == null) {
+            throw new IllegalArgumentException("Tickers cannot be null");
+        }
+
+        return screen(compiledPortfolioCache.get(strategies), tickers);
+    }
+
+    @Override
+    public List<AnalysisResult> screenTickers(List<Strategy> strategies, List<String> tickers, LocalDate from,
+            LocalDate to, Timeframe timeframe) {
+        if (strategies == null) {
+            throw new IllegalArgumentException("Strategies cannot be null");
+        }
+
+        CompiledPortfolio portfolio = compiledPortfolioCache.get(strategies);
+        List<TickerData> tickerData = List.copyOf(fetchMarketDataUseCase
+                .fetchAll(tickers, from, to, timeframe, portfolio.getTimeframes())
+                .values());
+        return screen(portfolio, tickerData);
+    }
+
+    private static List<AnalysisResult> screen(CompiledPortfolio portfolio, List<TickerData> tickers) {
+        EvaluationBuffer buffer = portfolio.newBuffer();
+        List<AnalysisResult> matches = new ArrayList<>();
+        for (TickerData tickerData : tickers) {
+            matches.addAll(portfolio.evaluateMatches(tickerData, buffer));
+        }
+        return matches;
+    }
+}
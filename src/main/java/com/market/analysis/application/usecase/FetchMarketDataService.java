@@ -0,0 +1,105 @@
+package com.market.analysis.application.usecase;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import com.market.analysis.domain.model.BarSeries;
+import com.market.analysis.domain.model.Timeframe;
+import com.market.analysis.domain.model.TickerData;
+import com.market.analysis.domain.port.in.FetchMarketDataUseCase;
+import com.market.analysis.domain.port.out.MarketDataPort;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service implementing market data loading use cases.
+ * Fans out one blocking provider call per ticker and timeframe on the given
+ * executor, which is expected to bound the number of concurrent calls.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class FetchMarketDataService implements FetchMarketDataUseCase {
+
+    private final MarketDataPort marketDataPort;
+    private final Executor marketDataExecutor;
+
+    @Override
+    public Map<String, TickerData> fetchAll(List<String> tickers, LocalDate from, LocalDate to,
+            Timeframe timeframe) {
+        return fetchAll(tickers, from, to, timeframe, Set.of());
+    }
+
+    @Override
+    public Map<String, TickerData> fetchAll(List<String> tickers, LocalDate from, LocalDate to,
+            Timeframe timeframe, Set<Timeframe> additionalTimeframes) {
+        if (tickers == null) {
+            throw new IllegalArgumentException("Tickers cannot be null");
+        }
+        if (from == null || to == null || timeframe == null || additionalTimeframes == null) {
+            throw new IllegalArgumentException("Range and timeframes cannot be null");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Range start cannot be after range end");
+        }
+
+        Set<Timeframe> extra = additionalTimeframes.isEmpty() ? EnumSet.noneOf(Timeframe.class)
+                : EnumSet.copyOf(additionalTimeframes);
+        extra.remove(timeframe);
+
+        List<CompletableFuture<TickerData>> futures = new ArrayList<>(tickers.size());
+        List<Map<Timeframe, CompletableFuture<TickerData>>> extraFutures = new ArrayList<>(tickers.size());
+        for (String ticker : tickers) {
+            futures.add(fetchAsync(ticker, from, to, timeframe));
+            Map<Timeframe, CompletableFuture<TickerData>> perTimeframe = new EnumMap<>(Timeframe.class);
+            for (Timeframe resolution : extra) {
+                perTimeframe.put(resolution, fetchAsync(ticker, from, to, resolution));
+            }
+            extraFutures.add(perTimeframe);
+        }
+
+        Map<String, TickerData> result = new LinkedHashMap<>();
+        for (int i = 0; i < tickers.size(); i++) {
+            TickerData base;
+            try {
+                base = futures.get(i).join();
+            } catch (CompletionException e) {
+                log.warn("Market data for {} unavailable: {}", tickers.get(i), e.getCause().getMessage());
+                continue;
+            }
+            if (extra.isEmpty()) {
+                result.put(tickers.get(i), base);
+                continue;
+            }
+            Map<Timeframe, BarSeries> others = new EnumMap<>(Timeframe.class);
+            for (Map.Entry<Timeframe, CompletableFuture<TickerData>> entry : extraFutures.get(i).entrySet()) {
+                try {
+                    others.put(entry.getKey(), entry.getValue().join().getBars());
+                } catch (CompletionException e) {
+                    log.warn("Market data for {} on {} unavailable: {}", tickers.get(i), entry.getKey(),
+                            e.getCause().getMessage());
+                }
+            }
+            // Rules on a missing timeframe cannot be evaluated, so the ticker is left out as a whole
+            if (others.size() == extra.size()) {
+                result.put(tickers.get(i), base.withTimeframes(timeframe, others));
+            }
+        }
+        return result;
+    }
+
+    private CompletableFuture<TickerData> fetchAsync(String ticker, LocalDate from, LocalDate to,
+            Timeframe timeframe) {
+        return CompletableFuture.supplyAsync(
+                () -> marketDataPort.fetchTickerData(ticker, from, to, timeframe), marketDataExecutor);
+    }
+}
@@ -1,13 +1,25 @@
 package com.market.analysis.application.usecase;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.market.analysis.domain.model.DependencyHealth;
 import com.market.analysis.domain.model.HealthStatus;
 import com.market.analysis.domain.port.out.HealthCheckPort;
 
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -16,59 +28,192 @@ import lombok.extern.slf4j.Slf4j;
  * the overall health status of the application.
  *
  * This service is responsible for:
- * - Verifying database connectivity
+ * - Probing the database, market data provider and caches in the background
  * - Aggregating component health information
  * - Determining overall system status
  * - Providing health status information for monitoring and diagnostics
+ *
+ * Probes run on a schedule and their result is cached, so health endpoints
+ * polled by load balancers are served from memory and never check out
+ * database connections themselves. The schedule runs on a thread of its own,
+ * so a busy or stuck shared scheduler cannot hold the probes back. If no
+ * probe completes for the configured number of intervals anyway, the cached
+ * result is reported as stale: UNKNOWN overall, its dependencies unhealthy.
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class HealthCheckService {
 
     private final HealthCheckPort healthCheckPort;
+    private final Duration probeInterval;
+    private final Duration probeTimeout;
+    private final long staleAfterNanos;
+    // Probes block on I/O and may outlive their timeout: one virtual thread each
+    private final ExecutorService probeExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile HealthStatus lastHealthStatus;
+    private volatile long lastProbeNanos;
+    private ScheduledExecutorService prober;
+
+    public HealthCheckService(HealthCheckPort healthCheckPort,
+            @Value("${analysis.health.probe-interval-ms:5000}") long probeIntervalMs,
+            @Value("${analysis.health.probe-timeout-ms:2000}") long probeTimeoutMs,
+            @Value("${analysis.health.max-missed-probes:3}") int maxMissedProbes) {
+        if (probeIntervalMs <= 0) {
+            throw new IllegalArgumentException("Probe interval must be positive");
+        }
+        if (probeTimeoutMs <= 0) {
+            throw new IllegalArgumentException("Probe timeout must be positive");
+        }
+        if (maxMissedProbes < 1) {
+            throw new IllegalArgumentException("Max missed probes must be at least 1");
+        }
+        this.healthCheckPort = healthCheckPort;
+        this.probeInterval = Duration.ofMillis(probeIntervalMs);
+        this.probeTimeout = Duration.ofMillis(probeTimeoutMs);
+        // A round may take up to the probe timeout on top of its interval
+        this.staleAfterNanos = TimeUnit.MILLISECONDS.toNanos(maxMissedProbes * (probeIntervalMs + probeTimeoutMs));
+    }
+
+    /**
+     * Starts probing in the background, on a dedicated thread, with a fixed
+     * delay between rounds so a slow round never overlaps the next one.
+     */
+    @PostConstruct
+    public void start() {
+        prober = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "health-prober");
+            thread.setDaemon(true);
+            return thread;
+        });
+        prober.scheduleWithFixedDelay(this::refreshInBackground, 0, probeInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
 
     /**
-     * Performs a comprehensive health check of the application.
-     * Verifies database connectivity and evaluates overall system status.
+     * Stops the background probes and interrupts those still running.
+     */
+    @PreDestroy
+    public void stop() {
+        if (prober != null) {
+            prober.shutdownNow();
+        }
+        probeExecutor.shutdownNow();
+    }
+
+    /**
+     * Gets the health status of the application from the last background
+     * probe. Probes synchronously only if no probe has completed yet. A probe
+     * older than the allowed number of missed intervals is reported stale.
      *
      * @return HealthStatus containing current system state and component details
      */
     public HealthStatus performHealthCheck() {
+        HealthStatus healthStatus = lastHealthStatus;
+        if (healthStatus == null) {
+            return refresh();
+        }
+        long ageNanos = System.nanoTime() - lastProbeNanos;
+        return ageNanos > staleAfterNanos ? stale(healthStatus, TimeUnit.NANOSECONDS.toMillis(ageNanos))
+                : healthStatus;
+    }
+
+    /**
+     * Probes every dependency in parallel and caches the result. A probe that
+     * does not answer within the probe timeout counts as unhealthy.
+     *
+     * @return the new health status
+     */
+    public HealthStatus refresh() {
         log.debug("Starting health check");
 
         long startTime = System.currentTimeMillis();
-        boolean databaseHealthy = healthCheckPort.isDatabaseHealthy();
-        long databaseConnectionTime = healthCheckPort.getDatabaseConnectionTime();
+        List<CompletableFuture<DependencyHealth>> probes = List.of(
+                probe(DependencyHealth.DATABASE, true, healthCheckPort::checkDatabase),
+                probe(DependencyHealth.MARKET_DATA, false, healthCheckPort::checkMarketData),
+                probe(DependencyHealth.CACHES, false, healthCheckPort::checkCaches));
+        List<DependencyHealth> dependencies = probes.stream().map(CompletableFuture::join).toList();
         long totalTime = System.currentTimeMillis() - startTime;
 
-        String status = determineOverallStatus(databaseHealthy);
-        String description = generateDescription(status);
-        String details = generateDetails(databaseHealthy, databaseConnectionTime);
-
-        log.info("Health check completed. Status: {}, DatabaseHealthy: {}, TotalTime: {}ms",
-                status, databaseHealthy, totalTime);
-
-        return HealthStatus.builder()
+        boolean databaseHealthy = dependencies.get(0).isHealthy();
+        String status = determineOverallStatus(dependencies);
+        HealthStatus healthStatus = HealthStatus.builder()
                 .status(status)
                 .timestamp(LocalDateTime.now())
                 .databaseHealthy(databaseHealthy)
-                .description(description)
-                .details(details)
+                .description(generateDescription(status))
+                .details(generateDetails(dependencies))
+                .dependencies(dependencies)
+                .build();
+
+        HealthStatus previous = lastHealthStatus;
+        lastProbeNanos = System.nanoTime();
+        lastHealthStatus = healthStatus;
+        if (previous == null || !previous.getStatus().equals(status)) {
+            log.info("Health status is now {}. {}, TotalTime: {}ms", status, healthStatus.getDetails(), totalTime);
+        } else {
+            log.debug("Health check completed. Status: {}, TotalTime: {}ms", status, totalTime);
+        }
+        return healthStatus;
+    }
+
+    // An exception would cancel every later run of the schedule
+    private void refreshInBackground() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.error("Health probe round failed", e);
+        }
+    }
+
+    private static HealthStatus stale(HealthStatus last, long ageMillis) {
+        String detail = "No probe completed for " + ageMillis + "ms";
+        List<DependencyHealth> dependencies = last.getDependencies().stream()
+                .map(dependency -> failed(dependency.getName(), dependency.isCritical(), detail))
+                .toList();
+        return HealthStatus.builder()
+                .status("UNKNOWN")
+                .timestamp(last.getTimestamp())
+                .stale(true)
+                .databaseHealthy(false)
+                .description("Health is unknown. " + detail + "; last status was " + last.getStatus() + ".")
+                .details(last.getDetails())
+                .dependencies(dependencies)
+                .build();
+    }
+
+    private CompletableFuture<DependencyHealth> probe(String name, boolean critical,
+            Supplier<DependencyHealth> check) {
+        return CompletableFuture.supplyAsync(check, probeExecutor)
+                .completeOnTimeout(failed(name, critical, "Timed out after " + probeTimeout.toMillis() + "ms"),
+                        probeTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(e -> failed(name, critical, e.getMessage()));
+    }
+
+    private static DependencyHealth failed(String name, boolean critical, String detail) {
+        return DependencyHealth.builder()
+                .name(name)
+                .healthy(false)
+                .critical(critical)
+                .latencyMillis(-1)
+                .detail(detail)
                 .build();
     }
 
     /**
      * Determines the overall system status based on component health.
      *
-     * @param databaseHealthy true if database is operational
-     * @return status string: "UP", "DOWN", or "DEGRADED"
+     * @param dependencies the probed dependencies
+     * @return status string: "UP", "DOWN" if a critical dependency is
+     *         unhealthy, or "DEGRADED" if any other one is
      */
-    private String determineOverallStatus(boolean databaseHealthy) {
-        if (!databaseHealthy) {
-            log.warn("Database is not healthy. Overall status: DOWN");
+    private String determineOverallStatus(List<DependencyHealth> dependencies) {
+        if (dependencies.stream().anyMatch(dependency -> dependency.isCritical() && !dependency.isHealthy())) {
+            log.warn("A critical dependency is not healthy. Overall status: DOWN");
             return "DOWN";
         }
+        if (dependencies.stream().anyMatch(dependency -> !dependency.isHealthy())) {
+            return "DEGRADED";
+        }
         return "UP";
     }
 
@@ -90,13 +235,16 @@ public class HealthCheckService {
     /**
      * Generates detailed information about component health checks.
      *
-     * @param databaseHealthy        true if database is operational
-     * @param databaseConnectionTime connection verification time in milliseconds
-     * @return detailed status information
+     * @param dependencies the probed dependencies
+     * @return detailed status information, e.g. "Database: Healthy (3ms)" for
+     *         each dependency
      */
-    private String generateDetails(boolean databaseHealthy, long databaseConnectionTime) {
-        return String.format("Database: %s (%dms)",
-                databaseHealthy ? "Healthy" : "Unhealthy",
-                databaseConnectionTime);
+    private String generateDetails(List<DependencyHealth> dependencies) {
+        return dependencies.stream()
+                .map(dependency -> String.format("%s: %s (%dms)",
+                        dependency.getName(),
+                        dependency.isHealthy() ? "Healthy" : "Unhealthy",
+                        dependency.getLatencyMillis()))
+                .collect(Collectors.joining(", "));
     }
 }
@@ -2,6 +2,7 @@ package com.market.analysis.application.usecase;
 
 import java.util.List;
 
+import com.market.analysis.domain.model.KeysetPage;
 import com.market.analysis.domain.model.ProhibitedTicker;
 import com.market.analysis.domain.port.in.ManageProhibitedTickerUseCase;
 import com.market.analysis.domain.port.out.ProhibitedTickerRepository;
@@ -22,6 +23,13 @@ public class ManageProhibitedTickerService implements ManageProhibitedTickerUseC
         return prohibitedTickerRepository.findAll();
     }
 
+    @Override
+    public KeysetPage<ProhibitedTicker, String> getProhibitedTickersPage(String afterTicker, int limit) {
+        KeysetPage.validateLimit(limit);
+        return KeysetPage.of(prohibitedTickerRepository.findPage(afterTicker, limit + 1), limit,
+                ProhibitedTicker::getTicker);
+    }
+
     @Override
     public boolean isTickerProhibited(String ticker) {
         return prohibitedTickerRepository.existsByTicker(ticker);
@@ -3,20 +3,25 @@ package com.market.analysis.application.usecase;
 import java.util.List;
 
 import com.market.analysis.domain.exception.RuleDefinitionNotFoundException;
+import com.market.analysis.domain.model.KeysetPage;
 import com.market.analysis.domain.model.RuleDefinition;
 import com.market.analysis.domain.port.in.ManageRuleDefinitionUseCase;
 import com.market.analysis.domain.port.out.RuleDefinitionRepository;
+import com.market.analysis.domain.service.RuleDefinitionRegistry;
 
 import lombok.RequiredArgsConstructor;
 
 /**
  * Service implementing rule definition management use cases.
  * Coordinates operations on rule definitions through the repository port.
+ * Every committed write refreshes the {@link RuleDefinitionRegistry} used by
+ * the evaluation engine.
  */
 @RequiredArgsConstructor
 public class ManageRuleDefinitionService implements ManageRuleDefinitionUseCase {
 
     private final RuleDefinitionRepository ruleDefinitionRepository;
+    private final RuleDefinitionRegistry ruleDefinitionRegistry;
 
     @Override
     public RuleDefinition createRuleDefinition(RuleDefinition ruleDefinition) {
@@ -32,7 +37,9 @@ public class ManageRuleDefinitionService implements ManageRuleDefinitionUseCase
             throw new IllegalArgumentException("RuleDefinition with code '" + ruleDefinition.getCode() + "' already exists");
         }
         
-        return ruleDefinitionRepository.save(ruleDefinition);
+        RuleDefinition saved = ruleDefinitionRepository.save(ruleDefinition);
+        ruleDefinitionRegistry.refresh();
+        return saved;
     }
 
     @Override
@@ -40,6 +47,12 @@ public class ManageRuleDefinitionService implements ManageRuleDefinitionUseCase
         return ruleDefinitionRepository.findAll();
     }
 
+    @Override
+    public KeysetPage<RuleDefinition, Long> getRuleDefinitionsPage(Long afterId, int limit) {
+        KeysetPage.validate(afterId, limit);
+        return KeysetPage.of(ruleDefinitionRepository.findPage(afterId, limit + 1), limit, RuleDefinition::getId);
+    }
+
     @Override
     public RuleDefinition getRuleDefinitionById(Long id) {
         return ruleDefinitionRepository.findById(id)
@@ -60,7 +73,9 @@ public class ManageRuleDefinitionService implements ManageRuleDefinitionUseCase
             throw new RuleDefinitionNotFoundException("RuleDefinition not found with id: " + ruleDefinition.getId());
         }
         
-        return ruleDefinitionRepository.save(ruleDefinition);
+        RuleDefinition saved = ruleDefinitionRepository.save(ruleDefinition);
+        ruleDefinitionRegistry.refresh();
+        return saved;
     }
 
     @Override
@@ -69,5 +84,6 @@ public class ManageRuleDefinitionService implements ManageRuleDefinitionUseCase
             throw new RuleDefinitionNotFoundException("RuleDefinition not found with id: " + id);
         }
         ruleDefinitionRepository.deleteById(id);
+        ruleDefinitionRegistry.refresh();
     }
 }
@@ -2,6 +2,8 @@ package com.market.analysis.application.usecase;
 
 import java.util.List;
 
+import com.market.analysis.domain.exception.StrategyNotFoundException;
+import com.market.analysis.domain.model.KeysetPage;
 import com.market.analysis.domain.model.RuleDefinition;
 import com.market.analysis.domain.model.Strategy;
 import com.market.analysis.domain.port.in.ManageStrategyUseCase;
@@ -23,15 +25,30 @@ public class ManageStrategyService implements ManageStrategyUseCase {
         return strategyRepository.save(strategy);
     }
 
+    @Override
+    public Strategy updateStrategy(Strategy strategy) {
+        if (strategy.getId() == null) {
+            throw new IllegalArgumentException("Strategy ID is required for an update");
+        }
+        strategy.validateConsistency();
+        return strategyRepository.save(strategy);
+    }
+
     @Override
     public List<Strategy> getAllStrategies() {
         return strategyRepository.findAll();
     }
 
+    @Override
+    public KeysetPage<Strategy, Long> getStrategiesPage(Long afterId, int limit) {
+        KeysetPage.validate(afterId, limit);
+        return KeysetPage.of(strategyRepository.findPage(afterId, limit + 1), limit, Strategy::getId);
+    }
+
     @Override
     public Strategy getStrategyById(Long strategyId) {
         return strategyRepository.findById(strategyId)
-                .orElseThrow(() -> new RuntimeException("Strategy not found with id: " + strategyId));
+                .orElseThrow(() -> new StrategyNotFoundException("Strategy not found with id: " + strategyId));
     }
 
     @Override
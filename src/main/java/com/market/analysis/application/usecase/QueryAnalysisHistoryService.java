@@ -0,0 +1,34 @@
+package com.market.analysis.application.usecase;
+
+import java.time.LocalDate;
+
+import com.market.analysis.domain.model.StrategyPassSummary;
+import com.market.analysis.domain.port.in.QueryAnalysisHistoryUseCase;
+import com.market.analysis.domain.port.out.AnalysisHistoryRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service implementing analysis history query use cases.
+ * Coordinates read operations on the analysis history through the repository
+ * port.
+ */
+@RequiredArgsConstructor
+public class QueryAnalysisHistoryService implements QueryAnalysisHistoryUseCase {
+
+    private final AnalysisHistoryRepository analysisHistoryRepository;
+
+    @Override
+    public StrategyPassSummary getStrategyPassSummary(Long strategyId, LocalDate from, LocalDate to) {
+        if (strategyId == null) {
+            throw new IllegalArgumentException("Strategy ID cannot be null");
+        }
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Period bounds cannot be null");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Period start cannot be after period end");
+        }
+        return analysisHistoryRepository.summarizePasses(strategyId, from, to);
+    }
+}
@@ -0,0 +1,119 @@
+package com.market.analysis.application.usecase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.market.analysis.domain.model.KeysetPage;
+import com.market.analysis.domain.model.Rule;
+import com.market.analysis.domain.model.RuleDefinition;
+import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.domain.port.in.TransferStrategiesUseCase;
+import com.market.analysis.domain.port.out.StrategyRepository;
+import com.market.analysis.domain.service.PortfolioCompiler;
+import com.market.analysis.domain.service.RuleDefinitionRegistry;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service implementing strategy import and export.
+ * Imports resolve rule codes against one {@link RuleDefinitionRegistry}
+ * snapshot instead of a query per rule, and hand the whole set to the
+ * repository as a single batched write. Each imported strategy is compiled
+ * first, so nothing is stored that evaluation would reject.
+ */
+@RequiredArgsConstructor
+public class TransferStrategiesService implements TransferStrategiesUseCase {
+
+    static final int EXPORT_PAGE_SIZE = KeysetPage.MAX_LIMIT;
+
+    private final StrategyRepository strategyRepository;
+    private final RuleDefinitionRegistry ruleDefinitionRegistry;
+    private final PortfolioCompiler portfolioCompiler;
+
+    @Override
+    public int importStrategies(List<Strategy> strategies) {
+        if (strategies == null) {
+            throw new IllegalArgumentException("Strategies cannot be null");
+        }
+        if (strategies.size() > MAX_IMPORT_SIZE) {
+            throw new IllegalArgumentException("An import cannot contain more than " + MAX_IMPORT_SIZE + " strategies");
+        }
+        if (strategies.isEmpty()) {
+            return 0;
+        }
+
+        RuleDefinitionRegistry.Snapshot definitions = ruleDefinitionRegistry.snapshot();
+        List<Strategy> created = new ArrayList<>(strategies.size());
+        for (int i = 0; i < strategies.size(); i++) {
+            try {
+                Strategy strategy = toNewStrategy(strategies.get(i), definitions);
+                // Fails on operators, expressions and indicators the evaluator would reject
+                portfolioCompiler.compile(List.of(strategy));
+                created.add(strategy);
+            } catch (IllegalArgumentException | IllegalStateException e) {
+                throw new IllegalArgumentException("Strategy " + (i + 1) + ": " + e.getMessage(), e);
+            }
+        }
+
+        strategyRepository.saveAll(created);
+        return created.size();
+    }
+
+    @Override
+    public void exportStrategies(Consumer<Strategy> sink) {
+        Long after = null;
+        List<Strategy> page;
+        do {
+            page = strategyRepository.findPage(after, EXPORT_PAGE_SIZE);
+            for (Strategy strategy : page) {
+                sink.accept(strategy);
+                after = strategy.getId();
+            }
+        } while (page.size() == EXPORT_PAGE_SIZE);
+    }
+
+    private static Strategy toNewStrategy(Strategy strategy, RuleDefinitionRegistry.Snapshot definitions) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Strategy cannot be null");
+        }
+        strategy.validateConsistency();
+
+        List<Rule> rules = new ArrayList<>(strategy.getRules().size());
+        for (Rule rule : strategy.getRules()) {
+            checkOperand(rule, rule.getSubjectCode(), rule.getSubjectParam(), definitions);
+            checkOperand(rule, rule.getTargetCode(), rule.getTargetParam(), definitions);
+            rules.add(Rule.builder()
+                    .name(rule.getName())
+                    .subjectCode(rule.getSubjectCode())
+                    .subjectParam(rule.getSubjectParam())
+                    .subjectTimeframe(rule.getSubjectTimeframe())
+                    .operator(rule.getOperator())
+                    .targetCode(rule.getTargetCode())
+                    .targetParam(rule.getTargetParam())
+                    .targetTimeframe(rule.getTargetTimeframe())
+                    .description(rule.getDescription())
+                    .build());
+        }
+        return Strategy.builder()
+                .name(strategy.getName())
+                .description(strategy.getDescription())
+                .rules(rules)
+                .expression(strategy.getExpression())
+                .build();
+    }
+
+    private static void checkOperand(Rule rule, String code, Double param,
+            RuleDefinitionRegistry.Snapshot definitions) {
+        int id;
+        try {
+            id = definitions.requireIndicator(code);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Rule '" + rule.getName() + "' uses unsupported code '" + code + "'", e);
+        }
+        RuleDefinition definition = definitions.definition(id);
+        if (definition != null && definition.isRequiresParam() && param == null) {
+            throw new IllegalArgumentException("Rule '" + rule.getName() + "' needs a parameter for '" + code + "'");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.market.analysis.domain.exception;
+
+/**
+ * Exception thrown when market data cannot be obtained from the provider.
+ * This is a domain-level exception that hides provider specific failures.
+ */
+public class MarketDataUnavailableException extends RuntimeException {
+
+    /**
+     * Constructs a new MarketDataUnavailableException with the specified detail message.
+     * 
+     * @param message the detail message
+     */
+    public MarketDataUnavailableException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new MarketDataUnavailableException with the specified detail message and cause.
+     * 
+     * @param message the detail message
+     * @param cause the cause
+     */
+    public MarketDataUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,17 @@
+package com.market.analysis.domain.exception;
+
+/**
+ * Exception thrown when a Strategy is not found.
+ * This is a domain-level exception that represents a business rule violation.
+ */
+public class StrategyNotFoundException extends RuntimeException {
+
+    /**
+     * Constructs a new StrategyNotFoundException with the specified detail message.
+     * 
+     * @param message the detail message
+     */
+    public StrategyNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,28 @@
+package com.market.analysis.domain.exception;
+
+/**
+ * Exception thrown when a Strategy is updated from a stale version, i.e. it
+ * was changed by someone else since it was read.
+ * This is a domain-level exception that represents a business rule violation.
+ */
+public class StrategyVersionConflictException extends RuntimeException {
+
+    /**
+     * Constructs a new StrategyVersionConflictException with the specified detail message.
+     * 
+     * @param message the detail message
+     */
+    public StrategyVersionConflictException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new StrategyVersionConflictException with the specified detail message and cause.
+     * 
+     * @param message the detail message
+     * @param cause   the underlying optimistic locking failure
+     */
+    public StrategyVersionConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -3,6 +3,7 @@ package com.market.analysis.domain.model;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
@@ -57,12 +58,13 @@ public class AnalysisResult {
     private final String summary;
 
     /**
-     * Gets an immutable copy of the rule results list.
+     * Gets the rule results. The list is copied once by the builder and the
+     * same unmodifiable view is returned on every call.
      *
      * @return unmodifiable list of rule results
      */
     public List<RuleResult> getRuleResults() {
-        return ruleResults != null ? List.copyOf(ruleResults) : List.of();
+        return ruleResults != null ? ruleResults : List.of();
     }
 
     /**
@@ -121,7 +123,8 @@ public class AnalysisResult {
      */
     public static class AnalysisResultBuilder {
         public AnalysisResultBuilder ruleResults(List<RuleResult> ruleResults) {
-            this.ruleResults = ruleResults != null ? new ArrayList<>(ruleResults) : new ArrayList<>();
+            this.ruleResults = ruleResults != null ? Collections.unmodifiableList(new ArrayList<>(ruleResults))
+                    : List.of();
             return this;
         }
     }
@@ -0,0 +1,157 @@
+package com.market.analysis.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Heap implementation of BarSeries backed by primitive arrays.
+ * Used for small series and for data that has not been loaded into the bar
+ * cache.
+ */
+public final class ArrayBarSeries implements BarSeries {
+
+    private static final ArrayBarSeries EMPTY = new ArrayBarSeries(new long[0], new double[0], new double[0],
+            new double[0], new double[0], new double[0]);
+
+    private final long[] timestamps;
+    private final double[] opens;
+    private final double[] highs;
+    private final double[] lows;
+    private final double[] closes;
+    private final double[] volumes;
+
+    /**
+     * Creates a series from column arrays of equal length. The arrays are
+     * copied.
+     *
+     * @param timestamps bar start times in epoch milliseconds
+     * @param opens      opening prices
+     * @param highs      highest prices
+     * @param lows       lowest prices
+     * @param closes     closing prices
+     * @param volumes    traded volumes
+     * @throws IllegalArgumentException if any array is null or lengths differ
+     */
+    public ArrayBarSeries(long[] timestamps, double[] opens, double[] highs, double[] lows, double[] closes,
+            double[] volumes) {
+        if (timestamps == null || opens == null || highs == null || lows == null || closes == null
+                || volumes == null) {
+            throw new IllegalArgumentException("Bar columns cannot be null");
+        }
+        int size = timestamps.length;
+        if (opens.length != size || highs.length != size || lows.length != size || closes.length != size
+                || volumes.length != size) {
+            throw new IllegalArgumentException("Bar columns must have the same length");
+        }
+        this.timestamps = timestamps.clone();
+        this.opens = opens.clone();
+        this.highs = highs.clone();
+        this.lows = lows.clone();
+        this.closes = closes.clone();
+        this.volumes = volumes.clone();
+    }
+
+    /**
+     * Converts market data points into a primitive series.
+     *
+     * @param points the market data points, oldest first
+     * @return the bar series (empty if points is null or empty)
+     */
+    public static ArrayBarSeries of(List<MarketDataPoint> points) {
+        if (points == null || points.isEmpty()) {
+            return EMPTY;
+        }
+        int size = points.size();
+        long[] timestamps = new long[size];
+        double[] opens = new double[size];
+        double[] highs = new double[size];
+        double[] lows = new double[size];
+        double[] closes = new double[size];
+        double[] volumes = new double[size];
+        for (int i = 0; i < size; i++) {
+            MarketDataPoint point = points.get(i);
+            LocalDateTime date = point.getDate();
+            timestamps[i] = date != null ? date.toInstant(ZoneOffset.UTC).toEpochMilli() : 0L;
+            opens[i] = toDouble(point.getOpen());
+            highs[i] = toDouble(point.getHigh());
+            lows[i] = toDouble(point.getLow());
+            closes[i] = toDouble(point.getClose());
+            volumes[i] = point.getVolume() != null ? point.getVolume() : Double.NaN;
+        }
+        return new ArrayBarSeries(timestamps, opens, highs, lows, closes, volumes);
+    }
+
+    /**
+     * Copies any series into heap arrays.
+     *
+     * @param bars the source series
+     * @return a heap copy of the bars
+     */
+    public static ArrayBarSeries copyOf(BarSeries bars) {
+        if (bars instanceof ArrayBarSeries arrayBars) {
+            return arrayBars;
+        }
+        int size = bars.size();
+        long[] timestamps = new long[size];
+        double[] opens = new double[size];
+        double[] highs = new double[size];
+        double[] lows = new double[size];
+        double[] closes = new double[size];
+        double[] volumes = new double[size];
+        for (int i = 0; i < size; i++) {
+            timestamps[i] = bars.timestamp(i);
+            opens[i] = bars.open(i);
+            highs[i] = bars.high(i);
+            lows[i] = bars.low(i);
+            closes[i] = bars.close(i);
+            volumes[i] = bars.volume(i);
+        }
+        return new ArrayBarSeries(timestamps, opens, highs, lows, closes, volumes);
+    }
+
+    @Override
+    public int size() {
+        return timestamps.length;
+    }
+
+    @Override
+    public long timestamp(int index) {
+        return timestamps[index];
+    }
+
+    @Override
+    public double open(int index) {
+        return opens[index];
+    }
+
+    @Override
+    public double high(int index) {
+        return highs[index];
+    }
+
+    @Override
+    public double low(int index) {
+        return lows[index];
+    }
+
+    @Override
+    public double close(int index) {
+        return closes[index];
+    }
+
+    @Override
+    public double volume(int index) {
+        return volumes[index];
+    }
+
+    @Override
+    public String toString() {
+        return "ArrayBarSeries(size=" + size() + ")";
+    }
+
+    private static double toDouble(BigDecimal value) {
+        return value == null ? Double.NaN : value.doubleValue();
+    }
+}
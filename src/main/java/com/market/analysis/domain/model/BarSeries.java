@@ -0,0 +1,117 @@
+package com.market.analysis.domain.model;
+
+/**
+ * Read-only series of OHLCV bars with primitive accessors.
+ * Bars are ordered from oldest (index 0) to newest (index size() - 1).
+ *
+ * Implementations may be backed by heap arrays or by off-heap memory, so
+ * indicator code should only use these accessors and never retain boxed
+ * copies. Missing values are reported as {@link Double#NaN}.
+ */
+public interface BarSeries {
+
+    /**
+     * Gets the number of bars in the series.
+     *
+     * @return bar count
+     */
+    int size();
+
+    /**
+     * Gets the bar start time.
+     *
+     * @param index bar index
+     * @return epoch milliseconds (UTC)
+     */
+    long timestamp(int index);
+
+    /**
+     * Gets the opening price of a bar.
+     *
+     * @param index bar index
+     * @return opening price
+     */
+    double open(int index);
+
+    /**
+     * Gets the highest price of a bar.
+     *
+     * @param index bar index
+     * @return highest price
+     */
+    double high(int index);
+
+    /**
+     * Gets the lowest price of a bar.
+     *
+     * @param index bar index
+     * @return lowest price
+     */
+    double low(int index);
+
+    /**
+     * Gets the closing price of a bar.
+     *
+     * @param index bar index
+     * @return closing price
+     */
+    double close(int index);
+
+    /**
+     * Gets the traded volume of a bar.
+     *
+     * @param index bar index
+     * @return traded volume
+     */
+    double volume(int index);
+
+    /**
+     * Checks if the series has no bars.
+     *
+     * @return true if the series is empty
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Gets a view of a contiguous range of bars without copying them.
+     *
+     * @param fromIndex first bar (inclusive)
+     * @param toIndex   last bar (exclusive)
+     * @return the bars in the range
+     * @throws IndexOutOfBoundsException if the range is outside the series
+     */
+    default BarSeries slice(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + fromIndex + ", " + toIndex + ") out of bounds for size " + size());
+        }
+        if (fromIndex == 0 && toIndex == size()) {
+            return this;
+        }
+        return new BarSeriesSlice(this, fromIndex, toIndex - fromIndex);
+    }
+
+    /**
+     * Finds the first bar starting at or after the given time.
+     * Assumes bars are sorted by timestamp.
+     *
+     * @param timestamp epoch milliseconds
+     * @return index of the first bar with timestamp &gt;= the given time, or
+     *         size() if there is none
+     */
+    default int indexOf(long timestamp) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamp(mid) < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
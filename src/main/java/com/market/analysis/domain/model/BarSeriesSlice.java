@@ -0,0 +1,73 @@
+package com.market.analysis.domain.model;
+
+/**
+ * View over a contiguous range of another BarSeries.
+ */
+final class BarSeriesSlice implements BarSeries {
+
+    private final BarSeries source;
+    private final int offset;
+    private final int size;
+
+    BarSeriesSlice(BarSeries source, int offset, int size) {
+        this.source = source;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long timestamp(int index) {
+        return source.timestamp(map(index));
+    }
+
+    @Override
+    public double open(int index) {
+        return source.open(map(index));
+    }
+
+    @Override
+    public double high(int index) {
+        return source.high(map(index));
+    }
+
+    @Override
+    public double low(int index) {
+        return source.low(map(index));
+    }
+
+    @Override
+    public double close(int index) {
+        return source.close(map(index));
+    }
+
+    @Override
+    public double volume(int index) {
+        return source.volume(map(index));
+    }
+
+    @Override
+    public BarSeries slice(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                    "Range [" + fromIndex + ", " + toIndex + ") out of bounds for size " + size);
+        }
+        return new BarSeriesSlice(source, offset + fromIndex, toIndex - fromIndex);
+    }
+
+    @Override
+    public String toString() {
+        return "BarSeriesSlice(size=" + size + ")";
+    }
+
+    private int map(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Bar index " + index + " out of bounds for size " + size);
+        }
+        return offset + index;
+    }
+}
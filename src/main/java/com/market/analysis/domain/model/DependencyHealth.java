@@ -0,0 +1,46 @@
+package com.market.analysis.domain.model;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Value object representing the outcome of probing one dependency of the
+ * application (database, market data provider, caches).
+ */
+@Getter
+@Builder
+@ToString
+public class DependencyHealth {
+
+    public static final String DATABASE = "Database";
+    public static final String MARKET_DATA = "Market data";
+    public static final String CACHES = "Caches";
+
+    /**
+     * Name of the dependency, e.g. "Database".
+     */
+    private final String name;
+
+    /**
+     * Indicates if the dependency is operational.
+     */
+    private final boolean healthy;
+
+    /**
+     * Indicates if the application cannot serve requests without this
+     * dependency. An unhealthy critical dependency makes the application
+     * DOWN, any other one makes it DEGRADED.
+     */
+    private final boolean critical;
+
+    /**
+     * Time taken by the probe in milliseconds, or -1 if it failed or timed out.
+     */
+    private final long latencyMillis;
+
+    /**
+     * Additional information about the probe outcome, may be null.
+     */
+    private final String detail;
+}
@@ -1,6 +1,8 @@
 package com.market.analysis.domain.model;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 import lombok.Builder;
 import lombok.Getter;
@@ -16,7 +18,8 @@ import lombok.ToString;
 public class HealthStatus {
 
     /**
-     * Overall status of the system: UP, DOWN, or DEGRADED.
+     * Overall status of the system: UP, DOWN, DEGRADED, or UNKNOWN when the
+     * probes stopped refreshing.
      */
     private final String status;
 
@@ -25,6 +28,13 @@ public class HealthStatus {
      */
     private final LocalDateTime timestamp;
 
+    /**
+     * Indicates that no probe completed for several probe intervals. The
+     * dependencies are then those of the last completed probe, performed at
+     * {@link #timestamp}, and can no longer be trusted.
+     */
+    private final boolean stale;
+
     /**
      * Indicates if the database connection is healthy.
      */
@@ -39,4 +49,21 @@ public class HealthStatus {
      * Additional details about the health check (e.g., database connection time).
      */
     private final String details;
+
+    /**
+     * Outcome of every dependency probe, in probing order.
+     */
+    @Builder.Default
+    private final List<DependencyHealth> dependencies = List.of();
+
+    /**
+     * Finds the outcome of a dependency probe.
+     *
+     * @param name the dependency name, e.g. {@link DependencyHealth#DATABASE}
+     * @return Optional containing the dependency health, empty if it was not
+     *         probed
+     */
+    public Optional<DependencyHealth> findDependency(String name) {
+        return dependencies.stream().filter(dependency -> dependency.getName().equals(name)).findFirst();
+    }
 }
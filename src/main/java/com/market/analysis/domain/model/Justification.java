@@ -0,0 +1,39 @@
+package com.market.analysis.domain.model;
+
+import java.util.Locale;
+
+/**
+ * Raw inputs of a predicate outcome. The human-readable text is only
+ * formatted when it is read, so screening many tickers does not pay for
+ * justifications nobody renders.
+ *
+ * @param subjectLabel label of the subject operand (e.g., "SMA(50)")
+ * @param subject      resolved subject value
+ * @param operator     operator symbol (e.g., "&gt;", "crosses above")
+ * @param targetLabel  label of the target operand
+ * @param target       resolved target value
+ * @param passed       outcome of the predicate
+ */
+public record Justification(String subjectLabel, double subject, String operator, String targetLabel,
+        double target, boolean passed) {
+
+    /**
+     * Formats the justification.
+     *
+     * @return text such as "SMA(50) = 101.5000 &gt; SMA(200) = 98.2000: passed",
+     *         or an insufficient data message if a value is NaN
+     */
+    public String format() {
+        if (Double.isNaN(subject) || Double.isNaN(target)) {
+            return String.format(Locale.ROOT, "Insufficient data to evaluate %s %s %s",
+                    subjectLabel, operator, targetLabel);
+        }
+        return String.format(Locale.ROOT, "%s = %.4f %s %s = %.4f: %s",
+                subjectLabel, subject, operator, targetLabel, target, passed ? "passed" : "failed");
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
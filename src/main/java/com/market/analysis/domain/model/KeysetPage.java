@@ -0,0 +1,83 @@
+package com.market.analysis.domain.model;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a listing ordered by a unique key (an ID, or e.g. a ticker),
+ * read with keyset pagination: the next page starts after the last key of
+ * this one, so deep pages cost the same as the first and concurrent inserts
+ * do not shift rows between pages.
+ *
+ * @param <T>        type of the items
+ * @param <K>        type of the key
+ * @param items      items of the page, ordered by key
+ * @param nextCursor key to read the next page after, null on the last page
+ */
+public record KeysetPage<T, K>(List<T> items, K nextCursor) {
+
+    /**
+     * Maximum number of items per page.
+     */
+    public static final int MAX_LIMIT = 500;
+
+    public KeysetPage {
+        items = items == null ? List.of() : List.copyOf(items);
+    }
+
+    /**
+     * Checks whether another page follows this one.
+     *
+     * @return true if there is a next page
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Validates a page request.
+     *
+     * @param afterId ID to start after, null for the first page
+     * @param limit   page size
+     * @throws IllegalArgumentException if the cursor is negative or the limit
+     *                                  is outside 1..{@value #MAX_LIMIT}
+     */
+    public static void validate(Long afterId, int limit) {
+        if (afterId != null && afterId < 0) {
+            throw new IllegalArgumentException("Cursor cannot be negative");
+        }
+        validateLimit(limit);
+    }
+
+    /**
+     * Validates the size of a page request.
+     *
+     * @param limit page size
+     * @throws IllegalArgumentException if the limit is outside
+     *                                  1..{@value #MAX_LIMIT}
+     */
+    public static void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+
+    /**
+     * Builds a page from rows read with one row more than the limit, which
+     * tells whether a next page exists without counting.
+     *
+     * @param rows  up to limit + 1 rows ordered by key
+     * @param limit page size
+     * @param keyOf extracts the key of a row
+     * @param <T>   type of the items
+     * @param <K>   type of the key
+     * @return the page
+     */
+    public static <T, K> KeysetPage<T, K> of(List<T> rows, int limit, Function<T, K> keyOf) {
+        if (rows.size() <= limit) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        return new KeysetPage<>(items, keyOf.apply(items.get(limit - 1)));
+    }
+}
@@ -36,7 +36,13 @@ public class Rule {
      */
     private final Double subjectParam;
     /**
-     * The operator for the rule (e.g., ">", "<", "crosses above").
+     * Bar resolution the subject is computed on (e.g., WEEK_1 for a weekly
+     * SMA). Null uses the resolution of the evaluated ticker data.
+     */
+    private final Timeframe subjectTimeframe;
+    /**
+     * The operator for the rule (e.g., ">", "<", "crosses above",
+     * "crossed below within 5").
      * Defines how the subject is compared to the target.
      */
     private final String operator;
@@ -50,6 +56,11 @@ public class Rule {
      * Can be null if the target does not require a parameter.
      */
     private final Double targetParam;
+    /**
+     * Bar resolution the target is computed on. Null uses the resolution of
+     * the evaluated ticker data.
+     */
+    private final Timeframe targetTimeframe;
 
     /**
      * Description of the rule and its purpose.
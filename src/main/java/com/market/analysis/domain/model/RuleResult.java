@@ -19,13 +19,36 @@ public class RuleResult {
     private final boolean passed;
 
     /**
-     * Justification or explanation for the evaluation result.
-     * Provides context about why the rule passed or failed.
+     * Justification or explanation for the evaluation result, when given as
+     * text.
      */
+    @ToString.Exclude
     private final String justification;
 
+    /**
+     * Raw inputs of the justification, formatted on demand. Used by the
+     * evaluation engine instead of the text.
+     */
+    @ToString.Exclude
+    private final Justification deferredJustification;
+
     /**
      * The rule that was evaluated.
      */
     private final Rule rule;
+
+    /**
+     * Gets the justification or explanation for the evaluation result.
+     * Provides context about why the rule passed or failed. A deferred
+     * justification is formatted on every call.
+     *
+     * @return the justification text, or null if none was given
+     */
+    @ToString.Include(name = "justification")
+    public String getJustification() {
+        if (justification != null || deferredJustification == null) {
+            return justification;
+        }
+        return deferredJustification.format();
+    }
 }
@@ -1,6 +1,7 @@
 package com.market.analysis.domain.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
@@ -38,21 +39,56 @@ public class Strategy {
      */
     private final List<Rule> rules;
 
+    /**
+     * Optional expression combining the rules, e.g. "(R1 AND R2) OR R3".
+     * When absent, all rules must pass.
+     */
+    private final String expression;
+
+    /**
+     * Version of the stored strategy, incremented on every update. Null for
+     * strategies that were not loaded from the repository; an update then
+     * applies regardless of concurrent changes.
+     */
+    private final Long version;
+
     @Builder
-    public Strategy(Long id, String name, String description, List<Rule> rules) {
+    public Strategy(Long id, String name, String description, List<Rule> rules, String expression, Long version) {
         this.id = id;
+        this.version = version;
         this.name = name;
         this.description = description;
-        this.rules = rules == null ? new ArrayList<>() : new ArrayList<>(rules);
+        this.rules = rules == null ? List.of() : Collections.unmodifiableList(new ArrayList<>(rules));
+        this.expression = expression == null || expression.isBlank() ? null : expression.trim();
     }
 
     /**
-     * Gets an immutable copy of the rules list to prevent external modification.
+     * Gets the rules of the strategy. The list is copied once on construction
+     * and the same unmodifiable view is returned on every call.
      *
      * @return unmodifiable list of rules
      */
     public List<Rule> getRules() {
-        return List.copyOf(rules);
+        return rules;
+    }
+
+    /**
+     * Checks whether the strategy combines its rules with an expression.
+     *
+     * @return true if an expression is set
+     */
+    public boolean hasExpression() {
+        return expression != null;
+    }
+
+    /**
+     * Parses the expression against the rules of the strategy.
+     *
+     * @return the parsed expression, or null if all rules must pass
+     * @throws IllegalArgumentException if the expression is invalid
+     */
+    public StrategyExpression parseExpression() {
+        return expression == null ? null : StrategyExpression.parse(expression, rules.size());
     }
 
     /**
@@ -79,6 +115,12 @@ public class Strategy {
             }
             // Rules will validate themselves when evaluated
         }
+
+        try {
+            parseExpression();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
     }
 
     @Override
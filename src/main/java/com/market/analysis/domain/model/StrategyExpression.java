@@ -0,0 +1,290 @@
+package com.market.analysis.domain.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Boolean expression combining the rules of a strategy.
+ *
+ * Grammar (keywords are case-insensitive):
+ *
+ * <pre>
+ * expression := or
+ * or         := and ("OR" and)*
+ * and        := unary ("AND" unary)*
+ * unary      := "NOT" unary | primary
+ * primary    := "R" index | "(" expression ")"
+ *             | "ATLEAST" "(" count "," expression ("," expression)* ")"
+ * </pre>
+ *
+ * {@code R1} refers to the first rule of the strategy. For example
+ * {@code (R1 AND R2) OR R3} or {@code ATLEAST(3, R1, R2, R3, R4, R5)}.
+ *
+ * Parsed expressions are immutable. {@link #evaluate(boolean[])} interprets
+ * the tree and serves as reference semantics; screening uses the compiled
+ * form built by the StrategyExpressionCompiler.
+ */
+public final class StrategyExpression {
+
+    /**
+     * Maximum length of an expression, matching its persisted column.
+     */
+    public static final int MAX_LENGTH = 1000;
+
+    /**
+     * Node of the expression tree.
+     */
+    public sealed interface Node permits RuleRef, And, Or, Not, AtLeast {
+    }
+
+    /**
+     * Reference to a rule by its zero-based position in the strategy.
+     */
+    public record RuleRef(int index) implements Node {
+    }
+
+    /**
+     * Conjunction of two or more operands.
+     */
+    public record And(List<Node> operands) implements Node {
+    }
+
+    /**
+     * Disjunction of two or more operands.
+     */
+    public record Or(List<Node> operands) implements Node {
+    }
+
+    /**
+     * Negation of an operand.
+     */
+    public record Not(Node operand) implements Node {
+    }
+
+    /**
+     * True when at least {@code count} operands are true.
+     */
+    public record AtLeast(int count, List<Node> operands) implements Node {
+    }
+
+    private final String source;
+    private final Node root;
+    private final int ruleCount;
+
+    private StrategyExpression(String source, Node root, int ruleCount) {
+        this.source = source;
+        this.root = root;
+        this.ruleCount = ruleCount;
+    }
+
+    /**
+     * Parses an expression over the rules of a strategy.
+     *
+     * @param source    the expression text
+     * @param ruleCount number of rules of the strategy
+     * @return the parsed expression
+     * @throws IllegalArgumentException if the expression is blank, too long,
+     *                                  malformed or references a rule that
+     *                                  does not exist
+     */
+    public static StrategyExpression parse(String source, int ruleCount) {
+        if (source == null || source.isBlank()) {
+            throw new IllegalArgumentException("Strategy expression cannot be null or empty");
+        }
+        if (source.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("Strategy expression cannot exceed " + MAX_LENGTH + " characters");
+        }
+        Parser parser = new Parser(source, ruleCount);
+        Node root = parser.expression();
+        parser.expectEnd();
+        return new StrategyExpression(source.trim(), root, ruleCount);
+    }
+
+    /**
+     * Gets the expression text.
+     *
+     * @return the trimmed source
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Gets the root of the expression tree.
+     *
+     * @return the root node
+     */
+    public Node getRoot() {
+        return root;
+    }
+
+    /**
+     * Gets the number of rules the expression was parsed against.
+     *
+     * @return the rule count
+     */
+    public int getRuleCount() {
+        return ruleCount;
+    }
+
+    /**
+     * Interprets the expression.
+     *
+     * @param ruleOutcomes outcome of each rule, in strategy order
+     * @return the value of the expression
+     */
+    public boolean evaluate(boolean[] ruleOutcomes) {
+        return evaluate(root, ruleOutcomes);
+    }
+
+    private static boolean evaluate(Node node, boolean[] outcomes) {
+        return switch (node) {
+            case RuleRef ref -> outcomes[ref.index()];
+            case Not not -> !evaluate(not.operand(), outcomes);
+            case And and -> and.operands().stream().allMatch(operand -> evaluate(operand, outcomes));
+            case Or or -> or.operands().stream().anyMatch(operand -> evaluate(operand, outcomes));
+            case AtLeast atLeast -> atLeast.operands().stream()
+                    .filter(operand -> evaluate(operand, outcomes))
+                    .count() >= atLeast.count();
+        };
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    /**
+     * Recursive descent parser over the expression text.
+     */
+    private static final class Parser {
+
+        private final String text;
+        private final int ruleCount;
+        private int position;
+
+        Parser(String text, int ruleCount) {
+            this.text = text;
+            this.ruleCount = ruleCount;
+        }
+
+        Node expression() {
+            List<Node> operands = new ArrayList<>();
+            operands.add(and());
+            while (keyword("OR")) {
+                operands.add(and());
+            }
+            return operands.size() == 1 ? operands.get(0) : new Or(List.copyOf(operands));
+        }
+
+        void expectEnd() {
+            skipWhitespace();
+            if (position < text.length()) {
+                throw error("Unexpected '" + text.charAt(position) + "'");
+            }
+        }
+
+        private Node and() {
+            List<Node> operands = new ArrayList<>();
+            operands.add(unary());
+            while (keyword("AND")) {
+                operands.add(unary());
+            }
+            return operands.size() == 1 ? operands.get(0) : new And(List.copyOf(operands));
+        }
+
+        private Node unary() {
+            if (keyword("NOT")) {
+                return new Not(unary());
+            }
+            return primary();
+        }
+
+        private Node primary() {
+            if (symbol('(')) {
+                Node inner = expression();
+                expect(')');
+                return inner;
+            }
+            if (keyword("ATLEAST")) {
+                expect('(');
+                int count = number();
+                List<Node> operands = new ArrayList<>();
+                while (symbol(',')) {
+                    operands.add(expression());
+                }
+                expect(')');
+                if (operands.isEmpty()) {
+                    throw error("ATLEAST needs at least one operand");
+                }
+                if (count > operands.size()) {
+                    throw error("ATLEAST count " + count + " exceeds its " + operands.size() + " operands");
+                }
+                return new AtLeast(count, List.copyOf(operands));
+            }
+            skipWhitespace();
+            if (position < text.length() && Character.toUpperCase(text.charAt(position)) == 'R') {
+                position++;
+                int start = position;
+                int index = number();
+                if (index < 1 || index > ruleCount) {
+                    position = start;
+                    throw error("Rule R" + index + " does not exist; the strategy has " + ruleCount + " rules");
+                }
+                return new RuleRef(index - 1);
+            }
+            throw error("Expected a rule reference, NOT, ATLEAST or '('");
+        }
+
+        private int number() {
+            skipWhitespace();
+            int start = position;
+            while (position < text.length() && Character.isDigit(text.charAt(position))) {
+                position++;
+            }
+            if (start == position || position - start > 6) {
+                throw error("Expected a number");
+            }
+            return Integer.parseInt(text.substring(start, position));
+        }
+
+        private boolean keyword(String keyword) {
+            skipWhitespace();
+            int end = position + keyword.length();
+            if (end > text.length()
+                    || !text.substring(position, end).toUpperCase(Locale.ROOT).equals(keyword)
+                    || end < text.length() && Character.isLetterOrDigit(text.charAt(end))) {
+                return false;
+            }
+            position = end;
+            return true;
+        }
+
+        private boolean symbol(char symbol) {
+            skipWhitespace();
+            if (position < text.length() && text.charAt(position) == symbol) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(char symbol) {
+            if (!symbol(symbol)) {
+                throw error("Expected '" + symbol + "'");
+            }
+        }
+
+        private void skipWhitespace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+                position++;
+            }
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(
+                    message + " at position " + (position + 1) + " of strategy expression: " + text);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.market.analysis.domain.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Entity representing how often a strategy passed over a period of time.
+ * Aggregated from the analysis history.
+ */
+@Getter
+@Builder
+@ToString
+public class StrategyPassSummary {
+
+    /**
+     * The strategy the summary refers to.
+     */
+    private final Long strategyId;
+
+    /**
+     * First day of the period (inclusive).
+     */
+    private final LocalDate from;
+
+    /**
+     * Last day of the period (inclusive).
+     */
+    private final LocalDate to;
+
+    /**
+     * Number of times the strategy was evaluated.
+     */
+    private final long evaluatedCount;
+
+    /**
+     * Number of times the strategy passed.
+     */
+    private final long passedCount;
+
+    /**
+     * Calculates the percentage of evaluations that passed.
+     *
+     * @return pass rate as a percentage (0-100)
+     */
+    public BigDecimal calculatePassRate() {
+        if (evaluatedCount == 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(passedCount)
+                .multiply(BigDecimal.valueOf(100))
+                .divide(BigDecimal.valueOf(evaluatedCount), 2, RoundingMode.HALF_UP);
+    }
+}
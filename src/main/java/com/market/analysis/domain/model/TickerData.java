@@ -1,11 +1,16 @@
 package com.market.analysis.domain.model;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.ToString;
@@ -15,7 +20,6 @@ import lombok.ToString;
  * Contains market information and technical indicators for a specific ticker.
  */
 @Getter
-@Builder
 @ToString
 public class TickerData {
 
@@ -52,12 +56,194 @@ public class TickerData {
     private final List<MarketDataPoint> historicalData;
 
     /**
-     * Gets an immutable copy of the historical data list.
+     * Primitive view of the historical bars, typically handed out by the
+     * off-heap bar cache. When absent, bars are derived from historicalData.
+     */
+    @ToString.Exclude
+    private final BarSeries bars;
+
+    /**
+     * Resolution of the bars. Null when unknown.
+     */
+    private final Timeframe timeframe;
+
+    /**
+     * Bars of other resolutions loaded for the same ticker, used by rules
+     * that compute an operand on a specific timeframe.
+     */
+    @ToString.Exclude
+    private final Map<Timeframe, BarSeries> timeframeBars;
+
+    /**
+     * Series returned by {@link #getBars()}: the given bars, or the ones
+     * converted once from historicalData.
+     */
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private final BarSeries series;
+
+    /**
+     * Views returned by {@link #atTimeframe(Timeframe)}, built once from
+     * timeframeBars.
+     */
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private final Map<Timeframe, TickerData> timeframeViews;
+
+    /**
+     * Empty stand-in for resolutions that were not loaded, created on first
+     * use. Racing threads may each create one, which is harmless.
+     */
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private volatile TickerData missingView;
+
+    @Builder
+    private TickerData(String ticker, BigDecimal currentPrice, Long volume, LocalDateTime timestamp,
+            Map<String, Object> indicators, List<MarketDataPoint> historicalData, BarSeries bars,
+            Timeframe timeframe, Map<Timeframe, BarSeries> timeframeBars) {
+        this(ticker, currentPrice, volume, timestamp, indicators, historicalData, bars, timeframe, timeframeBars,
+                bars != null ? bars : ArrayBarSeries.of(historicalData));
+    }
+
+    private TickerData(String ticker, BigDecimal currentPrice, Long volume, LocalDateTime timestamp,
+            Map<String, Object> indicators, List<MarketDataPoint> historicalData, BarSeries bars,
+            Timeframe timeframe, Map<Timeframe, BarSeries> timeframeBars, BarSeries series) {
+        this.ticker = ticker;
+        this.currentPrice = currentPrice;
+        this.volume = volume;
+        this.timestamp = timestamp;
+        this.indicators = indicators;
+        this.historicalData = historicalData;
+        this.bars = bars;
+        this.timeframe = timeframe;
+        this.timeframeBars = timeframeBars;
+        this.series = series;
+        if (timeframeBars == null || timeframeBars.isEmpty()) {
+            this.timeframeViews = Map.of();
+        } else {
+            Map<Timeframe, TickerData> views = new EnumMap<>(Timeframe.class);
+            timeframeBars.forEach((resolution, other) -> views.put(resolution, ofBars(ticker, other)));
+            this.timeframeViews = views;
+        }
+    }
+
+    /**
+     * Gets the historical data. The list is copied once by the builder and the
+     * same unmodifiable view is returned on every call.
      *
      * @return unmodifiable list of market data points
      */
     public List<MarketDataPoint> getHistoricalData() {
-        return historicalData != null ? List.copyOf(historicalData) : List.of();
+        return historicalData != null ? historicalData : List.of();
+    }
+
+    /**
+     * Creates ticker data from a bar series. The latest bar provides the
+     * current price, volume and timestamp.
+     *
+     * @param ticker the ticker symbol
+     * @param bars   the bars, oldest first
+     * @return the ticker data
+     */
+    public static TickerData ofBars(String ticker, BarSeries bars) {
+        TickerDataBuilder builder = TickerData.builder().ticker(ticker).bars(bars);
+        if (!bars.isEmpty()) {
+            int last = bars.size() - 1;
+            builder.currentPrice(BigDecimal.valueOf(bars.close(last)))
+                    .volume(Double.isNaN(bars.volume(last)) ? null : (long) bars.volume(last))
+                    .timestamp(LocalDateTime.ofInstant(Instant.ofEpochMilli(bars.timestamp(last)), ZoneOffset.UTC));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Gets the historical bars as a primitive series.
+     *
+     * @return the cached bar view if present, otherwise the series converted
+     *         from the historical data when this instance was built
+     */
+    public BarSeries getBars() {
+        return series;
+    }
+
+    /**
+     * Gets the current price as a primitive. Bar-backed data reads the close
+     * of the latest bar, from which {@link #ofBars} derives the current price,
+     * instead of converting the BigDecimal.
+     *
+     * @return the current price, NaN if there is neither a price nor bars
+     */
+    public double getCurrentPriceValue() {
+        if (bars != null && !bars.isEmpty()) {
+            return bars.close(bars.size() - 1);
+        }
+        if (currentPrice != null) {
+            return currentPrice.doubleValue();
+        }
+        return series.isEmpty() ? Double.NaN : series.close(series.size() - 1);
+    }
+
+    /**
+     * Gets a view of this ticker on another bar resolution.
+     *
+     * @param resolution the requested resolution, or null for these bars
+     * @return this instance if the resolution is null or the one of these
+     *         bars; otherwise the ticker data of the loaded series, which is
+     *         empty if that resolution was not loaded. Views are built once,
+     *         so repeated evaluations get the same instance.
+     */
+    public TickerData atTimeframe(Timeframe resolution) {
+        if (resolution == null || resolution == timeframe) {
+            return this;
+        }
+        TickerData view = timeframeViews.get(resolution);
+        if (view != null) {
+            return view;
+        }
+        TickerData missing = missingView;
+        if (missing == null) {
+            missing = ofBars(ticker, ArrayBarSeries.of(null));
+            missingView = missing;
+        }
+        return missing;
+    }
+
+    /**
+     * Checks whether the bars of a resolution were loaded for this ticker.
+     *
+     * @param resolution the resolution, or null for these bars
+     * @return true if {@link #atTimeframe(Timeframe)} returns loaded bars
+     *         rather than an empty stand-in
+     */
+    public boolean hasTimeframe(Timeframe resolution) {
+        return resolution == null || resolution == timeframe
+                || (timeframeBars != null && timeframeBars.containsKey(resolution));
+    }
+
+    /**
+     * Gets a view of this ticker as it was when a bar closed, made of the bars
+     * up to and including that bar.
+     *
+     * @param barTimestamp bar start time in epoch milliseconds
+     * @return the ticker data of those bars
+     */
+    public TickerData asOf(long barTimestamp) {
+        return ofBars(ticker, series.slice(0, series.indexOf(barTimestamp + 1)));
+    }
+
+    /**
+     * Creates a copy of this ticker data carrying its resolution and the bars
+     * of other resolutions. The copy shares the series of this instance
+     * rather than converting the historical data again.
+     *
+     * @param resolution the resolution of these bars
+     * @param others     bars of other resolutions, indexed by resolution
+     * @return the combined ticker data
+     */
+    public TickerData withTimeframes(Timeframe resolution, Map<Timeframe, BarSeries> others) {
+        return new TickerData(ticker, currentPrice, volume, timestamp, indicators, historicalData, bars, resolution,
+                copyOf(others), series);
     }
 
     /**
@@ -65,8 +251,19 @@ public class TickerData {
      */
     public static class TickerDataBuilder {
         public TickerDataBuilder historicalData(List<MarketDataPoint> historicalData) {
-            this.historicalData = historicalData != null ? new ArrayList<>(historicalData) : new ArrayList<>();
+            this.historicalData = historicalData != null
+                    ? Collections.unmodifiableList(new ArrayList<>(historicalData)) : List.of();
+            return this;
+        }
+
+        public TickerDataBuilder timeframeBars(Map<Timeframe, BarSeries> timeframeBars) {
+            this.timeframeBars = copyOf(timeframeBars);
             return this;
         }
     }
+
+    private static Map<Timeframe, BarSeries> copyOf(Map<Timeframe, BarSeries> timeframeBars) {
+        return timeframeBars == null || timeframeBars.isEmpty() ? Map.of()
+                : Collections.unmodifiableMap(new EnumMap<>(timeframeBars));
+    }
 }
@@ -0,0 +1,62 @@
+package com.market.analysis.domain.model;
+
+import java.time.Duration;
+
+/**
+ * Bar resolution of a market data series.
+ * Bars are aligned in UTC: intraday and daily bars to the epoch, weekly bars
+ * to Monday.
+ */
+public enum Timeframe {
+
+    MINUTE_1(Duration.ofMinutes(1)),
+    MINUTE_5(Duration.ofMinutes(5)),
+    MINUTE_15(Duration.ofMinutes(15)),
+    HOUR_1(Duration.ofHours(1)),
+    DAY_1(Duration.ofDays(1)),
+    WEEK_1(Duration.ofDays(7));
+
+    /**
+     * 1970-01-01 was a Thursday: shifting by three days aligns weeks to Monday.
+     */
+    private static final long WEEK_OFFSET_MILLIS = Duration.ofDays(3).toMillis();
+
+    private final Duration duration;
+
+    Timeframe(Duration duration) {
+        this.duration = duration;
+    }
+
+    /**
+     * Gets the length of one bar.
+     *
+     * @return bar duration
+     */
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Gets the start of the bar containing an instant.
+     *
+     * @param epochMillis the instant in epoch milliseconds
+     * @return start of the enclosing bar in epoch milliseconds
+     */
+    public long bucketStart(long epochMillis) {
+        long barMillis = duration.toMillis();
+        if (this == WEEK_1) {
+            return Math.floorDiv(epochMillis + WEEK_OFFSET_MILLIS, barMillis) * barMillis - WEEK_OFFSET_MILLIS;
+        }
+        return Math.floorDiv(epochMillis, barMillis) * barMillis;
+    }
+
+    /**
+     * Gets when the bar containing an instant closes.
+     *
+     * @param epochMillis the instant in epoch milliseconds
+     * @return start of the next bar in epoch milliseconds
+     */
+    public long nextBucketStart(long epochMillis) {
+        return bucketStart(epochMillis) + duration.toMillis();
+    }
+}
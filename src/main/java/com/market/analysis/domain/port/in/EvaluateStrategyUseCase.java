@@ -1,8 +1,12 @@
 package com.market.analysis.domain.port.in;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import com.market.analysis.domain.model.AnalysisResult;
 import com.market.analysis.domain.model.Strategy;
 import com.market.analysis.domain.model.TickerData;
+import com.market.analysis.domain.model.Timeframe;
 
 /**
  * Input port (use case interface) for evaluating trading strategies.
@@ -25,4 +29,49 @@ public interface EvaluateStrategyUseCase {
      * @throws IllegalArgumentException if strategy or tickerData is null
      */
     AnalysisResult evaluateStrategy(Strategy strategy, TickerData tickerData);
+
+    /**
+     * Evaluates a portfolio of strategies against several tickers.
+     * Rules shared between strategies are evaluated once per ticker and their
+     * outcome is reused by every strategy that contains them.
+     * 
+     * @param strategies the trading strategies to evaluate
+     * @param tickers the market data for each ticker to analyze
+     * @return AnalysisResults grouped by ticker, one per strategy, in input order
+     * @throws IllegalArgumentException if strategies or tickers is null
+     */
+    List<AnalysisResult> evaluateStrategies(List<Strategy> strategies, List<TickerData> tickers);
+
+    /**
+     * Screens several tickers with a portfolio of strategies and only returns
+     * the matches. Evaluation writes into reusable buffers and result objects
+     * are only built for strategies that passed. Matches are not recorded in
+     * the analysis history, whose pass rates need every evaluation.
+     * 
+     * @param strategies the trading strategies to evaluate
+     * @param tickers the market data for each ticker to analyze
+     * @return AnalysisResults of the passing strategies, grouped by ticker in
+     *         input order
+     * @throws IllegalArgumentException if strategies or tickers is null
+     */
+    List<AnalysisResult> screenStrategies(List<Strategy> strategies, List<TickerData> tickers);
+
+    /**
+     * Loads the bars of several tickers and screens them with a portfolio of
+     * strategies. Besides the base resolution, every timeframe referenced by
+     * a rule is loaded, so rules on other timeframes are evaluated on real
+     * bars. Tickers whose data cannot be fully loaded are skipped.
+     * 
+     * @param strategies the trading strategies to evaluate
+     * @param tickers    the ticker symbols to screen
+     * @param from       first day of the range (inclusive)
+     * @param to         last day of the range (inclusive)
+     * @param timeframe  the base bar resolution
+     * @return AnalysisResults of the passing strategies, grouped by ticker in
+     *         input order
+     * @throws IllegalArgumentException if any argument is null or the range is
+     *                                  inverted
+     */
+    List<AnalysisResult> screenTickers(List<Strategy> strategies, List<String> tickers, LocalDate from,
+            LocalDate to, Timeframe timeframe);
 }
@@ -0,0 +1,51 @@
+package com.market.analysis.domain.port.in;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.market.analysis.domain.model.Timeframe;
+import com.market.analysis.domain.model.TickerData;
+
+/**
+ * Use case interface for loading market data.
+ * Defines the operations available to obtain ticker data for screening.
+ */
+public interface FetchMarketDataUseCase {
+
+    /**
+     * Loads the bars of many tickers concurrently.
+     * Tickers whose data cannot be obtained are left out of the result.
+     * 
+     * @param tickers   the ticker symbols
+     * @param from      first day of the range (inclusive)
+     * @param to        last day of the range (inclusive)
+     * @param timeframe the bar resolution
+     * @return ticker data indexed by ticker symbol, in request order
+     * @throws IllegalArgumentException if any argument is null or the range is
+     *                                  inverted
+     */
+    Map<String, TickerData> fetchAll(List<String> tickers, LocalDate from, LocalDate to, Timeframe timeframe);
+
+    /**
+     * Loads the bars of many tickers on a base resolution and on additional
+     * resolutions, concurrently. Each (ticker, timeframe) series is requested
+     * once and the additional series are attached to the base ticker data, so
+     * every rule computed on one of those timeframes shares them.
+     * Tickers whose base data or any additional series cannot be obtained are
+     * left out of the result, so every returned ticker can be evaluated on
+     * all the requested timeframes.
+     * 
+     * @param tickers              the ticker symbols
+     * @param from                 first day of the range (inclusive)
+     * @param to                   last day of the range (inclusive)
+     * @param timeframe            the base bar resolution
+     * @param additionalTimeframes other resolutions to load
+     * @return ticker data indexed by ticker symbol, in request order
+     * @throws IllegalArgumentException if any argument is null or the range is
+     *                                  inverted
+     */
+    Map<String, TickerData> fetchAll(List<String> tickers, LocalDate from, LocalDate to, Timeframe timeframe,
+            Set<Timeframe> additionalTimeframes);
+}
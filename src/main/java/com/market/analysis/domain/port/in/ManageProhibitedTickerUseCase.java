@@ -2,12 +2,23 @@ package com.market.analysis.domain.port.in;
 
 import java.util.List;
 
+import com.market.analysis.domain.model.KeysetPage;
 import com.market.analysis.domain.model.ProhibitedTicker;
 
 public interface ManageProhibitedTickerUseCase {
 
     List<ProhibitedTicker> getAllProhibitedTickers();
 
+    /**
+     * Retrieves a page of prohibited tickers ordered by ticker.
+     * 
+     * @param afterTicker the ticker to start after, null for the first page
+     * @param limit       page size, at most {@link KeysetPage#MAX_LIMIT}
+     * @return the page
+     * @throws IllegalArgumentException if the limit is invalid
+     */
+    KeysetPage<ProhibitedTicker, String> getProhibitedTickersPage(String afterTicker, int limit);
+
     boolean isTickerProhibited(String ticker);
 
     void addProhibitedTicker(ProhibitedTicker ticker);
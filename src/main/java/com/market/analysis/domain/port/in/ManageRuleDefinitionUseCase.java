@@ -2,6 +2,7 @@ package com.market.analysis.domain.port.in;
 
 import java.util.List;
 
+import com.market.analysis.domain.model.KeysetPage;
 import com.market.analysis.domain.model.RuleDefinition;
 
 /**
@@ -26,6 +27,16 @@ public interface ManageRuleDefinitionUseCase {
      */
     List<RuleDefinition> getAllRuleDefinitions();
 
+    /**
+     * Retrieves a page of rule definitions ordered by ID.
+     * 
+     * @param afterId the ID to start after, null for the first page
+     * @param limit page size, at most {@link KeysetPage#MAX_LIMIT}
+     * @return the page
+     * @throws IllegalArgumentException if the cursor or the limit is invalid
+     */
+    KeysetPage<RuleDefinition, Long> getRuleDefinitionsPage(Long afterId, int limit);
+
     /**
      * Retrieves a specific rule definition by its ID.
      * 
@@ -2,14 +2,38 @@ package com.market.analysis.domain.port.in;
 
 import java.util.List;
 
+import com.market.analysis.domain.model.KeysetPage;
 import com.market.analysis.domain.model.RuleDefinition;
 import com.market.analysis.domain.model.Strategy;
 
 public interface ManageStrategyUseCase {
     Strategy createStrategy(Strategy strategy);
 
+    /**
+     * Updates an existing strategy. When the strategy carries a version, the
+     * update only applies if the stored strategy still has that version.
+     *
+     * @param strategy the strategy, with its ID
+     * @return the updated strategy with its new version
+     * @throws IllegalArgumentException if the strategy has no ID
+     * @throws IllegalStateException if the strategy is not properly configured
+     * @throws com.market.analysis.domain.exception.StrategyNotFoundException if it does not exist
+     * @throws com.market.analysis.domain.exception.StrategyVersionConflictException if it was changed meanwhile
+     */
+    Strategy updateStrategy(Strategy strategy);
+
     List<Strategy> getAllStrategies();
 
+    /**
+     * Retrieves a page of strategies ordered by ID.
+     *
+     * @param afterId the ID to start after, null for the first page
+     * @param limit page size, at most {@link KeysetPage#MAX_LIMIT}
+     * @return the page
+     * @throws IllegalArgumentException if the cursor or the limit is invalid
+     */
+    KeysetPage<Strategy, Long> getStrategiesPage(Long afterId, int limit);
+
     Strategy getStrategyById(Long strategyId);
 
     List<RuleDefinition> getAvailableRuleDefinitions(); // Para llenar los combos de la vista
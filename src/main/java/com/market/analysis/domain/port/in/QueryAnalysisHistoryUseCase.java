@@ -0,0 +1,24 @@
+package com.market.analysis.domain.port.in;
+
+import java.time.LocalDate;
+
+import com.market.analysis.domain.model.StrategyPassSummary;
+
+/**
+ * Use case interface for querying the analysis history.
+ * Defines the read operations available on persisted screening output.
+ */
+public interface QueryAnalysisHistoryUseCase {
+
+    /**
+     * Summarizes how often a strategy was evaluated and passed over a period.
+     * 
+     * @param strategyId the strategy ID
+     * @param from first day of the period (inclusive)
+     * @param to last day of the period (inclusive)
+     * @return the pass summary of the strategy
+     * @throws IllegalArgumentException if any argument is null or the period is
+     *                                  inverted
+     */
+    StrategyPassSummary getStrategyPassSummary(Long strategyId, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,39 @@
+package com.market.analysis.domain.port.in;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.market.analysis.domain.model.Strategy;
+
+/**
+ * Input port for moving sets of strategies between environments.
+ */
+public interface TransferStrategiesUseCase {
+
+    /**
+     * Maximum number of strategies accepted by a single import.
+     */
+    int MAX_IMPORT_SIZE = 10_000;
+
+    /**
+     * Imports strategies as new strategies. Every strategy is validated
+     * first, with its rule codes checked against the in-memory rule
+     * definitions, and then all of them are written in a single transaction: either
+     * every strategy is imported or none is. IDs and versions from the source
+     * environment are ignored.
+     *
+     * @param strategies the strategies to import, at most {@link #MAX_IMPORT_SIZE}
+     * @return the number of imported strategies
+     * @throws IllegalArgumentException if a strategy is invalid, naming its
+     *                                  position in the import
+     */
+    int importStrategies(List<Strategy> strategies);
+
+    /**
+     * Streams every strategy with its rules, in ID order. Strategies are read
+     * a page at a time, so the catalogue is never held in memory at once.
+     *
+     * @param sink receives each strategy
+     */
+    void exportStrategies(Consumer<Strategy> sink);
+}
@@ -0,0 +1,51 @@
+package com.market.analysis.domain.port.out;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.market.analysis.domain.model.AnalysisResult;
+import com.market.analysis.domain.model.StrategyPassSummary;
+
+/**
+ * Output port (repository interface) for AnalysisResult history persistence.
+ * Defines the contract for recording screening output without binding
+ * to specific persistence technologies.
+ * 
+ * Implementations must not block the caller on the underlying storage:
+ * evaluation threads hand results over and continue screening, while the
+ * actual writes happen asynchronously. When writes fall behind, results are
+ * rejected rather than waited on, unless the implementation is configured to
+ * wait a bounded time for room.
+ * 
+ * No Spring or framework annotations should be present here to maintain
+ * technology independence in the domain layer.
+ */
+public interface AnalysisHistoryRepository {
+
+    /**
+     * Records a single analysis result.
+     * 
+     * @param analysisResult the analysis result to record
+     * @return true if the result was accepted, false if it was rejected
+     *         (e.g., because the write-behind queue was full)
+     */
+    boolean save(AnalysisResult analysisResult);
+
+    /**
+     * Records a batch of analysis results.
+     * 
+     * @param analysisResults the analysis results to record
+     * @return number of results accepted
+     */
+    int saveAll(List<AnalysisResult> analysisResults);
+
+    /**
+     * Summarizes how often a strategy was evaluated and passed over a period.
+     * 
+     * @param strategyId the strategy ID
+     * @param from first day of the period (inclusive)
+     * @param to last day of the period (inclusive)
+     * @return the pass summary of the strategy
+     */
+    StrategyPassSummary summarizePasses(Long strategyId, LocalDate from, LocalDate to);
+}
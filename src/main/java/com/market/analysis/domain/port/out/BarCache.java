@@ -0,0 +1,46 @@
+package com.market.analysis.domain.port.out;
+
+import java.util.Optional;
+
+import com.market.analysis.domain.model.BarSeries;
+
+/**
+ * Output port for the historical bar cache.
+ * Defines the contract for keeping per-ticker bar series close to the
+ * evaluation engine without binding to a specific storage technology.
+ * 
+ * Series returned by the cache are read-only views that stay valid even if
+ * the entry is evicted or replaced afterwards.
+ * 
+ * No Spring or framework annotations should be present here to maintain
+ * technology independence in the domain layer.
+ */
+public interface BarCache {
+
+    /**
+     * Gets the cached bars of a ticker.
+     * 
+     * @param ticker the ticker symbol
+     * @return Optional containing a read-only view of the bars if cached, empty
+     *         otherwise
+     */
+    Optional<BarSeries> get(String ticker);
+
+    /**
+     * Stores the bars of a ticker, replacing any previous entry. Least recently
+     * used entries are evicted when the cache runs out of capacity.
+     * 
+     * @param ticker the ticker symbol
+     * @param bars   the bars to store; they are copied into the cache
+     * @return true if the bars were cached, false if they exceed the cache
+     *         capacity
+     */
+    boolean put(String ticker, BarSeries bars);
+
+    /**
+     * Removes the bars of a ticker from the cache.
+     * 
+     * @param ticker the ticker symbol
+     */
+    void evict(String ticker);
+}
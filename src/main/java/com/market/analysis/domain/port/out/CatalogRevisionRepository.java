@@ -0,0 +1,39 @@
+package com.market.analysis.domain.port.out;
+
+/**
+ * Output port for the persisted revision of the strategy catalogue
+ * (strategies, rule definitions and prohibited tickers).
+ *
+ * Repositories writing to the catalogue advance the revision in the same
+ * transaction as the write, so a revision read from the database always
+ * describes data that is committed.
+ *
+ * Implementations keep the revision known to this instance in memory: it is
+ * raised when a write of this instance commits, and by {@link #refresh()}
+ * for writes of other instances.
+ */
+public interface CatalogRevisionRepository {
+
+    /**
+     * Gets the revision known to this instance, without reading the database
+     * once it has been read.
+     *
+     * @return the revision
+     */
+    long current();
+
+    /**
+     * Reads the revision from the database, picking up writes of other
+     * instances.
+     *
+     * @return the revision now known to this instance
+     */
+    long refresh();
+
+    /**
+     * Advances the revision. Must be called inside the transaction of the
+     * catalogue write it accounts for; the revision known to this instance
+     * is raised once that transaction commits.
+     */
+    void advance();
+}
@@ -1,5 +1,7 @@
 package com.market.analysis.domain.port.out;
 
+import com.market.analysis.domain.model.DependencyHealth;
+
 /**
  * Port interface for health check operations.
  * Defines the contract for checking the health status of external dependencies
@@ -8,21 +10,32 @@ package com.market.analysis.domain.port.out;
  * This interface allows the domain layer to remain technology-agnostic while
  * enabling infrastructure implementations to verify system connectivity and
  * status.
+ *
+ * Every check probes a single dependency and never throws: failures are
+ * reported as an unhealthy {@link DependencyHealth}. Checks may block and are
+ * expected to be run concurrently by the caller.
  */
 public interface HealthCheckPort {
 
     /**
-     * Checks if the database connection is healthy and responsive.
+     * Checks if the database connection is healthy and responsive, measuring
+     * the time taken with a single connection checkout.
+     *
+     * @return the database health; critical
+     */
+    DependencyHealth checkDatabase();
+
+    /**
+     * Checks if the market data provider is serving requests.
      *
-     * @return true if the database is accessible and operational, false otherwise
+     * @return the market data health
      */
-    boolean isDatabaseHealthy();
+    DependencyHealth checkMarketData();
 
     /**
-     * Gets the database connection time in milliseconds.
-     * Useful for monitoring performance and detecting slow connections.
+     * Checks if the local market data caches are usable.
      *
-     * @return the time taken to verify database connectivity in milliseconds
+     * @return the cache health
      */
-    long getDatabaseConnectionTime();
+    DependencyHealth checkCaches();
 }
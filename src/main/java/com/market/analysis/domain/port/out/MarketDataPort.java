@@ -0,0 +1,34 @@
+package com.market.analysis.domain.port.out;
+
+import java.time.LocalDate;
+
+import com.market.analysis.domain.exception.MarketDataUnavailableException;
+import com.market.analysis.domain.model.Timeframe;
+import com.market.analysis.domain.model.TickerData;
+
+/**
+ * Output port for historical market data providers.
+ * Defines the contract for loading bars of a ticker without binding to a
+ * specific provider (Polygon, Finnhub, local stores...).
+ * 
+ * Implementations may block the calling thread on I/O; callers fanning out
+ * over many tickers are expected to run them on a bounded I/O executor.
+ * 
+ * No Spring or framework annotations should be present here to maintain
+ * technology independence in the domain layer.
+ */
+public interface MarketDataPort {
+
+    /**
+     * Loads the bars of a ticker over a date range.
+     * 
+     * @param ticker    the ticker symbol
+     * @param from      first day of the range (inclusive)
+     * @param to        last day of the range (inclusive)
+     * @param timeframe the bar resolution
+     * @return ticker data whose bars cover the range, oldest first
+     * @throws MarketDataUnavailableException if the provider cannot serve the
+     *                                        request
+     */
+    TickerData fetchTickerData(String ticker, LocalDate from, LocalDate to, Timeframe timeframe);
+}
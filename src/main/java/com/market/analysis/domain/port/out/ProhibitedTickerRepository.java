@@ -37,6 +37,17 @@ public interface ProhibitedTickerRepository {
      */
     public boolean existsByTicker(String ticker);
 
+    /**
+     * Retrieves prohibited tickers ordered by ticker, starting after the given
+     * one.
+     * 
+     * @param afterTicker the ticker to start after, null to start from the
+     *                    first one
+     * @param limit       maximum number of tickers to return
+     * @return the prohibited tickers of the page
+     */
+    public List<ProhibitedTicker> findPage(String afterTicker, int limit);
+
     /**
      * Saves a prohibited ticker to the database.
      * 
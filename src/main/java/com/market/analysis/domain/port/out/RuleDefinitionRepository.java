@@ -51,6 +51,15 @@ public interface RuleDefinitionRepository {
      */
     List<RuleDefinition> findAll();
 
+    /**
+     * Retrieves rule definitions ordered by ID, starting after the given ID.
+     * 
+     * @param afterId the ID to start after, null to start from the first one
+     * @param limit maximum number of rule definitions to return
+     * @return the rule definitions of the page
+     */
+    List<RuleDefinition> findPage(Long afterId, int limit);
+
     /**
      * Deletes a rule definition by its unique identifier.
      * 
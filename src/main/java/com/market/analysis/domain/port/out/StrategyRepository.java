@@ -20,14 +20,26 @@ import com.market.analysis.domain.model.Strategy;
 public interface StrategyRepository {
 
     /**
-     * Saves a strategy to the repository.
+     * Saves a strategy to the repository. A strategy with an ID updates the
+     * stored one, writing only the rules that changed.
      * 
      * @param strategy the strategy to save
-     * @return the saved strategy with updated fields (e.g., generated ID)
+     * @return the saved strategy with updated fields (e.g., generated ID, version)
      * @throws IllegalArgumentException if strategy is null
+     * @throws com.market.analysis.domain.exception.StrategyNotFoundException if the ID does not exist
+     * @throws com.market.analysis.domain.exception.StrategyVersionConflictException if the strategy
+     *         has a version and the stored one was changed since
      */
     Strategy save(Strategy strategy);
 
+    /**
+     * Saves new strategies in a single transaction: either all of them are
+     * stored or none is.
+     * 
+     * @param strategies the strategies to insert, without IDs
+     */
+    void saveAll(List<Strategy> strategies);
+
     /**
      * Finds a strategy by its unique identifier.
      * 
@@ -51,6 +63,15 @@ public interface StrategyRepository {
      */
     List<Strategy> findAll();
 
+    /**
+     * Retrieves strategies ordered by ID, starting after the given ID.
+     * 
+     * @param afterId the ID to start after, null to start from the first one
+     * @param limit maximum number of strategies to return
+     * @return the strategies of the page, with their rules
+     */
+    List<Strategy> findPage(Long afterId, int limit);
+
     /**
      * Deletes a strategy by its unique identifier.
      * 
@@ -0,0 +1,198 @@
+package com.market.analysis.domain.service;
+
+import java.util.Arrays;
+
+import com.market.analysis.domain.model.ArrayBarSeries;
+import com.market.analysis.domain.model.BarSeries;
+import com.market.analysis.domain.model.Timeframe;
+
+/**
+ * Streaming resampler that rolls finer bars (typically 1-minute bars) into
+ * bars of a higher timeframe as they arrive.
+ *
+ * Each input bar is folded into the currently forming bar in O(1): open is
+ * the first open, high and low the extremes, close the last close and volume
+ * the sum. When a bar of the next bucket arrives the forming bar is closed
+ * and appended to the completed bars. Inputs at or before the last consumed
+ * timestamp are ignored, so overlapping batches can be fed safely.
+ *
+ * Not thread-safe: callers feeding the same aggregator from several threads
+ * must synchronize.
+ */
+public final class CandleAggregator {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Timeframe timeframe;
+
+    private long[] timestamps = new long[INITIAL_CAPACITY];
+    private double[] opens = new double[INITIAL_CAPACITY];
+    private double[] highs = new double[INITIAL_CAPACITY];
+    private double[] lows = new double[INITIAL_CAPACITY];
+    private double[] closes = new double[INITIAL_CAPACITY];
+    private double[] volumes = new double[INITIAL_CAPACITY];
+    private int completed;
+
+    private boolean forming;
+    private long formingStart;
+    private double formingOpen;
+    private double formingHigh;
+    private double formingLow;
+    private double formingClose;
+    private double formingVolume;
+
+    private long lastTimestamp = Long.MIN_VALUE;
+    private BarSeries snapshot;
+
+    /**
+     * Creates an empty aggregator.
+     *
+     * @param timeframe the timeframe of the produced bars
+     * @throws IllegalArgumentException if timeframe is null
+     */
+    public CandleAggregator(Timeframe timeframe) {
+        if (timeframe == null) {
+            throw new IllegalArgumentException("Timeframe cannot be null");
+        }
+        this.timeframe = timeframe;
+    }
+
+    /**
+     * Resamples a whole series at once.
+     *
+     * @param source    the finer bars, oldest first
+     * @param timeframe the target timeframe
+     * @return the aggregated bars, including a trailing partial bar
+     */
+    public static BarSeries resample(BarSeries source, Timeframe timeframe) {
+        CandleAggregator aggregator = new CandleAggregator(timeframe);
+        aggregator.addAll(source);
+        return aggregator.snapshot();
+    }
+
+    /**
+     * Folds one bar into the aggregate.
+     *
+     * @param timestamp bar start time in epoch milliseconds
+     * @param open      opening price
+     * @param high      highest price
+     * @param low       lowest price
+     * @param close     closing price
+     * @param volume    traded volume (NaN if unknown)
+     * @return true if the bar was consumed, false if it was not newer than the
+     *         last consumed bar
+     */
+    public boolean add(long timestamp, double open, double high, double low, double close, double volume) {
+        if (timestamp <= lastTimestamp) {
+            return false;
+        }
+        long bucket = timeframe.bucketStart(timestamp);
+        if (forming && bucket != formingStart) {
+            closeFormingBar();
+        }
+        if (!forming) {
+            forming = true;
+            formingStart = bucket;
+            formingOpen = open;
+            formingHigh = high;
+            formingLow = low;
+            formingVolume = volume;
+        } else {
+            formingHigh = Math.max(formingHigh, high);
+            formingLow = Math.min(formingLow, low);
+            formingVolume = Double.isNaN(formingVolume) ? volume
+                    : Double.isNaN(volume) ? formingVolume : formingVolume + volume;
+        }
+        formingClose = close;
+        lastTimestamp = timestamp;
+        snapshot = null;
+        return true;
+    }
+
+    /**
+     * Folds every bar of a series that is newer than the last consumed bar.
+     *
+     * @param source the finer bars, oldest first
+     * @return number of bars consumed
+     */
+    public int addAll(BarSeries source) {
+        int start = lastTimestamp == Long.MIN_VALUE ? 0 : source.indexOf(lastTimestamp + 1);
+        int consumed = 0;
+        for (int i = start; i < source.size(); i++) {
+            if (add(source.timestamp(i), source.open(i), source.high(i), source.low(i), source.close(i),
+                    source.volume(i))) {
+                consumed++;
+            }
+        }
+        return consumed;
+    }
+
+    /**
+     * Gets the aggregated bars, including the forming bar if any. The result
+     * is cached until the next consumed bar.
+     *
+     * @return the aggregated bars, oldest first
+     */
+    public BarSeries snapshot() {
+        BarSeries cached = snapshot;
+        if (cached != null) {
+            return cached;
+        }
+        int size = completed + (forming ? 1 : 0);
+        long[] t = Arrays.copyOf(timestamps, size);
+        double[] o = Arrays.copyOf(opens, size);
+        double[] h = Arrays.copyOf(highs, size);
+        double[] l = Arrays.copyOf(lows, size);
+        double[] c = Arrays.copyOf(closes, size);
+        double[] v = Arrays.copyOf(volumes, size);
+        if (forming) {
+            t[completed] = formingStart;
+            o[completed] = formingOpen;
+            h[completed] = formingHigh;
+            l[completed] = formingLow;
+            c[completed] = formingClose;
+            v[completed] = formingVolume;
+        }
+        cached = new ArrayBarSeries(t, o, h, l, c, v);
+        snapshot = cached;
+        return cached;
+    }
+
+    /**
+     * Gets the timestamp of the last consumed input bar.
+     *
+     * @return epoch milliseconds, or Long.MIN_VALUE if nothing was consumed
+     */
+    public long getLastTimestamp() {
+        return lastTimestamp;
+    }
+
+    /**
+     * Gets the timeframe of the produced bars.
+     *
+     * @return the timeframe
+     */
+    public Timeframe getTimeframe() {
+        return timeframe;
+    }
+
+    private void closeFormingBar() {
+        if (completed == timestamps.length) {
+            int capacity = completed * 2;
+            timestamps = Arrays.copyOf(timestamps, capacity);
+            opens = Arrays.copyOf(opens, capacity);
+            highs = Arrays.copyOf(highs, capacity);
+            lows = Arrays.copyOf(lows, capacity);
+            closes = Arrays.copyOf(closes, capacity);
+            volumes = Arrays.copyOf(volumes, capacity);
+        }
+        timestamps[completed] = formingStart;
+        opens[completed] = formingOpen;
+        highs[completed] = formingHigh;
+        lows[completed] = formingLow;
+        closes[completed] = formingClose;
+        volumes[completed] = formingVolume;
+        completed++;
+        forming = false;
+    }
+}
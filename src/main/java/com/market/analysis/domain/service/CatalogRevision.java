@@ -0,0 +1,52 @@
+package com.market.analysis.domain.service;
+
+import com.market.analysis.domain.port.out.CatalogRevisionRepository;
+
+/**
+ * Revision of the strategy catalogue (strategies, rule definitions and
+ * prohibited tickers), as persisted by the database. Readers tag responses
+ * with it, so an unchanged catalogue can be confirmed with a single-row read
+ * instead of loading the data.
+ *
+ * The revision is advanced by the repositories in the same transaction as
+ * each write, so tags survive restarts and agree across instances. Reads are
+ * served from the revision known to this instance, in memory: writes of
+ * other instances show up after the next {@link #refresh()}.
+ */
+public class CatalogRevision {
+
+    private final CatalogRevisionRepository repository;
+
+    public CatalogRevision(CatalogRevisionRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Gets the current revision. Read it before loading the data it tags: a
+     * write in between then only makes the tag stale, never the data.
+     *
+     * @return the revision, e.g. "r42"
+     */
+    public String current() {
+        return "r" + repository.current();
+    }
+
+    /**
+     * Gets the current revision as a number, for comparisons on hot paths.
+     *
+     * @return the revision, e.g. 42
+     */
+    public long value() {
+        return repository.current();
+    }
+
+    /**
+     * Reads the revision from the database, to pick up writes of other
+     * instances.
+     *
+     * @return the revision, e.g. "r42"
+     */
+    public String refresh() {
+        return "r" + repository.refresh();
+    }
+}
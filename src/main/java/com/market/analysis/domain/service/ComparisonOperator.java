@@ -0,0 +1,94 @@
+package com.market.analysis.domain.service;
+
+import java.util.Locale;
+
+/**
+ * Comparison operators supported by rule predicates.
+ * Each operator maps the symbol stored in {@code Rule.operator} to a
+ * primitive comparison, so evaluation does not parse strings per ticker.
+ */
+public enum ComparisonOperator {
+
+    GREATER_THAN(">") {
+        @Override
+        public boolean test(double subject, double target) {
+            return subject > target;
+        }
+    },
+    GREATER_THAN_OR_EQUAL(">=") {
+        @Override
+        public boolean test(double subject, double target) {
+            return subject >= target;
+        }
+    },
+    LESS_THAN("<") {
+        @Override
+        public boolean test(double subject, double target) {
+            return subject < target;
+        }
+    },
+    LESS_THAN_OR_EQUAL("<=") {
+        @Override
+        public boolean test(double subject, double target) {
+            return subject <= target;
+        }
+    },
+    EQUAL("=") {
+        @Override
+        public boolean test(double subject, double target) {
+            return Math.abs(subject - target) <= EQUALITY_TOLERANCE * Math.max(1.0, Math.abs(target));
+        }
+    };
+
+    /**
+     * Relative tolerance used by {@link #EQUAL} to absorb floating point noise.
+     */
+    private static final double EQUALITY_TOLERANCE = 1e-9;
+
+    private final String symbol;
+
+    ComparisonOperator(String symbol) {
+        this.symbol = symbol;
+    }
+
+    /**
+     * Gets the symbol of this operator as stored in rules.
+     *
+     * @return operator symbol (e.g., ">")
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Applies the comparison. Comparisons involving NaN always fail.
+     *
+     * @param subject the subject value
+     * @param target  the target value
+     * @return true if the comparison holds
+     */
+    public abstract boolean test(double subject, double target);
+
+    /**
+     * Resolves an operator from the symbol stored in a rule.
+     *
+     * @param symbol the operator symbol (e.g., ">", "&lt;=", "==")
+     * @return the matching operator
+     * @throws IllegalArgumentException if the symbol is not supported
+     */
+    public static ComparisonOperator fromSymbol(String symbol) {
+        if (symbol == null) {
+            throw new IllegalArgumentException("Operator cannot be null");
+        }
+        String normalized = symbol.trim().toLowerCase(Locale.ROOT);
+        if ("==".equals(normalized)) {
+            return EQUAL;
+        }
+        for (ComparisonOperator operator : values()) {
+            if (operator.symbol.equals(normalized)) {
+                return operator;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported operator: " + symbol);
+    }
+}
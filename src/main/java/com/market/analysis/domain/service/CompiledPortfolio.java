@@ -0,0 +1,354 @@
+package com.market.analysis.domain.service;
+
+import java.lang.invoke.MethodHandle;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.market.analysis.domain.model.AnalysisResult;
+import com.market.analysis.domain.model.Justification;
+import com.market.analysis.domain.model.Rule;
+import com.market.analysis.domain.model.RuleResult;
+import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.domain.model.TickerData;
+import com.market.analysis.domain.model.Timeframe;
+
+/**
+ * Immutable evaluation DAG produced by {@link PortfolioCompiler}.
+ *
+ * Evaluation of a ticker runs in three passes:
+ * 1. every referenced timeframe view of the ticker is resolved once, then
+ * every unique operand (indicator value) is computed once on its view
+ * 2. every unique predicate is compared once and the inputs of its
+ * justification captured once, to be formatted only if a result is read;
+ * crossing predicates fold the current bar into their {@link CrossingState}
+ * 3. predicate outcomes are fanned out to the rules of every strategy, which
+ * passes when all its rules pass or, if it has a rule expression, when its
+ * compiled expression holds
+ *
+ * Results can be materialized for every strategy with
+ * {@link #evaluate(TickerData)}, or written into a reusable
+ * {@link EvaluationBuffer} with {@link #evaluateInto(TickerData, EvaluationBuffer)}
+ * so that domain objects are only built for the strategies that matched.
+ *
+ * Instances are thread-safe and can be shared between screening workers,
+ * each with its own buffer.
+ */
+public class CompiledPortfolio {
+
+    private final List<Strategy> strategies;
+
+    /**
+     * Distinct operand timeframes; a null element stands for the resolution of
+     * the evaluated ticker data.
+     */
+    private final Timeframe[] timeframes;
+
+    private final String[] operandCodes;
+    private final Double[] operandParams;
+    private final Indicator[] operandIndicators;
+    private final int[] operandTimeframes;
+    private final String[] operandLabels;
+
+    private final int[] predicateSubjects;
+    private final ComparisonOperator[] predicateOperators;
+    private final CrossingOperator[] predicateCrossings;
+    private final String[] predicateSymbols;
+    private final int[] predicateTargets;
+
+    /**
+     * State slot of each crossing predicate, resolved at compilation; null for
+     * plain comparisons.
+     */
+    private final CrossingStateStore.Slot[] predicateStates;
+
+    private final Rule[][] strategyRules;
+    private final int[][] strategyPredicates;
+
+    /**
+     * Compiled rule expression of each strategy, null when all rules must pass.
+     */
+    private final MethodHandle[] strategyExpressions;
+
+    CompiledPortfolio(CrossingStateStore crossingStates, List<Strategy> strategies, Timeframe[] timeframes,
+            String[] operandCodes, Double[] operandParams, Indicator[] operandIndicators, int[] operandTimeframes,
+            int[] predicateSubjects, ComparisonOperator[] predicateOperators, CrossingOperator[] predicateCrossings,
+            int[] predicateTargets, Rule[][] strategyRules, int[][] strategyPredicates,
+            MethodHandle[] strategyExpressions) {
+        this.strategies = strategies;
+        this.timeframes = timeframes;
+        this.operandCodes = operandCodes;
+        this.operandParams = operandParams;
+        this.operandIndicators = operandIndicators;
+        this.operandTimeframes = operandTimeframes;
+        this.operandLabels = new String[operandCodes.length];
+        for (int i = 0; i < operandCodes.length; i++) {
+            operandLabels[i] = RuleEvaluator.label(operandCodes[i], operandParams[i], timeframes[operandTimeframes[i]]);
+        }
+        this.predicateSubjects = predicateSubjects;
+        this.predicateOperators = predicateOperators;
+        this.predicateCrossings = predicateCrossings;
+        this.predicateSymbols = new String[predicateOperators.length];
+        for (int p = 0; p < predicateOperators.length; p++) {
+            predicateSymbols[p] = predicateCrossings[p] != null ? predicateCrossings[p].getSymbol()
+                    : predicateOperators[p].getSymbol();
+        }
+        this.predicateTargets = predicateTargets;
+        this.predicateStates = new CrossingStateStore.Slot[predicateOperators.length];
+        for (int p = 0; p < predicateOperators.length; p++) {
+            if (predicateCrossings[p] != null) {
+                predicateStates[p] = crossingStates.slot(operandLabels[predicateSubjects[p]],
+                        operandLabels[predicateTargets[p]], predicateCrossings[p].window());
+            }
+        }
+        this.strategyRules = strategyRules;
+        this.strategyPredicates = strategyPredicates;
+        this.strategyExpressions = strategyExpressions;
+    }
+
+    /**
+     * Creates buffers sized for this portfolio, to be reused by one screening
+     * worker across tickers.
+     *
+     * @return a new evaluation buffer
+     */
+    public EvaluationBuffer newBuffer() {
+        return new EvaluationBuffer(this, timeframes.length, operandIndicators.length, predicateOperators.length,
+                strategies.size());
+    }
+
+    /**
+     * Evaluates every strategy of the portfolio against the given ticker and
+     * writes the outcome into the buffer. No result objects are created.
+     *
+     * @param tickerData the market data to evaluate
+     * @param buffer     a buffer created by this portfolio
+     * @return the number of strategies that passed
+     * @throws IllegalArgumentException if tickerData is null or lacks the bars
+     *                                  of a timeframe in {@link #getTimeframes()},
+     *                                  or the buffer belongs to another portfolio
+     */
+    public int evaluateInto(TickerData tickerData, EvaluationBuffer buffer) {
+        if (tickerData == null) {
+            throw new IllegalArgumentException("TickerData cannot be null");
+        }
+        if (buffer == null || buffer.portfolio != this) {
+            throw new IllegalArgumentException("Buffer must be created by this portfolio");
+        }
+
+        TickerData[] views = buffer.views;
+        for (int t = 0; t < timeframes.length; t++) {
+            if (!tickerData.hasTimeframe(timeframes[t])) {
+                // Evaluating on an empty stand-in would silently fail every rule on that timeframe
+                throw new IllegalArgumentException("Bars of " + tickerData.getTicker() + " on " + timeframes[t]
+                        + " were not loaded; load the portfolio timeframes with the ticker data");
+            }
+            views[t] = tickerData.atTimeframe(timeframes[t]);
+        }
+
+        double[] operandValues = buffer.operandValues;
+        for (int i = 0; i < operandIndicators.length; i++) {
+            operandValues[i] = operandIndicators[i].compute(views[operandTimeframes[i]], operandParams[i]);
+        }
+
+        boolean[] predicatePassed = buffer.predicatePassed;
+        for (int p = 0; p < predicateOperators.length; p++) {
+            double subject = operandValues[predicateSubjects[p]];
+            double target = operandValues[predicateTargets[p]];
+            CrossingOperator crossing = predicateCrossings[p];
+            predicatePassed[p] = crossing == null ? predicateOperators[p].test(subject, target)
+                    : testCrossing(p, crossing, tickerData.getTicker(), views, subject, target);
+        }
+
+        int matches = 0;
+        for (int s = 0; s < strategyPredicates.length; s++) {
+            int[] predicates = strategyPredicates[s];
+            int passedCount = 0;
+            for (int predicate : predicates) {
+                if (predicatePassed[predicate]) {
+                    passedCount++;
+                }
+            }
+            MethodHandle expression = strategyExpressions[s];
+            boolean passed = expression != null
+                    ? StrategyExpressionCompiler.invoke(expression, predicatePassed)
+                    : predicates.length > 0 && passedCount == predicates.length;
+            buffer.strategyPassedRules[s] = passedCount;
+            buffer.strategyPassed[s] = passed;
+            if (passed) {
+                matches++;
+            }
+        }
+        buffer.matchCount = matches;
+        return matches;
+    }
+
+    /**
+     * Evaluates every strategy of the portfolio against the given ticker.
+     *
+     * @param tickerData the market data to evaluate
+     * @return one AnalysisResult per strategy, in compilation order
+     * @throws IllegalArgumentException if tickerData is null or lacks the bars
+     *                                  of a timeframe in {@link #getTimeframes()}
+     */
+    public List<AnalysisResult> evaluate(TickerData tickerData) {
+        EvaluationBuffer buffer = newBuffer();
+        evaluateInto(tickerData, buffer);
+
+        LocalDateTime analysisTimestamp = LocalDateTime.now();
+        Justification[] justifications = new Justification[predicateOperators.length];
+        List<AnalysisResult> results = new ArrayList<>(strategies.size());
+        for (int s = 0; s < strategies.size(); s++) {
+            results.add(toResult(s, tickerData, buffer, justifications, analysisTimestamp));
+        }
+        return results;
+    }
+
+    /**
+     * Evaluates the ticker into the buffer and only builds results for the
+     * strategies that passed.
+     *
+     * @param tickerData the market data to evaluate
+     * @param buffer     a buffer created by this portfolio
+     * @return the AnalysisResults of the matching strategies, in compilation
+     *         order; an immutable empty list if none matched
+     * @throws IllegalArgumentException if tickerData is null or lacks the bars
+     *                                  of a timeframe in {@link #getTimeframes()},
+     *                                  or the buffer belongs to another portfolio
+     */
+    public List<AnalysisResult> evaluateMatches(TickerData tickerData, EvaluationBuffer buffer) {
+        int matches = evaluateInto(tickerData, buffer);
+        if (matches == 0) {
+            return List.of();
+        }
+
+        LocalDateTime analysisTimestamp = LocalDateTime.now();
+        Justification[] justifications = new Justification[predicateOperators.length];
+        List<AnalysisResult> results = new ArrayList<>(matches);
+        for (int s = 0; s < strategies.size(); s++) {
+            if (buffer.strategyPassed[s]) {
+                results.add(toResult(s, tickerData, buffer, justifications, analysisTimestamp));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Gets the strategies of the portfolio in compilation order.
+     *
+     * @return unmodifiable list of strategies
+     */
+    public List<Strategy> getStrategies() {
+        return strategies;
+    }
+
+    /**
+     * Gets the timeframes explicitly referenced by rule operands. The bars of
+     * these resolutions must be loaded into the evaluated ticker data.
+     *
+     * @return the referenced timeframes
+     */
+    public Set<Timeframe> getTimeframes() {
+        Set<Timeframe> referenced = EnumSet.noneOf(Timeframe.class);
+        for (Timeframe timeframe : timeframes) {
+            if (timeframe != null) {
+                referenced.add(timeframe);
+            }
+        }
+        return referenced;
+    }
+
+    /**
+     * Gets the total number of rules across all strategies.
+     *
+     * @return total rule count
+     */
+    public int getRuleCount() {
+        int count = 0;
+        for (Rule[] rules : strategyRules) {
+            count += rules.length;
+        }
+        return count;
+    }
+
+    /**
+     * Gets the number of unique predicates evaluated per ticker.
+     *
+     * @return unique predicate count
+     */
+    public int getPredicateCount() {
+        return predicateOperators.length;
+    }
+
+    /**
+     * Gets the number of unique indicator operands computed per ticker.
+     *
+     * @return unique operand count
+     */
+    public int getOperandCount() {
+        return operandIndicators.length;
+    }
+
+    /**
+     * Builds the domain result of one strategy from an evaluated buffer.
+     * Justifications are shared by every rule of the call that uses the
+     * same predicate.
+     */
+    private AnalysisResult toResult(int strategy, TickerData tickerData, EvaluationBuffer buffer,
+            Justification[] justifications, LocalDateTime analysisTimestamp) {
+        Rule[] rules = strategyRules[strategy];
+        int[] predicates = strategyPredicates[strategy];
+        List<RuleResult> ruleResults = new ArrayList<>(rules.length);
+        for (int r = 0; r < rules.length; r++) {
+            int predicate = predicates[r];
+            if (justifications[predicate] == null) {
+                double subject = buffer.operandValues[predicateSubjects[predicate]];
+                double target = buffer.operandValues[predicateTargets[predicate]];
+                justifications[predicate] = new Justification(operandLabels[predicateSubjects[predicate]], subject,
+                        predicateSymbols[predicate], operandLabels[predicateTargets[predicate]], target,
+                        buffer.predicatePassed[predicate]);
+            }
+            ruleResults.add(RuleResult.builder()
+                    .passed(buffer.predicatePassed[predicate])
+                    .deferredJustification(justifications[predicate])
+                    .rule(rules[r])
+                    .build());
+        }
+        int passedCount = buffer.strategyPassedRules[strategy];
+
+        return AnalysisResult.builder()
+                .strategy(strategies.get(strategy))
+                .ticker(tickerData.getTicker())
+                .analysisTimestamp(analysisTimestamp)
+                .ruleResults(ruleResults)
+                .calculatedMetrics(Map.of("passedRules", passedCount, "totalRules", rules.length))
+                .overallPassed(buffer.strategyPassed[strategy])
+                .summary(String.format("%d/%d rules passed", passedCount, rules.length))
+                .build();
+    }
+
+    /**
+     * Folds the current bar into the crossing state of the predicate on this
+     * ticker. Past operand values are only computed to seed a new state or to
+     * fill bars that were not screened, bounded by the crossing window.
+     */
+    private boolean testCrossing(int predicate, CrossingOperator crossing, String ticker, TickerData[] views,
+            double subject, double target) {
+        int subjectOperand = predicateSubjects[predicate];
+        int targetOperand = predicateTargets[predicate];
+        TickerData subjectView = views[operandTimeframes[subjectOperand]];
+        TickerData targetView = views[operandTimeframes[targetOperand]];
+        CrossingState state = predicateStates[predicate].get(ticker);
+        synchronized (state) {
+            state.update(subjectView.getBars(), crossing.window(), subject, target,
+                    timestamp -> operandIndicators[subjectOperand].compute(subjectView.asOf(timestamp),
+                            operandParams[subjectOperand]),
+                    timestamp -> operandIndicators[targetOperand].compute(targetView.asOf(timestamp),
+                            operandParams[targetOperand]));
+            return crossing.test(state);
+        }
+    }
+}
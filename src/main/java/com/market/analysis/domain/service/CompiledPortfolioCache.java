@@ -0,0 +1,136 @@
+package com.market.analysis.domain.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import com.market.analysis.domain.model.Strategy;
+
+/**
+ * Cache of compiled portfolios, so repeated evaluations of the same
+ * strategies reuse one {@link CompiledPortfolio} instead of recompiling it.
+ *
+ * Entries are keyed by the IDs and versions of the strategies, in order, and
+ * only live for one {@link CatalogRevision}: any write to the catalogue, rule
+ * definitions included, drops them all. The revision is compared in memory,
+ * so a hit costs no database read. Strategies without an ID or version
+ * (not yet stored) are compiled every time.
+ */
+public class CompiledPortfolioCache {
+
+    public static final int DEFAULT_MAX_ENTRIES = 64;
+
+    private final PortfolioCompiler portfolioCompiler;
+    private final CatalogRevision catalogRevision;
+    private final int maxEntries;
+    private final LinkedHashMap<List<Long>, CompiledPortfolio> portfolios = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long revision = -1;
+    private long hitCount;
+    private long missCount;
+
+    public CompiledPortfolioCache(PortfolioCompiler portfolioCompiler, CatalogRevision catalogRevision) {
+        this(portfolioCompiler, catalogRevision, DEFAULT_MAX_ENTRIES);
+    }
+
+    public CompiledPortfolioCache(PortfolioCompiler portfolioCompiler, CatalogRevision catalogRevision,
+            int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be at least 1");
+        }
+        this.portfolioCompiler = portfolioCompiler;
+        this.catalogRevision = catalogRevision;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Gets the compiled portfolio of the given strategies, compiling it on a
+     * miss. Compilation runs outside the cache lock.
+     *
+     * @param strategies the strategies, in evaluation order
+     * @return the compiled portfolio
+     * @throws IllegalArgumentException if the strategies do not compile, see
+     *                                  {@link PortfolioCompiler#compile(List)}
+     */
+    public CompiledPortfolio get(List<Strategy> strategies) {
+        List<Long> key = keyOf(strategies);
+        if (key == null) {
+            synchronized (this) {
+                missCount++;
+            }
+            return portfolioCompiler.compile(strategies);
+        }
+
+        // Read before compiling: a write in between only makes the entry stale, never wrong
+        long current = catalogRevision.value();
+        synchronized (this) {
+            if (current != revision) {
+                portfolios.clear();
+                revision = current;
+            }
+            CompiledPortfolio cached = portfolios.get(key);
+            if (cached != null) {
+                hitCount++;
+                return cached;
+            }
+            missCount++;
+        }
+
+        CompiledPortfolio compiled = portfolioCompiler.compile(strategies);
+        synchronized (this) {
+            if (current == revision) {
+                portfolios.put(key, compiled);
+                Iterator<List<Long>> eldest = portfolios.keySet().iterator();
+                while (portfolios.size() > maxEntries) {
+                    eldest.next();
+                    eldest.remove();
+                }
+            }
+        }
+        return compiled;
+    }
+
+    /**
+     * Gets the number of cached portfolios.
+     *
+     * @return the entry count
+     */
+    public synchronized int size() {
+        return portfolios.size();
+    }
+
+    /**
+     * Gets the number of lookups served from the cache.
+     *
+     * @return the hit count
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets the number of lookups that compiled a portfolio.
+     *
+     * @return the miss count
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    // IDs and versions, alternating; null if any strategy is not a stored one
+    private static List<Long> keyOf(List<Strategy> strategies) {
+        if (strategies == null) {
+            return null;
+        }
+        List<Long> key = new ArrayList<>(strategies.size() * 2);
+        for (Strategy strategy : strategies) {
+            if (strategy == null || strategy.getId() == null || strategy.getVersion() == null) {
+                return null;
+            }
+            key.add(strategy.getId());
+            key.add(strategy.getVersion());
+        }
+        return key;
+    }
+}
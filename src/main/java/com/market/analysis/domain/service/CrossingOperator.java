@@ -0,0 +1,108 @@
+package com.market.analysis.domain.service;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Crossing operator supported by rule predicates, such as "crosses above" or
+ * "crossed below within 5".
+ *
+ * A crossing depends on the previous bar, so unlike a
+ * {@link ComparisonOperator} it is tested against a {@link CrossingState}
+ * rather than two values. The subject crosses above the target on a bar
+ * where it is greater than the target after being lower or equal on the
+ * previous bar, and symmetrically for crossing below. "Within N" passes if
+ * such a cross happened on one of the last N bars, the current one
+ * included, so "crosses above" is "crossed above within 1".
+ *
+ * @param direction direction of the cross
+ * @param window    number of bars, counting the current one, in which the
+ *                  cross must have happened
+ */
+public record CrossingOperator(Direction direction, int window) {
+
+    /**
+     * Largest supported window, which bounds the history replayed to seed a
+     * crossing state.
+     */
+    public static final int MAX_WINDOW = 500;
+
+    private static final Pattern SYMBOL = Pattern
+            .compile("cross(?:es|ed)\\s+(above|below)(?:\\s+within\\s+(\\d{1,6})(?:\\s+bars?)?)?");
+
+    /**
+     * Direction of a cross.
+     */
+    public enum Direction {
+        ABOVE,
+        BELOW
+    }
+
+    /**
+     * Creates a crossing operator.
+     *
+     * @throws IllegalArgumentException if direction is null or window is out
+     *                                  of range
+     */
+    public CrossingOperator {
+        if (direction == null) {
+            throw new IllegalArgumentException("Direction cannot be null");
+        }
+        if (window < 1 || window > MAX_WINDOW) {
+            throw new IllegalArgumentException("Crossing window must be between 1 and " + MAX_WINDOW);
+        }
+    }
+
+    /**
+     * Checks whether a rule operator denotes a crossing.
+     *
+     * @param symbol the operator stored in a rule
+     * @return true if the symbol starts like a crossing operator
+     */
+    public static boolean isCrossing(String symbol) {
+        return symbol != null && symbol.trim().toLowerCase(Locale.ROOT).startsWith("cross");
+    }
+
+    /**
+     * Resolves a crossing operator from the symbol stored in a rule.
+     *
+     * @param symbol the operator symbol (e.g., "crosses above",
+     *               "crossed below within 5")
+     * @return the matching operator
+     * @throws IllegalArgumentException if the symbol is not a valid crossing
+     */
+    public static CrossingOperator fromSymbol(String symbol) {
+        if (symbol == null) {
+            throw new IllegalArgumentException("Operator cannot be null");
+        }
+        Matcher matcher = SYMBOL.matcher(symbol.trim().toLowerCase(Locale.ROOT));
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Unsupported operator: " + symbol);
+        }
+        Direction direction = "above".equals(matcher.group(1)) ? Direction.ABOVE : Direction.BELOW;
+        return new CrossingOperator(direction, matcher.group(2) == null ? 1 : Integer.parseInt(matcher.group(2)));
+    }
+
+    /**
+     * Gets the canonical symbol of this operator.
+     *
+     * @return symbol such as "crosses above" or "crossed below within 5"
+     */
+    public String getSymbol() {
+        String side = direction == Direction.ABOVE ? "above" : "below";
+        return window == 1 ? "crosses " + side : "crossed " + side + " within " + window;
+    }
+
+    /**
+     * Applies the operator to the state of a subject/target pair.
+     *
+     * @param state the state folded up to the current bar
+     * @return true if the cross happened within the window
+     */
+    public boolean test(CrossingState state) {
+        int barsSince = direction == Direction.ABOVE ? state.getBarsSinceCrossAbove()
+                : state.getBarsSinceCrossBelow();
+        return barsSince < window;
+    }
+}
@@ -0,0 +1,161 @@
+package com.market.analysis.domain.service;
+
+import java.util.function.LongToDoubleFunction;
+
+import com.market.analysis.domain.model.BarSeries;
+
+/**
+ * Crossing state of one subject/target pair on one ticker.
+ *
+ * Holds the sign of (subject - target) on the last folded bar and the number
+ * of bars since the last cross in each direction, so a new bar is folded in
+ * O(1) without rescanning history. The values before the last bar are kept
+ * as well, so the last bar can be folded again while it is still forming.
+ *
+ * Not thread-safe: callers sharing a state must synchronize on it.
+ */
+public final class CrossingState {
+
+    /**
+     * Bars-since value of a cross that has not been observed.
+     */
+    public static final int NEVER = Integer.MAX_VALUE;
+
+    private static final int UNKNOWN = Integer.MIN_VALUE;
+
+    private long timestamp = Long.MIN_VALUE;
+    private int sign = UNKNOWN;
+    private int barsSinceCrossAbove = NEVER;
+    private int barsSinceCrossBelow = NEVER;
+
+    private int previousSign = UNKNOWN;
+    private int previousBarsSinceCrossAbove = NEVER;
+    private int previousBarsSinceCrossBelow = NEVER;
+
+    /**
+     * Used since the last eviction sweep of its {@link CrossingStateStore}.
+     * Set on creation, so a sweep between the first two uses of a new state
+     * does not evict it.
+     */
+    volatile boolean referenced = true;
+
+    /**
+     * Folds one bar. A bar with the timestamp of the last folded bar replaces
+     * it; older bars are ignored.
+     *
+     * @param barTimestamp bar start time in epoch milliseconds
+     * @param subject      subject value on that bar
+     * @param target       target value on that bar
+     */
+    public void advance(long barTimestamp, double subject, double target) {
+        if (barTimestamp < timestamp) {
+            return;
+        }
+        if (barTimestamp > timestamp) {
+            previousSign = sign;
+            previousBarsSinceCrossAbove = barsSinceCrossAbove;
+            previousBarsSinceCrossBelow = barsSinceCrossBelow;
+            timestamp = barTimestamp;
+        }
+        int current = Double.isNaN(subject) || Double.isNaN(target) ? UNKNOWN
+                : subject > target ? 1 : subject < target ? -1 : 0;
+        barsSinceCrossAbove = increment(previousBarsSinceCrossAbove);
+        barsSinceCrossBelow = increment(previousBarsSinceCrossBelow);
+        if (previousSign != UNKNOWN && current != UNKNOWN) {
+            if (current > 0 && previousSign <= 0) {
+                barsSinceCrossAbove = 0;
+            } else if (current < 0 && previousSign >= 0) {
+                barsSinceCrossBelow = 0;
+            }
+        }
+        sign = current;
+    }
+
+    /**
+     * Brings the state up to the last bar of a series. Only bars newer than
+     * the state are folded; when the state is new, does not match the series
+     * or is more than {@code lookback} bars behind, it is reset and seeded
+     * from the last {@code lookback + 1} bars. The last bar uses the given
+     * current values, older bars the value functions.
+     *
+     * @param clock     bars driving the state, oldest first
+     * @param lookback  number of past bars that can affect the result
+     * @param subject   subject value on the last bar
+     * @param target    target value on the last bar
+     * @param subjectAt subject value as of a bar timestamp
+     * @param targetAt  target value as of a bar timestamp
+     * @return number of past bars replayed, 0 when only the last bar was
+     *         folded
+     */
+    public int update(BarSeries clock, int lookback, double subject, double target,
+            LongToDoubleFunction subjectAt, LongToDoubleFunction targetAt) {
+        int last = clock.size() - 1;
+        if (last < 0) {
+            return 0;
+        }
+        int start = last + 1;
+        if (timestamp != Long.MIN_VALUE) {
+            int index = clock.indexOf(timestamp);
+            if (index <= last && clock.timestamp(index) == timestamp && last - index <= lookback) {
+                start = index + 1;
+            } else {
+                reset();
+            }
+        }
+        if (timestamp == Long.MIN_VALUE) {
+            start = Math.max(0, last - lookback);
+        }
+        for (int i = start; i < last; i++) {
+            long barTimestamp = clock.timestamp(i);
+            advance(barTimestamp, subjectAt.applyAsDouble(barTimestamp), targetAt.applyAsDouble(barTimestamp));
+        }
+        advance(clock.timestamp(last), subject, target);
+        return Math.max(0, last - start);
+    }
+
+    /**
+     * Forgets every folded bar.
+     */
+    public void reset() {
+        timestamp = Long.MIN_VALUE;
+        sign = UNKNOWN;
+        barsSinceCrossAbove = NEVER;
+        barsSinceCrossBelow = NEVER;
+        previousSign = UNKNOWN;
+        previousBarsSinceCrossAbove = NEVER;
+        previousBarsSinceCrossBelow = NEVER;
+    }
+
+    /**
+     * Gets the timestamp of the last folded bar.
+     *
+     * @return epoch milliseconds, or Long.MIN_VALUE if nothing was folded
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Gets the number of bars since the subject last crossed above the
+     * target, 0 meaning the last folded bar.
+     *
+     * @return bar count, or {@link #NEVER}
+     */
+    public int getBarsSinceCrossAbove() {
+        return barsSinceCrossAbove;
+    }
+
+    /**
+     * Gets the number of bars since the subject last crossed below the
+     * target, 0 meaning the last folded bar.
+     *
+     * @return bar count, or {@link #NEVER}
+     */
+    public int getBarsSinceCrossBelow() {
+        return barsSinceCrossBelow;
+    }
+
+    private static int increment(int barsSince) {
+        return barsSince == NEVER ? NEVER : barsSince + 1;
+    }
+}
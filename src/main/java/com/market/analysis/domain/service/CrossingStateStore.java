@@ -0,0 +1,177 @@
+package com.market.analysis.domain.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded store of the {@link CrossingState} of every (ticker, subject,
+ * target, window) tuple evaluated by crossing predicates.
+ *
+ * States are grouped in one {@link Slot} per (subject, target, window),
+ * which compiled predicates resolve once and keep, so a lookup is a single
+ * concurrent map read on the ticker: no key is allocated and no lock is
+ * taken. Slots are shared by every portfolio compiled against the store, so
+ * state keeps advancing bar by bar across screening runs.
+ *
+ * Beyond {@code maxStates}, states not used since the previous sweep are
+ * evicted (second chance), which approximates least recently used without
+ * ordering the map on every read. An evicted state is simply seeded again
+ * from history.
+ */
+public class CrossingStateStore {
+
+    /**
+     * Default number of states kept.
+     */
+    public static final int DEFAULT_MAX_STATES = 100_000;
+
+    private final int maxStates;
+    private final ConcurrentHashMap<SlotKey, Slot> slots = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final ReentrantLock sweepLock = new ReentrantLock();
+
+    public CrossingStateStore() {
+        this(DEFAULT_MAX_STATES);
+    }
+
+    /**
+     * Creates a store.
+     *
+     * @param maxStates maximum number of states kept
+     * @throws IllegalArgumentException if maxStates is not positive
+     */
+    public CrossingStateStore(int maxStates) {
+        if (maxStates <= 0) {
+            throw new IllegalArgumentException("Max states must be positive");
+        }
+        this.maxStates = maxStates;
+    }
+
+    /**
+     * Gets the slot of a crossing predicate, creating it if absent. Slots are
+     * kept for the life of the store, one per distinct predicate compiled.
+     *
+     * @param subject label of the subject operand
+     * @param target  label of the target operand
+     * @param window  crossing window of the predicate
+     * @return the slot holding the state of the predicate on every ticker
+     */
+    public Slot slot(String subject, String target, int window) {
+        return slots.computeIfAbsent(new SlotKey(subject, target, window), key -> new Slot());
+    }
+
+    /**
+     * Gets the state of a tuple, creating it if absent. Compiled predicates
+     * keep their {@link #slot(String, String, int)} instead.
+     *
+     * @param ticker  the ticker symbol
+     * @param subject label of the subject operand
+     * @param target  label of the target operand
+     * @param window  crossing window of the predicate
+     * @return the state, to be used under its own monitor
+     */
+    public CrossingState get(String ticker, String subject, String target, int window) {
+        return slot(subject, target, window).get(ticker);
+    }
+
+    /**
+     * Gets the number of states kept.
+     *
+     * @return state count
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Makes room for a new state. A single thread sweeps at a time; the
+     * others insert meanwhile, up to a sixteenth over the bound, and past that
+     * wait for the sweep.
+     *
+     * The first pass visits every state, evicting those not used since the
+     * previous sweep and taking back the second chance of the others. If that
+     * freed less than a sixteenth of the bound, a second pass evicts states
+     * until it has, so sweeps do not run on every insert once the store is
+     * full of states in use.
+     */
+    private void evictIfFull() {
+        if (size.get() < maxStates) {
+            return;
+        }
+        if (!sweepLock.tryLock()) {
+            if (size.get() < maxStates + maxStates / 16) {
+                return;
+            }
+            sweepLock.lock();
+        }
+        try {
+            if (size.get() < maxStates) {
+                return;
+            }
+            for (Slot slot : slots.values()) {
+                slot.sweep(Integer.MIN_VALUE);
+            }
+            int target = maxStates - 1 - maxStates / 16;
+            for (Slot slot : slots.values()) {
+                if (size.get() <= target || slot.sweep(target)) {
+                    return;
+                }
+            }
+        } finally {
+            sweepLock.unlock();
+        }
+    }
+
+    /**
+     * States of one crossing predicate, by ticker.
+     */
+    public final class Slot {
+
+        private final ConcurrentHashMap<String, CrossingState> states = new ConcurrentHashMap<>();
+
+        private Slot() {
+        }
+
+        /**
+         * Gets the state of the predicate on a ticker, creating it if absent.
+         *
+         * @param ticker the ticker symbol
+         * @return the state, to be used under its own monitor
+         */
+        public CrossingState get(String ticker) {
+            CrossingState state = states.get(ticker);
+            if (state != null) {
+                if (!state.referenced) {
+                    state.referenced = true;
+                }
+                return state;
+            }
+            evictIfFull();
+            CrossingState created = new CrossingState();
+            CrossingState raced = states.putIfAbsent(ticker, created);
+            if (raced != null) {
+                return raced;
+            }
+            size.incrementAndGet();
+            return created;
+        }
+
+        // Evicts unreferenced states and clears the others, stopping once down to target
+        private boolean sweep(int target) {
+            for (Map.Entry<String, CrossingState> entry : states.entrySet()) {
+                CrossingState state = entry.getValue();
+                if (state.referenced) {
+                    state.referenced = false;
+                } else if (states.remove(entry.getKey(), state) && size.decrementAndGet() <= target) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private record SlotKey(String subject, String target, int window) {
+    }
+}
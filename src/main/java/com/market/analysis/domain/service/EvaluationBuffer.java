@@ -0,0 +1,83 @@
+package com.market.analysis.domain.service;
+
+import com.market.analysis.domain.model.TickerData;
+
+/**
+ * Reusable primitive buffers receiving the evaluation of one ticker by a
+ * {@link CompiledPortfolio}.
+ *
+ * A buffer is sized for the portfolio that created it and is overwritten by
+ * every evaluation, so screening a universe fills the same arrays over and
+ * over instead of allocating results. Buffers are not thread-safe: each
+ * screening worker owns its own.
+ */
+public final class EvaluationBuffer {
+
+    final CompiledPortfolio portfolio;
+    final TickerData[] views;
+    final double[] operandValues;
+    final boolean[] predicatePassed;
+    final boolean[] strategyPassed;
+    final int[] strategyPassedRules;
+    int matchCount;
+
+    EvaluationBuffer(CompiledPortfolio portfolio, int timeframeCount, int operandCount, int predicateCount,
+            int strategyCount) {
+        this.portfolio = portfolio;
+        this.views = new TickerData[timeframeCount];
+        this.operandValues = new double[operandCount];
+        this.predicatePassed = new boolean[predicateCount];
+        this.strategyPassed = new boolean[strategyCount];
+        this.strategyPassedRules = new int[strategyCount];
+    }
+
+    /**
+     * Checks whether a strategy passed on the last evaluated ticker.
+     *
+     * @param strategy index of the strategy in compilation order
+     * @return true if the strategy matched
+     */
+    public boolean isStrategyPassed(int strategy) {
+        return strategyPassed[strategy];
+    }
+
+    /**
+     * Gets the number of rules of a strategy that passed on the last
+     * evaluated ticker.
+     *
+     * @param strategy index of the strategy in compilation order
+     * @return passed rule count
+     */
+    public int getPassedRuleCount(int strategy) {
+        return strategyPassedRules[strategy];
+    }
+
+    /**
+     * Gets the number of strategies that passed on the last evaluated ticker.
+     *
+     * @return match count
+     */
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    /**
+     * Gets the outcome of a unique predicate on the last evaluated ticker.
+     *
+     * @param predicate index of the predicate
+     * @return true if the predicate held
+     */
+    public boolean isPredicatePassed(int predicate) {
+        return predicatePassed[predicate];
+    }
+
+    /**
+     * Gets the value of a unique operand on the last evaluated ticker.
+     *
+     * @param operand index of the operand
+     * @return the operand value, NaN if it could not be computed
+     */
+    public double getOperandValue(int operand) {
+        return operandValues[operand];
+    }
+}
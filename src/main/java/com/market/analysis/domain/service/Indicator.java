@@ -0,0 +1,25 @@
+package com.market.analysis.domain.service;
+
+import com.market.analysis.domain.model.TickerData;
+
+/**
+ * Technical indicator that resolves a single numeric value from ticker data.
+ * Implementations are stateless and deterministic, so the same indicator can
+ * be shared by every rule that references its code.
+ *
+ * No Spring or framework annotations should be present here to maintain
+ * technology independence in the domain layer.
+ */
+@FunctionalInterface
+public interface Indicator {
+
+    /**
+     * Computes the indicator value for the given ticker data.
+     *
+     * @param tickerData the market data to evaluate
+     * @param param      optional indicator parameter (e.g., 50 for SMA 50)
+     * @return the indicator value, or {@link Double#NaN} if there is not enough
+     *         data to compute it
+     */
+    double compute(TickerData tickerData, Double param);
+}
@@ -0,0 +1,210 @@
+package com.market.analysis.domain.service;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.market.analysis.domain.model.BarSeries;
+import com.market.analysis.domain.model.TickerData;
+
+/**
+ * Catalogue of the indicator implementations known to the evaluation engine,
+ * indexed by the code used in {@code RuleDefinition} and {@code Rule}.
+ *
+ * Built-in codes:
+ * - PRICE: current price (falls back to the last close)
+ * - VOLUME: current volume (falls back to the last bar volume)
+ * - CONSTANT: the rule parameter itself
+ * - SMA: simple moving average of closes over N periods
+ * - EMA: exponential moving average of closes over N periods
+ * - RSI: Wilder's relative strength index over N periods
+ * - VOLUME_SMA: simple moving average of volume over N periods
+ */
+public class IndicatorLibrary {
+
+    private final Map<String, Indicator> indicators;
+
+    /**
+     * Creates a library with the built-in indicators.
+     */
+    public IndicatorLibrary() {
+        this(defaultIndicators());
+    }
+
+    /**
+     * Creates a library with the given indicators.
+     *
+     * @param indicators indicator implementations indexed by code
+     */
+    public IndicatorLibrary(Map<String, Indicator> indicators) {
+        Map<String, Indicator> normalized = new HashMap<>();
+        indicators.forEach((code, indicator) -> normalized.put(normalize(code), indicator));
+        this.indicators = Map.copyOf(normalized);
+    }
+
+    /**
+     * Finds the indicator registered for a code.
+     *
+     * @param code the indicator code (case-insensitive)
+     * @return Optional containing the indicator if found, empty otherwise
+     */
+    public Optional<Indicator> find(String code) {
+        if (code == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(indicators.get(normalize(code)));
+    }
+
+    /**
+     * Gets the codes of every registered indicator.
+     *
+     * @return normalized codes
+     */
+    public Set<String> codes() {
+        return indicators.keySet();
+    }
+
+    /**
+     * Checks if an indicator is registered for a code.
+     *
+     * @param code the indicator code (case-insensitive)
+     * @return true if the code can be evaluated, false otherwise
+     */
+    public boolean supports(String code) {
+        return find(code).isPresent();
+    }
+
+    /**
+     * Normalizes an indicator code so that lookups are case-insensitive.
+     *
+     * @param code the raw code
+     * @return trimmed, upper-case code
+     */
+    public static String normalize(String code) {
+        return code == null ? null : code.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Builds the map of built-in indicators.
+     *
+     * @return built-in indicators indexed by code
+     */
+    public static Map<String, Indicator> defaultIndicators() {
+        Map<String, Indicator> defaults = new HashMap<>();
+        defaults.put("PRICE", (data, param) -> price(data));
+        defaults.put("VOLUME", (data, param) -> volume(data));
+        defaults.put("CONSTANT", (data, param) -> param != null ? param : Double.NaN);
+        defaults.put("SMA", IndicatorLibrary::sma);
+        defaults.put("EMA", IndicatorLibrary::ema);
+        defaults.put("RSI", IndicatorLibrary::rsi);
+        defaults.put("VOLUME_SMA", IndicatorLibrary::volumeSma);
+        return defaults;
+    }
+
+    /**
+     * Estimates how many bars of history a built-in indicator needs to produce
+     * a stable value. EMA includes a warm-up of three periods so the seed no
+     * longer dominates the result.
+     *
+     * @param code  the indicator code (case-insensitive)
+     * @param param the indicator parameter
+     * @return the number of bars required (at least 1)
+     */
+    public static int requiredBars(String code, Double param) {
+        int period = Math.max(period(param), 1);
+        return switch (code == null ? "" : normalize(code)) {
+            case "SMA", "VOLUME_SMA" -> period;
+            case "RSI" -> period + 1;
+            case "EMA" -> period * 3;
+            default -> 1;
+        };
+    }
+
+    private static double price(TickerData data) {
+        return data.getCurrentPriceValue();
+    }
+
+    private static double volume(TickerData data) {
+        if (data.getVolume() != null) {
+            return data.getVolume();
+        }
+        BarSeries bars = data.getBars();
+        return bars.isEmpty() ? Double.NaN : bars.volume(bars.size() - 1);
+    }
+
+    private static double sma(TickerData data, Double param) {
+        BarSeries bars = data.getBars();
+        int period = period(param);
+        if (period <= 0 || period > bars.size()) {
+            return Double.NaN;
+        }
+        double sum = 0;
+        for (int i = bars.size() - period; i < bars.size(); i++) {
+            sum += bars.close(i);
+        }
+        return sum / period;
+    }
+
+    private static double ema(TickerData data, Double param) {
+        BarSeries bars = data.getBars();
+        int period = period(param);
+        if (period <= 0 || period > bars.size()) {
+            return Double.NaN;
+        }
+        double ema = 0;
+        for (int i = 0; i < period; i++) {
+            ema += bars.close(i);
+        }
+        ema /= period;
+        double alpha = 2.0 / (period + 1);
+        for (int i = period; i < bars.size(); i++) {
+            ema += alpha * (bars.close(i) - ema);
+        }
+        return ema;
+    }
+
+    private static double rsi(TickerData data, Double param) {
+        BarSeries bars = data.getBars();
+        int period = period(param);
+        if (period <= 0 || period >= bars.size()) {
+            return Double.NaN;
+        }
+        double gain = 0;
+        double loss = 0;
+        for (int i = 1; i <= period; i++) {
+            double change = bars.close(i) - bars.close(i - 1);
+            gain += Math.max(change, 0);
+            loss += Math.max(-change, 0);
+        }
+        gain /= period;
+        loss /= period;
+        for (int i = period + 1; i < bars.size(); i++) {
+            double change = bars.close(i) - bars.close(i - 1);
+            gain = (gain * (period - 1) + Math.max(change, 0)) / period;
+            loss = (loss * (period - 1) + Math.max(-change, 0)) / period;
+        }
+        if (loss == 0) {
+            return 100.0;
+        }
+        return 100.0 - 100.0 / (1.0 + gain / loss);
+    }
+
+    private static double volumeSma(TickerData data, Double param) {
+        BarSeries bars = data.getBars();
+        int period = period(param);
+        if (period <= 0 || period > bars.size()) {
+            return Double.NaN;
+        }
+        double sum = 0;
+        for (int i = bars.size() - period; i < bars.size(); i++) {
+            sum += bars.volume(i);
+        }
+        return sum / period;
+    }
+
+    private static int period(Double param) {
+        return param == null ? 0 : (int) Math.round(param);
+    }
+}
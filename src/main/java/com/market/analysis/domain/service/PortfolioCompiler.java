@@ -0,0 +1,157 @@
+package com.market.analysis.domain.service;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.market.analysis.domain.model.Rule;
+import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.domain.model.StrategyExpression;
+import com.market.analysis.domain.model.Timeframe;
+
+/**
+ * Domain service that compiles a portfolio of strategies into a shared
+ * evaluation DAG.
+ *
+ * Identical rules are common across strategies (same subject, operator and
+ * target under different rule ids). The compiler performs common
+ * subexpression elimination on two levels:
+ * - operands: every distinct (indicator code, parameter, timeframe) triple is
+ * computed once
+ * - predicates: every distinct (subject, operator, target) triple is compared
+ * once
+ *
+ * Strategies then only reference predicate indexes, so screening cost scales
+ * with the number of unique predicates instead of the total number of rules.
+ * Operands are also grouped by timeframe, so each (ticker, timeframe) series
+ * is resolved once per ticker and shared by every rule that uses it.
+ *
+ * Strategies with a rule expression get it compiled into a MethodHandle tree
+ * reading their predicate outcomes directly, see
+ * {@link StrategyExpressionCompiler}.
+ *
+ * Crossing predicates share the {@link CrossingStateStore} of the compiler,
+ * so their state keeps advancing across the portfolios it compiles.
+ *
+ * Indicator codes are resolved once per rule against a
+ * {@link RuleDefinitionRegistry} snapshot; operands are keyed by the dense id
+ * of their code and evaluated through an indicator array.
+ */
+public class PortfolioCompiler {
+
+    private final RuleDefinitionRegistry ruleDefinitions;
+    private final CrossingStateStore crossingStates;
+
+    public PortfolioCompiler(RuleEvaluator ruleEvaluator) {
+        this(ruleEvaluator, new CrossingStateStore());
+    }
+
+    public PortfolioCompiler(RuleEvaluator ruleEvaluator, CrossingStateStore crossingStates) {
+        this(new RuleDefinitionRegistry(ruleEvaluator.getIndicatorLibrary()), crossingStates);
+    }
+
+    public PortfolioCompiler(RuleDefinitionRegistry ruleDefinitions, CrossingStateStore crossingStates) {
+        this.ruleDefinitions = ruleDefinitions;
+        this.crossingStates = crossingStates;
+    }
+
+    /**
+     * Compiles the given strategies into a {@link CompiledPortfolio}.
+     *
+     * @param strategies the strategies to compile
+     * @return the compiled portfolio, ready to be evaluated against many tickers
+     * @throws IllegalArgumentException if the list or any strategy is null, or
+     *                                  a rule references an unknown indicator or
+     *                                  operator, or a rule expression is invalid
+     */
+    public CompiledPortfolio compile(List<Strategy> strategies) {
+        if (strategies == null) {
+            throw new IllegalArgumentException("Strategies cannot be null");
+        }
+
+        RuleDefinitionRegistry.Snapshot registry = ruleDefinitions.snapshot();
+        Map<OperandKey, Integer> operands = new LinkedHashMap<>();
+        Map<PredicateKey, Integer> predicates = new LinkedHashMap<>();
+        Rule[][] strategyRules = new Rule[strategies.size()][];
+        int[][] strategyPredicates = new int[strategies.size()][];
+        MethodHandle[] strategyExpressions = new MethodHandle[strategies.size()];
+
+        for (int s = 0; s < strategies.size(); s++) {
+            Strategy strategy = strategies.get(s);
+            if (strategy == null) {
+                throw new IllegalArgumentException("Strategies cannot contain null elements");
+            }
+            List<Rule> rules = strategy.getRules();
+            strategyRules[s] = rules.toArray(new Rule[0]);
+            strategyPredicates[s] = new int[rules.size()];
+
+            for (int r = 0; r < rules.size(); r++) {
+                Rule rule = rules.get(r);
+                if (rule == null) {
+                    throw new IllegalArgumentException("Rule cannot be null");
+                }
+                int subject = operands.computeIfAbsent(
+                        new OperandKey(registry.requireIndicator(rule.getSubjectCode()), rule.getSubjectParam(),
+                                rule.getSubjectTimeframe()),
+                        key -> operands.size());
+                int target = operands.computeIfAbsent(
+                        new OperandKey(registry.requireIndicator(rule.getTargetCode()), rule.getTargetParam(),
+                                rule.getTargetTimeframe()),
+                        key -> operands.size());
+                PredicateKey predicate = CrossingOperator.isCrossing(rule.getOperator())
+                        ? new PredicateKey(subject, null, CrossingOperator.fromSymbol(rule.getOperator()), target)
+                        : new PredicateKey(subject, ComparisonOperator.fromSymbol(rule.getOperator()), null, target);
+                strategyPredicates[s][r] = predicates.computeIfAbsent(predicate, key -> predicates.size());
+            }
+
+            StrategyExpression expression = strategy.parseExpression();
+            if (expression != null) {
+                strategyExpressions[s] = StrategyExpressionCompiler.compile(expression, strategyPredicates[s]);
+            }
+        }
+
+        List<OperandKey> operandKeys = new ArrayList<>(operands.keySet());
+        Map<Timeframe, Integer> timeframeSlots = new LinkedHashMap<>();
+        String[] operandCodes = new String[operandKeys.size()];
+        Double[] operandParams = new Double[operandKeys.size()];
+        Indicator[] operandIndicators = new Indicator[operandKeys.size()];
+        int[] operandTimeframes = new int[operandKeys.size()];
+        for (int i = 0; i < operandKeys.size(); i++) {
+            OperandKey key = operandKeys.get(i);
+            operandCodes[i] = registry.code(key.indicator());
+            operandParams[i] = key.param();
+            operandIndicators[i] = registry.indicator(key.indicator());
+            operandTimeframes[i] = timeframeSlots.computeIfAbsent(key.timeframe(), tf -> timeframeSlots.size());
+        }
+
+        List<PredicateKey> predicateKeys = new ArrayList<>(predicates.keySet());
+        int[] predicateSubjects = new int[predicateKeys.size()];
+        int[] predicateTargets = new int[predicateKeys.size()];
+        ComparisonOperator[] predicateOperators = new ComparisonOperator[predicateKeys.size()];
+        CrossingOperator[] predicateCrossings = new CrossingOperator[predicateKeys.size()];
+        for (int i = 0; i < predicateKeys.size(); i++) {
+            PredicateKey key = predicateKeys.get(i);
+            predicateSubjects[i] = key.subject();
+            predicateTargets[i] = key.target();
+            predicateOperators[i] = key.operator();
+            predicateCrossings[i] = key.crossing();
+        }
+
+        return new CompiledPortfolio(crossingStates, List.copyOf(strategies),
+                timeframeSlots.keySet().toArray(new Timeframe[0]),
+                operandCodes, operandParams, operandIndicators, operandTimeframes,
+                predicateSubjects, predicateOperators, predicateCrossings, predicateTargets,
+                strategyRules, strategyPredicates, strategyExpressions);
+    }
+
+    private record OperandKey(int indicator, Double param, Timeframe timeframe) {
+    }
+
+    /**
+     * Exactly one of operator and crossing is set.
+     */
+    private record PredicateKey(int subject, ComparisonOperator operator, CrossingOperator crossing, int target) {
+    }
+}
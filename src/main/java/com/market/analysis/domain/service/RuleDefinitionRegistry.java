@@ -0,0 +1,208 @@
+package com.market.analysis.domain.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+import com.market.analysis.domain.model.RuleDefinition;
+
+/**
+ * In-memory registry of the rule definitions and indicator codes the
+ * evaluation engine can resolve, so rule codes never cost a query.
+ *
+ * Every code gets a dense integer id, valid within a {@link Snapshot}:
+ * built-in indicator codes first, in alphabetical order, then the codes of
+ * definitions without a built-in implementation, in the order they were
+ * loaded. Compiled rules resolve their codes once and then dispatch by
+ * array index.
+ *
+ * Snapshots are immutable. The definitions are loaded on first use and
+ * reloaded by {@link #refresh()} after every write, which swaps the snapshot
+ * atomically: readers see either the old or the new catalogue, never a mix.
+ */
+public class RuleDefinitionRegistry {
+
+    /**
+     * Id returned for codes that are not registered.
+     */
+    public static final int UNKNOWN = -1;
+
+    private final IndicatorLibrary indicatorLibrary;
+    private final Supplier<List<RuleDefinition>> loader;
+    private volatile Snapshot snapshot;
+
+    /**
+     * Creates a registry of the given indicators only, without definitions.
+     *
+     * @param indicatorLibrary the indicator implementations
+     */
+    public RuleDefinitionRegistry(IndicatorLibrary indicatorLibrary) {
+        this(indicatorLibrary, List::of);
+    }
+
+    /**
+     * Creates a registry.
+     *
+     * @param indicatorLibrary the indicator implementations
+     * @param loader           loads every rule definition, called on first
+     *                         use and on every refresh
+     */
+    public RuleDefinitionRegistry(IndicatorLibrary indicatorLibrary, Supplier<List<RuleDefinition>> loader) {
+        this.indicatorLibrary = indicatorLibrary;
+        this.loader = loader;
+    }
+
+    /**
+     * Gets the current snapshot, loading the definitions on first use.
+     *
+     * @return the snapshot
+     */
+    public Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = load();
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Reloads the definitions and swaps the snapshot. Called once a write to
+     * the rule definitions has been committed; refreshes are serialized, so
+     * the last one always sees every committed write.
+     *
+     * @return the new snapshot
+     */
+    public synchronized Snapshot refresh() {
+        Snapshot current = load();
+        snapshot = current;
+        return current;
+    }
+
+    private Snapshot load() {
+        List<RuleDefinition> definitions = loader.get();
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> codes = new ArrayList<>();
+        for (String code : new TreeSet<>(indicatorLibrary.codes())) {
+            ids.put(code, codes.size());
+            codes.add(code);
+        }
+        RuleDefinition[] byId = new RuleDefinition[codes.size() + definitions.size()];
+        for (RuleDefinition definition : definitions) {
+            String code = IndicatorLibrary.normalize(definition.getCode());
+            if (code == null || code.isEmpty()) {
+                continue;
+            }
+            int id = ids.computeIfAbsent(code, key -> {
+                codes.add(key);
+                return codes.size() - 1;
+            });
+            byId[id] = definition;
+        }
+
+        Indicator[] indicators = new Indicator[codes.size()];
+        for (int id = 0; id < indicators.length; id++) {
+            indicators[id] = indicatorLibrary.find(codes.get(id)).orElse(null);
+        }
+        return new Snapshot(Map.copyOf(ids), codes.toArray(new String[0]), indicators,
+                Arrays.copyOf(byId, codes.size()));
+    }
+
+    /**
+     * Immutable view of the registry, indexed by dense id.
+     */
+    public static final class Snapshot {
+
+        private final Map<String, Integer> ids;
+        private final String[] codes;
+        private final Indicator[] indicators;
+        private final RuleDefinition[] definitions;
+
+        private Snapshot(Map<String, Integer> ids, String[] codes, Indicator[] indicators,
+                RuleDefinition[] definitions) {
+            this.ids = ids;
+            this.codes = codes;
+            this.indicators = indicators;
+            this.definitions = definitions;
+        }
+
+        /**
+         * Gets the number of registered codes; ids range from 0 to size - 1.
+         *
+         * @return the number of codes
+         */
+        public int size() {
+            return codes.length;
+        }
+
+        /**
+         * Resolves a code to its id.
+         *
+         * @param code the code (case-insensitive)
+         * @return the id, or {@link RuleDefinitionRegistry#UNKNOWN}
+         */
+        public int idOf(String code) {
+            if (code == null) {
+                return UNKNOWN;
+            }
+            Integer id = ids.get(IndicatorLibrary.normalize(code));
+            return id == null ? UNKNOWN : id;
+        }
+
+        /**
+         * Resolves a code that must be evaluable.
+         *
+         * @param code the code (case-insensitive)
+         * @return the id, which has an indicator
+         * @throws IllegalArgumentException if the code has no indicator
+         *                                  implementation
+         */
+        public int requireIndicator(String code) {
+            int id = idOf(code);
+            if (id == UNKNOWN || indicators[id] == null) {
+                throw new IllegalArgumentException("Unsupported indicator code: " + code);
+            }
+            return id;
+        }
+
+        /**
+         * Gets the normalized code of an id.
+         *
+         * @param id the id
+         * @return the code
+         */
+        public String code(int id) {
+            return codes[id];
+        }
+
+        /**
+         * Gets the indicator implementation of an id.
+         *
+         * @param id the id
+         * @return the indicator, or null if a definition exists for the code
+         *         but no implementation
+         */
+        public Indicator indicator(int id) {
+            return indicators[id];
+        }
+
+        /**
+         * Gets the rule definition of an id.
+         *
+         * @param id the id
+         * @return the definition, or null for a built-in code that has none
+         */
+        public RuleDefinition definition(int id) {
+            return definitions[id];
+        }
+    }
+}
@@ -1,6 +1,146 @@
 package com.market.analysis.domain.service;
 
+import com.market.analysis.domain.model.Justification;
+import com.market.analysis.domain.model.Rule;
+import com.market.analysis.domain.model.RuleResult;
+import com.market.analysis.domain.model.TickerData;
+import com.market.analysis.domain.model.Timeframe;
 
+/**
+ * Domain service that evaluates a single rule against ticker data.
+ * Resolves the subject and target indicators through the
+ * {@link IndicatorLibrary} on the timeframe of each side, applies the rule
+ * operator and keeps the inputs of the justification of the outcome, which
+ * is only formatted when read.
+ *
+ * Crossing operators are evaluated here from a fresh {@link CrossingState}
+ * seeded from history; screening goes through the {@link CompiledPortfolio},
+ * which keeps that state across runs and folds one bar at a time.
+ */
 public class RuleEvaluator {
 
+    private final IndicatorLibrary indicatorLibrary;
+
+    public RuleEvaluator(IndicatorLibrary indicatorLibrary) {
+        this.indicatorLibrary = indicatorLibrary;
+    }
+
+    /**
+     * Gets the indicator library used to resolve rule operands.
+     *
+     * @return the indicator library
+     */
+    public IndicatorLibrary getIndicatorLibrary() {
+        return indicatorLibrary;
+    }
+
+    /**
+     * Evaluates a rule against the provided ticker data.
+     *
+     * @param rule       the rule to evaluate
+     * @param tickerData the market data to evaluate
+     * @return RuleResult with the outcome and its justification
+     * @throws IllegalArgumentException if the rule references an unknown
+     *                                  indicator or operator
+     */
+    public RuleResult evaluate(Rule rule, TickerData tickerData) {
+        validate(rule);
+        TickerData subjectData = tickerData.atTimeframe(rule.getSubjectTimeframe());
+        TickerData targetData = tickerData.atTimeframe(rule.getTargetTimeframe());
+        double subject = resolve(rule.getSubjectCode(), rule.getSubjectParam(), subjectData);
+        double target = resolve(rule.getTargetCode(), rule.getTargetParam(), targetData);
+        String subjectLabel = label(rule.getSubjectCode(), rule.getSubjectParam(), rule.getSubjectTimeframe());
+        String targetLabel = label(rule.getTargetCode(), rule.getTargetParam(), rule.getTargetTimeframe());
+
+        boolean passed;
+        String symbol;
+        if (CrossingOperator.isCrossing(rule.getOperator())) {
+            CrossingOperator operator = CrossingOperator.fromSymbol(rule.getOperator());
+            CrossingState state = new CrossingState();
+            state.update(subjectData.getBars(), operator.window(), subject, target,
+                    timestamp -> resolve(rule.getSubjectCode(), rule.getSubjectParam(), subjectData.asOf(timestamp)),
+                    timestamp -> resolve(rule.getTargetCode(), rule.getTargetParam(), targetData.asOf(timestamp)));
+            passed = operator.test(state);
+            symbol = operator.getSymbol();
+        } else {
+            ComparisonOperator operator = ComparisonOperator.fromSymbol(rule.getOperator());
+            passed = operator.test(subject, target);
+            symbol = operator.getSymbol();
+        }
+
+        return RuleResult.builder()
+                .passed(passed)
+                .deferredJustification(new Justification(subjectLabel, subject, symbol, targetLabel, target, passed))
+                .rule(rule)
+                .build();
+    }
+
+    /**
+     * Validates that a rule can be evaluated by this engine.
+     *
+     * @param rule the rule to validate
+     * @throws IllegalArgumentException if the rule is null or references an
+     *                                  unknown indicator or operator
+     */
+    public void validate(Rule rule) {
+        if (rule == null) {
+            throw new IllegalArgumentException("Rule cannot be null");
+        }
+        requireIndicator(rule.getSubjectCode());
+        requireIndicator(rule.getTargetCode());
+        if (CrossingOperator.isCrossing(rule.getOperator())) {
+            CrossingOperator.fromSymbol(rule.getOperator());
+        } else {
+            ComparisonOperator.fromSymbol(rule.getOperator());
+        }
+    }
+
+    /**
+     * Resolves the value of an indicator operand.
+     *
+     * @param code       the indicator code
+     * @param param      the indicator parameter, may be null
+     * @param tickerData the market data to evaluate
+     * @return the operand value, or NaN if it cannot be computed
+     */
+    public double resolve(String code, Double param, TickerData tickerData) {
+        return requireIndicator(code).compute(tickerData, param);
+    }
+
+    /**
+     * Builds the label of an operand for justifications.
+     *
+     * @param code  the indicator code
+     * @param param the indicator parameter, may be null
+     * @return label such as "SMA(50)" or "PRICE"
+     */
+    public static String label(String code, Double param) {
+        String normalized = IndicatorLibrary.normalize(code);
+        if (param == null) {
+            return normalized;
+        }
+        if (param == Math.rint(param)) {
+            return normalized + "(" + param.longValue() + ")";
+        }
+        return normalized + "(" + param + ")";
+    }
+
+    /**
+     * Builds the label of an operand computed on a specific timeframe.
+     *
+     * @param code      the indicator code
+     * @param param     the indicator parameter, may be null
+     * @param timeframe the operand timeframe, may be null
+     * @return label such as "SMA(50)[WEEK_1]", or the plain label if the
+     *         timeframe is null
+     */
+    public static String label(String code, Double param, Timeframe timeframe) {
+        String label = label(code, param);
+        return timeframe == null ? label : label + "[" + timeframe + "]";
+    }
+
+    private Indicator requireIndicator(String code) {
+        return indicatorLibrary.find(code)
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported indicator code: " + code));
+    }
 }
@@ -0,0 +1,244 @@
+package com.market.analysis.infrastructure.cache;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.market.analysis.domain.model.ProhibitedTicker;
+import com.market.analysis.domain.model.Rule;
+import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.domain.model.Timeframe;
+import com.market.analysis.domain.port.out.ProhibitedTickerRepository;
+import com.market.analysis.domain.port.out.StrategyRepository;
+import com.market.analysis.domain.service.IndicatorLibrary;
+import com.market.analysis.infrastructure.config.BackfillProperties;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background job that keeps the local bar store filled with the history the
+ * strategies need.
+ *
+ * Each run:
+ * <ol>
+ * <li>derives the lookback window from the deepest indicator used by any
+ * strategy rule (at least {@code min-lookback-days}),</li>
+ * <li>orders the universe by screening demand, then the configured universe,
+ * then tickers already stored, skipping prohibited tickers,</li>
+ * <li>fetches only the missing day ranges of up to {@code batch-size}
+ * tickers, newest first, paced to {@code max-requests-per-minute}.</li>
+ * </ol>
+ *
+ * Progress is the persisted coverage of the store, so a restarted instance
+ * resumes exactly where the previous one stopped and nothing already stored is
+ * fetched again.
+ *
+ * Pacing sleeps between provider requests, so runs execute on a thread of
+ * their own instead of the shared task scheduler, whose other jobs would wait
+ * for a whole batch otherwise.
+ */
+@Slf4j
+public class BarBackfillJob {
+
+    private static final int TRADING_MINUTES_PER_DAY = 390;
+    private static final int LOOKBACK_MARGIN_DAYS = 10;
+
+    private final TieredMarketDataPort marketDataPort;
+    private final LocalBarStore store;
+    private final StrategyRepository strategyRepository;
+    private final ProhibitedTickerRepository prohibitedTickerRepository;
+    private final BackfillProperties properties;
+    private final Clock clock;
+    private ScheduledExecutorService scheduler;
+
+    public BarBackfillJob(TieredMarketDataPort marketDataPort, LocalBarStore store,
+            StrategyRepository strategyRepository, ProhibitedTickerRepository prohibitedTickerRepository,
+            BackfillProperties properties, Clock clock) {
+        this.marketDataPort = marketDataPort;
+        this.store = store;
+        this.strategyRepository = strategyRepository;
+        this.prohibitedTickerRepository = prohibitedTickerRepository;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    /**
+     * Starts running batches on a dedicated thread, with the configured delay
+     * between the end of a run and the start of the next. Does nothing when
+     * the backfill is disabled, which is checked here rather than by a bean
+     * condition so that it is not fixed by an AOT build.
+     */
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            log.info("Bar backfill disabled");
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "bar-backfill");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::runScheduled, properties.getIntervalMs(), properties.getIntervalMs(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the runs, interrupting a batch waiting on its pacing.
+     */
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs one backfill batch if enabled. Never throws, so a failed run does
+     * not cancel the next ones.
+     */
+    public void runScheduled() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            runBatch();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Bar backfill run failed", e);
+        }
+    }
+
+    /**
+     * Backfills the gaps of the next batch of tickers.
+     *
+     * @return number of provider requests made
+     * @throws InterruptedException if interrupted while pacing requests
+     */
+    public int runBatch() throws InterruptedException {
+        int requiredBars = requiredBars(strategyRepository.findAll());
+        LocalDate yesterday = LocalDate.now(clock).minusDays(1);
+        int requests = 0;
+        int processed = 0;
+
+        for (String ticker : prioritizedTickers()) {
+            if (processed >= properties.getBatchSize()) {
+                break;
+            }
+            boolean hadGaps = false;
+            for (Timeframe timeframe : properties.getTimeframes()) {
+                DateRange window = new DateRange(
+                        yesterday.minusDays(lookbackDays(timeframe, requiredBars) - 1L), yesterday);
+                List<DateRange> gaps = store.missing(ticker, timeframe, window);
+                for (int g = gaps.size() - 1; g >= 0; g--) {
+                    for (DateRange chunk : chunksNewestFirst(gaps.get(g))) {
+                        hadGaps = true;
+                        try {
+                            int made = marketDataPort.prefetch(ticker, chunk, timeframe);
+                            requests += made;
+                            pace(made);
+                        } catch (RuntimeException e) {
+                            log.warn("Backfill of {} {} {} failed: {}", ticker, timeframe, chunk, e.getMessage());
+                        }
+                    }
+                }
+            }
+            if (hadGaps) {
+                processed++;
+            }
+        }
+        if (requests > 0) {
+            log.info("Backfilled {} tickers with {} provider requests", processed, requests);
+        }
+        return requests;
+    }
+
+    /**
+     * Computes the deepest history, in bars, needed by any rule.
+     */
+    private static int requiredBars(List<Strategy> strategies) {
+        int required = 1;
+        for (Strategy strategy : strategies) {
+            for (Rule rule : strategy.getRules()) {
+                required = Math.max(required, IndicatorLibrary.requiredBars(rule.getSubjectCode(),
+                        rule.getSubjectParam()));
+                required = Math.max(required, IndicatorLibrary.requiredBars(rule.getTargetCode(),
+                        rule.getTargetParam()));
+            }
+        }
+        return required;
+    }
+
+    /**
+     * Converts a number of bars into calendar days for a timeframe, assuming
+     * five trading days a week and regular trading hours.
+     */
+    private long lookbackDays(Timeframe timeframe, int bars) {
+        long tradingDays = switch (timeframe) {
+            case DAY_1 -> bars;
+            case WEEK_1 -> bars * 5L;
+            default -> {
+                long barsPerDay = Math.max(1, TRADING_MINUTES_PER_DAY / timeframe.getDuration().toMinutes());
+                yield (bars + barsPerDay - 1) / barsPerDay;
+            }
+        };
+        long calendarDays = tradingDays * 7 / 5 + LOOKBACK_MARGIN_DAYS;
+        return Math.max(calendarDays, properties.getMinLookbackDays());
+    }
+
+    private List<DateRange> chunksNewestFirst(DateRange gap) {
+        List<DateRange> chunks = new ArrayList<>();
+        LocalDate to = gap.to();
+        while (!to.isBefore(gap.from())) {
+            LocalDate from = to.minusDays(properties.getMaxDaysPerRequest() - 1L);
+            if (from.isBefore(gap.from())) {
+                from = gap.from();
+            }
+            chunks.add(new DateRange(from, to));
+            to = from.minusDays(1);
+        }
+        return chunks;
+    }
+
+    private List<String> prioritizedTickers() {
+        Set<String> prohibited = new HashSet<>();
+        for (ProhibitedTicker ticker : prohibitedTickerRepository.findAll()) {
+            prohibited.add(normalize(ticker.getTicker()));
+        }
+
+        Set<String> ordered = new LinkedHashSet<>();
+        marketDataPort.getDemand().entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .forEach(entry -> ordered.add(entry.getKey()));
+        properties.getUniverse().forEach(ticker -> ordered.add(normalize(ticker)));
+        for (Timeframe timeframe : properties.getTimeframes()) {
+            ordered.addAll(store.tickers(timeframe));
+        }
+        ordered.removeAll(prohibited);
+        ordered.remove("");
+        return new ArrayList<>(ordered);
+    }
+
+    private void pace(int requests) throws InterruptedException {
+        if (requests > 0 && properties.getMaxRequestsPerMinute() > 0) {
+            Thread.sleep(60_000L * requests / properties.getMaxRequestsPerMinute());
+        }
+    }
+
+    private static String normalize(String ticker) {
+        return ticker == null ? "" : ticker.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,178 @@
+package com.market.analysis.infrastructure.cache;
+
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.market.analysis.domain.model.ProhibitedTicker;
+import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.domain.model.Timeframe;
+import com.market.analysis.domain.port.in.ManageStrategyUseCase;
+import com.market.analysis.domain.port.out.ProhibitedTickerRepository;
+import com.market.analysis.domain.service.CompiledPortfolioCache;
+import com.market.analysis.domain.service.RuleDefinitionRegistry;
+import com.market.analysis.infrastructure.config.BackfillProperties;
+import com.market.analysis.infrastructure.config.WarmUpProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Warms what the first screens of an instance depend on, once the
+ * application is ready:
+ * <ol>
+ * <li>the strategy catalogue, loaded and compiled into the
+ * {@link CompiledPortfolioCache} evaluations of the whole catalogue read,</li>
+ * <li>the rule definition registry snapshot,</li>
+ * <li>the off-heap tier of the market data store, from the local bar store:
+ * the backfill universe first, then the other stored tickers, until it is
+ * full.</li>
+ * </ol>
+ *
+ * Runs on a background thread and retries until every step succeeded; the
+ * {@code warmUp} health indicator keeps the readiness group out of service
+ * until then, so traffic only reaches instances with warm caches.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CacheWarmer {
+
+    private final ManageStrategyUseCase manageStrategyUseCase;
+    private final CompiledPortfolioCache compiledPortfolioCache;
+    private final RuleDefinitionRegistry ruleDefinitionRegistry;
+    private final TieredMarketDataPort tieredMarketDataPort;
+    private final LocalBarStore localBarStore;
+    private final ProhibitedTickerRepository prohibitedTickerRepository;
+    private final BackfillProperties backfillProperties;
+    private final WarmUpProperties warmUpProperties;
+
+    private volatile boolean warm;
+    private volatile Map<String, Object> details = Map.of();
+    private volatile String lastError;
+
+    /**
+     * Starts the warm-up once the application is ready.
+     *
+     * @param event the ready event
+     */
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        if (!warmUpProperties.isEnabled()) {
+            warm = true;
+            return;
+        }
+        Thread.ofVirtual().name("cache-warm-up").start(this::warmUntilDone);
+    }
+
+    /**
+     * Runs the warm-up until it succeeds, waiting the retry interval after
+     * every failure. Returns early if the thread is interrupted.
+     */
+    public void warmUntilDone() {
+        while (!warm) {
+            try {
+                warmUp();
+            } catch (RuntimeException e) {
+                lastError = e.getMessage();
+                log.warn("Cache warm-up failed, retrying in {} ms", warmUpProperties.getRetryIntervalMs(), e);
+                try {
+                    Thread.sleep(warmUpProperties.getRetryIntervalMs());
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs every warm-up step once.
+     *
+     * @throws RuntimeException if a step fails, e.g. the database is
+     *                          unavailable
+     */
+    public void warmUp() {
+        long startTime = System.nanoTime();
+
+        List<Strategy> strategies = manageStrategyUseCase.getAllStrategies();
+        try {
+            compiledPortfolioCache.get(strategies);
+        } catch (IllegalArgumentException e) {
+            // Invalid strategies are reported when screened; the catalogue itself is loaded
+            log.debug("Strategy catalogue does not compile as a whole: {}", e.getMessage());
+        }
+        int ruleCodes = ruleDefinitionRegistry.snapshot().size();
+        int hotSeries = warmHotTier();
+
+        Map<String, Object> warmed = new LinkedHashMap<>();
+        warmed.put("strategies", strategies.size());
+        warmed.put("compiledPortfolios", compiledPortfolioCache.size());
+        warmed.put("ruleCodes", ruleCodes);
+        warmed.put("hotSeries", hotSeries);
+        warmed.put("durationMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        details = Map.copyOf(warmed);
+        lastError = null;
+        warm = true;
+        log.info("Caches warmed: {}", warmed);
+    }
+
+    /**
+     * Checks whether the warm-up has completed.
+     *
+     * @return true once every step succeeded, or if warm-up is disabled
+     */
+    public boolean isWarm() {
+        return warm;
+    }
+
+    /**
+     * Gets what the last successful warm-up loaded.
+     *
+     * @return counts of strategies, compiled portfolios, rule codes and hot
+     *         series, and the duration; empty until the warm-up succeeded
+     */
+    public Map<String, Object> getDetails() {
+        return details;
+    }
+
+    /**
+     * Gets the error of the last failed warm-up attempt.
+     *
+     * @return the error message, or null if none failed since the last success
+     */
+    public String getLastError() {
+        return lastError;
+    }
+
+    private int warmHotTier() {
+        Set<String> prohibited = new HashSet<>();
+        for (ProhibitedTicker ticker : prohibitedTickerRepository.findAll()) {
+            prohibited.add(normalize(ticker.getTicker()));
+        }
+
+        int warmed = 0;
+        for (Timeframe timeframe : backfillProperties.getTimeframes()) {
+            Set<String> tickers = new LinkedHashSet<>();
+            backfillProperties.getUniverse().forEach(ticker -> tickers.add(normalize(ticker)));
+            tickers.addAll(localBarStore.tickers(timeframe));
+            tickers.removeAll(prohibited);
+            tickers.remove("");
+            warmed += tieredMarketDataPort.warm(List.copyOf(tickers), timeframe);
+        }
+        return warmed;
+    }
+
+    private static String normalize(String ticker) {
+        return ticker == null ? "" : ticker.trim().toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,103 @@
+package com.market.analysis.infrastructure.cache;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Set of days for which complete bars are stored locally, kept as sorted,
+ * non-overlapping, non-adjacent ranges.
+ *
+ * Not thread-safe; LocalBarStore guards each instance.
+ */
+public class CoverageIntervals {
+
+    private final List<DateRange> ranges = new ArrayList<>();
+
+    /**
+     * Marks a range of days as covered, merging it with overlapping or adjacent
+     * ranges.
+     *
+     * @param range the covered days
+     */
+    public void add(DateRange range) {
+        LocalDate from = range.from();
+        LocalDate to = range.to();
+        List<DateRange> merged = new ArrayList<>(ranges.size() + 1);
+        boolean inserted = false;
+        for (DateRange existing : ranges) {
+            if (existing.to().plusDays(1).isBefore(from)) {
+                merged.add(existing);
+            } else if (to.plusDays(1).isBefore(existing.from())) {
+                if (!inserted) {
+                    merged.add(new DateRange(from, to));
+                    inserted = true;
+                }
+                merged.add(existing);
+            } else {
+                from = existing.from().isBefore(from) ? existing.from() : from;
+                to = existing.to().isAfter(to) ? existing.to() : to;
+            }
+        }
+        if (!inserted) {
+            merged.add(new DateRange(from, to));
+        }
+        ranges.clear();
+        ranges.addAll(merged);
+    }
+
+    /**
+     * Computes the parts of a range that are not covered.
+     *
+     * @param range the requested days
+     * @return the uncovered ranges, in order (empty if fully covered)
+     */
+    public List<DateRange> missing(DateRange range) {
+        List<DateRange> gaps = new ArrayList<>();
+        LocalDate cursor = range.from();
+        for (DateRange existing : ranges) {
+            if (existing.to().isBefore(cursor)) {
+                continue;
+            }
+            if (existing.from().isAfter(range.to())) {
+                break;
+            }
+            if (existing.from().isAfter(cursor)) {
+                gaps.add(new DateRange(cursor, existing.from().minusDays(1)));
+            }
+            cursor = existing.to().plusDays(1);
+            if (cursor.isAfter(range.to())) {
+                return gaps;
+            }
+        }
+        gaps.add(new DateRange(cursor, range.to()));
+        return gaps;
+    }
+
+    /**
+     * Gets the covered ranges.
+     *
+     * @return sorted, non-overlapping ranges
+     */
+    public List<DateRange> getRanges() {
+        return List.copyOf(ranges);
+    }
+
+    /**
+     * Gets the earliest covered day.
+     *
+     * @return the first covered day, or null if nothing is covered
+     */
+    public LocalDate getEarliest() {
+        return ranges.isEmpty() ? null : ranges.get(0).from();
+    }
+
+    /**
+     * Gets the latest covered day.
+     *
+     * @return the last covered day, or null if nothing is covered
+     */
+    public LocalDate getLatest() {
+        return ranges.isEmpty() ? null : ranges.get(ranges.size() - 1).to();
+    }
+}
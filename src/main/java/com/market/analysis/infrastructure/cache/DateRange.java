@@ -0,0 +1,26 @@
+package com.market.analysis.infrastructure.cache;
+
+import java.time.LocalDate;
+
+/**
+ * Closed range of calendar days.
+ *
+ * @param from first day (inclusive)
+ * @param to   last day (inclusive)
+ */
+public record DateRange(LocalDate from, LocalDate to) {
+
+    public DateRange {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Range bounds cannot be null");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("Range start cannot be after range end");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return from + ".." + to;
+    }
+}
@@ -0,0 +1,338 @@
+package com.market.analysis.infrastructure.cache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+import com.market.analysis.domain.model.BarSeries;
+import com.market.analysis.domain.model.Timeframe;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Local on-disk bar store with memory-mapped reads.
+ *
+ * Each (ticker, timeframe) series lives in its own file next to a small
+ * coverage file listing the days whose bars are complete. Reads map the file
+ * read-only, so a restarted instance serves the stored universe straight from
+ * the page cache. Writes merge new bars with the stored ones into a temporary
+ * file that atomically replaces the old one; views mapped before a write stay
+ * valid on the old contents.
+ *
+ * Bars newer than every stored bar, the common case of a day completing, are
+ * appended in place instead: rows are written past the end of the file before
+ * the bar count is raised, and views only read the rows counted when they were
+ * mapped, so they are unaffected as well.
+ */
+@Slf4j
+public class LocalBarStore {
+
+    private static final Pattern TICKER = Pattern.compile("[A-Z0-9.\\-]{1,20}");
+    private static final String BARS_SUFFIX = ".bars";
+    private static final String COVERAGE_SUFFIX = ".coverage";
+    private static final int WRITE_CHUNK_BARS = 4096;
+
+    private final Path directory;
+    private final ConcurrentHashMap<String, StoredSeries> series = new ConcurrentHashMap<>();
+
+    public LocalBarStore(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create bar store directory " + directory, e);
+        }
+    }
+
+    /**
+     * Gets the stored bars of a series.
+     *
+     * @param ticker    the ticker symbol
+     * @param timeframe the bar resolution
+     * @return Optional containing a mapped view of the bars, empty if nothing is
+     *         stored
+     */
+    public Optional<BarSeries> read(String ticker, Timeframe timeframe) {
+        return Optional.ofNullable(load(ticker, timeframe).bars);
+    }
+
+    /**
+     * Gets the write version of a series. It changes every time bars are
+     * merged, so derived copies can detect that they are stale.
+     *
+     * @param ticker    the ticker symbol
+     * @param timeframe the bar resolution
+     * @return the current version
+     */
+    public long version(String ticker, Timeframe timeframe) {
+        return load(ticker, timeframe).version;
+    }
+
+    /**
+     * Computes the days of a range whose bars are not stored yet.
+     *
+     * @param ticker    the ticker symbol
+     * @param timeframe the bar resolution
+     * @param range     the requested days
+     * @return the uncovered ranges, in order
+     */
+    public List<DateRange> missing(String ticker, Timeframe timeframe, DateRange range) {
+        StoredSeries stored = load(ticker, timeframe);
+        stored.lock.lock();
+        try {
+            return stored.coverage.missing(range);
+        } finally {
+            stored.lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the days whose bars are stored.
+     *
+     * @param ticker    the ticker symbol
+     * @param timeframe the bar resolution
+     * @return the covered ranges, in order
+     */
+    public List<DateRange> coverage(String ticker, Timeframe timeframe) {
+        StoredSeries stored = load(ticker, timeframe);
+        stored.lock.lock();
+        try {
+            return stored.coverage.getRanges();
+        } finally {
+            stored.lock.unlock();
+        }
+    }
+
+    /**
+     * Merges bars into a series. Bars with the timestamp of a stored bar replace
+     * it. Bars that all follow the stored ones are appended without rewriting
+     * the file.
+     *
+     * @param ticker    the ticker symbol
+     * @param timeframe the bar resolution
+     * @param bars      the new bars, sorted by timestamp
+     * @param covered   days now known to be complete, or null if the bars do not
+     *                  complete any day
+     */
+    public void merge(String ticker, Timeframe timeframe, BarSeries bars, DateRange covered) {
+        StoredSeries stored = load(ticker, timeframe);
+        stored.lock.lock();
+        try {
+            if (!bars.isEmpty()) {
+                Path file = file(ticker, timeframe, BARS_SUFFIX);
+                if (stored.bars != null && !stored.bars.isEmpty()
+                        && bars.timestamp(0) > stored.bars.timestamp(stored.bars.size() - 1)) {
+                    appendBars(file, stored.bars.size(), bars);
+                } else {
+                    writeBars(file, stored.bars, bars);
+                }
+                stored.bars = map(file);
+                stored.version++;
+            }
+            if (covered != null) {
+                stored.coverage.add(covered);
+                writeCoverage(file(ticker, timeframe, COVERAGE_SUFFIX), stored.coverage);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write bars of " + ticker + " " + timeframe, e);
+        } finally {
+            stored.lock.unlock();
+        }
+    }
+
+    /**
+     * Checks that the store directory still exists and is writable, e.g. that
+     * its volume has not been unmounted or remounted read-only.
+     *
+     * @return true if new bars can be stored
+     */
+    public boolean isWritable() {
+        return Files.isDirectory(directory) && Files.isWritable(directory);
+    }
+
+    /**
+     * Lists the tickers with stored bars for a timeframe.
+     *
+     * @param timeframe the bar resolution
+     * @return the stored ticker symbols
+     */
+    public List<String> tickers(Timeframe timeframe) {
+        String suffix = "_" + timeframe.name() + BARS_SUFFIX;
+        List<String> tickers = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + suffix)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                tickers.add(name.substring(0, name.length() - suffix.length()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot list bar store directory " + directory, e);
+        }
+        return tickers;
+    }
+
+    private StoredSeries load(String ticker, Timeframe timeframe) {
+        String key = key(ticker, timeframe);
+        return series.computeIfAbsent(key, k -> {
+            StoredSeries stored = new StoredSeries();
+            try {
+                Path bars = file(ticker, timeframe, BARS_SUFFIX);
+                Path coverage = file(ticker, timeframe, COVERAGE_SUFFIX);
+                if (Files.exists(bars)) {
+                    stored.bars = map(bars);
+                }
+                if (Files.exists(coverage)) {
+                    readCoverage(coverage, stored.coverage);
+                }
+            } catch (IOException | RuntimeException e) {
+                // A corrupt series is refetched rather than failing every request.
+                log.warn("Ignoring unreadable stored bars of {} {}: {}", ticker, timeframe, e.getMessage());
+                stored.bars = null;
+                stored.coverage = new CoverageIntervals();
+            }
+            return stored;
+        });
+    }
+
+    private static MappedBarSeries map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            return new MappedBarSeries(buffer);
+        }
+    }
+
+    private void writeBars(Path file, BarSeries stored, BarSeries added) throws IOException {
+        int storedSize = stored != null ? stored.size() : 0;
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            ByteBuffer chunk = ByteBuffer.allocate(WRITE_CHUNK_BARS * MappedBarSeries.BYTES_PER_BAR)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            chunk.putInt(MappedBarSeries.MAGIC).putInt(MappedBarSeries.VERSION).putLong(0L);
+            long count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < storedSize || j < added.size()) {
+                boolean takeAdded = i >= storedSize
+                        || (j < added.size() && added.timestamp(j) <= stored.timestamp(i));
+                if (chunk.remaining() < MappedBarSeries.BYTES_PER_BAR) {
+                    write(channel, chunk);
+                }
+                if (takeAdded) {
+                    if (i < storedSize && stored.timestamp(i) == added.timestamp(j)) {
+                        i++;
+                    }
+                    putRow(chunk, added, j++);
+                } else {
+                    putRow(chunk, stored, i++);
+                }
+                count++;
+            }
+            write(channel, chunk);
+            ByteBuffer header = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(0, count);
+            channel.write(header, 8);
+            channel.force(false);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Appends rows after the stored ones, then raises the bar count. A crash in
+     * between leaves uncounted rows, which the next write overwrites.
+     */
+    private static void appendBars(Path file, int storedSize, BarSeries added) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.position(MappedBarSeries.HEADER_BYTES + (long) storedSize * MappedBarSeries.BYTES_PER_BAR);
+            ByteBuffer chunk = ByteBuffer.allocate(WRITE_CHUNK_BARS * MappedBarSeries.BYTES_PER_BAR)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            for (int i = 0; i < added.size(); i++) {
+                if (chunk.remaining() < MappedBarSeries.BYTES_PER_BAR) {
+                    write(channel, chunk);
+                }
+                putRow(chunk, added, i);
+            }
+            write(channel, chunk);
+            channel.force(false);
+            ByteBuffer header = ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN)
+                    .putLong(0, (long) storedSize + added.size());
+            channel.write(header, 8);
+            channel.force(false);
+        }
+    }
+
+    private static void putRow(ByteBuffer chunk, BarSeries bars, int index) {
+        chunk.putLong(bars.timestamp(index))
+                .putDouble(bars.open(index))
+                .putDouble(bars.high(index))
+                .putDouble(bars.low(index))
+                .putDouble(bars.close(index))
+                .putDouble(bars.volume(index));
+    }
+
+    private static void write(FileChannel channel, ByteBuffer chunk) throws IOException {
+        chunk.flip();
+        while (chunk.hasRemaining()) {
+            channel.write(chunk);
+        }
+        chunk.clear();
+    }
+
+    private void writeCoverage(Path file, CoverageIntervals coverage) throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (DateRange range : coverage.getRanges()) {
+            content.append(range.from()).append(',').append(range.to()).append('\n');
+        }
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        Files.writeString(temp, content, StandardCharsets.UTF_8);
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void readCoverage(Path file, CoverageIntervals coverage) throws IOException {
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            int separator = line.indexOf(',');
+            coverage.add(new DateRange(LocalDate.parse(line.substring(0, separator)),
+                    LocalDate.parse(line.substring(separator + 1).trim())));
+        }
+    }
+
+    private Path file(String ticker, Timeframe timeframe, String suffix) {
+        return directory.resolve(key(ticker, timeframe) + suffix);
+    }
+
+    private static String key(String ticker, Timeframe timeframe) {
+        String normalized = ticker == null ? "" : ticker.trim().toUpperCase(Locale.ROOT);
+        if (!TICKER.matcher(normalized).matches()) {
+            throw new IllegalArgumentException("Invalid ticker: " + ticker);
+        }
+        if (timeframe == null) {
+            throw new IllegalArgumentException("Timeframe cannot be null");
+        }
+        return normalized + "_" + timeframe.name();
+    }
+
+    private static final class StoredSeries {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile MappedBarSeries bars;
+        private volatile long version;
+        private CoverageIntervals coverage = new CoverageIntervals();
+    }
+}
@@ -0,0 +1,83 @@
+package com.market.analysis.infrastructure.cache;
+
+import java.nio.ByteBuffer;
+
+import com.market.analysis.domain.model.BarSeries;
+
+/**
+ * BarSeries over a memory-mapped bar file written by LocalBarStore.
+ *
+ * File layout (little endian): a 16 byte header (magic, version, bar count)
+ * followed by one 48 byte row per bar (timestamp, open, high, low, close,
+ * volume), sorted by timestamp. The operating system pages rows in on demand,
+ * so opening a series costs no heap and no read until bars are accessed.
+ */
+final class MappedBarSeries implements BarSeries {
+
+    static final int MAGIC = 0x42415253;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int BYTES_PER_BAR = 48;
+
+    private final ByteBuffer buffer;
+    private final int size;
+
+    MappedBarSeries(ByteBuffer buffer) {
+        if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IllegalStateException("Not a bar file");
+        }
+        long count = buffer.getLong(8);
+        if (count < 0 || HEADER_BYTES + count * BYTES_PER_BAR > buffer.capacity()) {
+            throw new IllegalStateException("Truncated bar file");
+        }
+        this.buffer = buffer;
+        this.size = (int) count;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long timestamp(int index) {
+        return buffer.getLong(row(index));
+    }
+
+    @Override
+    public double open(int index) {
+        return buffer.getDouble(row(index) + 8);
+    }
+
+    @Override
+    public double high(int index) {
+        return buffer.getDouble(row(index) + 16);
+    }
+
+    @Override
+    public double low(int index) {
+        return buffer.getDouble(row(index) + 24);
+    }
+
+    @Override
+    public double close(int index) {
+        return buffer.getDouble(row(index) + 32);
+    }
+
+    @Override
+    public double volume(int index) {
+        return buffer.getDouble(row(index) + 40);
+    }
+
+    @Override
+    public String toString() {
+        return "MappedBarSeries(size=" + size + ")";
+    }
+
+    private int row(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Bar index " + index + " out of bounds for size " + size);
+        }
+        return HEADER_BYTES + index * BYTES_PER_BAR;
+    }
+}
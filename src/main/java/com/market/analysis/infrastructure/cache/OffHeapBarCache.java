@@ -0,0 +1,159 @@
+package com.market.analysis.infrastructure.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.market.analysis.domain.model.BarSeries;
+import com.market.analysis.domain.port.out.BarCache;
+import com.market.analysis.infrastructure.config.BarCacheProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Off-heap implementation of the BarCache port.
+ *
+ * Each ticker owns one direct buffer segment, so tens of GB of history stay
+ * out of the garbage-collected heap; only a small header object per ticker
+ * lives on-heap. The pool is bounded by {@code analysis.bar-cache.max-bytes}
+ * and evicts least recently used tickers when a new segment does not fit.
+ *
+ * Evicted segments are not freed eagerly: the memory is released once the
+ * last view referencing it is collected, so views handed to indicator code
+ * never observe freed or reused memory.
+ *
+ * The same pool is the hot tier of {@link TieredMarketDataPort}, so
+ * {@code -XX:MaxDirectMemorySize} must stay above the configured bound.
+ */
+@Component
+@Slf4j
+public class OffHeapBarCache implements BarCache {
+
+    private final long maxBytes;
+    private final LinkedHashMap<String, OffHeapBarSeries> segments = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long usedBytes;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    public OffHeapBarCache(BarCacheProperties properties) {
+        if (properties.getMaxBytes() <= 0) {
+            throw new IllegalArgumentException("Bar cache capacity must be positive");
+        }
+        this.maxBytes = properties.getMaxBytes();
+    }
+
+    @Override
+    public synchronized Optional<BarSeries> get(String ticker) {
+        OffHeapBarSeries series = ticker != null ? segments.get(ticker) : null;
+        if (series == null) {
+            missCount++;
+            return Optional.empty();
+        }
+        hitCount++;
+        return Optional.of(series);
+    }
+
+    @Override
+    public boolean put(String ticker, BarSeries bars) {
+        if (ticker == null || ticker.isBlank()) {
+            throw new IllegalArgumentException("Ticker cannot be null or empty");
+        }
+        if (bars == null) {
+            throw new IllegalArgumentException("Bars cannot be null");
+        }
+        long required = (long) bars.size() * OffHeapBarSeries.BYTES_PER_BAR;
+        if (required > maxBytes || required > Integer.MAX_VALUE) {
+            log.warn("Bars of {} ({} bytes) exceed the bar cache capacity", ticker, required);
+            return false;
+        }
+
+        // Copy outside the lock: filling the segment is the expensive part.
+        OffHeapBarSeries series = OffHeapBarSeries.copyOf(bars);
+        synchronized (this) {
+            OffHeapBarSeries previous = segments.remove(ticker);
+            if (previous != null) {
+                usedBytes -= previous.byteSize();
+            }
+            evictUntilAvailable(series.byteSize());
+            segments.put(ticker, series);
+            usedBytes += series.byteSize();
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized void evict(String ticker) {
+        OffHeapBarSeries removed = ticker != null ? segments.remove(ticker) : null;
+        if (removed != null) {
+            usedBytes -= removed.byteSize();
+        }
+    }
+
+    /**
+     * Gets the configured capacity.
+     *
+     * @return maximum off-heap bytes
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Gets the off-heap bytes currently held by cached tickers.
+     *
+     * @return used bytes
+     */
+    public synchronized long getUsedBytes() {
+        return usedBytes;
+    }
+
+    /**
+     * Gets the number of cached tickers.
+     *
+     * @return entry count
+     */
+    public synchronized int getEntryCount() {
+        return segments.size();
+    }
+
+    /**
+     * Gets the number of lookups that found the ticker.
+     *
+     * @return hit count
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets the number of lookups that did not find the ticker.
+     *
+     * @return miss count
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Gets the number of tickers evicted to make room for others.
+     *
+     * @return eviction count
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    private void evictUntilAvailable(long required) {
+        Iterator<Map.Entry<String, OffHeapBarSeries>> eldest = segments.entrySet().iterator();
+        while (usedBytes + required > maxBytes && eldest.hasNext()) {
+            usedBytes -= eldest.next().getValue().byteSize();
+            eldest.remove();
+            evictionCount++;
+        }
+    }
+}
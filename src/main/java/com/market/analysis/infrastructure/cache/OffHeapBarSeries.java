@@ -0,0 +1,115 @@
+package com.market.analysis.infrastructure.cache;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import com.market.analysis.domain.model.BarSeries;
+
+/**
+ * BarSeries backed by a direct (off-heap) buffer.
+ *
+ * Bars are stored column by column (timestamps, opens, highs, lows, closes,
+ * volumes), eight bytes per value in native byte order, so scanning one column
+ * reads contiguous memory. Instances only expose read-only buffers and use
+ * absolute reads, so a single view can be shared between threads.
+ */
+final class OffHeapBarSeries implements BarSeries {
+
+    static final int COLUMNS = 6;
+    static final int BYTES_PER_BAR = COLUMNS * Long.BYTES;
+
+    private static final int TIMESTAMP = 0;
+    private static final int OPEN = 1;
+    private static final int HIGH = 2;
+    private static final int LOW = 3;
+    private static final int CLOSE = 4;
+    private static final int VOLUME = 5;
+
+    private final ByteBuffer segment;
+    private final int size;
+
+    private OffHeapBarSeries(ByteBuffer segment, int size) {
+        this.segment = segment;
+        this.size = size;
+    }
+
+    /**
+     * Copies a series into a newly allocated direct segment.
+     *
+     * @param bars the source series
+     * @return a read-only off-heap view of the copied bars
+     */
+    static OffHeapBarSeries copyOf(BarSeries bars) {
+        int size = bars.size();
+        ByteBuffer segment = ByteBuffer.allocateDirect(size * BYTES_PER_BAR).order(ByteOrder.nativeOrder());
+        for (int i = 0; i < size; i++) {
+            segment.putLong(offset(size, TIMESTAMP, i), bars.timestamp(i));
+            segment.putDouble(offset(size, OPEN, i), bars.open(i));
+            segment.putDouble(offset(size, HIGH, i), bars.high(i));
+            segment.putDouble(offset(size, LOW, i), bars.low(i));
+            segment.putDouble(offset(size, CLOSE, i), bars.close(i));
+            segment.putDouble(offset(size, VOLUME, i), bars.volume(i));
+        }
+        return new OffHeapBarSeries(segment.asReadOnlyBuffer().order(ByteOrder.nativeOrder()), size);
+    }
+
+    /**
+     * Gets the number of off-heap bytes held by this series.
+     *
+     * @return segment capacity in bytes
+     */
+    long byteSize() {
+        return segment.capacity();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long timestamp(int index) {
+        return segment.getLong(offset(TIMESTAMP, index));
+    }
+
+    @Override
+    public double open(int index) {
+        return segment.getDouble(offset(OPEN, index));
+    }
+
+    @Override
+    public double high(int index) {
+        return segment.getDouble(offset(HIGH, index));
+    }
+
+    @Override
+    public double low(int index) {
+        return segment.getDouble(offset(LOW, index));
+    }
+
+    @Override
+    public double close(int index) {
+        return segment.getDouble(offset(CLOSE, index));
+    }
+
+    @Override
+    public double volume(int index) {
+        return segment.getDouble(offset(VOLUME, index));
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapBarSeries(size=" + size + ")";
+    }
+
+    private int offset(int column, int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Bar index " + index + " out of bounds for size " + size);
+        }
+        return offset(size, column, index);
+    }
+
+    private static int offset(int size, int column, int index) {
+        return (column * size + index) * Long.BYTES;
+    }
+}
@@ -0,0 +1,165 @@
+package com.market.analysis.infrastructure.cache;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.market.analysis.domain.model.BarSeries;
+import com.market.analysis.domain.model.TickerData;
+import com.market.analysis.domain.model.Timeframe;
+import com.market.analysis.domain.port.out.MarketDataPort;
+import com.market.analysis.domain.service.CandleAggregator;
+
+/**
+ * MarketDataPort that derives higher timeframes from 1-minute bars.
+ *
+ * For each configured timeframe a CandleAggregator is kept per ticker, holding
+ * the bars built so far. A later request only fetches and folds the minute
+ * bars newer than the last one consumed, so a higher-timeframe series is
+ * never rebuilt from raw data unless the request reaches further back than
+ * what was aggregated. Timeframes that are not configured are requested from
+ * the delegate as they are.
+ *
+ * Aggregated series are kept in an LRU bounded by {@code maxSeries}.
+ */
+public class ResamplingMarketDataPort implements MarketDataPort {
+
+    private final MarketDataPort delegate;
+    private final Set<Timeframe> derived;
+    private final int maxSeries;
+    private final Clock clock;
+
+    private final LinkedHashMap<SeriesKey, ResampledSeries> series = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final AtomicLong rebuilds = new AtomicLong();
+    private final AtomicLong minuteBarsConsumed = new AtomicLong();
+
+    public ResamplingMarketDataPort(MarketDataPort delegate, Collection<Timeframe> derived, int maxSeries,
+            Clock clock) {
+        if (derived.contains(Timeframe.MINUTE_1)) {
+            throw new IllegalArgumentException("1-minute bars are the resampling source");
+        }
+        if (maxSeries <= 0) {
+            throw new IllegalArgumentException("Max series must be positive");
+        }
+        this.delegate = delegate;
+        this.derived = derived.isEmpty() ? EnumSet.noneOf(Timeframe.class) : EnumSet.copyOf(derived);
+        this.maxSeries = maxSeries;
+        this.clock = clock;
+    }
+
+    @Override
+    public TickerData fetchTickerData(String ticker, LocalDate from, LocalDate to, Timeframe timeframe) {
+        if (!derived.contains(timeframe)) {
+            return delegate.fetchTickerData(ticker, from, to, timeframe);
+        }
+        if (ticker == null || ticker.isBlank()) {
+            throw new IllegalArgumentException("Ticker cannot be null or empty");
+        }
+        if (from == null || to == null || from.isAfter(to)) {
+            throw new IllegalArgumentException("Invalid date range");
+        }
+        SeriesKey key = new SeriesKey(ticker.trim().toUpperCase(Locale.ROOT), timeframe);
+
+        BarSeries bars;
+        ResampledSeries entry = entry(key);
+        synchronized (entry) {
+            extend(key, entry, from, to);
+            bars = entry.aggregator.snapshot();
+        }
+        long fromMillis = timeframe.bucketStart(epochMillis(from));
+        long toMillis = epochMillis(to.plusDays(1));
+        return TickerData.ofBars(key.ticker(), bars.slice(bars.indexOf(fromMillis), bars.indexOf(toMillis)));
+    }
+
+    /**
+     * Gets the number of times a series was aggregated from scratch.
+     *
+     * @return rebuild count
+     */
+    public long getRebuilds() {
+        return rebuilds.get();
+    }
+
+    /**
+     * Gets the number of minute bars folded into aggregates.
+     *
+     * @return consumed minute bar count
+     */
+    public long getMinuteBarsConsumed() {
+        return minuteBarsConsumed.get();
+    }
+
+    /**
+     * Makes the aggregate of a series cover the requested days. Only the
+     * days after the last consumed minute bar are fetched, except when the
+     * request starts before the aggregated range, which forces a rebuild.
+     * Today is always refreshed because its bars are still forming.
+     */
+    private void extend(SeriesKey key, ResampledSeries entry, LocalDate from, LocalDate to) {
+        LocalDate alignedFrom = Instant.ofEpochMilli(key.timeframe().bucketStart(epochMillis(from)))
+                .atZone(ZoneOffset.UTC).toLocalDate();
+
+        if (entry.aggregator == null || alignedFrom.isBefore(entry.from)) {
+            LocalDate until = entry.to != null && entry.to.isAfter(to) ? entry.to : to;
+            CandleAggregator aggregator = new CandleAggregator(key.timeframe());
+            minuteBarsConsumed.addAndGet(aggregator.addAll(minuteBars(key, alignedFrom, until)));
+            rebuilds.incrementAndGet();
+            entry.aggregator = aggregator;
+            entry.from = alignedFrom;
+            entry.to = until;
+            return;
+        }
+
+        LocalDate today = LocalDate.now(clock);
+        if (to.isAfter(entry.to) || !entry.to.isBefore(today)) {
+            long last = entry.aggregator.getLastTimestamp();
+            LocalDate resumeFrom = last == Long.MIN_VALUE ? entry.from
+                    : Instant.ofEpochMilli(last).atZone(ZoneOffset.UTC).toLocalDate();
+            LocalDate until = to.isAfter(entry.to) ? to : entry.to;
+            minuteBarsConsumed.addAndGet(entry.aggregator.addAll(minuteBars(key, resumeFrom, until)));
+            entry.to = until;
+        }
+    }
+
+    private BarSeries minuteBars(SeriesKey key, LocalDate from, LocalDate to) {
+        return delegate.fetchTickerData(key.ticker(), from, to, Timeframe.MINUTE_1).getBars();
+    }
+
+    private ResampledSeries entry(SeriesKey key) {
+        synchronized (series) {
+            ResampledSeries entry = series.computeIfAbsent(key, k -> new ResampledSeries());
+            Iterator<SeriesKey> eldest = series.keySet().iterator();
+            while (series.size() > maxSeries && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+            return entry;
+        }
+    }
+
+    private static long epochMillis(LocalDate day) {
+        return day.atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private record SeriesKey(String ticker, Timeframe timeframe) {
+    }
+
+    /**
+     * Aggregate of one series with the minute range it was built from.
+     * Guarded by its own monitor.
+     */
+    private static final class ResampledSeries {
+        private CandleAggregator aggregator;
+        private LocalDate from;
+        private LocalDate to;
+    }
+}
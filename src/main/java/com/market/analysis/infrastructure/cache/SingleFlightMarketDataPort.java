@@ -0,0 +1,185 @@
+package com.market.analysis.infrastructure.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.market.analysis.domain.exception.MarketDataUnavailableException;
+import com.market.analysis.domain.model.TickerData;
+import com.market.analysis.domain.model.Timeframe;
+import com.market.analysis.domain.port.out.MarketDataPort;
+
+/**
+ * MarketDataPort decorator that coalesces concurrent identical requests and
+ * briefly reuses their results.
+ *
+ * Requests are keyed by (ticker, range, timeframe). The first caller for a
+ * key loads it from the delegate while every concurrent caller for the same
+ * key waits on that single in-flight future, so a burst of screens at market
+ * open costs one provider call per key. Successful results are then cached
+ * until the configured TTL elapses or the current bar of their timeframe
+ * closes, whichever comes first. Failures of any kind are shared with the
+ * waiting callers but never cached. Waiting callers give up after the wait
+ * timeout with a {@link MarketDataUnavailableException}, so a hung load only
+ * blocks its own caller.
+ */
+public class SingleFlightMarketDataPort implements MarketDataPort {
+
+    private final MarketDataPort delegate;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+    private final int maxEntries;
+    private final Clock clock;
+
+    private final ConcurrentHashMap<RequestKey, CompletableFuture<TickerData>> inFlight = new ConcurrentHashMap<>();
+    private final LinkedHashMap<RequestKey, CachedResult> results = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final AtomicLong loadCount = new AtomicLong();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    public SingleFlightMarketDataPort(MarketDataPort delegate, Duration ttl, Duration waitTimeout, int maxEntries,
+            Clock clock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Max entries must be positive");
+        }
+        if (waitTimeout.isZero() || waitTimeout.isNegative()) {
+            throw new IllegalArgumentException("Wait timeout must be positive");
+        }
+        this.delegate = delegate;
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    @Override
+    public TickerData fetchTickerData(String ticker, LocalDate from, LocalDate to, Timeframe timeframe) {
+        RequestKey key = new RequestKey(ticker, from, to, timeframe);
+        TickerData cached = lookup(key);
+        if (cached != null) {
+            hitCount.incrementAndGet();
+            return cached;
+        }
+
+        CompletableFuture<TickerData> created = new CompletableFuture<>();
+        CompletableFuture<TickerData> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalescedCount.incrementAndGet();
+            return await(existing, key);
+        }
+
+        try {
+            // A previous leader may have stored the result between lookup and putIfAbsent.
+            TickerData data = lookup(key);
+            if (data == null) {
+                loadCount.incrementAndGet();
+                data = delegate.fetchTickerData(ticker, from, to, timeframe);
+                store(key, data);
+            }
+            created.complete(data);
+            return data;
+        } catch (Throwable e) {
+            // Errors too: an uncompleted future would leave the waiting callers hanging
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * Drops every cached result.
+     */
+    public synchronized void invalidateAll() {
+        results.clear();
+    }
+
+    /**
+     * Gets the number of calls made to the delegate.
+     *
+     * @return load count
+     */
+    public long getLoadCount() {
+        return loadCount.get();
+    }
+
+    /**
+     * Gets the number of requests served from the result cache.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    /**
+     * Gets the number of requests that joined an in-flight load.
+     *
+     * @return coalesced request count
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.get();
+    }
+
+    private synchronized TickerData lookup(RequestKey key) {
+        CachedResult cached = results.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (clock.millis() >= cached.expiresAt()) {
+            results.remove(key);
+            return null;
+        }
+        return cached.data();
+    }
+
+    private synchronized void store(RequestKey key, TickerData data) {
+        long now = clock.millis();
+        long expiresAt = Math.min(now + ttl.toMillis(), key.timeframe().nextBucketStart(now));
+        results.put(key, new CachedResult(data, expiresAt));
+        if (results.size() > maxEntries) {
+            Iterator<Map.Entry<RequestKey, CachedResult>> eldest = results.entrySet().iterator();
+            while (results.size() > maxEntries && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+
+    private TickerData await(CompletableFuture<TickerData> future, RequestKey key) {
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new MarketDataUnavailableException("Market data load of " + key.ticker() + " failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new MarketDataUnavailableException("Timed out after " + waitTimeout.toMillis()
+                    + "ms waiting for the in-flight load of " + key.ticker(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MarketDataUnavailableException("Interrupted while waiting for the in-flight load of "
+                    + key.ticker(), e);
+        }
+    }
+
+    private record RequestKey(String ticker, LocalDate from, LocalDate to, Timeframe timeframe) {
+    }
+
+    private record CachedResult(TickerData data, long expiresAt) {
+    }
+}
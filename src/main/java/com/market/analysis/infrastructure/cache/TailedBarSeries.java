@@ -0,0 +1,75 @@
+package com.market.analysis.infrastructure.cache;
+
+import com.market.analysis.domain.model.BarSeries;
+
+/**
+ * Read-only view of stored bars followed by the bars of a still forming
+ * tail, e.g. complete days from the local store and today's bars from the
+ * provider. Neither series is copied.
+ */
+final class TailedBarSeries implements BarSeries {
+
+    private final BarSeries head;
+    private final BarSeries tail;
+    private final int headSize;
+
+    /**
+     * Creates a view. Head bars at or after the first tail bar are hidden, so
+     * the tail wins where both hold a bar.
+     *
+     * @param head the stored bars
+     * @param tail the forming bars, not empty
+     */
+    TailedBarSeries(BarSeries head, BarSeries tail) {
+        this.head = head;
+        this.tail = tail;
+        this.headSize = head.indexOf(tail.timestamp(0));
+    }
+
+    @Override
+    public int size() {
+        return headSize + tail.size();
+    }
+
+    @Override
+    public long timestamp(int index) {
+        return index < headSize ? head.timestamp(index) : tail.timestamp(tailIndex(index));
+    }
+
+    @Override
+    public double open(int index) {
+        return index < headSize ? head.open(index) : tail.open(tailIndex(index));
+    }
+
+    @Override
+    public double high(int index) {
+        return index < headSize ? head.high(index) : tail.high(tailIndex(index));
+    }
+
+    @Override
+    public double low(int index) {
+        return index < headSize ? head.low(index) : tail.low(tailIndex(index));
+    }
+
+    @Override
+    public double close(int index) {
+        return index < headSize ? head.close(index) : tail.close(tailIndex(index));
+    }
+
+    @Override
+    public double volume(int index) {
+        return index < headSize ? head.volume(index) : tail.volume(tailIndex(index));
+    }
+
+    @Override
+    public String toString() {
+        return "TailedBarSeries(size=" + size() + ")";
+    }
+
+    private int tailIndex(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Bar index " + index + " out of bounds for size " + size());
+        }
+        return index - headSize;
+    }
+}
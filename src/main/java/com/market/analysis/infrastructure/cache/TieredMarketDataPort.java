@@ -0,0 +1,364 @@
+package com.market.analysis.infrastructure.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.market.analysis.domain.model.ArrayBarSeries;
+import com.market.analysis.domain.model.BarSeries;
+import com.market.analysis.domain.model.TickerData;
+import com.market.analysis.domain.model.Timeframe;
+import com.market.analysis.domain.port.out.MarketDataPort;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MarketDataPort with three tiers:
+ * <ol>
+ * <li>the off-heap OffHeapBarCache holding the most requested series outside
+ * the garbage-collected heap,</li>
+ * <li>the memory-mapped LocalBarStore holding the rest of the universe,</li>
+ * <li>the remote provider, only called for the days the store does not
+ * cover.</li>
+ * </ol>
+ *
+ * Coverage is tracked per ticker and timeframe, so a request only fetches its
+ * missing day ranges. Only complete days, before today, are stored. Bars of
+ * today and later are still forming: they are kept apart as an intraday tail
+ * per series, refreshed from the provider at most once per intraday TTL and
+ * served after the stored bars. A failed tail refresh serves the stored bars
+ * and the last tail instead of failing the request.
+ *
+ * Off-heap copies are cached under the store version they were made from, so
+ * a write to the store, whether by a request or by the backfill job, makes
+ * them miss and a copy of an outdated version can never be served; the
+ * previous copy is evicted when the new one is made. Since only complete days
+ * are written, that happens at most once a day per series outside backfill.
+ *
+ * Requests are counted per ticker so that backfill can prioritise the symbols
+ * actually being screened.
+ */
+@Slf4j
+public class TieredMarketDataPort implements MarketDataPort {
+
+    /**
+     * Default maximum age of an intraday tail before it is refreshed.
+     */
+    public static final Duration DEFAULT_INTRADAY_TTL = Duration.ofMinutes(1);
+
+    private final MarketDataPort remote;
+    private final LocalBarStore store;
+    private final OffHeapBarCache hot;
+    private final long intradayTtlMillis;
+    private final Clock clock;
+
+    private final ConcurrentHashMap<SeriesKey, Long> hotVersions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<SeriesKey, IntradayTail> tails = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<SeriesKey, ReentrantLock> fillLocks = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> demand = new ConcurrentHashMap<>();
+
+    private final AtomicLong hotHits = new AtomicLong();
+    private final AtomicLong warmHits = new AtomicLong();
+    private final AtomicLong remoteFetches = new AtomicLong();
+    private final AtomicLong remoteFailures = new AtomicLong();
+    private final AtomicLong staleTailServes = new AtomicLong();
+    private volatile boolean remoteAvailable = true;
+
+    public TieredMarketDataPort(MarketDataPort remote, LocalBarStore store, OffHeapBarCache hot, Clock clock) {
+        this(remote, store, hot, DEFAULT_INTRADAY_TTL, clock);
+    }
+
+    public TieredMarketDataPort(MarketDataPort remote, LocalBarStore store, OffHeapBarCache hot,
+            Duration intradayTtl, Clock clock) {
+        if (intradayTtl.isNegative()) {
+            throw new IllegalArgumentException("Intraday TTL cannot be negative");
+        }
+        this.remote = remote;
+        this.store = store;
+        this.hot = hot;
+        this.intradayTtlMillis = intradayTtl.toMillis();
+        this.clock = clock;
+    }
+
+    @Override
+    public TickerData fetchTickerData(String ticker, LocalDate from, LocalDate to, Timeframe timeframe) {
+        SeriesKey key = key(ticker, timeframe);
+        DateRange range = new DateRange(from, to);
+        demand.computeIfAbsent(key.ticker(), k -> new LongAdder()).increment();
+
+        LocalDate today = LocalDate.now(clock);
+        if (from.isBefore(today)) {
+            DateRange complete = new DateRange(from, to.isBefore(today) ? to : today.minusDays(1));
+            if (!store.missing(key.ticker(), timeframe, complete).isEmpty()) {
+                fill(key, complete);
+            }
+        }
+
+        BarSeries bars = series(key);
+        if (!to.isBefore(today)) {
+            BarSeries tail = tail(key, new DateRange(from.isAfter(today) ? from : today, to));
+            if (!tail.isEmpty()) {
+                bars = new TailedBarSeries(bars, tail);
+            }
+        }
+        long fromMillis = from.atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+        long toMillis = to.plusDays(1).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+        return TickerData.ofBars(key.ticker(), bars.slice(bars.indexOf(fromMillis), bars.indexOf(toMillis)));
+    }
+
+    /**
+     * Fetches the missing complete days of a range into the local store
+     * without serving them, for background backfill. Not counted as demand.
+     *
+     * @param ticker    the ticker symbol
+     * @param range     the days to make available locally
+     * @param timeframe the bar resolution
+     * @return number of remote requests made
+     */
+    public int prefetch(String ticker, DateRange range, Timeframe timeframe) {
+        SeriesKey key = key(ticker, timeframe);
+        LocalDate lastComplete = LocalDate.now(clock).minusDays(1);
+        if (range.from().isAfter(lastComplete)) {
+            return 0;
+        }
+        return fill(key, new DateRange(range.from(), range.to().isAfter(lastComplete) ? lastComplete : range.to()));
+    }
+
+    /**
+     * Loads stored series into the off-heap tier without contacting the remote
+     * provider nor counting demand, e.g. before the application takes traffic.
+     * Tickers without stored bars are skipped; stops at the first series that
+     * would not fit without evicting another one.
+     *
+     * @param tickers   the tickers to load, most important first
+     * @param timeframe the bar resolution
+     * @return number of series loaded
+     */
+    public int warm(List<String> tickers, Timeframe timeframe) {
+        int warmed = 0;
+        for (String ticker : tickers) {
+            SeriesKey key = key(ticker, timeframe);
+            long version = store.version(key.ticker(), key.timeframe());
+            Optional<BarSeries> stored = store.read(key.ticker(), key.timeframe());
+            if (stored.isEmpty()) {
+                continue;
+            }
+            if (hot.getUsedBytes() + (long) stored.get().size() * OffHeapBarSeries.BYTES_PER_BAR
+                    > hot.getMaxBytes()) {
+                break;
+            }
+            if (promote(key, version, stored.get())) {
+                warmed++;
+            }
+        }
+        return warmed;
+    }
+
+    /**
+     * Gets how many requests each ticker received since startup.
+     *
+     * @return request counts indexed by ticker symbol
+     */
+    public Map<String, Long> getDemand() {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        demand.forEach((ticker, count) -> snapshot.put(ticker, count.sum()));
+        return snapshot;
+    }
+
+    /**
+     * Gets the number of requests served from the off-heap tier.
+     *
+     * @return hot hit count
+     */
+    public long getHotHits() {
+        return hotHits.get();
+    }
+
+    /**
+     * Gets the number of requests served from the local store.
+     *
+     * @return warm hit count
+     */
+    public long getWarmHits() {
+        return warmHits.get();
+    }
+
+    /**
+     * Gets the number of gap fetches sent to the remote provider.
+     *
+     * @return remote fetch count
+     */
+    public long getRemoteFetches() {
+        return remoteFetches.get();
+    }
+
+    /**
+     * Gets the number of gap fetches the remote provider failed to serve.
+     *
+     * @return remote failure count
+     */
+    public long getRemoteFailures() {
+        return remoteFailures.get();
+    }
+
+    /**
+     * Gets the number of requests served with an outdated intraday tail, or
+     * none, because the provider failed to refresh it.
+     *
+     * @return stale tail serve count
+     */
+    public long getStaleTailServes() {
+        return staleTailServes.get();
+    }
+
+    /**
+     * Checks whether the last gap fetch sent to the remote provider succeeded.
+     * Lets health checks follow the provider without spending requests on it.
+     *
+     * @return true if the last remote fetch succeeded or none was made yet
+     */
+    public boolean isRemoteAvailable() {
+        return remoteAvailable;
+    }
+
+    /**
+     * Fetches the missing days of a range of complete days from the remote
+     * provider and stores them. Concurrent fills of the same series are
+     * serialized, and gaps are recomputed under the lock so each day is
+     * fetched once. A failure is rethrown: serving around a missing day would
+     * compute indicators over a hole in the history.
+     */
+    private int fill(SeriesKey key, DateRange range) {
+        ReentrantLock lock = fillLocks.computeIfAbsent(key, k -> new ReentrantLock());
+        lock.lock();
+        try {
+            List<DateRange> gaps = store.missing(key.ticker(), key.timeframe(), range);
+            for (DateRange gap : gaps) {
+                TickerData fetched = fetchRemote(key, gap);
+                store.merge(key.ticker(), key.timeframe(), fetched.getBars(), gap);
+            }
+            return gaps.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Gets the forming bars of a range starting today or later, refreshing
+     * them from the provider once they are older than the intraday TTL or do
+     * not cover the range. If the refresh fails the last tail of the same day
+     * is served, or none: the stored days are still valid.
+     */
+    private BarSeries tail(SeriesKey key, DateRange range) {
+        long now = clock.millis();
+        IntradayTail cached = tails.get(key);
+        if (cached != null && cached.isFresh(range, now, intradayTtlMillis)) {
+            return cached.bars();
+        }
+        ReentrantLock lock = fillLocks.computeIfAbsent(key, k -> new ReentrantLock());
+        lock.lock();
+        try {
+            cached = tails.get(key);
+            if (cached != null && cached.isFresh(range, now, intradayTtlMillis)) {
+                return cached.bars();
+            }
+            try {
+                BarSeries bars = ArrayBarSeries.copyOf(fetchRemote(key, range).getBars());
+                tails.put(key, new IntradayTail(range, bars, now));
+                return bars;
+            } catch (RuntimeException e) {
+                staleTailServes.incrementAndGet();
+                log.warn("Serving stored bars of {} {} without a fresh intraday tail: {}", key.ticker(),
+                        key.timeframe(), e.getMessage());
+                return cached != null && cached.range().from().equals(range.from())
+                        ? cached.bars()
+                        : ArrayBarSeries.of(null);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private TickerData fetchRemote(SeriesKey key, DateRange range) {
+        remoteFetches.incrementAndGet();
+        try {
+            TickerData fetched = remote.fetchTickerData(key.ticker(), range.from(), range.to(), key.timeframe());
+            remoteAvailable = true;
+            return fetched;
+        } catch (RuntimeException e) {
+            remoteFailures.incrementAndGet();
+            remoteAvailable = false;
+            throw e;
+        }
+    }
+
+    private BarSeries series(SeriesKey key) {
+        long version = store.version(key.ticker(), key.timeframe());
+        Optional<BarSeries> cached = hot.get(hotKey(key, version));
+        if (cached.isPresent()) {
+            hotHits.incrementAndGet();
+            return cached.get();
+        }
+        warmHits.incrementAndGet();
+        Optional<BarSeries> stored = store.read(key.ticker(), key.timeframe());
+        if (stored.isEmpty()) {
+            return ArrayBarSeries.of(null);
+        }
+        promote(key, version, stored.get());
+        return stored.get();
+    }
+
+    /**
+     * Copies stored bars into the off-heap tier under the version read before
+     * they were read, so a concurrent write only makes the copy miss, and
+     * evicts the copy of the previous version. The off-heap cache evicts the
+     * least recently used series when it is full.
+     *
+     * @return false if the series exceeds the off-heap capacity
+     */
+    private boolean promote(SeriesKey key, long version, BarSeries stored) {
+        if (!hot.put(hotKey(key, version), stored)) {
+            return false;
+        }
+        Long previous = hotVersions.put(key, version);
+        if (previous != null && previous != version) {
+            hot.evict(hotKey(key, previous));
+        }
+        return true;
+    }
+
+    private static String hotKey(SeriesKey key, long version) {
+        return key.ticker() + "_" + key.timeframe().name() + "@" + version;
+    }
+
+    private static SeriesKey key(String ticker, Timeframe timeframe) {
+        if (ticker == null || ticker.isBlank()) {
+            throw new IllegalArgumentException("Ticker cannot be null or empty");
+        }
+        return new SeriesKey(ticker.trim().toUpperCase(Locale.ROOT), timeframe);
+    }
+
+    private record SeriesKey(String ticker, Timeframe timeframe) {
+    }
+
+    /**
+     * Forming bars of the days in {@code range}, fetched at {@code fetchedAt}.
+     */
+    private record IntradayTail(DateRange range, BarSeries bars, long fetchedAt) {
+
+        boolean isFresh(DateRange requested, long now, long ttlMillis) {
+            return !requested.from().isBefore(range.from()) && !requested.to().isAfter(range.to())
+                    && now - fetchedAt < ttlMillis;
+        }
+    }
+}
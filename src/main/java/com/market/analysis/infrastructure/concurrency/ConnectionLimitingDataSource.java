@@ -0,0 +1,122 @@
+package com.market.analysis.infrastructure.concurrency;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * DataSource wrapper that lets at most as many threads hold a connection as
+ * the underlying pool can serve.
+ *
+ * With virtual threads there is no request thread pool capping concurrency,
+ * so thousands of threads may ask HikariCP for a connection at once and fail
+ * with connection timeouts. Callers here instead park on a fair semaphore
+ * (cheap for virtual threads) until a connection is returned, and the pool
+ * only ever sees requests it can satisfy. A caller waits at most the
+ * connection timeout of the pool for a permit, then fails the way the pool
+ * would, with a {@link SQLTransientConnectionException}.
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long connectionTimeoutMs;
+
+    /**
+     * Creates the wrapper.
+     *
+     * @param targetDataSource    the pooled data source
+     * @param maxConnections      number of connections the pool can hand out
+     * @param connectionTimeoutMs maximum time in milliseconds to wait for a
+     *                            connection, normally the one of the pool
+     * @throws IllegalArgumentException if maxConnections or
+     *                                  connectionTimeoutMs is not positive
+     */
+    public ConnectionLimitingDataSource(DataSource targetDataSource, int maxConnections, long connectionTimeoutMs) {
+        super(targetDataSource);
+        if (maxConnections <= 0) {
+            throw new IllegalArgumentException("Max connections must be positive");
+        }
+        if (connectionTimeoutMs <= 0) {
+            throw new IllegalArgumentException("Connection timeout must be positive");
+        }
+        this.permits = new Semaphore(maxConnections, true);
+        this.connectionTimeoutMs = connectionTimeoutMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasing(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasing(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the number of connections that can still be obtained without
+     * waiting.
+     *
+     * @return available permits
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() throws SQLException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(connectionTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        if (!acquired) {
+            throw new SQLTransientConnectionException("Connection is not available, request timed out after "
+                    + connectionTimeoutMs + "ms");
+        }
+    }
+
+    private Connection releasing(Connection target) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        try {
+                            target.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                permits.release();
+                            }
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
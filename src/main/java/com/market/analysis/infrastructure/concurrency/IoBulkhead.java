@@ -0,0 +1,106 @@
+package com.market.analysis.infrastructure.concurrency;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Executor for blocking I/O tasks with a hard limit on concurrent execution.
+ *
+ * In virtual thread mode every task gets its own virtual thread, so thousands
+ * of calls can be in flight without a large platform pool; a semaphore then
+ * caps how many of them actually run against the downstream resource, and the
+ * rest park cheaply. In platform mode a fixed pool of the same size is used.
+ *
+ * Deliberately not a {@link java.util.concurrent.Executor} bean, so it never
+ * replaces Spring Boot's application task executor; pass {@code ::execute}
+ * where an Executor is needed.
+ */
+@Slf4j
+public class IoBulkhead implements AutoCloseable {
+
+    private final String name;
+    private final int maxConcurrency;
+    private final Semaphore permits;
+    private final ExecutorService delegate;
+
+    /**
+     * Creates a bulkhead.
+     *
+     * @param name           thread name prefix
+     * @param maxConcurrency maximum number of tasks running at the same time
+     * @param virtualThreads whether tasks run on virtual threads
+     * @throws IllegalArgumentException if maxConcurrency is not positive
+     */
+    public IoBulkhead(String name, int maxConcurrency, boolean virtualThreads) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive");
+        }
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.delegate = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory())
+                : Executors.newFixedThreadPool(maxConcurrency, Thread.ofPlatform().name(name + "-", 0).daemon()
+                        .factory());
+        log.info("I/O bulkhead '{}' limited to {} concurrent tasks on {} threads", name, maxConcurrency,
+                virtualThreads ? "virtual" : "platform");
+    }
+
+    /**
+     * Runs a task once a permit is available.
+     *
+     * @param task the blocking task
+     * @throws RejectedExecutionException if the bulkhead has been closed
+     */
+    public void execute(Runnable task) {
+        delegate.execute(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for " + name + " permit", e);
+            }
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * Gets the configured concurrency limit.
+     *
+     * @return maximum concurrent tasks
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Gets the number of tasks currently running.
+     *
+     * @return active task count
+     */
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * Gets the number of tasks waiting for a permit.
+     *
+     * @return queued task count (approximate)
+     */
+    public int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+
+    @Override
+    public void close() {
+        delegate.shutdown();
+    }
+}
@@ -0,0 +1,68 @@
+package com.market.analysis.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties for the asynchronous analysis history store.
+ * Bound from the {@code analysis.history.*} keys.
+ */
+@ConfigurationProperties(prefix = "analysis.history")
+@Getter
+@Setter
+public class AnalysisHistoryProperties {
+
+    /**
+     * Maximum number of results waiting to be written. Results that find the
+     * queue full are dropped and counted, after waiting up to
+     * {@link #offerTimeoutMs} for room when that is positive.
+     */
+    private int queueCapacity = 100_000;
+
+    /**
+     * Maximum time in milliseconds one save call waits for room in a full
+     * queue, shared by all the results of a batch. Zero, the default, never
+     * blocks evaluation threads; a positive value opts into back-pressure
+     * from the writer.
+     */
+    private long offerTimeoutMs = 0;
+
+    /**
+     * Maximum number of results written per transaction. Should match
+     * {@code spring.jpa.properties.hibernate.jdbc.batch_size}.
+     */
+    private int batchSize = 500;
+
+    /**
+     * Maximum time in milliseconds a result waits in the queue before the
+     * writer wakes up and flushes a partial batch.
+     */
+    private long flushIntervalMs = 1000;
+
+    /**
+     * Number of days raw analysis results are kept. Older days survive only as
+     * daily rollups.
+     */
+    private int retentionDays = 90;
+
+    /**
+     * Whether {@code analysis_results} is range-partitioned by day. When
+     * enabled, retention drops whole partitions and upcoming partitions are
+     * created ahead of time; otherwise expired rows are deleted.
+     */
+    private boolean partitioningEnabled = false;
+
+    /**
+     * Number of upcoming daily partitions kept created ahead of the current
+     * day.
+     */
+    private int partitionsAhead = 7;
+
+    /**
+     * Cron expression of the maintenance job that rolls up, expires and
+     * partitions the history.
+     */
+    private String maintenanceCron = "0 15 0 * * *";
+}
@@ -0,0 +1,66 @@
+package com.market.analysis.infrastructure.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.market.analysis.domain.model.Timeframe;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties for the historical bar backfill job.
+ * Bound from the {@code analysis.backfill.*} keys.
+ */
+@ConfigurationProperties(prefix = "analysis.backfill")
+@Getter
+@Setter
+public class BackfillProperties {
+
+    /**
+     * Whether the backfill job runs. Disabled by default because it consumes
+     * provider quota.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Tickers always kept backfilled, in priority order after the most
+     * screened ones.
+     */
+    private List<String> universe = new ArrayList<>();
+
+    /**
+     * Timeframes to backfill.
+     */
+    private List<Timeframe> timeframes = new ArrayList<>(List.of(Timeframe.DAY_1));
+
+    /**
+     * Minimum number of calendar days of history kept, even if no strategy
+     * rule needs that much.
+     */
+    private int minLookbackDays = 365;
+
+    /**
+     * Maximum number of days requested from the provider at once; larger gaps
+     * are split and fetched newest first.
+     */
+    private int maxDaysPerRequest = 365;
+
+    /**
+     * Maximum number of tickers processed per run. The next run resumes with
+     * the remaining gaps.
+     */
+    private int batchSize = 50;
+
+    /**
+     * Maximum provider requests per minute. 0 disables pacing.
+     */
+    private int maxRequestsPerMinute = 5;
+
+    /**
+     * Delay in milliseconds between the end of a run and the start of the next.
+     */
+    private long intervalMs = 300_000;
+}
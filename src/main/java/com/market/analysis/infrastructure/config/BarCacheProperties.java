@@ -0,0 +1,22 @@
+package com.market.analysis.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties for the off-heap bar cache.
+ * Bound from the {@code analysis.bar-cache.*} keys.
+ */
+@ConfigurationProperties(prefix = "analysis.bar-cache")
+@Getter
+@Setter
+public class BarCacheProperties {
+
+    /**
+     * Maximum number of bytes of bar data kept off-heap. Must stay below the
+     * JVM {@code -XX:MaxDirectMemorySize} limit.
+     */
+    private long maxBytes = 512L * 1024 * 1024;
+}
@@ -0,0 +1,28 @@
+package com.market.analysis.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties for the tiered market data store.
+ * Bound from the {@code analysis.bar-store.*} keys.
+ */
+@ConfigurationProperties(prefix = "analysis.bar-store")
+@Getter
+@Setter
+public class BarStoreProperties {
+
+    /**
+     * Directory of the memory-mapped bar files. Should be on a persistent
+     * volume so that restarts serve stored history without refetching.
+     */
+    private String directory = "data/bars";
+
+    /**
+     * Maximum age in milliseconds of the bars of today, which are still
+     * forming, before a request refreshes them from the provider.
+     */
+    private long intradayTtlMs = 60_000;
+}
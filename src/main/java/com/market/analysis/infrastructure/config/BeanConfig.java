@@ -3,19 +3,43 @@ package com.market.analysis.infrastructure.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.market.analysis.application.usecase.EvaluateStrategyService;
+import com.market.analysis.application.usecase.FetchMarketDataService;
 import com.market.analysis.application.usecase.ManageProhibitedTickerService;
 import com.market.analysis.application.usecase.ManageRuleDefinitionService;
 import com.market.analysis.application.usecase.ManageStrategyService;
+import com.market.analysis.application.usecase.QueryAnalysisHistoryService;
+import com.market.analysis.application.usecase.TransferStrategiesService;
+import com.market.analysis.domain.port.in.EvaluateStrategyUseCase;
+import com.market.analysis.domain.port.in.FetchMarketDataUseCase;
 import com.market.analysis.domain.port.in.ManageProhibitedTickerUseCase;
 import com.market.analysis.domain.port.in.ManageRuleDefinitionUseCase;
 import com.market.analysis.domain.port.in.ManageStrategyUseCase;
+import com.market.analysis.domain.port.in.QueryAnalysisHistoryUseCase;
+import com.market.analysis.domain.port.in.TransferStrategiesUseCase;
+import com.market.analysis.domain.port.out.AnalysisHistoryRepository;
+import com.market.analysis.domain.port.out.CatalogRevisionRepository;
+import com.market.analysis.domain.port.out.MarketDataPort;
 import com.market.analysis.domain.port.out.ProhibitedTickerRepository;
 import com.market.analysis.domain.port.out.RuleDefinitionRepository;
 import com.market.analysis.domain.port.out.StrategyRepository;
+import com.market.analysis.domain.service.CatalogRevision;
+import com.market.analysis.domain.service.CompiledPortfolioCache;
+import com.market.analysis.domain.service.CrossingStateStore;
+import com.market.analysis.domain.service.IndicatorLibrary;
+import com.market.analysis.domain.service.PortfolioCompiler;
+import com.market.analysis.domain.service.RuleDefinitionRegistry;
+import com.market.analysis.domain.service.RuleEvaluator;
+import com.market.analysis.infrastructure.concurrency.IoBulkhead;
 
 @Configuration
 public class BeanConfig {
 
+    @Bean
+    public CatalogRevision catalogRevision(CatalogRevisionRepository catalogRevisionRepository) {
+        return new CatalogRevision(catalogRevisionRepository);
+    }
+
     @Bean
     public ManageStrategyUseCase manageStrategyUseCase(
             StrategyRepository strategyRepository,
@@ -23,10 +47,19 @@ public class BeanConfig {
         return new ManageStrategyService(strategyRepository, ruleDefinitionRepository);
     }
 
+    @Bean
+    public TransferStrategiesUseCase transferStrategiesUseCase(
+            StrategyRepository strategyRepository,
+            RuleDefinitionRegistry ruleDefinitionRegistry,
+            PortfolioCompiler portfolioCompiler) {
+        return new TransferStrategiesService(strategyRepository, ruleDefinitionRegistry, portfolioCompiler);
+    }
+
     @Bean
     public ManageRuleDefinitionUseCase manageRuleDefinitionUseCase(
-            RuleDefinitionRepository ruleDefinitionRepository) {
-        return new ManageRuleDefinitionService(ruleDefinitionRepository);
+            RuleDefinitionRepository ruleDefinitionRepository,
+            RuleDefinitionRegistry ruleDefinitionRegistry) {
+        return new ManageRuleDefinitionService(ruleDefinitionRepository, ruleDefinitionRegistry);
     }
 
     @Bean
@@ -34,4 +67,50 @@ public class BeanConfig {
             ProhibitedTickerRepository prohibitedTickerRepository) {
         return new ManageProhibitedTickerService(prohibitedTickerRepository);
     }
+
+    @Bean
+    public RuleEvaluator ruleEvaluator() {
+        return new RuleEvaluator(new IndicatorLibrary());
+    }
+
+    @Bean
+    public RuleDefinitionRegistry ruleDefinitionRegistry(
+            RuleEvaluator ruleEvaluator,
+            RuleDefinitionRepository ruleDefinitionRepository) {
+        return new RuleDefinitionRegistry(ruleEvaluator.getIndicatorLibrary(), ruleDefinitionRepository::findAll);
+    }
+
+    @Bean
+    public PortfolioCompiler portfolioCompiler(RuleDefinitionRegistry ruleDefinitionRegistry) {
+        return new PortfolioCompiler(ruleDefinitionRegistry, new CrossingStateStore());
+    }
+
+    @Bean
+    public CompiledPortfolioCache compiledPortfolioCache(
+            PortfolioCompiler portfolioCompiler,
+            CatalogRevision catalogRevision) {
+        return new CompiledPortfolioCache(portfolioCompiler, catalogRevision);
+    }
+
+    @Bean
+    public EvaluateStrategyUseCase evaluateStrategyUseCase(
+            CompiledPortfolioCache compiledPortfolioCache,
+            FetchMarketDataUseCase fetchMarketDataUseCase,
+            AnalysisHistoryRepository analysisHistoryRepository) {
+        return new EvaluateStrategyService(compiledPortfolioCache, fetchMarketDataUseCase,
+                analysisHistoryRepository);
+    }
+
+    @Bean
+    public QueryAnalysisHistoryUseCase queryAnalysisHistoryUseCase(
+            AnalysisHistoryRepository analysisHistoryRepository) {
+        return new QueryAnalysisHistoryService(analysisHistoryRepository);
+    }
+
+    @Bean
+    public FetchMarketDataUseCase fetchMarketDataUseCase(
+            MarketDataPort marketDataPort,
+            IoBulkhead marketDataBulkhead) {
+        return new FetchMarketDataService(marketDataPort, marketDataBulkhead::execute);
+    }
 }
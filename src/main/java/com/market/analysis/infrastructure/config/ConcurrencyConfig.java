@@ -0,0 +1,67 @@
+package com.market.analysis.infrastructure.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.market.analysis.infrastructure.concurrency.ConnectionLimitingDataSource;
+import com.market.analysis.infrastructure.concurrency.IoBulkhead;
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Configuration of the executors used for blocking I/O.
+ *
+ * With {@code spring.threads.virtual.enabled=true} Spring Boot already serves
+ * requests and scheduled tasks on virtual threads; this configuration adds
+ * the limits that keep those threads from overwhelming downstream resources.
+ */
+@Configuration
+@Slf4j
+public class ConcurrencyConfig {
+
+    // HikariCP's own default, for pools that do not expose one
+    private static final long DEFAULT_CONNECTION_TIMEOUT_MS = 30_000;
+
+    @Bean(destroyMethod = "close")
+    public IoBulkhead marketDataBulkhead(IoConcurrencyProperties properties, Environment environment) {
+        return new IoBulkhead("market-data", properties.getMarketDataMaxConcurrency(),
+                Threading.VIRTUAL.isActive(environment));
+    }
+
+    /**
+     * Wraps the pooled DataSource so that, in virtual thread mode, threads wait
+     * for a connection permit instead of piling up on the pool. They wait at
+     * most the connection timeout of the pool.
+     */
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionLimitingDataSource
+                        || !Threading.VIRTUAL.isActive(environment)) {
+                    return bean;
+                }
+                int maxConnections = environment.getProperty("analysis.io.jdbc-max-concurrency", Integer.class, 0);
+                long connectionTimeoutMs = DEFAULT_CONNECTION_TIMEOUT_MS;
+                if (bean instanceof HikariDataSource hikari) {
+                    if (maxConnections <= 0) {
+                        maxConnections = hikari.getMaximumPoolSize();
+                    }
+                    connectionTimeoutMs = hikari.getConnectionTimeout();
+                }
+                if (maxConnections <= 0) {
+                    return bean;
+                }
+                log.info("Limiting DataSource '{}' to {} concurrent connections", beanName, maxConnections);
+                return new ConnectionLimitingDataSource(dataSource, maxConnections, connectionTimeoutMs);
+            }
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package com.market.analysis.infrastructure.config;
+
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.market.analysis.application.usecase.HealthCheckService;
+import com.market.analysis.domain.model.DependencyHealth;
+import com.market.analysis.infrastructure.monitoring.DependencyHealthIndicator;
+
+/**
+ * Configuration of the actuator health indicators of the probed
+ * dependencies, named {@code database}, {@code marketData} and
+ * {@code caches}. They replace the default {@code db} indicator, which
+ * checked out a connection on every call.
+ */
+@Configuration
+public class HealthConfig {
+
+    @Bean
+    public HealthIndicator databaseHealthIndicator(HealthCheckService healthCheckService) {
+        return new DependencyHealthIndicator(healthCheckService, DependencyHealth.DATABASE);
+    }
+
+    @Bean
+    public HealthIndicator marketDataHealthIndicator(HealthCheckService healthCheckService) {
+        return new DependencyHealthIndicator(healthCheckService, DependencyHealth.MARKET_DATA);
+    }
+
+    @Bean
+    public HealthIndicator cachesHealthIndicator(HealthCheckService healthCheckService) {
+        return new DependencyHealthIndicator(healthCheckService, DependencyHealth.CACHES);
+    }
+}
@@ -0,0 +1,29 @@
+package com.market.analysis.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties for blocking I/O concurrency limits.
+ * Bound from the {@code analysis.io.*} keys. Whether blocking work runs on
+ * virtual threads is controlled by {@code spring.threads.virtual.enabled}.
+ */
+@ConfigurationProperties(prefix = "analysis.io")
+@Getter
+@Setter
+public class IoConcurrencyProperties {
+
+    /**
+     * Maximum number of market data provider calls in flight at the same time.
+     * Should stay within the provider's concurrency allowance.
+     */
+    private int marketDataMaxConcurrency = 32;
+
+    /**
+     * Maximum number of threads holding a database connection at the same
+     * time in virtual thread mode. 0 uses the connection pool size.
+     */
+    private int jdbcMaxConcurrency = 0;
+}
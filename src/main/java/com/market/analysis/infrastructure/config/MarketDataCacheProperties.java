@@ -0,0 +1,33 @@
+package com.market.analysis.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties for the short-lived market data result cache.
+ * Bound from the {@code analysis.market-data.cache.*} keys.
+ */
+@ConfigurationProperties(prefix = "analysis.market-data.cache")
+@Getter
+@Setter
+public class MarketDataCacheProperties {
+
+    /**
+     * Maximum time in milliseconds a loaded result is reused. Entries also
+     * expire when the current bar of their timeframe closes.
+     */
+    private long ttlMs = 30_000;
+
+    /**
+     * Maximum time in milliseconds a request waits for an identical in-flight
+     * load before failing.
+     */
+    private long waitTimeoutMs = 30_000;
+
+    /**
+     * Maximum number of cached results.
+     */
+    private int maxEntries = 10_000;
+}
@@ -0,0 +1,84 @@
+package com.market.analysis.infrastructure.config;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.market.analysis.domain.port.out.MarketDataPort;
+import com.market.analysis.domain.port.out.ProhibitedTickerRepository;
+import com.market.analysis.domain.port.out.StrategyRepository;
+import com.market.analysis.infrastructure.cache.BarBackfillJob;
+import com.market.analysis.infrastructure.cache.LocalBarStore;
+import com.market.analysis.infrastructure.cache.OffHeapBarCache;
+import com.market.analysis.infrastructure.cache.ResamplingMarketDataPort;
+import com.market.analysis.infrastructure.cache.SingleFlightMarketDataPort;
+import com.market.analysis.infrastructure.cache.TieredMarketDataPort;
+import com.market.analysis.infrastructure.external.polygon.PolygonMarketDataAdapter;
+
+/**
+ * Configuration of the market data provider chain.
+ * The provider adapters are not components: this class assembles them so
+ * that the application injects a single primary MarketDataPort.
+ *
+ * Chain: single-flight result cache -> resampling of 1-minute bars ->
+ * off-heap / mmap / remote tiers -> Polygon.
+ * The tiered port is also exposed on its own for the backfill job.
+ */
+@Configuration
+public class MarketDataConfig {
+
+    private static final String DEFAULT_POLYGON_BASE_URL = "https://api.polygon.io";
+
+    @Bean
+    public LocalBarStore localBarStore(BarStoreProperties barStoreProperties) {
+        return new LocalBarStore(Path.of(barStoreProperties.getDirectory()));
+    }
+
+    @Bean
+    public TieredMarketDataPort tieredMarketDataPort(WebClient.Builder webClientBuilder,
+            LocalBarStore localBarStore,
+            OffHeapBarCache offHeapBarCache,
+            BarStoreProperties barStoreProperties,
+            @Value("${polygon.base.url:}") String baseUrl,
+            @Value("${polygon.api.token:}") String apiToken,
+            @Value("${polygon.timeout.ms:10000}") long timeoutMs) {
+        MarketDataPort polygon = new PolygonMarketDataAdapter(webClientBuilder.build(),
+                baseUrl.isBlank() ? DEFAULT_POLYGON_BASE_URL : baseUrl, apiToken, Duration.ofMillis(timeoutMs));
+        return new TieredMarketDataPort(polygon, localBarStore, offHeapBarCache,
+                Duration.ofMillis(barStoreProperties.getIntradayTtlMs()), Clock.systemUTC());
+    }
+
+    @Bean
+    @Primary
+    public MarketDataPort marketDataPort(TieredMarketDataPort tieredMarketDataPort,
+            MarketDataCacheProperties cacheProperties,
+            ResamplingProperties resamplingProperties) {
+        MarketDataPort resampling = new ResamplingMarketDataPort(tieredMarketDataPort,
+                resamplingProperties.getTimeframes(), resamplingProperties.getMaxSeries(), Clock.systemUTC());
+        return new SingleFlightMarketDataPort(resampling, Duration.ofMillis(cacheProperties.getTtlMs()),
+                Duration.ofMillis(cacheProperties.getWaitTimeoutMs()), cacheProperties.getMaxEntries(),
+                Clock.systemUTC());
+    }
+
+    /**
+     * Always defined, so that {@code analysis.backfill.enabled} is read at
+     * runtime even from AOT-processed bean definitions; the job only schedules
+     * its runs when enabled. With lazy initialization it is only built at
+     * startup when enabled, see {@link StartupConfig}.
+     */
+    @Bean
+    public BarBackfillJob barBackfillJob(TieredMarketDataPort tieredMarketDataPort,
+            LocalBarStore localBarStore,
+            StrategyRepository strategyRepository,
+            ProhibitedTickerRepository prohibitedTickerRepository,
+            BackfillProperties backfillProperties) {
+        return new BarBackfillJob(tieredMarketDataPort, localBarStore, strategyRepository,
+                prohibitedTickerRepository, backfillProperties, Clock.systemUTC());
+    }
+}
@@ -0,0 +1,33 @@
+package com.market.analysis.infrastructure.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.market.analysis.domain.model.Timeframe;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties for deriving higher timeframes from 1-minute bars.
+ * Bound from the {@code analysis.market-data.resampling.*} keys.
+ */
+@ConfigurationProperties(prefix = "analysis.market-data.resampling")
+@Getter
+@Setter
+public class ResamplingProperties {
+
+    /**
+     * Timeframes built from 1-minute bars instead of being requested from the
+     * provider. Empty disables resampling.
+     */
+    private List<Timeframe> timeframes = new ArrayList<>(
+            List.of(Timeframe.MINUTE_5, Timeframe.MINUTE_15, Timeframe.HOUR_1));
+
+    /**
+     * Maximum number of aggregated (ticker, timeframe) series kept in memory.
+     */
+    private int maxSeries = 1024;
+}
@@ -0,0 +1,69 @@
+package com.market.analysis.infrastructure.config;
+
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.market.analysis.application.usecase.HealthCheckService;
+import com.market.analysis.infrastructure.cache.BarBackfillJob;
+import com.market.analysis.infrastructure.persistence.maintenance.CatalogRevisionRefreshJob;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Configuration of the startup-optimised mode ({@code fast-startup} profile,
+ * which enables {@code spring.main.lazy-initialization}).
+ *
+ * Lazy initialization defers every bean to its first use, so the market data
+ * chain, the off-heap cache, the web layer and the use cases are only built
+ * when a request needs them. A few beans must still be created at startup:
+ * <ul>
+ * <li>the DataSource, the Flyway migrations and the EntityManagerFactory, so
+ * that an unreachable database or a schema mismatch fails the start instead of
+ * the first request;</li>
+ * <li>beans with {@code @Scheduled} methods, which are only scheduled once
+ * they exist;</li>
+ * <li>the health check service, the catalogue revision refresh, and the bar
+ * backfill job when {@code analysis.backfill.enabled} is set, which schedule
+ * their runs on their own threads when they are created. The switch is read
+ * at runtime, so a disabled job does not pull in the provider chain at
+ * startup.</li>
+ * </ul>
+ * Without lazy initialization the filter has no effect.
+ */
+@Configuration
+public class StartupConfig {
+
+    private static final Set<Class<?>> EAGER_TYPES = Set.of(DataSource.class, FlywayMigrationInitializer.class,
+            EntityManagerFactory.class, AbstractEntityManagerFactoryBean.class, HealthCheckService.class,
+            CatalogRevisionRefreshJob.class);
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerStartupBeans(Environment environment) {
+        boolean backfillEnabled = environment.getProperty("analysis.backfill.enabled", Boolean.class, false);
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && (isEagerType(beanType) || hasScheduledMethods(beanType)
+                        || backfillEnabled && BarBackfillJob.class.isAssignableFrom(beanType));
+    }
+
+    private static boolean isEagerType(Class<?> beanType) {
+        return EAGER_TYPES.stream().anyMatch(type -> type.isAssignableFrom(beanType));
+    }
+
+    private static boolean hasScheduledMethods(Class<?> beanType) {
+        return !MethodIntrospector.selectMethods(beanType,
+                (MethodIntrospector.MetadataLookup<Boolean>) method -> AnnotatedElementUtils
+                        .hasAnnotation(method, Scheduled.class) ? Boolean.TRUE : null)
+                .isEmpty();
+    }
+}
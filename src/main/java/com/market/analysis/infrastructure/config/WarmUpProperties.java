@@ -0,0 +1,27 @@
+package com.market.analysis.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties for the cache warm-up run once the application is
+ * ready. Bound from the {@code analysis.warm-up.*} keys.
+ */
+@ConfigurationProperties(prefix = "analysis.warm-up")
+@Getter
+@Setter
+public class WarmUpProperties {
+
+    /**
+     * Whether caches are warmed before the readiness group reports UP. When
+     * disabled the application is ready as soon as it has started.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Delay before retrying a failed warm-up, in milliseconds.
+     */
+    private long retryIntervalMs = 5000;
+}
@@ -0,0 +1,61 @@
+package com.market.analysis.infrastructure.external.polygon;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Response of the Polygon.io aggregates (bars) endpoint.
+ * Only the fields used to build bar series are mapped.
+ */
+@Getter
+@Setter
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class PolygonAggregatesResponse {
+
+    @JsonProperty("status")
+    private String status;
+
+    @JsonProperty("results")
+    private List<Bar> results;
+
+    /**
+     * URL of the next page when the range holds more bars than the page limit.
+     */
+    @JsonProperty("next_url")
+    private String nextUrl;
+
+    /**
+     * Single aggregate bar.
+     */
+    @Getter
+    @Setter
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class Bar {
+
+        /**
+         * Bar start time in epoch milliseconds.
+         */
+        @JsonProperty("t")
+        private long timestamp;
+
+        @JsonProperty("o")
+        private double open;
+
+        @JsonProperty("h")
+        private double high;
+
+        @JsonProperty("l")
+        private double low;
+
+        @JsonProperty("c")
+        private double close;
+
+        @JsonProperty("v")
+        private double volume;
+    }
+}
@@ -0,0 +1,132 @@
+package com.market.analysis.infrastructure.external.polygon;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientException;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.market.analysis.domain.exception.MarketDataUnavailableException;
+import com.market.analysis.domain.model.ArrayBarSeries;
+import com.market.analysis.domain.model.TickerData;
+import com.market.analysis.domain.model.Timeframe;
+import com.market.analysis.domain.port.out.MarketDataPort;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MarketDataPort adapter for the Polygon.io aggregates API.
+ *
+ * Calls are blocking: the reactive client is only used as an HTTP client and
+ * every request is awaited with a timeout. This is cheap on virtual threads
+ * and keeps the port synchronous; concurrency is bounded by the caller's I/O
+ * bulkhead.
+ */
+@Slf4j
+public class PolygonMarketDataAdapter implements MarketDataPort {
+
+    private static final int PAGE_LIMIT = 50_000;
+
+    private final WebClient webClient;
+    private final String baseUrl;
+    private final String apiToken;
+    private final Duration timeout;
+
+    public PolygonMarketDataAdapter(WebClient webClient, String baseUrl, String apiToken, Duration timeout) {
+        this.webClient = webClient;
+        this.baseUrl = baseUrl;
+        this.apiToken = apiToken;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public TickerData fetchTickerData(String ticker, LocalDate from, LocalDate to, Timeframe timeframe) {
+        if (ticker == null || ticker.isBlank()) {
+            throw new IllegalArgumentException("Ticker cannot be null or empty");
+        }
+        if (apiToken == null || apiToken.isBlank()) {
+            throw new MarketDataUnavailableException("Polygon API token is not configured");
+        }
+
+        List<PolygonAggregatesResponse.Bar> bars = new ArrayList<>();
+        URI page = UriComponentsBuilder.fromUriString(baseUrl)
+                .path("/v2/aggs/ticker/{ticker}/range/{multiplier}/{timespan}/{from}/{to}")
+                .queryParam("adjusted", true)
+                .queryParam("sort", "asc")
+                .queryParam("limit", PAGE_LIMIT)
+                .queryParam("apiKey", apiToken)
+                .buildAndExpand(ticker, multiplier(timeframe), timespan(timeframe), from, to)
+                .encode()
+                .toUri();
+        while (page != null) {
+            PolygonAggregatesResponse response = get(ticker, page);
+            if (response.getResults() != null) {
+                bars.addAll(response.getResults());
+            }
+            page = response.getNextUrl() != null
+                    ? UriComponentsBuilder.fromUriString(response.getNextUrl()).queryParam("apiKey", apiToken)
+                            .build(true).toUri()
+                    : null;
+        }
+        return toTickerData(ticker, bars);
+    }
+
+    private PolygonAggregatesResponse get(String ticker, URI uri) {
+        try {
+            PolygonAggregatesResponse response = webClient.get()
+                    .uri(uri)
+                    .retrieve()
+                    .bodyToMono(PolygonAggregatesResponse.class)
+                    .block(timeout);
+            if (response == null || "ERROR".equals(response.getStatus())) {
+                throw new MarketDataUnavailableException("Polygon returned no data for " + ticker);
+            }
+            return response;
+        } catch (WebClientException | IllegalStateException e) {
+            throw new MarketDataUnavailableException("Polygon request failed for " + ticker, e);
+        }
+    }
+
+    private static TickerData toTickerData(String ticker, List<PolygonAggregatesResponse.Bar> bars) {
+        int size = bars.size();
+        long[] timestamps = new long[size];
+        double[] opens = new double[size];
+        double[] highs = new double[size];
+        double[] lows = new double[size];
+        double[] closes = new double[size];
+        double[] volumes = new double[size];
+        for (int i = 0; i < size; i++) {
+            PolygonAggregatesResponse.Bar bar = bars.get(i);
+            timestamps[i] = bar.getTimestamp();
+            opens[i] = bar.getOpen();
+            highs[i] = bar.getHigh();
+            lows[i] = bar.getLow();
+            closes[i] = bar.getClose();
+            volumes[i] = bar.getVolume();
+        }
+
+        return TickerData.ofBars(ticker, new ArrayBarSeries(timestamps, opens, highs, lows, closes, volumes));
+    }
+
+    private static int multiplier(Timeframe timeframe) {
+        return switch (timeframe) {
+            case MINUTE_1 -> 1;
+            case MINUTE_5 -> 5;
+            case MINUTE_15 -> 15;
+            case HOUR_1, DAY_1, WEEK_1 -> 1;
+        };
+    }
+
+    private static String timespan(Timeframe timeframe) {
+        return switch (timeframe) {
+            case MINUTE_1, MINUTE_5, MINUTE_15 -> "minute";
+            case HOUR_1 -> "hour";
+            case DAY_1 -> "day";
+            case WEEK_1 -> "week";
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.market.analysis.infrastructure.monitoring;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import com.market.analysis.infrastructure.persistence.repository.SqlAnalysisHistoryRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Actuator health indicator, named {@code analysisHistory}, reporting the
+ * write-behind queue of the analysis history. History is not critical to
+ * screening, so a stopped writer or a full queue, which drops results, is
+ * {@link DependencyHealthIndicator#DEGRADED} rather than DOWN.
+ */
+@Component
+@RequiredArgsConstructor
+public class AnalysisHistoryHealthIndicator implements HealthIndicator {
+
+    private final SqlAnalysisHistoryRepository analysisHistoryRepository;
+
+    @Override
+    public Health health() {
+        int pending = analysisHistoryRepository.getPendingCount();
+        int capacity = analysisHistoryRepository.getQueueCapacity();
+        Health.Builder builder = analysisHistoryRepository.isWriterRunning() && pending < capacity
+                ? Health.up()
+                : Health.status(DependencyHealthIndicator.DEGRADED);
+        return builder
+                .withDetail("writerRunning", analysisHistoryRepository.isWriterRunning())
+                .withDetail("pending", pending)
+                .withDetail("capacity", capacity)
+                .withDetail("written", analysisHistoryRepository.getWrittenCount())
+                .withDetail("dropped", analysisHistoryRepository.getDroppedCount())
+                .withDetail("failed", analysisHistoryRepository.getFailedCount())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.market.analysis.infrastructure.monitoring;
+
+import org.springframework.stereotype.Component;
+
+import com.market.analysis.infrastructure.persistence.repository.SqlAnalysisHistoryRepository;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Meters of the analysis history write-behind queue:
+ * {@code analysis.history.pending} and the {@code analysis.history.written},
+ * {@code analysis.history.dropped} and {@code analysis.history.failed}
+ * counters, read from the repository counters on every scrape.
+ */
+@Component
+@RequiredArgsConstructor
+public class AnalysisHistoryMetrics implements MeterBinder {
+
+    private final SqlAnalysisHistoryRepository analysisHistoryRepository;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("analysis.history.pending", analysisHistoryRepository,
+                SqlAnalysisHistoryRepository::getPendingCount)
+                .description("Analysis results waiting to be written")
+                .register(registry);
+        FunctionCounter.builder("analysis.history.written", analysisHistoryRepository,
+                SqlAnalysisHistoryRepository::getWrittenCount)
+                .description("Analysis results written since startup")
+                .register(registry);
+        FunctionCounter.builder("analysis.history.dropped", analysisHistoryRepository,
+                SqlAnalysisHistoryRepository::getDroppedCount)
+                .description("Analysis results dropped because the queue stayed full")
+                .register(registry);
+        FunctionCounter.builder("analysis.history.failed", analysisHistoryRepository,
+                SqlAnalysisHistoryRepository::getFailedCount)
+                .description("Analysis results lost because their batch failed to persist")
+                .register(registry);
+    }
+}
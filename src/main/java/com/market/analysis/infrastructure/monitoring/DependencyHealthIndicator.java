@@ -0,0 +1,72 @@
+package com.market.analysis.infrastructure.monitoring;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+import com.market.analysis.application.usecase.HealthCheckService;
+import com.market.analysis.domain.model.DependencyHealth;
+import com.market.analysis.domain.model.HealthStatus;
+
+/**
+ * Actuator health indicator of one dependency probed through the
+ * HealthCheckPort. Reads the last probe cached by the HealthCheckService,
+ * so actuator polling never loads the dependency itself.
+ *
+ * A healthy dependency is UP, an unhealthy critical one DOWN and any other
+ * unhealthy one {@link #DEGRADED}. Once the probes are stale, a critical
+ * dependency is DOWN and any other one UNKNOWN. The time of the probe is
+ * reported as {@code probedAt}.
+ */
+public class DependencyHealthIndicator implements HealthIndicator {
+
+    /**
+     * Status of a non-critical dependency that is not healthy. Ordered between
+     * OUT_OF_SERVICE and UP and mapped to HTTP 200 by default.
+     */
+    public static final Status DEGRADED = new Status("DEGRADED");
+
+    private final HealthCheckService healthCheckService;
+    private final String dependency;
+
+    /**
+     * Creates an indicator.
+     *
+     * @param healthCheckService the service caching the probes
+     * @param dependency         the dependency name, e.g.
+     *                           {@link DependencyHealth#DATABASE}
+     */
+    public DependencyHealthIndicator(HealthCheckService healthCheckService, String dependency) {
+        this.healthCheckService = healthCheckService;
+        this.dependency = dependency;
+    }
+
+    @Override
+    public Health health() {
+        HealthStatus healthStatus = healthCheckService.performHealthCheck();
+        return healthStatus.findDependency(dependency)
+                .map(probed -> toHealth(healthStatus, probed))
+                .orElseGet(() -> Health.unknown().build());
+    }
+
+    private static Health toHealth(HealthStatus healthStatus, DependencyHealth dependency) {
+        Health.Builder builder;
+        if (healthStatus.isStale()) {
+            builder = dependency.isCritical() ? Health.down() : Health.unknown();
+        } else if (dependency.isHealthy()) {
+            builder = Health.up();
+        } else if (dependency.isCritical()) {
+            builder = Health.down();
+        } else {
+            builder = Health.status(DEGRADED);
+        }
+        builder.withDetail("latencyMs", dependency.getLatencyMillis());
+        if (healthStatus.getTimestamp() != null) {
+            builder.withDetail("probedAt", healthStatus.getTimestamp().toString());
+        }
+        if (dependency.getDetail() != null) {
+            builder.withDetail("detail", dependency.getDetail());
+        }
+        return builder.build();
+    }
+}
@@ -1,12 +1,17 @@
 package com.market.analysis.infrastructure.monitoring;
 
 import java.sql.Connection;
+import java.util.concurrent.TimeUnit;
 
 import javax.sql.DataSource;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Component;
 
+import com.market.analysis.domain.model.DependencyHealth;
 import com.market.analysis.domain.port.out.HealthCheckPort;
+import com.market.analysis.infrastructure.cache.LocalBarStore;
+import com.market.analysis.infrastructure.cache.TieredMarketDataPort;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,60 +19,122 @@ import lombok.extern.slf4j.Slf4j;
 /**
  * Infrastructure Adapter for health check operations.
  * Implements the HealthCheckPort interface by directly accessing the DataSource
- * to verify database connectivity and performance.
+ * and the market data tiers.
  *
  * This adapter is responsible for:
- * - Acquiring connections from the DataSource
- * - Executing validation queries
- * - Measuring connection time
- * - Handling database-related exceptions
+ * - Acquiring a connection from the DataSource and validating it
+ * - Measuring probe time
+ * - Reporting the outcome of the last requests sent to the market data
+ * provider, without sending requests of its own
+ * - Checking that the local bar store can still be written
+ * - Handling dependency exceptions
+ *
+ * The market data beans are looked up on first probe, so that under lazy
+ * initialization the prober does not build the provider chain at startup.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class HealthCheckAdapter implements HealthCheckPort {
 
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
     private final DataSource dataSource;
+    private final ObjectProvider<TieredMarketDataPort> tieredMarketDataPort;
+    private final ObjectProvider<LocalBarStore> localBarStore;
 
     /**
-     * Checks if the database connection is healthy and responsive.
-     * Attempts to acquire a connection from the DataSource and validates it.
+     * Checks the database with a single connection checkout: the connection is
+     * validated and the time taken measured in the same probe.
      *
-     * @return true if a valid connection is obtained, false if connection fails
+     * @return the database health, with -1 latency if the connection fails
      */
     @Override
-    public boolean isDatabaseHealthy() {
-        try {
-            try (Connection connection = dataSource.getConnection()) {
-                return connection.isValid(5);
-            }
+    public DependencyHealth checkDatabase() {
+        long startTime = System.nanoTime();
+        boolean valid = false;
+        String detail = null;
+        try (Connection connection = dataSource.getConnection()) {
+            valid = connection.isValid(VALIDATION_TIMEOUT_SECONDS);
         } catch (Exception e) {
             log.error("Database health check failed", e);
-            return false;
+            detail = e.getMessage();
         }
+        return DependencyHealth.builder()
+                .name(DependencyHealth.DATABASE)
+                .healthy(valid)
+                .critical(true)
+                .latencyMillis(valid ? elapsedMillis(startTime) : -1)
+                .detail(detail)
+                .build();
     }
 
     /**
-     * Gets the time taken to verify database connectivity in milliseconds.
-     * Measures the time required to acquire and validate a connection.
+     * Checks the market data provider from the outcome of the last remote
+     * fetch: probing it directly would spend rate-limited API requests.
      *
-     * @return connection verification time in milliseconds, or -1 if connection
-     *         fails
+     * @return the market data health
      */
     @Override
-    public long getDatabaseConnectionTime() {
-        long startTime = System.currentTimeMillis();
+    public DependencyHealth checkMarketData() {
+        long startTime = System.nanoTime();
+        try {
+            TieredMarketDataPort port = tieredMarketDataPort.getIfAvailable();
+            if (port == null) {
+                return unavailable(DependencyHealth.MARKET_DATA, "Market data provider is not configured");
+            }
+            return DependencyHealth.builder()
+                    .name(DependencyHealth.MARKET_DATA)
+                    .healthy(port.isRemoteAvailable())
+                    .latencyMillis(elapsedMillis(startTime))
+                    .detail(port.getRemoteFetches() + " remote fetches, " + port.getRemoteFailures() + " failed")
+                    .build();
+        } catch (Exception e) {
+            log.error("Market data health check failed", e);
+            return unavailable(DependencyHealth.MARKET_DATA, e.getMessage());
+        }
+    }
 
+    /**
+     * Checks that the local bar store is writable and reports the hit counts
+     * of the heap and local tiers.
+     *
+     * @return the cache health
+     */
+    @Override
+    public DependencyHealth checkCaches() {
+        long startTime = System.nanoTime();
         try {
-            try (Connection connection = dataSource.getConnection()) {
-                if (connection.isValid(5)) {
-                    return System.currentTimeMillis() - startTime;
-                }
+            LocalBarStore store = localBarStore.getIfAvailable();
+            TieredMarketDataPort port = tieredMarketDataPort.getIfAvailable();
+            if (store == null || port == null) {
+                return unavailable(DependencyHealth.CACHES, "Bar store is not configured");
             }
+            boolean writable = store.isWritable();
+            return DependencyHealth.builder()
+                    .name(DependencyHealth.CACHES)
+                    .healthy(writable)
+                    .latencyMillis(elapsedMillis(startTime))
+                    .detail(writable
+                            ? port.getHotHits() + " hot hits, " + port.getWarmHits() + " warm hits"
+                            : "Bar store directory is not writable")
+                    .build();
         } catch (Exception e) {
-            log.error("Failed to measure database connection time", e);
+            log.error("Cache health check failed", e);
+            return unavailable(DependencyHealth.CACHES, e.getMessage());
         }
+    }
+
+    private static DependencyHealth unavailable(String name, String detail) {
+        return DependencyHealth.builder()
+                .name(name)
+                .healthy(false)
+                .latencyMillis(-1)
+                .detail(detail)
+                .build();
+    }
 
-        return -1;
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
     }
 }
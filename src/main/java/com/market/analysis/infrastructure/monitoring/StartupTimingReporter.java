@@ -0,0 +1,72 @@
+package com.market.analysis.infrastructure.monitoring;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Logs how long the application took to become ready and which beans were
+ * the slowest to create, from the steps recorded by the
+ * {@link BufferingApplicationStartup} installed in the main class.
+ *
+ * The recorded steps stay buffered, so the actuator {@code startup} endpoint
+ * can still return the full timeline.
+ */
+@Component
+@Slf4j
+public class StartupTimingReporter {
+
+    private static final String BEAN_INSTANTIATION_STEP = "spring.beans.instantiate";
+    private static final int SLOWEST_BEANS = 5;
+
+    /**
+     * Logs the startup report once the application is ready.
+     *
+     * @param event the ready event
+     */
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        if (event.getApplicationContext().getApplicationStartup() instanceof BufferingApplicationStartup startup) {
+            log.info(summarize(startup.getBufferedTimeline(), event.getTimeTaken()));
+        }
+    }
+
+    /**
+     * Summarizes a startup timeline.
+     *
+     * @param timeline the recorded steps
+     * @param readyTime time taken for the application to be ready, or null
+     * @return text such as "Ready in 2150 ms, 812 startup steps, slowest beans:
+     *         entityManagerFactory 900 ms, ..."
+     */
+    public String summarize(StartupTimeline timeline, Duration readyTime) {
+        List<StartupTimeline.TimelineEvent> events = timeline.getEvents();
+        String slowest = events.stream()
+                .filter(event -> BEAN_INSTANTIATION_STEP.equals(event.getStartupStep().getName()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(SLOWEST_BEANS)
+                .map(event -> beanName(event.getStartupStep()) + " " + event.getDuration().toMillis() + " ms")
+                .collect(Collectors.joining(", "));
+        return "Ready in " + (readyTime == null ? "?" : readyTime.toMillis()) + " ms, " + events.size()
+                + " startup steps, slowest beans: " + (slowest.isEmpty() ? "none" : slowest);
+    }
+
+    private static String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return "?";
+    }
+}
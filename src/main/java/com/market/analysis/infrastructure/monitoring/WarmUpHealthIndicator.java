@@ -0,0 +1,33 @@
+package com.market.analysis.infrastructure.monitoring;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import com.market.analysis.infrastructure.cache.CacheWarmer;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Actuator health indicator, named {@code warmUp}, reporting whether the
+ * caches of the first screens have been warmed. OUT_OF_SERVICE until then:
+ * part of the readiness group, it keeps traffic away from cold instances.
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private final CacheWarmer cacheWarmer;
+
+    @Override
+    public Health health() {
+        if (cacheWarmer.isWarm()) {
+            return Health.up().withDetails(cacheWarmer.getDetails()).build();
+        }
+        Health.Builder builder = Health.outOfService();
+        if (cacheWarmer.getLastError() != null) {
+            builder.withDetail("error", cacheWarmer.getLastError());
+        }
+        return builder.build();
+    }
+}
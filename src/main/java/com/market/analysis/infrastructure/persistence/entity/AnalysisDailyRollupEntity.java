@@ -0,0 +1,47 @@
+package com.market.analysis.infrastructure.persistence.entity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * JPA entity representing the daily pass counts of a strategy.
+ * Rows are produced by the history maintenance job from raw analysis results
+ * and outlive the raw partitions they were computed from.
+ */
+@Entity
+@Table(name = "analysis_daily_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_analysis_daily_rollups_strategy_date", columnNames = { "strategy_id",
+                "rollup_date" })
+}, indexes = {
+        @Index(name = "idx_analysis_daily_rollups_date", columnList = "rollup_date")
+})
+@Getter
+@Setter
+public class AnalysisDailyRollupEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "strategy_id", nullable = false)
+    private Long strategyId;
+
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+
+    @Column(name = "evaluated_count", nullable = false)
+    private long evaluatedCount;
+
+    @Column(name = "passed_count", nullable = false)
+    private long passedCount;
+}
@@ -0,0 +1,69 @@
+package com.market.analysis.infrastructure.persistence.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * JPA entity representing a persisted analysis result.
+ * Rule outcomes are stored in a compact encoded column instead of child rows
+ * to keep history writes to a single insert per result.
+ *
+ * Identifiers come from a pooled sequence: IDENTITY generation would force
+ * Hibernate to execute each insert individually and disable JDBC batching.
+ *
+ * On MariaDB the table is range-partitioned by {@code analysis_date} (see
+ * {@code db/migration/mariadb/V3__analysis_history.sql}), so retention drops
+ * whole partitions and date-bounded queries only scan the matching days.
+ */
+@Entity
+@Table(name = "analysis_results", indexes = {
+        @Index(name = "idx_analysis_results_strategy_date_passed",
+                columnList = "strategy_id, analysis_date, overall_passed")
+})
+@Getter
+@Setter
+public class AnalysisResultEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "analysis_results_seq")
+    @SequenceGenerator(name = "analysis_results_seq", sequenceName = "analysis_results_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "strategy_id")
+    private Long strategyId;
+
+    @Column(nullable = false, length = 20)
+    private String ticker;
+
+    @Column(name = "analysis_timestamp", nullable = false)
+    private LocalDateTime analysisTimestamp;
+
+    /**
+     * Calendar day of the analysis, used as partitioning key.
+     */
+    @Column(name = "analysis_date", nullable = false)
+    private LocalDate analysisDate;
+
+    @Column(name = "overall_passed", nullable = false)
+    private boolean overallPassed;
+
+    /**
+     * Rule outcomes encoded as "ruleId:flag" pairs separated by commas
+     * (e.g., "12:1,13:0").
+     */
+    @Column(name = "rule_results", length = 4000)
+    private String ruleResults;
+
+    private String summary;
+}
@@ -0,0 +1,27 @@
+package com.market.analysis.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Single row holding the revision of the strategy catalogue.
+ */
+@Entity
+@Table(name = "catalog_revision")
+@Getter
+@Setter
+public class CatalogRevisionEntity {
+
+    /** ID of the only row, created by the migration. */
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private Long revision;
+}
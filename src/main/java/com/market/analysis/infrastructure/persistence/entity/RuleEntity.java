@@ -1,25 +1,35 @@
 package com.market.analysis.infrastructure.persistence.entity;
 
+import com.market.analysis.domain.model.Timeframe;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.Setter;
 
 @Entity
-@Table(name = "strategy_rules")
+@Table(name = "strategy_rules", indexes = {
+        @Index(name = "idx_strategy_rules_strategy", columnList = "strategy_id, rule_position")
+})
 @Getter
 @Setter
 public class RuleEntity {
 
+    // Drawn from a sequence so a strategy's rules are inserted in one JDBC batch
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "strategy_rules_seq")
+    @SequenceGenerator(name = "strategy_rules_seq", sequenceName = "strategy_rules_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -30,6 +40,10 @@ public class RuleEntity {
     @Column(name = "subject_param")
     private Double subjectParam;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "subject_timeframe", length = 16)
+    private Timeframe subjectTimeframe;
+
     private String operator;
 
     @Column(name = "target_code")
@@ -38,6 +52,10 @@ public class RuleEntity {
     @Column(name = "target_param")
     private Double targetParam;
 
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_timeframe", length = 16)
+    private Timeframe targetTimeframe;
+
     private String description;
 
     @ManyToOne(fetch = FetchType.LAZY)
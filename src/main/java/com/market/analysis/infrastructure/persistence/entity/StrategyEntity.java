@@ -1,34 +1,63 @@
 package com.market.analysis.infrastructure.persistence.entity;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.hibernate.annotations.ColumnDefault;
+
+import com.market.analysis.domain.model.StrategyExpression;
+
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.Setter;
 
 @Entity
-@Table(name = "strategies")
+@Table(name = "strategies", indexes = {
+        @Index(name = "idx_strategies_name", columnList = "name, id")
+})
 @Getter
 @Setter
 public class StrategyEntity {
+    // Pooled sequence ids keep inserts batchable, IDENTITY would not
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "strategies_seq")
+    @SequenceGenerator(name = "strategies_seq", sequenceName = "strategies_seq", allocationSize = 50)
     private Long id;
     private String name;
     private String description;
 
-    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
-    @JoinColumn(name = "strategy_id")
+    @Column(length = StrategyExpression.MAX_LENGTH)
+    private String expression;
+
+    // Rows created before versioning start at 0
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
+    // Touched whenever a rule row changes, so the version also covers the rules
+    private LocalDateTime updatedAt;
+
+    // Expressions reference rules by position, so the order is persisted
+    // rather than derived from row ids. Rules own the foreign key; the
+    // position is written after the insert, in the same flush.
+    @OneToMany(mappedBy = "strategy", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderColumn(name = "rule_position")
     private List<RuleEntity> rules = new java.util.ArrayList<>();
 
     public void addRule(RuleEntity rule) {
+        rule.setStrategy(this);
         this.rules.add(rule);
     }
 }
\ No newline at end of file
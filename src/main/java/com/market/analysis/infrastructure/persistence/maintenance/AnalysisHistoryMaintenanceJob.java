@@ -0,0 +1,218 @@
+package com.market.analysis.infrastructure.persistence.maintenance;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.market.analysis.infrastructure.config.AnalysisHistoryProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintenance job for the analysis history tables.
+ *
+ * Each run performs, in order:
+ * <ol>
+ * <li>Rolls every completed day not yet rolled up into
+ * {@code analysis_daily_rollups}.</li>
+ * <li>Expires raw results older than the retention window, but never a day
+ * that has not been rolled up. With partitioning enabled whole daily
+ * partitions are dropped; otherwise the rows are deleted.</li>
+ * <li>With partitioning enabled, splits the upcoming daily partitions out of
+ * the catch-all {@code p_max} partition.</li>
+ * </ol>
+ *
+ * Runs on startup and on the configured cron. Failures are logged and retried
+ * on the next run, since every step is idempotent.
+ */
+@Component
+@Slf4j
+public class AnalysisHistoryMaintenanceJob {
+
+    private static final String CATCH_ALL_PARTITION = "p_max";
+    private static final String PARTITION_PREFIX = "p";
+
+    private static final String SELECT_LATEST_ROLLUP = "SELECT MAX(rollup_date) FROM analysis_daily_rollups";
+    private static final String SELECT_EARLIEST_RESULT = "SELECT MIN(analysis_date) FROM analysis_results";
+    private static final String DELETE_ROLLUP = "DELETE FROM analysis_daily_rollups WHERE rollup_date = ?";
+    private static final String INSERT_ROLLUP = "INSERT INTO analysis_daily_rollups "
+            + "(strategy_id, rollup_date, evaluated_count, passed_count) "
+            + "SELECT strategy_id, analysis_date, COUNT(*), "
+            + "SUM(CASE WHEN overall_passed = TRUE THEN 1 ELSE 0 END) "
+            + "FROM analysis_results "
+            + "WHERE analysis_date = ? AND strategy_id IS NOT NULL "
+            + "GROUP BY strategy_id, analysis_date";
+    private static final String DELETE_EXPIRED = "DELETE FROM analysis_results WHERE analysis_date < ?";
+    private static final String SELECT_PARTITIONS = "SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'analysis_results' "
+            + "AND PARTITION_NAME IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionOperations transactionOperations;
+    private final AnalysisHistoryProperties properties;
+
+    public AnalysisHistoryMaintenanceJob(JdbcTemplate jdbcTemplate, TransactionOperations transactionOperations,
+            AnalysisHistoryProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionOperations = transactionOperations;
+        this.properties = properties;
+    }
+
+    /**
+     * Runs the maintenance once the application is ready, so partitions exist
+     * before the first scan after a deployment.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        runScheduled();
+    }
+
+    /**
+     * Runs the maintenance on the configured cron.
+     */
+    @Scheduled(cron = "${analysis.history.maintenance-cron:0 15 0 * * *}")
+    public void runScheduled() {
+        try {
+            runMaintenance(LocalDate.now());
+        } catch (Exception e) {
+            log.error("Analysis history maintenance failed", e);
+        }
+    }
+
+    /**
+     * Runs every maintenance step relative to the given day.
+     *
+     * @param today the current day; it is never rolled up nor expired
+     */
+    public void runMaintenance(LocalDate today) {
+        LocalDate rolledUpUntil = rollUp(today);
+        LocalDate retentionStart = today.minusDays(properties.getRetentionDays());
+        LocalDate expireBefore = null;
+        if (rolledUpUntil != null) {
+            expireBefore = rolledUpUntil.isBefore(retentionStart) ? rolledUpUntil.plusDays(1) : retentionStart;
+        }
+
+        if (properties.isPartitioningEnabled()) {
+            List<LocalDate> partitionDays = findPartitionDays();
+            if (expireBefore != null) {
+                dropPartitionsBefore(partitionDays, expireBefore);
+            }
+            createPartitions(partitionDays, today);
+        } else if (expireBefore != null) {
+            int deleted = jdbcTemplate.update(DELETE_EXPIRED, Date.valueOf(expireBefore));
+            if (deleted > 0) {
+                log.info("Deleted {} analysis results older than {}", deleted, expireBefore);
+            }
+        }
+    }
+
+    /**
+     * Rolls up every completed day after the latest rollup, one transaction per
+     * day. Days already outside the retention window are skipped since their raw
+     * rows may be partially gone.
+     *
+     * @param today the current day
+     * @return the latest rolled up day, or null if nothing was ever rolled up
+     */
+    private LocalDate rollUp(LocalDate today) {
+        LocalDate latest = jdbcTemplate.queryForObject(SELECT_LATEST_ROLLUP, LocalDate.class);
+        LocalDate start;
+        if (latest != null) {
+            start = latest.plusDays(1);
+        } else {
+            start = jdbcTemplate.queryForObject(SELECT_EARLIEST_RESULT, LocalDate.class);
+            if (start == null) {
+                return null;
+            }
+        }
+        LocalDate retentionStart = today.minusDays(properties.getRetentionDays());
+        if (start.isBefore(retentionStart)) {
+            start = retentionStart;
+        }
+
+        LocalDate day = start;
+        while (day.isBefore(today)) {
+            Date sqlDay = Date.valueOf(day);
+            transactionOperations.executeWithoutResult(status -> {
+                jdbcTemplate.update(DELETE_ROLLUP, sqlDay);
+                jdbcTemplate.update(INSERT_ROLLUP, sqlDay);
+            });
+            latest = day;
+            day = day.plusDays(1);
+        }
+        return latest;
+    }
+
+    private List<LocalDate> findPartitionDays() {
+        List<LocalDate> days = new ArrayList<>();
+        for (String name : jdbcTemplate.queryForList(SELECT_PARTITIONS, String.class)) {
+            LocalDate day = parsePartitionDay(name);
+            if (day != null) {
+                days.add(day);
+            }
+        }
+        days.sort(null);
+        return days;
+    }
+
+    private void dropPartitionsBefore(List<LocalDate> partitionDays, LocalDate expireBefore) {
+        List<String> expired = new ArrayList<>();
+        for (LocalDate day : partitionDays) {
+            if (day.isBefore(expireBefore)) {
+                expired.add(partitionName(day));
+            }
+        }
+        if (!expired.isEmpty()) {
+            jdbcTemplate.execute("ALTER TABLE analysis_results DROP PARTITION " + String.join(", ", expired));
+            log.info("Dropped {} expired analysis history partitions", expired.size());
+        }
+    }
+
+    private void createPartitions(List<LocalDate> partitionDays, LocalDate today) {
+        LocalDate first = partitionDays.isEmpty()
+                ? today
+                : partitionDays.get(partitionDays.size() - 1).plusDays(1);
+        if (first.isBefore(today)) {
+            first = today;
+        }
+        LocalDate last = today.plusDays(properties.getPartitionsAhead());
+        if (first.isAfter(last)) {
+            return;
+        }
+
+        StringBuilder ddl = new StringBuilder("ALTER TABLE analysis_results REORGANIZE PARTITION ")
+                .append(CATCH_ALL_PARTITION).append(" INTO (");
+        for (LocalDate day = first; !day.isAfter(last); day = day.plusDays(1)) {
+            ddl.append("PARTITION ").append(partitionName(day))
+                    .append(" VALUES LESS THAN ('").append(day.plusDays(1)).append("'), ");
+        }
+        ddl.append("PARTITION ").append(CATCH_ALL_PARTITION).append(" VALUES LESS THAN (MAXVALUE))");
+        jdbcTemplate.execute(ddl.toString());
+        log.info("Created analysis history partitions from {} to {}", first, last);
+    }
+
+    private static String partitionName(LocalDate day) {
+        return PARTITION_PREFIX + day.format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    private static LocalDate parsePartitionDay(String name) {
+        if (name == null || !name.startsWith(PARTITION_PREFIX) || CATCH_ALL_PARTITION.equals(name)) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(name.substring(PARTITION_PREFIX.length()), DateTimeFormatter.BASIC_ISO_DATE);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.market.analysis.infrastructure.persistence.maintenance;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.market.analysis.domain.port.out.CatalogRevisionRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background job that reads the catalogue revision from the database, so
+ * that writes made by other instances reach the revision this instance
+ * serves from memory within the configured interval.
+ *
+ * Runs on a thread of its own, so long maintenance runs on the shared
+ * scheduler cannot delay it.
+ */
+@Component
+@Slf4j
+public class CatalogRevisionRefreshJob {
+
+    private final CatalogRevisionRepository catalogRevisionRepository;
+    private final long intervalMs;
+    private ScheduledExecutorService scheduler;
+
+    public CatalogRevisionRefreshJob(CatalogRevisionRepository catalogRevisionRepository,
+            @Value("${analysis.catalog.revision-refresh-ms:5000}") long intervalMs) {
+        if (intervalMs <= 0) {
+            throw new IllegalArgumentException("Revision refresh interval must be positive");
+        }
+        this.catalogRevisionRepository = catalogRevisionRepository;
+        this.intervalMs = intervalMs;
+    }
+
+    /**
+     * Starts refreshing on a dedicated thread, with the configured delay
+     * between the end of a read and the start of the next.
+     */
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "catalog-revision-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::runScheduled, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the refreshes.
+     */
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Refreshes the revision once. Never throws, so a failed read does not
+     * cancel the next ones.
+     */
+    public void runScheduled() {
+        try {
+            catalogRevisionRepository.refresh();
+        } catch (RuntimeException e) {
+            log.warn("Catalogue revision refresh failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.market.analysis.infrastructure.persistence.mapper;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.market.analysis.domain.model.AnalysisResult;
+import com.market.analysis.domain.model.Rule;
+import com.market.analysis.domain.model.RuleResult;
+import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.infrastructure.persistence.entity.AnalysisResultEntity;
+
+/**
+ * Mapper to convert between AnalysisResult domain model and
+ * AnalysisResultEntity.
+ * Rule results are encoded into a compact "ruleId:flag" column; justifications
+ * are not persisted because they can be rebuilt from the rule definition.
+ */
+@Component
+public class AnalysisResultMapper {
+
+    private static final char PAIR_SEPARATOR = ',';
+    private static final char FLAG_SEPARATOR = ':';
+
+    /**
+     * Converts an AnalysisResult domain model to an AnalysisResultEntity.
+     *
+     * @param analysisResult the domain model
+     * @return the entity
+     */
+    public AnalysisResultEntity toEntity(AnalysisResult analysisResult) {
+        if (analysisResult == null) {
+            return null;
+        }
+
+        AnalysisResultEntity entity = new AnalysisResultEntity();
+        entity.setStrategyId(analysisResult.getStrategy() != null ? analysisResult.getStrategy().getId() : null);
+        entity.setTicker(analysisResult.getTicker());
+        entity.setAnalysisTimestamp(analysisResult.getAnalysisTimestamp());
+        entity.setAnalysisDate(analysisResult.getAnalysisTimestamp() != null
+                ? analysisResult.getAnalysisTimestamp().toLocalDate()
+                : null);
+        entity.setOverallPassed(analysisResult.isOverallPassed());
+        entity.setRuleResults(encodeRuleResults(analysisResult.getRuleResults()));
+        entity.setSummary(analysisResult.getSummary());
+        return entity;
+    }
+
+    /**
+     * Converts an AnalysisResultEntity to an AnalysisResult domain model.
+     * The strategy and rules are restored as references holding only their ids.
+     *
+     * @param entity the entity
+     * @return the domain model
+     */
+    public AnalysisResult toDomain(AnalysisResultEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        return AnalysisResult.builder()
+                .strategy(Strategy.builder().id(entity.getStrategyId()).build())
+                .ticker(entity.getTicker())
+                .analysisTimestamp(entity.getAnalysisTimestamp())
+                .ruleResults(decodeRuleResults(entity.getRuleResults()))
+                .overallPassed(entity.isOverallPassed())
+                .summary(entity.getSummary())
+                .build();
+    }
+
+    /**
+     * Encodes rule results as "ruleId:flag" pairs.
+     *
+     * @param ruleResults the rule results
+     * @return the encoded column value
+     */
+    public String encodeRuleResults(List<RuleResult> ruleResults) {
+        StringBuilder encoded = new StringBuilder(ruleResults.size() * 8);
+        for (RuleResult ruleResult : ruleResults) {
+            if (!encoded.isEmpty()) {
+                encoded.append(PAIR_SEPARATOR);
+            }
+            Rule rule = ruleResult.getRule();
+            if (rule != null && rule.getId() != null) {
+                encoded.append(rule.getId());
+            }
+            encoded.append(FLAG_SEPARATOR).append(ruleResult.isPassed() ? '1' : '0');
+        }
+        return encoded.toString();
+    }
+
+    /**
+     * Decodes rule results from "ruleId:flag" pairs.
+     *
+     * @param encoded the encoded column value
+     * @return the rule results, with rules holding only their ids
+     */
+    public List<RuleResult> decodeRuleResults(String encoded) {
+        List<RuleResult> ruleResults = new ArrayList<>();
+        if (encoded == null || encoded.isEmpty()) {
+            return ruleResults;
+        }
+        for (String pair : encoded.split(String.valueOf(PAIR_SEPARATOR))) {
+            int separator = pair.lastIndexOf(FLAG_SEPARATOR);
+            Long ruleId = separator > 0 ? Long.valueOf(pair.substring(0, separator)) : null;
+            ruleResults.add(RuleResult.builder()
+                    .passed(pair.charAt(separator + 1) == '1')
+                    .rule(Rule.builder().id(ruleId).build())
+                    .build());
+        }
+        return ruleResults;
+    }
+}
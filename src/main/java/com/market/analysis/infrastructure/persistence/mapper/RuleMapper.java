@@ -1,5 +1,7 @@
 package com.market.analysis.infrastructure.persistence.mapper;
 
+import java.util.Objects;
+
 import org.springframework.stereotype.Component;
 
 import com.market.analysis.domain.model.Rule;
@@ -17,9 +19,11 @@ public class RuleMapper {
                 .name(entity.getName())
                 .subjectCode(entity.getSubjectCode())
                 .subjectParam(entity.getSubjectParam())
+                .subjectTimeframe(entity.getSubjectTimeframe())
                 .operator(entity.getOperator())
                 .targetCode(entity.getTargetCode())
                 .targetParam(entity.getTargetParam())
+                .targetTimeframe(entity.getTargetTimeframe())
                 .description(entity.getDescription())
                 .build();
     }
@@ -33,10 +37,44 @@ public class RuleMapper {
         entity.setName(domain.getName());
         entity.setSubjectCode(domain.getSubjectCode());
         entity.setSubjectParam(domain.getSubjectParam());
+        entity.setSubjectTimeframe(domain.getSubjectTimeframe());
         entity.setOperator(domain.getOperator());
         entity.setTargetCode(domain.getTargetCode());
         entity.setTargetParam(domain.getTargetParam());
+        entity.setTargetTimeframe(domain.getTargetTimeframe());
         entity.setDescription(domain.getDescription());
         return entity;
     }
+
+    /**
+     * Copies the fields of a rule onto a managed entity, leaving the ID and
+     * the owning strategy untouched.
+     *
+     * @param domain the rule
+     * @param entity the entity to update
+     * @return true if any field changed, i.e. the row will be updated
+     */
+    public boolean updateEntity(Rule domain, RuleEntity entity) {
+        boolean changed = !Objects.equals(entity.getName(), domain.getName())
+                || !Objects.equals(entity.getSubjectCode(), domain.getSubjectCode())
+                || !Objects.equals(entity.getSubjectParam(), domain.getSubjectParam())
+                || entity.getSubjectTimeframe() != domain.getSubjectTimeframe()
+                || !Objects.equals(entity.getOperator(), domain.getOperator())
+                || !Objects.equals(entity.getTargetCode(), domain.getTargetCode())
+                || !Objects.equals(entity.getTargetParam(), domain.getTargetParam())
+                || entity.getTargetTimeframe() != domain.getTargetTimeframe()
+                || !Objects.equals(entity.getDescription(), domain.getDescription());
+        if (changed) {
+            entity.setName(domain.getName());
+            entity.setSubjectCode(domain.getSubjectCode());
+            entity.setSubjectParam(domain.getSubjectParam());
+            entity.setSubjectTimeframe(domain.getSubjectTimeframe());
+            entity.setOperator(domain.getOperator());
+            entity.setTargetCode(domain.getTargetCode());
+            entity.setTargetParam(domain.getTargetParam());
+            entity.setTargetTimeframe(domain.getTargetTimeframe());
+            entity.setDescription(domain.getDescription());
+        }
+        return changed;
+    }
 }
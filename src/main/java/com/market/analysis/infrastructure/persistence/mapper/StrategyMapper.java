@@ -1,7 +1,15 @@
 package com.market.analysis.infrastructure.persistence.mapper;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
 import org.springframework.stereotype.Component;
 
+import com.market.analysis.domain.model.Rule;
+
 import com.market.analysis.domain.model.Strategy;
 import com.market.analysis.infrastructure.persistence.entity.RuleEntity;
 import com.market.analysis.infrastructure.persistence.entity.StrategyEntity;
@@ -24,6 +32,8 @@ public class StrategyMapper {
                 .rules(entity.getRules().stream()
                         .map(ruleMapper::toDomain)
                         .toList())
+                .expression(entity.getExpression())
+                .version(entity.getVersion())
                 .build();
     }
 
@@ -34,6 +44,8 @@ public class StrategyMapper {
         entity.setId(domain.getId());
         entity.setName(domain.getName());
         entity.setDescription(domain.getDescription());
+        entity.setExpression(domain.getExpression());
+        entity.setVersion(domain.getVersion());
         
         if (domain.getRules() != null) {
             domain.getRules().forEach(rule -> {
@@ -44,4 +56,56 @@ public class StrategyMapper {
         
         return entity;
     }
-}
\ No newline at end of file
+
+    /**
+     * Applies a strategy onto its managed entity, touching only what changed.
+     * Rules are matched by ID only: matching rows are updated in place when
+     * their fields differ, rules without a known ID get a new row and missing
+     * ones are removed. A row is never reused for a different rule, so a
+     * reorder only rewrites the persisted rule positions.
+     *
+     * @param domain the strategy
+     * @param entity the managed entity to update
+     * @return true if any column, rule row or rule position changed
+     */
+    public boolean updateEntity(Strategy domain, StrategyEntity entity) {
+        boolean changed = !Objects.equals(entity.getName(), domain.getName())
+                || !Objects.equals(entity.getDescription(), domain.getDescription())
+                || !Objects.equals(entity.getExpression(), domain.getExpression());
+        entity.setName(domain.getName());
+        entity.setDescription(domain.getDescription());
+        entity.setExpression(domain.getExpression());
+
+        List<RuleEntity> current = entity.getRules();
+        Map<Long, RuleEntity> byId = new HashMap<>();
+        for (RuleEntity rule : current) {
+            byId.put(rule.getId(), rule);
+        }
+        List<RuleEntity> ordered = new ArrayList<>(domain.getRules().size());
+        for (Rule rule : domain.getRules()) {
+            // Removed from the map once matched, so a repeated ID gets its own row
+            RuleEntity existing = rule.getId() == null ? null : byId.remove(rule.getId());
+            if (existing == null) {
+                RuleEntity created = newRule(rule);
+                created.setStrategy(entity);
+                ordered.add(created);
+            } else {
+                changed |= ruleMapper.updateEntity(rule, existing);
+                ordered.add(existing);
+            }
+        }
+        if (!ordered.equals(current)) {
+            // Rows left out are deleted as orphans, the others keep their IDs
+            current.clear();
+            current.addAll(ordered);
+            changed = true;
+        }
+        return changed;
+    }
+
+    private RuleEntity newRule(Rule rule) {
+        RuleEntity entity = ruleMapper.toEntity(rule);
+        entity.setId(null);
+        return entity;
+    }
+}
@@ -0,0 +1,39 @@
+package com.market.analysis.infrastructure.persistence.repository;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.market.analysis.domain.model.AnalysisResult;
+import com.market.analysis.infrastructure.persistence.entity.AnalysisResultEntity;
+import com.market.analysis.infrastructure.persistence.mapper.AnalysisResultMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes batches of analysis results in a single transaction.
+ * Combined with {@code hibernate.jdbc.batch_size} and
+ * {@code hibernate.order_inserts}, each batch is sent to the database as
+ * a few multi-row JDBC batches instead of one round trip per result.
+ */
+@Component
+@RequiredArgsConstructor
+public class AnalysisHistoryBatchWriter {
+
+    private final JpaAnalysisResultRepository jpaRepository;
+    private final AnalysisResultMapper mapper;
+
+    /**
+     * Persists a batch of analysis results.
+     *
+     * @param analysisResults the results to persist
+     */
+    @Transactional
+    public void writeBatch(List<AnalysisResult> analysisResults) {
+        List<AnalysisResultEntity> entities = analysisResults.stream()
+                .map(mapper::toEntity)
+                .toList();
+        jpaRepository.saveAll(entities);
+    }
+}
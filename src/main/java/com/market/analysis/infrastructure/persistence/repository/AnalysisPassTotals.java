@@ -0,0 +1,11 @@
+package com.market.analysis.infrastructure.persistence.repository;
+
+/**
+ * Projection holding aggregated evaluation and pass counts.
+ */
+public interface AnalysisPassTotals {
+
+    Long getEvaluated();
+
+    Long getPassed();
+}
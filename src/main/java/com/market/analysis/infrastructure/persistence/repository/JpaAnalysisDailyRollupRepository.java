@@ -0,0 +1,40 @@
+package com.market.analysis.infrastructure.persistence.repository;
+
+import java.time.LocalDate;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.market.analysis.infrastructure.persistence.entity.AnalysisDailyRollupEntity;
+
+/**
+ * Spring Data JPA repository for AnalysisDailyRollupEntity.
+ * Provides standard CRUD operations through JPA.
+ */
+@Repository
+public interface JpaAnalysisDailyRollupRepository extends JpaRepository<AnalysisDailyRollupEntity, Long> {
+
+    /**
+     * Sums the daily rollups of a strategy over a date range.
+     * 
+     * @param strategyId the strategy ID
+     * @param from first day (inclusive)
+     * @param to last day (inclusive)
+     * @return aggregated evaluation and pass counts
+     */
+    @Query("select coalesce(sum(r.evaluatedCount), 0) as evaluated, coalesce(sum(r.passedCount), 0) as passed "
+            + "from AnalysisDailyRollupEntity r "
+            + "where r.strategyId = :strategyId and r.rollupDate between :from and :to")
+    AnalysisPassTotals sumByStrategyIdAndRollupDateBetween(@Param("strategyId") Long strategyId,
+            @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Finds the most recent day that has been rolled up.
+     * 
+     * @return the latest rollup date, or null if no rollup exists
+     */
+    @Query("select max(r.rollupDate) from AnalysisDailyRollupEntity r")
+    LocalDate findLatestRollupDate();
+}
@@ -0,0 +1,35 @@
+package com.market.analysis.infrastructure.persistence.repository;
+
+import java.time.LocalDate;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.market.analysis.infrastructure.persistence.entity.AnalysisResultEntity;
+
+/**
+ * Spring Data JPA repository for AnalysisResultEntity.
+ * Provides standard CRUD operations through JPA.
+ */
+@Repository
+public interface JpaAnalysisResultRepository extends JpaRepository<AnalysisResultEntity, Long> {
+
+    /**
+     * Counts the raw results of a strategy over a date range.
+     * Bounded by the partitioning column, so only the matching partitions are
+     * scanned.
+     * 
+     * @param strategyId the strategy ID
+     * @param from first day (inclusive)
+     * @param to last day (inclusive)
+     * @return aggregated evaluation and pass counts
+     */
+    @Query("select count(a) as evaluated, "
+            + "coalesce(sum(case when a.overallPassed = true then 1 else 0 end), 0) as passed "
+            + "from AnalysisResultEntity a "
+            + "where a.strategyId = :strategyId and a.analysisDate between :from and :to")
+    AnalysisPassTotals sumByStrategyIdAndAnalysisDateBetween(@Param("strategyId") Long strategyId,
+            @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,32 @@
+package com.market.analysis.infrastructure.persistence.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.market.analysis.infrastructure.persistence.entity.CatalogRevisionEntity;
+
+public interface JpaCatalogRevisionRepository extends JpaRepository<CatalogRevisionEntity, Integer> {
+
+    /**
+     * Reads the revision without loading the entity.
+     *
+     * @return the revision, empty if the row is missing
+     */
+    @Query("select c.revision from CatalogRevisionEntity c where c.id = "
+            + CatalogRevisionEntity.ID)
+    Optional<Long> findRevision();
+
+    /**
+     * Increments the revision in the database. The row stays locked until
+     * the calling transaction ends, so concurrent catalogue writes queue here.
+     *
+     * @return the number of rows updated
+     */
+    @Modifying
+    @Query("update CatalogRevisionEntity c set c.revision = c.revision + 1 where c.id = "
+            + CatalogRevisionEntity.ID)
+    int increment();
+}
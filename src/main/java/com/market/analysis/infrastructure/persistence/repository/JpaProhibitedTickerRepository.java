@@ -1,5 +1,8 @@
 package com.market.analysis.infrastructure.persistence.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -14,4 +17,21 @@ public interface JpaProhibitedTickerRepository extends JpaRepository<ProhibitedT
 
     boolean existsByTicker(String ticker);
 
+    /**
+     * Finds the first page of prohibited tickers, in ticker order.
+     * 
+     * @param limit maximum number of tickers
+     * @return the entities of the page
+     */
+    List<ProhibitedTickerEntity> findAllByOrderByTickerAsc(Limit limit);
+
+    /**
+     * Finds a page of prohibited tickers, in ticker order.
+     * 
+     * @param ticker the ticker to start after
+     * @param limit  maximum number of tickers
+     * @return the entities of the page
+     */
+    List<ProhibitedTickerEntity> findByTickerGreaterThanOrderByTickerAsc(String ticker, Limit limit);
+
 }
@@ -1,5 +1,8 @@
 package com.market.analysis.infrastructure.persistence.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -27,4 +30,13 @@ public interface JpaRuleDefinitionRepository extends JpaRepository<RuleDefinitio
      * @return true if exists, false otherwise
      */
     boolean existsByCode(String code);
+
+    /**
+     * Finds a page of rule definitions, in ID order.
+     * 
+     * @param id the ID to start after
+     * @param limit maximum number of rule definitions
+     * @return the entities of the page
+     */
+    List<RuleDefinitionEntity> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
 }
@@ -1,8 +1,43 @@
 package com.market.analysis.infrastructure.persistence.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.market.analysis.infrastructure.persistence.entity.StrategyEntity;
 
 public interface JpaStrategyRepository extends JpaRepository<StrategyEntity, Long> {
+
+    /**
+     * Finds the IDs of a page of strategies, in ID order.
+     *
+     * @param afterId the ID to start after
+     * @param limit maximum number of IDs
+     * @return the IDs
+     */
+    @Query("select s.id from StrategyEntity s where s.id > :afterId order by s.id")
+    List<Long> findIdsAfter(@Param("afterId") long afterId, Limit limit);
+
+    /**
+     * Finds strategies together with their rules in a single query.
+     *
+     * @param ids the strategy IDs
+     * @return the strategies, in ID order
+     */
+    @EntityGraph(attributePaths = "rules")
+    List<StrategyEntity> findByIdInOrderByIdAsc(Collection<Long> ids);
+
+    /**
+     * Finds the first strategy with the given name, served by the name index.
+     *
+     * @param name the strategy name
+     * @return the strategy with the lowest ID, if any
+     */
+    Optional<StrategyEntity> findFirstByNameOrderByIdAsc(String name);
 }
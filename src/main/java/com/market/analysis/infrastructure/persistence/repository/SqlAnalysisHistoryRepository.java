@@ -0,0 +1,280 @@
+package com.market.analysis.infrastructure.persistence.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import com.market.analysis.domain.model.AnalysisResult;
+import com.market.analysis.domain.model.StrategyPassSummary;
+import com.market.analysis.domain.port.out.AnalysisHistoryRepository;
+import com.market.analysis.infrastructure.config.AnalysisHistoryProperties;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SQL implementation of the AnalysisHistoryRepository port with a
+ * write-behind queue.
+ *
+ * Callers only enqueue results into a bounded in-memory queue. A dedicated
+ * writer thread drains the queue and hands batches to
+ * {@link AnalysisHistoryBatchWriter}, so evaluation threads never wait on the
+ * database even when a scan produces millions of rows. When the writer falls
+ * behind and the queue is full, results are dropped and counted right away.
+ * A positive offer timeout opts into back-pressure instead: a save call then
+ * waits up to that long for room, slowing screening down to the write rate,
+ * and only drops what still has no room. Dropped, failed and written counts
+ * are exposed as metrics and health details.
+ *
+ * Pass summaries combine the daily rollups for every day already rolled up
+ * with raw rows for the remaining days, so long ranges never scan raw history.
+ */
+@Component
+@Slf4j
+public class SqlAnalysisHistoryRepository implements AnalysisHistoryRepository {
+
+    private final AnalysisHistoryBatchWriter batchWriter;
+    private final JpaAnalysisResultRepository jpaResultRepository;
+    private final JpaAnalysisDailyRollupRepository jpaRollupRepository;
+    private final BlockingQueue<AnalysisResult> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutNanos;
+
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public SqlAnalysisHistoryRepository(AnalysisHistoryBatchWriter batchWriter,
+            JpaAnalysisResultRepository jpaResultRepository,
+            JpaAnalysisDailyRollupRepository jpaRollupRepository,
+            AnalysisHistoryProperties properties) {
+        this.batchWriter = batchWriter;
+        this.jpaResultRepository = jpaResultRepository;
+        this.jpaRollupRepository = jpaRollupRepository;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.batchSize = properties.getBatchSize();
+        this.flushIntervalMs = properties.getFlushIntervalMs();
+        this.offerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(properties.getOfferTimeoutMs());
+    }
+
+    @Override
+    public boolean save(AnalysisResult analysisResult) {
+        if (analysisResult == null) {
+            throw new IllegalArgumentException("AnalysisResult cannot be null");
+        }
+        return offer(analysisResult, deadline());
+    }
+
+    @Override
+    public int saveAll(List<AnalysisResult> analysisResults) {
+        if (analysisResults == null) {
+            throw new IllegalArgumentException("AnalysisResults cannot be null");
+        }
+        long deadline = deadline();
+        int accepted = 0;
+        for (AnalysisResult analysisResult : analysisResults) {
+            if (analysisResult == null) {
+                throw new IllegalArgumentException("AnalysisResult cannot be null");
+            }
+            if (offer(analysisResult, deadline)) {
+                accepted++;
+            }
+        }
+        return accepted;
+    }
+
+    @Override
+    public StrategyPassSummary summarizePasses(Long strategyId, LocalDate from, LocalDate to) {
+        long evaluated = 0;
+        long passed = 0;
+        LocalDate rawFrom = from;
+
+        LocalDate latestRollup = jpaRollupRepository.findLatestRollupDate();
+        if (latestRollup != null && !latestRollup.isBefore(from)) {
+            LocalDate rollupTo = latestRollup.isBefore(to) ? latestRollup : to;
+            AnalysisPassTotals rolledUp = jpaRollupRepository.sumByStrategyIdAndRollupDateBetween(
+                    strategyId, from, rollupTo);
+            evaluated += rolledUp.getEvaluated();
+            passed += rolledUp.getPassed();
+            rawFrom = rollupTo.plusDays(1);
+        }
+        if (!rawFrom.isAfter(to)) {
+            AnalysisPassTotals raw = jpaResultRepository.sumByStrategyIdAndAnalysisDateBetween(
+                    strategyId, rawFrom, to);
+            evaluated += raw.getEvaluated();
+            passed += raw.getPassed();
+        }
+
+        return StrategyPassSummary.builder()
+                .strategyId(strategyId)
+                .from(from)
+                .to(to)
+                .evaluatedCount(evaluated)
+                .passedCount(passed)
+                .build();
+    }
+
+    /**
+     * Starts the background writer thread.
+     */
+    @PostConstruct
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runWriter, "analysis-history-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Stops the background writer and flushes every pending result.
+     */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (writerThread != null) {
+            try {
+                writerThread.join(flushIntervalMs + TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    /**
+     * Synchronously writes every result currently queued, in batches.
+     *
+     * @return number of results written
+     */
+    public int flush() {
+        int written = 0;
+        List<AnalysisResult> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            written += write(batch);
+            batch.clear();
+        }
+        return written;
+    }
+
+    /**
+     * Gets the number of results waiting to be written.
+     *
+     * @return pending result count
+     */
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    /**
+     * Gets the number of results successfully written since startup.
+     *
+     * @return written result count
+     */
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    /**
+     * Gets the number of results dropped because the queue was full.
+     *
+     * @return dropped result count
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Gets the number of results lost because their batch failed to persist.
+     *
+     * @return failed result count
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * Gets the capacity of the write-behind queue.
+     *
+     * @return maximum pending result count
+     */
+    public int getQueueCapacity() {
+        return queue.size() + queue.remainingCapacity();
+    }
+
+    /**
+     * Checks whether the background writer is draining the queue.
+     *
+     * @return true while the writer thread is alive
+     */
+    public boolean isWriterRunning() {
+        return writerThread != null && writerThread.isAlive();
+    }
+
+    // Zero when back-pressure is off, so offer never reads the clock again
+    private long deadline() {
+        return offerTimeoutNanos > 0 ? System.nanoTime() + offerTimeoutNanos : 0;
+    }
+
+    // Waits for room until the deadline; a full queue is only waited on while the writer drains it
+    private boolean offer(AnalysisResult analysisResult, long deadline) {
+        if (queue.offer(analysisResult)) {
+            return true;
+        }
+        long remaining = offerTimeoutNanos > 0 ? deadline - System.nanoTime() : 0;
+        if (remaining > 0 && running) {
+            try {
+                if (queue.offer(analysisResult, remaining, TimeUnit.NANOSECONDS)) {
+                    return true;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (droppedCount.getAndIncrement() % batchSize == 0) {
+            log.warn("Analysis history queue is full. Dropped {} results so far", droppedCount.get());
+        }
+        return false;
+    }
+
+    private void runWriter() {
+        List<AnalysisResult> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                AnalysisResult first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private int write(List<AnalysisResult> batch) {
+        try {
+            batchWriter.writeBatch(batch);
+            writtenCount.addAndGet(batch.size());
+            return batch.size();
+        } catch (Exception e) {
+            failedCount.addAndGet(batch.size());
+            log.error("Failed to write batch of {} analysis results", batch.size(), e);
+            return 0;
+        }
+    }
+}
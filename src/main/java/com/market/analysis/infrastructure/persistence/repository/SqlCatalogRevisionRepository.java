@@ -0,0 +1,63 @@
+package com.market.analysis.infrastructure.persistence.repository;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.market.analysis.domain.port.out.CatalogRevisionRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * SQL implementation of the CatalogRevisionRepository port, backed by the
+ * single row of the catalog_revision table.
+ *
+ * The revision known to this instance is kept in memory, so reading it
+ * costs no query. Writes raise it once their transaction commits; writes of
+ * other instances are picked up by {@link #refresh()}.
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlCatalogRevisionRepository implements CatalogRevisionRepository {
+
+    private static final long UNKNOWN = -1;
+
+    private final JpaCatalogRevisionRepository jpaRepository;
+    private final AtomicLong revision = new AtomicLong(UNKNOWN);
+
+    @Override
+    public long current() {
+        long known = revision.get();
+        return known != UNKNOWN ? known : refresh();
+    }
+
+    @Override
+    public long refresh() {
+        return revision.accumulateAndGet(read(), Math::max);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void advance() {
+        if (jpaRepository.increment() != 1) {
+            throw new IllegalStateException("The catalog_revision row is missing");
+        }
+        // The row stays locked until commit, so this reads our own increment
+        long advanced = read();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                revision.accumulateAndGet(advanced, Math::max);
+            }
+        });
+    }
+
+    private long read() {
+        return jpaRepository.findRevision()
+                .orElseThrow(() -> new IllegalStateException("The catalog_revision row is missing"));
+    }
+}
@@ -2,21 +2,30 @@ package com.market.analysis.infrastructure.persistence.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.market.analysis.domain.model.ProhibitedTicker;
+import com.market.analysis.domain.port.out.CatalogRevisionRepository;
 import com.market.analysis.domain.port.out.ProhibitedTickerRepository;
 import com.market.analysis.infrastructure.persistence.entity.ProhibitedTickerEntity;
 import com.market.analysis.infrastructure.persistence.mapper.ProhibitedTickerMapper;
 
 import lombok.RequiredArgsConstructor;
 
+/**
+ * SQL implementation of the ProhibitedTickerRepository port.
+ * Writes advance the catalogue revision in the same transaction, which tags
+ * the JSON listing of prohibited tickers.
+ */
 @Component
 @RequiredArgsConstructor
 public class SqlProhibitedTickerRepository implements ProhibitedTickerRepository {
 
     private final JpaProhibitedTickerRepository jpaProhibitedTickerRepository;
     private final ProhibitedTickerMapper prohibitedTickerMapper;
+    private final CatalogRevisionRepository catalogRevisionRepository;
 
     @Override
     public List<ProhibitedTicker> findAll() {
@@ -31,14 +40,29 @@ public class SqlProhibitedTickerRepository implements ProhibitedTickerRepository
     }
 
     @Override
+    public List<ProhibitedTicker> findPage(String afterTicker, int limit) {
+        List<ProhibitedTickerEntity> entities = afterTicker == null
+                ? jpaProhibitedTickerRepository.findAllByOrderByTickerAsc(Limit.of(limit))
+                : jpaProhibitedTickerRepository.findByTickerGreaterThanOrderByTickerAsc(afterTicker, Limit.of(limit));
+        return entities.stream()
+                .map(prohibitedTickerMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional
     public ProhibitedTicker save(ProhibitedTicker ticker) {
         ProhibitedTickerEntity entity = prohibitedTickerMapper.toEntity(ticker);
-        return prohibitedTickerMapper.toDomain(jpaProhibitedTickerRepository.save(entity));
+        ProhibitedTicker saved = prohibitedTickerMapper.toDomain(jpaProhibitedTickerRepository.save(entity));
+        catalogRevisionRepository.advance();
+        return saved;
     }
 
     @Override
+    @Transactional
     public void deleteById(Long id) {
         jpaProhibitedTickerRepository.deleteById(id);
+        catalogRevisionRepository.advance();
     }
 
 }
@@ -4,9 +4,12 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.market.analysis.domain.model.RuleDefinition;
+import com.market.analysis.domain.port.out.CatalogRevisionRepository;
 import com.market.analysis.domain.port.out.RuleDefinitionRepository;
 import com.market.analysis.infrastructure.persistence.entity.RuleDefinitionEntity;
 import com.market.analysis.infrastructure.persistence.mapper.RuleDefinitionMapper;
@@ -16,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 /**
  * SQL implementation of the RuleDefinitionRepository port.
  * Adapts between the domain RuleDefinition and the persistence layer.
+ * Writes advance the catalogue revision in the same transaction.
  */
 @Component
 @RequiredArgsConstructor
@@ -23,11 +27,14 @@ public class SqlRuleDefinitionRepository implements RuleDefinitionRepository {
 
     private final JpaRuleDefinitionRepository jpaRepository;
     private final RuleDefinitionMapper mapper;
+    private final CatalogRevisionRepository catalogRevisionRepository;
 
     @Override
+    @Transactional
     public RuleDefinition save(RuleDefinition ruleDefinition) {
         RuleDefinitionEntity entity = mapper.toEntity(ruleDefinition);
         RuleDefinitionEntity savedEntity = jpaRepository.save(entity);
+        catalogRevisionRepository.advance();
         return mapper.toDomain(savedEntity);
     }
 
@@ -51,8 +58,18 @@ public class SqlRuleDefinitionRepository implements RuleDefinitionRepository {
     }
 
     @Override
+    public List<RuleDefinition> findPage(Long afterId, int limit) {
+        return jpaRepository.findByIdGreaterThanOrderByIdAsc(afterId == null ? 0L : afterId, Limit.of(limit))
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
+        catalogRevisionRepository.advance();
     }
 
     @Override
@@ -1,12 +1,19 @@
 package com.market.analysis.infrastructure.persistence.repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.market.analysis.domain.exception.StrategyNotFoundException;
+import com.market.analysis.domain.exception.StrategyVersionConflictException;
 import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.domain.port.out.CatalogRevisionRepository;
 import com.market.analysis.domain.port.out.StrategyRepository;
 import com.market.analysis.infrastructure.persistence.entity.StrategyEntity;
 import com.market.analysis.infrastructure.persistence.mapper.StrategyMapper;
@@ -19,12 +26,56 @@ public class SqlStrategyRepository implements StrategyRepository { // Tu interfa
 
     private final JpaStrategyRepository jpaRepository;
     private final StrategyMapper mapper;
+    private final CatalogRevisionRepository catalogRevisionRepository;
 
     @Override
     @Transactional
     public Strategy save(Strategy strategy) {
-        StrategyEntity entity = mapper.toEntity(strategy);
-        return mapper.toDomain(jpaRepository.save(entity));
+        if (strategy.getId() == null) {
+            StrategyEntity entity = mapper.toEntity(strategy);
+            entity.setUpdatedAt(LocalDateTime.now());
+            Strategy saved = mapper.toDomain(jpaRepository.save(entity));
+            catalogRevisionRepository.advance();
+            return saved;
+        }
+
+        // Merge into the managed entity so only changed rule rows are written
+        StrategyEntity entity = jpaRepository.findById(strategy.getId())
+                .orElseThrow(() -> new StrategyNotFoundException("Strategy not found with id: " + strategy.getId()));
+        if (strategy.getVersion() != null && !strategy.getVersion().equals(entity.getVersion())) {
+            throw conflict(strategy, null);
+        }
+        if (mapper.updateEntity(strategy, entity)) {
+            // Rule rows alone do not dirty the strategy row, which carries the version
+            entity.setUpdatedAt(LocalDateTime.now());
+        }
+        try {
+            Strategy saved = mapper.toDomain(jpaRepository.saveAndFlush(entity));
+            catalogRevisionRepository.advance();
+            return saved;
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw conflict(strategy, e);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(List<Strategy> strategies) {
+        // Sent as JDBC batches of hibernate.jdbc.batch_size once IDs no longer come from IDENTITY columns
+        LocalDateTime now = LocalDateTime.now();
+        List<StrategyEntity> entities = new ArrayList<>(strategies.size());
+        for (Strategy strategy : strategies) {
+            StrategyEntity entity = mapper.toEntity(strategy);
+            entity.setUpdatedAt(now);
+            entities.add(entity);
+        }
+        jpaRepository.saveAll(entities);
+        catalogRevisionRepository.advance();
+    }
+
+    private static StrategyVersionConflictException conflict(Strategy strategy, Throwable cause) {
+        return new StrategyVersionConflictException(
+                "Strategy " + strategy.getId() + " was modified concurrently", cause);
     }
 
     @Override
@@ -37,10 +88,8 @@ public class SqlStrategyRepository implements StrategyRepository { // Tu interfa
     @Override
     @Transactional(readOnly = true)
     public Optional<Strategy> findByName(String name) {
-        return jpaRepository.findAll().stream()
-                .map(mapper::toDomain)
-                .filter(strategy -> strategy.getName().equals(name))
-                .findFirst();
+        return jpaRepository.findFirstByNameOrderByIdAsc(name)
+                .map(mapper::toDomain);
     }
 
     @Override
@@ -51,10 +100,25 @@ public class SqlStrategyRepository implements StrategyRepository { // Tu interfa
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Strategy> findPage(Long afterId, int limit) {
+        // Page the IDs first: fetching the rules collection in the same query
+        // would make Hibernate apply the limit in memory
+        List<Long> ids = jpaRepository.findIdsAfter(afterId == null ? 0L : afterId, Limit.of(limit));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByIdInOrderByIdAsc(ids).stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     @Override
     @Transactional
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
+        catalogRevisionRepository.advance();
     }
 
     @Override
@@ -0,0 +1,144 @@
+package com.market.analysis.presentation.controller;
+
+import java.util.Arrays;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.WebRequest;
+
+import com.market.analysis.domain.service.CatalogRevision;
+
+/**
+ * Builds the entity tags of the JSON API. A tag combines the catalogue
+ * revision with the request variant (resource, cursor, limit, projection), so
+ * different representations never share a tag. Tags of versioned resources
+ * are prefixed with the version ("v3-..."), which conditional updates read
+ * back from If-Match.
+ *
+ * The revision is served from memory, so a revalidation answered with 304
+ * never reaches the database. Only when If-None-Match does not match, and
+ * the data is about to be loaded anyway, is the revision re-read from the
+ * database, so a write of another instance is not tagged with an older
+ * revision.
+ */
+final class ApiETags {
+
+    private ApiETags() {
+    }
+
+    /**
+     * Builds the strong entity tag of a request, re-reading the revision
+     * only if the tag does not match If-None-Match.
+     *
+     * @param catalogRevision the catalogue revision
+     * @param request         the request, for its If-None-Match header
+     * @param variant         values identifying the representation
+     * @return the quoted tag
+     */
+    static String of(CatalogRevision catalogRevision, WebRequest request, Object... variant) {
+        String etag = "\"" + suffix(catalogRevision.current(), variant);
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return etag;
+        }
+        return "\"" + suffix(catalogRevision.refresh(), variant);
+    }
+
+    /**
+     * Gets the revision to tag a versioned resource with, re-reading it only
+     * if no versioned tag of If-None-Match is current at the known revision.
+     *
+     * @param catalogRevision the catalogue revision
+     * @param request         the request, for its If-None-Match header
+     * @param variant         values identifying the representation
+     * @return the revision
+     */
+    static String revisionOf(CatalogRevision catalogRevision, WebRequest request, Object... variant) {
+        String revision = catalogRevision.current();
+        if (findCurrent(request.getHeader(HttpHeaders.IF_NONE_MATCH), revision, variant) != null) {
+            return revision;
+        }
+        return catalogRevision.refresh();
+    }
+
+    /**
+     * Builds a strong entity tag for a versioned resource.
+     *
+     * @param version  the resource version
+     * @param revision the catalogue revision the representation was read at
+     * @param variant  values identifying the representation
+     * @return the quoted tag
+     */
+    static String ofVersion(Long version, String revision, Object... variant) {
+        return "\"v" + version + "-" + suffix(revision, variant);
+    }
+
+    /**
+     * Finds, among the tags of an If-None-Match header, a versioned tag built
+     * at the given revision for the given variant. Such a tag is still current
+     * without loading the resource, since any write advances the revision.
+     *
+     * @param ifNoneMatch the header value, may be null
+     * @param revision    the current catalogue revision
+     * @param variant     values identifying the representation
+     * @return the matching tag, or null if none is current
+     */
+    static String findCurrent(String ifNoneMatch, String revision, Object... variant) {
+        if (ifNoneMatch == null) {
+            return null;
+        }
+        String suffix = "-" + suffix(revision, variant);
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.startsWith("\"v") && candidate.endsWith(suffix)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the version out of an If-Match header.
+     *
+     * @param ifMatch the header value
+     * @return the version, or null for "*" (any version)
+     * @throws IllegalArgumentException if the header is not a single strong versioned tag
+     */
+    static Long parseVersion(String ifMatch) {
+        String tag = ifMatch.trim();
+        if ("*".equals(tag)) {
+            return null;
+        }
+        int end = tag.indexOf('-');
+        if (tag.startsWith("\"v") && tag.endsWith("\"") && end > 2) {
+            try {
+                return Long.valueOf(tag.substring(2, end));
+            } catch (NumberFormatException e) {
+                // Reported below
+            }
+        }
+        throw new IllegalArgumentException("If-Match must be a single entity tag returned by this API");
+    }
+
+    // Weak comparison, as for If-None-Match
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(etag) || candidate.equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String suffix(String revision, Object... variant) {
+        return revision + "-" + Integer.toHexString(Arrays.deepHashCode(variant)) + "\"";
+    }
+}
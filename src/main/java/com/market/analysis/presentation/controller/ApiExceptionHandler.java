@@ -0,0 +1,46 @@
+package com.market.analysis.presentation.controller;
+
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+import com.market.analysis.domain.exception.RuleDefinitionNotFoundException;
+import com.market.analysis.domain.exception.StrategyNotFoundException;
+import com.market.analysis.domain.exception.StrategyVersionConflictException;
+
+/**
+ * Translates exceptions of the JSON API controllers into JSON error responses.
+ */
+@RestControllerAdvice(assignableTypes = { StrategyApiController.class, StrategyTransferController.class,
+        RuleDefinitionApiController.class })
+public class ApiExceptionHandler {
+
+    @ExceptionHandler({ StrategyNotFoundException.class, RuleDefinitionNotFoundException.class })
+    public ResponseEntity<Map<String, String>> handleNotFound(RuntimeException exception) {
+        return error(HttpStatus.NOT_FOUND, exception.getMessage());
+    }
+
+    @ExceptionHandler(StrategyVersionConflictException.class)
+    public ResponseEntity<Map<String, String>> handleVersionConflict(StrategyVersionConflictException exception) {
+        return error(HttpStatus.PRECONDITION_FAILED, exception.getMessage());
+    }
+
+    // Domain validation reports invalid request bodies as illegal state
+    @ExceptionHandler({ IllegalArgumentException.class, IllegalStateException.class })
+    public ResponseEntity<Map<String, String>> handleBadRequest(RuntimeException exception) {
+        return error(HttpStatus.BAD_REQUEST, exception.getMessage());
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<Map<String, String>> handleTypeMismatch(MethodArgumentTypeMismatchException exception) {
+        return error(HttpStatus.BAD_REQUEST, "Invalid value for parameter '" + exception.getName() + "'");
+    }
+
+    private static ResponseEntity<Map<String, String>> error(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(Map.of("error", message));
+    }
+}
@@ -32,13 +32,14 @@ public class HealthCheckController {
 
     /**
      * Retrieves the current health status of the application.
-     * Performs active verification of critical dependencies including database
-     * connectivity.
+     * Served from the last background probe of the dependencies, so polling
+     * this endpoint does not load the database.
      *
      * @return ResponseEntity containing HealthCheckResponse with appropriate HTTP
      *         status
-     *         - 200 OK if the application is healthy
-     *         - 503 SERVICE_UNAVAILABLE if the application is unhealthy
+     *         - 200 OK if the application is healthy or degraded
+     *         - 503 SERVICE_UNAVAILABLE if the application is unhealthy or
+     *         its probes are stale
      */
     @GetMapping
     public ResponseEntity<HealthCheckResponse> getHealth() {
@@ -47,7 +48,7 @@ public class HealthCheckController {
         HealthStatus healthStatus = healthCheckService.performHealthCheck();
         HealthCheckResponse response = healthCheckMapper.toResponse(healthStatus);
 
-        HttpStatus httpStatus = "UP".equals(response.getStatus()) ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        HttpStatus httpStatus = response.getHttpStatusCode() == 503 ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.OK;
 
         log.debug("Returning health check response with status: {}", httpStatus);
         return ResponseEntity.status(httpStatus).body(response);
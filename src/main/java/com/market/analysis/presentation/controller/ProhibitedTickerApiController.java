@@ -0,0 +1,67 @@
+package com.market.analysis.presentation.controller;
+
+import java.util.Set;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.market.analysis.domain.model.KeysetPage;
+import com.market.analysis.domain.model.ProhibitedTicker;
+import com.market.analysis.domain.port.in.ManageProhibitedTickerUseCase;
+import com.market.analysis.domain.service.CatalogRevision;
+import com.market.analysis.presentation.dto.PageResponse;
+import com.market.analysis.presentation.mapper.FieldProjection;
+import com.market.analysis.presentation.mapper.ProhibitedTickerDTOMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST Controller exposing prohibited tickers as JSON.
+ *
+ * Endpoints:
+ * - GET /api/v1/prohibited-tickers?after={ticker}&limit={n}: a page of
+ * prohibited tickers ordered by ticker
+ *
+ * Prohibited tickers have no ID in the domain model, so pages are keyed on
+ * the ticker itself, which is unique. Conditional requests are answered like
+ * in {@link StrategyApiController}.
+ */
+@RestController
+@RequestMapping("/api/v1/prohibited-tickers")
+@RequiredArgsConstructor
+public class ProhibitedTickerApiController {
+
+    /** The fields the domain model carries; the rest of the DTO is never set. */
+    static final Set<String> FIELDS = Set.of("ticker");
+
+    private final ManageProhibitedTickerUseCase manageProhibitedTickerUseCase;
+    private final ProhibitedTickerDTOMapper mapper;
+    private final FieldProjection fieldProjection;
+    private final CatalogRevision catalogRevision;
+
+    @GetMapping
+    public ResponseEntity<PageResponse> listProhibitedTickers(
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "limit", defaultValue = "50") int limit,
+            WebRequest request) {
+        KeysetPage.validateLimit(limit);
+        if (request.checkNotModified(ApiETags.of(catalogRevision, request, "prohibited-tickers", after, limit))) {
+            return null;
+        }
+
+        KeysetPage<ProhibitedTicker, String> page = manageProhibitedTickerUseCase.getProhibitedTickersPage(after,
+                limit);
+        PageResponse body = PageResponse.builder()
+                .items(page.items().stream()
+                        .map(ticker -> fieldProjection.project(mapper.toDTO(ticker), FIELDS))
+                        .toList())
+                .nextCursor(page.nextCursor())
+                .build();
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(body);
+    }
+}
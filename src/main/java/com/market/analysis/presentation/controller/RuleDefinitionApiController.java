@@ -0,0 +1,83 @@
+package com.market.analysis.presentation.controller;
+
+import java.util.Set;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.market.analysis.domain.model.KeysetPage;
+import com.market.analysis.domain.model.RuleDefinition;
+import com.market.analysis.domain.port.in.ManageRuleDefinitionUseCase;
+import com.market.analysis.domain.service.CatalogRevision;
+import com.market.analysis.presentation.dto.PageResponse;
+import com.market.analysis.presentation.mapper.FieldProjection;
+import com.market.analysis.presentation.mapper.RuleDefinitionDTOMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST Controller exposing rule definitions as JSON.
+ *
+ * Endpoints:
+ * - GET /api/v1/rule-definitions?after={id}&limit={n}&fields={a,b}: a page of
+ * rule definitions ordered by ID
+ * - GET /api/v1/rule-definitions/{id}?fields={a,b}: a single rule definition
+ *
+ * Conditional requests are answered like in {@link StrategyApiController}.
+ */
+@RestController
+@RequestMapping("/api/v1/rule-definitions")
+@RequiredArgsConstructor
+public class RuleDefinitionApiController {
+
+    static final Set<String> FIELDS = Set.of("id", "code", "name", "requiresParam", "description");
+
+    private final ManageRuleDefinitionUseCase manageRuleDefinitionUseCase;
+    private final RuleDefinitionDTOMapper mapper;
+    private final FieldProjection fieldProjection;
+    private final CatalogRevision catalogRevision;
+
+    @GetMapping
+    public ResponseEntity<PageResponse> listRuleDefinitions(
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "limit", defaultValue = "50") int limit,
+            @RequestParam(name = "fields", required = false) String fields,
+            WebRequest request) {
+        KeysetPage.validate(after, limit);
+        Set<String> projection = FieldProjection.parse(fields, FIELDS);
+        if (request.checkNotModified(ApiETags.of(catalogRevision, request, "rule-definitions", after, limit, projection))) {
+            return null;
+        }
+
+        KeysetPage<RuleDefinition, Long> page = manageRuleDefinitionUseCase.getRuleDefinitionsPage(after, limit);
+        PageResponse body = PageResponse.builder()
+                .items(page.items().stream()
+                        .map(ruleDefinition -> fieldProjection.project(mapper.toDTO(ruleDefinition), projection))
+                        .toList())
+                .nextCursor(page.nextCursor())
+                .build();
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(body);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<Object> getRuleDefinition(
+            @PathVariable("id") Long id,
+            @RequestParam(name = "fields", required = false) String fields,
+            WebRequest request) {
+        Set<String> projection = FieldProjection.parse(fields, FIELDS);
+        if (request.checkNotModified(ApiETags.of(catalogRevision, request, "rule-definition", id, projection))) {
+            return null;
+        }
+
+        RuleDefinition ruleDefinition = manageRuleDefinitionUseCase.getRuleDefinitionById(id);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(fieldProjection.project(mapper.toDTO(ruleDefinition), projection));
+    }
+}
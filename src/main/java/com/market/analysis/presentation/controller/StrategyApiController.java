@@ -0,0 +1,122 @@
+package com.market.analysis.presentation.controller;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.market.analysis.domain.model.KeysetPage;
+import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.domain.port.in.ManageStrategyUseCase;
+import com.market.analysis.domain.service.CatalogRevision;
+import com.market.analysis.presentation.dto.PageResponse;
+import com.market.analysis.presentation.dto.StrategyDTO;
+import com.market.analysis.presentation.mapper.FieldProjection;
+import com.market.analysis.presentation.mapper.StrategyDTOMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * REST Controller exposing strategies as JSON.
+ *
+ * Endpoints:
+ * - GET /api/v1/strategies?after={id}&limit={n}&fields={a,b}: a page of
+ * strategies ordered by ID
+ * - GET /api/v1/strategies/{id}?fields={a,b}: a single strategy
+ * - PUT /api/v1/strategies/{id}: updates a strategy, If-Match required
+ *
+ * Responses carry a strong ETag derived from the catalogue revision stored
+ * in the database. A request whose If-None-Match still matches gets 304 Not
+ * Modified from the revision held in memory, without reading the database.
+ * Single strategies are tagged with their version as well, so an update sent
+ * with their tag as If-Match fails with 412 Precondition Failed if the
+ * strategy changed in between.
+ */
+@RestController
+@RequestMapping("/api/v1/strategies")
+@RequiredArgsConstructor
+public class StrategyApiController {
+
+    static final Set<String> FIELDS = Set.of("id", "name", "description", "rules", "expression", "version");
+
+    private final ManageStrategyUseCase manageStrategyUseCase;
+    private final StrategyDTOMapper mapper;
+    private final FieldProjection fieldProjection;
+    private final CatalogRevision catalogRevision;
+
+    @GetMapping
+    public ResponseEntity<PageResponse> listStrategies(
+            @RequestParam(name = "after", required = false) Long after,
+            @RequestParam(name = "limit", defaultValue = "50") int limit,
+            @RequestParam(name = "fields", required = false) String fields,
+            WebRequest request) {
+        KeysetPage.validate(after, limit);
+        Set<String> projection = FieldProjection.parse(fields, FIELDS);
+        if (request.checkNotModified(ApiETags.of(catalogRevision, request, "strategies", after, limit, projection))) {
+            return null;
+        }
+
+        KeysetPage<Strategy, Long> page = manageStrategyUseCase.getStrategiesPage(after, limit);
+        PageResponse body = PageResponse.builder()
+                .items(page.items().stream()
+                        .map(strategy -> fieldProjection.project(mapper.toDTO(strategy), projection))
+                        .toList())
+                .nextCursor(page.nextCursor())
+                .build();
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(body);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<Object> getStrategy(
+            @PathVariable("id") Long id,
+            @RequestParam(name = "fields", required = false) String fields,
+            WebRequest request) {
+        Set<String> projection = FieldProjection.parse(fields, FIELDS);
+        String revision = ApiETags.revisionOf(catalogRevision, request, "strategy", id, projection);
+        String current = ApiETags.findCurrent(request.getHeader(HttpHeaders.IF_NONE_MATCH), revision,
+                "strategy", id, projection);
+        if (current != null && request.checkNotModified(current)) {
+            return null;
+        }
+
+        Strategy strategy = manageStrategyUseCase.getStrategyById(id);
+        if (request.checkNotModified(ApiETags.ofVersion(strategy.getVersion(), revision, "strategy", id, projection))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(fieldProjection.project(mapper.toDTO(strategy), projection));
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<Object> updateStrategy(
+            @PathVariable("id") Long id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody StrategyDTO strategyDTO) {
+        if (ifMatch == null) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED)
+                    .body(Map.of("error", "If-Match header is required"));
+        }
+        strategyDTO.setId(id);
+        strategyDTO.setVersion(ApiETags.parseVersion(ifMatch));
+
+        Strategy updated = manageStrategyUseCase.updateStrategy(mapper.toDomain(strategyDTO));
+        String etag = ApiETags.ofVersion(updated.getVersion(), catalogRevision.current(), "strategy", id, Set.of());
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(mapper.toDTO(updated));
+    }
+}
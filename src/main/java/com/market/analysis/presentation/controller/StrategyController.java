@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.domain.model.Timeframe;
 import com.market.analysis.domain.port.in.ManageRuleDefinitionUseCase;
 import com.market.analysis.domain.port.in.ManageStrategyUseCase;
 import com.market.analysis.presentation.dto.RuleDTO;
@@ -29,6 +30,7 @@ public class StrategyController {
 
     private static final String ATTR_RULE_DEFINITIONS = "ruleDefinitions";
     private static final String ATTR_STRATEGY = "strategy";
+    private static final String ATTR_TIMEFRAMES = "timeframes";
 
     private final ManageStrategyUseCase manageStrategyUseCase;
     private final ManageRuleDefinitionUseCase manageRuleDefinitionUseCase;
@@ -59,6 +61,7 @@ public class StrategyController {
                 .toList();
 
         model.addAttribute(ATTR_RULE_DEFINITIONS, ruleDefinitions);
+        model.addAttribute(ATTR_TIMEFRAMES, Timeframe.values());
         model.addAttribute(ATTR_STRATEGY, strategy);
 
         return "strategies/create";
@@ -75,6 +78,7 @@ public class StrategyController {
                 .toList();
 
         model.addAttribute(ATTR_RULE_DEFINITIONS, ruleDefinitions);
+        model.addAttribute(ATTR_TIMEFRAMES, Timeframe.values());
         model.addAttribute(ATTR_STRATEGY, strategyDTO);
 
         return "strategies/create";
@@ -83,7 +87,11 @@ public class StrategyController {
     @PostMapping
     public String saveStrategy(@ModelAttribute StrategyDTO strategyDTO) {
         Strategy strategy = strategyDTOMapper.toDomain(strategyDTO);
-        manageStrategyUseCase.createStrategy(strategy);
+        if (strategy.getId() == null) {
+            manageStrategyUseCase.createStrategy(strategy);
+        } else {
+            manageStrategyUseCase.updateStrategy(strategy);
+        }
         return "redirect:/strategies";
     }
 
@@ -0,0 +1,103 @@
+package com.market.analysis.presentation.controller;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.domain.port.in.TransferStrategiesUseCase;
+import com.market.analysis.presentation.dto.StrategyDTO;
+import com.market.analysis.presentation.mapper.StrategyDTOMapper;
+
+/**
+ * REST Controller moving strategy sets between environments as JSON lines
+ * (application/x-ndjson), one strategy with its rules per line.
+ *
+ * Endpoints:
+ * - GET /api/v1/strategies/export: streams every strategy
+ * - POST /api/v1/strategies/import: creates every strategy of the body, all
+ * or nothing
+ *
+ * An export can be imported as is: IDs and versions it carries are ignored.
+ */
+@RestController
+@RequestMapping("/api/v1/strategies")
+public class StrategyTransferController {
+
+    private final TransferStrategiesUseCase transferStrategiesUseCase;
+    private final StrategyDTOMapper mapper;
+    private final ObjectReader strategyReader;
+    private final ObjectWriter strategyWriter;
+
+    public StrategyTransferController(TransferStrategiesUseCase transferStrategiesUseCase,
+            StrategyDTOMapper mapper, ObjectMapper objectMapper) {
+        this.transferStrategiesUseCase = transferStrategiesUseCase;
+        this.mapper = mapper;
+        this.strategyReader = objectMapper.readerFor(StrategyDTO.class);
+        this.strategyWriter = objectMapper.writerFor(StrategyDTO.class);
+    }
+
+    @GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportStrategies() {
+        StreamingResponseBody body = out -> transferStrategiesUseCase.exportStrategies(strategy -> {
+            try {
+                out.write(strategyWriter.writeValueAsBytes(mapper.toDTO(strategy)));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("strategies.ndjson").build().toString())
+                .body(body);
+    }
+
+    @PostMapping(path = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<Map<String, Integer>> importStrategies(InputStream body) throws IOException {
+        // Parsed line by line, so a malformed line is reported before the rest is read
+        List<Strategy> strategies = new ArrayList<>();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            if (strategies.size() == TransferStrategiesUseCase.MAX_IMPORT_SIZE) {
+                throw new IllegalArgumentException("An import cannot contain more than "
+                        + TransferStrategiesUseCase.MAX_IMPORT_SIZE + " strategies");
+            }
+            try {
+                strategies.add(mapper.toDomain(strategyReader.readValue(line)));
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Line " + lineNumber + " is not a valid strategy", e);
+            }
+        }
+
+        int imported = transferStrategiesUseCase.importStrategies(strategies);
+        return ResponseEntity.ok(Map.of("imported", imported));
+    }
+}
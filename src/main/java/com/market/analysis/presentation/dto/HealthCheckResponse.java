@@ -35,7 +35,7 @@ public class HealthCheckResponse {
 
     /**
      * HTTP status code for the health check response.
-     * 200 for UP, 503 for DOWN.
+     * 200 for UP and DEGRADED, 503 for DOWN.
      */
     @JsonProperty("http_status_code")
     private int httpStatusCode;
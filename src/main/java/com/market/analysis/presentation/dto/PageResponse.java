@@ -0,0 +1,24 @@
+package com.market.analysis.presentation.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for one page of a JSON listing.
+ * Clients request the next page by passing nextCursor as the "after"
+ * parameter; it is null on the last page. The cursor is the key the listing
+ * is ordered by: a number for IDs, a string for tickers.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageResponse {
+
+    private List<Object> items;
+    private Object nextCursor;
+}
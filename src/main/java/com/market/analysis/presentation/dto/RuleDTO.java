@@ -1,5 +1,7 @@
 package com.market.analysis.presentation.dto;
 
+import com.market.analysis.domain.model.Timeframe;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -19,8 +21,10 @@ public class RuleDTO {
     private String name;
     private String subjectCode;
     private Double subjectParam;
+    private Timeframe subjectTimeframe;
     private String operator;
     private String targetCode;
     private Double targetParam;
+    private Timeframe targetTimeframe;
     private String description;
 }
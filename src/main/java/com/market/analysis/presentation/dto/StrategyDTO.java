@@ -21,4 +21,6 @@ public class StrategyDTO {
     private String name;
     private String description;
     private List<RuleDTO> rules;
+    private String expression;
+    private Long version;
 }
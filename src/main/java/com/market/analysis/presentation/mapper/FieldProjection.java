@@ -0,0 +1,76 @@
+package com.market.analysis.presentation.mapper;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Restricts JSON representations to the fields requested by the client, e.g.
+ * {@code ?fields=id,name}.
+ */
+@Component
+@RequiredArgsConstructor
+public class FieldProjection {
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Parses a comma-separated field list.
+     *
+     * @param fields  the requested fields, null or blank for all of them
+     * @param allowed the fields of the representation
+     * @return the requested fields in a canonical order, empty for all
+     * @throws IllegalArgumentException if a field is unknown
+     */
+    public static Set<String> parse(String fields, Set<String> allowed) {
+        Set<String> requested = new TreeSet<>();
+        if (fields == null || fields.isBlank()) {
+            return requested;
+        }
+        Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .forEach(field -> {
+                    if (!allowed.contains(field)) {
+                        throw new IllegalArgumentException("Unknown field '" + field + "', expected one of "
+                                + new TreeSet<>(allowed));
+                    }
+                    requested.add(field);
+                });
+        return requested;
+    }
+
+    /**
+     * Projects a DTO onto the requested fields.
+     *
+     * @param dto    the full representation
+     * @param fields the fields to keep, empty for all
+     * @return the DTO itself when all fields are requested, otherwise a map of
+     *         the requested fields
+     */
+    public Object project(Object dto, Set<String> fields) {
+        if (fields.isEmpty()) {
+            return dto;
+        }
+        Map<String, Object> values = objectMapper.convertValue(dto, MAP_TYPE);
+        Map<String, Object> projected = new LinkedHashMap<>();
+        values.forEach((field, value) -> {
+            if (fields.contains(field)) {
+                projected.put(field, value);
+            }
+        });
+        return projected;
+    }
+}
@@ -15,13 +15,17 @@ public class HealthCheckMapper {
 
     /**
      * Converts a domain HealthStatus entity to a REST response DTO.
-     * Determines the appropriate HTTP status code based on the application status.
+     * Determines the appropriate HTTP status code based on the application status:
+     * a DEGRADED application still serves requests and keeps 200, while a
+     * DOWN or UNKNOWN one gets 503.
      *
      * @param healthStatus the domain health status object
      * @return HealthCheckResponse suitable for HTTP response
      */
     public HealthCheckResponse toResponse(HealthStatus healthStatus) {
-        int httpStatusCode = "UP".equals(healthStatus.getStatus()) ? 200 : 503;
+        int httpStatusCode = "DOWN".equals(healthStatus.getStatus()) || "UNKNOWN".equals(healthStatus.getStatus())
+                ? 503
+                : 200;
 
         return HealthCheckResponse.builder()
                 .status(healthStatus.getStatus())
@@ -30,9 +30,11 @@ public class RuleDTOMapper {
                 .name(rule.getName())
                 .subjectCode(rule.getSubjectCode())
                 .subjectParam(rule.getSubjectParam())
+                .subjectTimeframe(rule.getSubjectTimeframe())
                 .operator(rule.getOperator())
                 .targetCode(rule.getTargetCode())
                 .targetParam(rule.getTargetParam())
+                .targetTimeframe(rule.getTargetTimeframe())
                 .description(rule.getDescription())
                 .build();
     }
@@ -53,9 +55,11 @@ public class RuleDTOMapper {
                 .name(dto.getName())
                 .subjectCode(dto.getSubjectCode())
                 .subjectParam(dto.getSubjectParam())
+                .subjectTimeframe(dto.getSubjectTimeframe())
                 .operator(dto.getOperator())
                 .targetCode(dto.getTargetCode())
                 .targetParam(dto.getTargetParam())
+                .targetTimeframe(dto.getTargetTimeframe())
                 .description(dto.getDescription())
                 .build();
     }
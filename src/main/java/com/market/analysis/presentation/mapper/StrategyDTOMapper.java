@@ -33,6 +33,8 @@ public class StrategyDTOMapper {
                 .name(strategy.getName())
                 .description(strategy.getDescription())
                 .rules(ruleDTOMapper.toDTOList(strategy.getRules()))
+                .expression(strategy.getExpression())
+                .version(strategy.getVersion())
                 .build();
     }
 
@@ -52,6 +54,8 @@ public class StrategyDTOMapper {
                 .name(dto.getName())
                 .description(dto.getDescription())
                 .rules(ruleDTOMapper.toDomainList(dto.getRules()))
+                .expression(dto.getExpression())
+                .version(dto.getVersion())
                 .build();
     }
 }
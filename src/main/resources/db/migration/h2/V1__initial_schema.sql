@@ -0,0 +1,42 @@
+-- Initial schema for H2: the catalogue tables exactly as Hibernate created
+-- them (ddl-auto=update) before Flyway owned the schema. Anything added
+-- since lives in V2 onwards.
+
+CREATE TABLE prohibited_tickers (
+    created_at TIMESTAMP(6),
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    reason VARCHAR(255),
+    ticker VARCHAR(255) NOT NULL UNIQUE,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE rule_definitions (
+    requires_param BOOLEAN NOT NULL,
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    description VARCHAR(1000),
+    code VARCHAR(255) NOT NULL UNIQUE,
+    name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE strategies (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    description VARCHAR(255),
+    name VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE strategy_rules (
+    subject_param FLOAT(53),
+    target_param FLOAT(53),
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    strategy_id BIGINT,
+    description VARCHAR(255),
+    name VARCHAR(255),
+    operator VARCHAR(255),
+    subject_code VARCHAR(255),
+    target_code VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE strategy_rules ADD CONSTRAINT FKaun50yo0xn5helred42mmotor FOREIGN KEY (strategy_id) REFERENCES strategies;
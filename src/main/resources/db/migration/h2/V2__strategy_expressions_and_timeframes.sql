@@ -0,0 +1,13 @@
+-- Strategy expressions and optimistic locking, and per-operand rule
+-- timeframes. Existing strategies start at version 0, with no expression
+-- (all rules must pass), and existing rules read the strategy's default
+-- timeframe.
+
+ALTER TABLE strategies ADD COLUMN IF NOT EXISTS expression VARCHAR(1000);
+ALTER TABLE strategies ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+ALTER TABLE strategies ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(6);
+
+ALTER TABLE strategy_rules ADD COLUMN IF NOT EXISTS subject_timeframe
+    ENUM('DAY_1','HOUR_1','MINUTE_1','MINUTE_15','MINUTE_5','WEEK_1');
+ALTER TABLE strategy_rules ADD COLUMN IF NOT EXISTS target_timeframe
+    ENUM('DAY_1','HOUR_1','MINUTE_1','MINUTE_15','MINUTE_5','WEEK_1');
@@ -0,0 +1,28 @@
+-- Analysis history and its daily rollups. H2 has no partitioning: the
+-- maintenance job deletes expired days instead of dropping partitions.
+
+CREATE SEQUENCE IF NOT EXISTS analysis_results_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS analysis_results (
+    id BIGINT NOT NULL,
+    strategy_id BIGINT,
+    ticker VARCHAR(20) NOT NULL,
+    analysis_timestamp TIMESTAMP(6) NOT NULL,
+    analysis_date DATE NOT NULL,
+    overall_passed BOOLEAN NOT NULL,
+    rule_results VARCHAR(4000),
+    summary VARCHAR(255),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_analysis_results_strategy_date ON analysis_results (strategy_id, analysis_date);
+
+CREATE TABLE IF NOT EXISTS analysis_daily_rollups (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    strategy_id BIGINT NOT NULL,
+    rollup_date DATE NOT NULL,
+    evaluated_count BIGINT NOT NULL,
+    passed_count BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_analysis_daily_rollups_strategy_date UNIQUE (strategy_id, rollup_date)
+);
@@ -0,0 +1,15 @@
+-- Strategies and their rules take ids from pooled sequences (allocation
+-- size 50) instead of identity columns, so Hibernate can batch their inserts.
+--
+-- Existing rows already hold identity ids: each sequence restarts past the
+-- table's highest id. The pooled optimizer hands out the 50 ids ending at
+-- the value it draws, hence the extra 50.
+
+ALTER TABLE strategies ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE strategy_rules ALTER COLUMN id DROP IDENTITY;
+
+CREATE SEQUENCE strategies_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE strategy_rules_seq START WITH 1 INCREMENT BY 50;
+
+ALTER SEQUENCE strategies_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM strategies);
+ALTER SEQUENCE strategy_rules_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM strategy_rules);
@@ -0,0 +1,19 @@
+-- Indexes for the catalogue and history queries.
+
+-- Rules of a page of strategies, loaded in rule id order, and orphan deletes.
+CREATE INDEX idx_strategy_rules_strategy ON strategy_rules (strategy_id, id);
+
+-- Strategy lookup by name, first match in id order.
+CREATE INDEX idx_strategies_name ON strategies (name, id);
+
+-- Pass totals of a strategy over a date range read only the index.
+DROP INDEX IF EXISTS idx_analysis_results_strategy_date;
+CREATE INDEX idx_analysis_results_strategy_date_passed
+    ON analysis_results (strategy_id, analysis_date, overall_passed);
+
+-- The maintenance job reads, rolls up and deletes history by day. Without
+-- partitioning (MariaDB only) these would scan the whole table.
+CREATE INDEX idx_analysis_results_date ON analysis_results (analysis_date, strategy_id, overall_passed);
+
+-- Latest rollup day and per-day rollup rewrites of the maintenance job.
+CREATE INDEX idx_analysis_daily_rollups_date ON analysis_daily_rollups (rollup_date);
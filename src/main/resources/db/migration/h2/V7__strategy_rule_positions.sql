@@ -0,0 +1,13 @@
+-- Persisted rule order. Expressions reference rules by position, which was
+-- derived from rule ids until now; existing rows keep that order.
+ALTER TABLE strategy_rules ADD COLUMN IF NOT EXISTS rule_position INT;
+
+UPDATE strategy_rules r
+SET rule_position = (
+    SELECT COUNT(*) FROM strategy_rules o
+    WHERE o.strategy_id = r.strategy_id AND o.id < r.id
+);
+
+-- Rules of a page of strategies are now loaded in position order.
+DROP INDEX IF EXISTS idx_strategy_rules_strategy;
+CREATE INDEX idx_strategy_rules_strategy ON strategy_rules (strategy_id, rule_position);
@@ -0,0 +1,48 @@
+-- Initial schema for MariaDB: the catalogue tables exactly as Hibernate
+-- created them (ddl-auto=update) before Flyway owned the schema, constraint
+-- names included.
+--
+-- Databases created that way are baselined at this version by Flyway
+-- (spring.flyway.baseline-on-migrate) and run every later migration, so
+-- anything added since lives in V2 onwards.
+
+CREATE TABLE prohibited_tickers (
+    created_at DATETIME(6) NULL,
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    reason VARCHAR(255) NULL,
+    ticker VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE rule_definitions (
+    requires_param BIT NOT NULL,
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    description VARCHAR(1000) NULL,
+    code VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE strategies (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    description VARCHAR(255) NULL,
+    name VARCHAR(255) NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE strategy_rules (
+    subject_param FLOAT(53) NULL,
+    target_param FLOAT(53) NULL,
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    strategy_id BIGINT NULL,
+    description VARCHAR(255) NULL,
+    name VARCHAR(255) NULL,
+    operator VARCHAR(255) NULL,
+    subject_code VARCHAR(255) NULL,
+    target_code VARCHAR(255) NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+ALTER TABLE prohibited_tickers ADD CONSTRAINT UK6344agkefikqxi4srx0u5euri UNIQUE (ticker);
+ALTER TABLE rule_definitions ADD CONSTRAINT UK2r6k1ol40qdomntb0j5kqrjul UNIQUE (code);
+ALTER TABLE strategy_rules ADD CONSTRAINT FKaun50yo0xn5helred42mmotor FOREIGN KEY (strategy_id) REFERENCES strategies (id);
@@ -0,0 +1,18 @@
+-- Strategy expressions and optimistic locking, and per-operand rule
+-- timeframes. Existing strategies start at version 0, with no expression
+-- (all rules must pass), and existing rules read the strategy's default
+-- timeframe.
+--
+-- IF NOT EXISTS: databases last started with ddl-auto=update by a build
+-- between the baseline and Flyway may already have some of these columns.
+
+ALTER TABLE strategies
+    ADD COLUMN IF NOT EXISTS expression VARCHAR(1000) NULL,
+    ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL,
+    ADD COLUMN IF NOT EXISTS updated_at DATETIME(6) NULL;
+
+ALTER TABLE strategy_rules
+    ADD COLUMN IF NOT EXISTS subject_timeframe
+        ENUM('DAY_1','HOUR_1','MINUTE_1','MINUTE_15','MINUTE_5','WEEK_1') NULL,
+    ADD COLUMN IF NOT EXISTS target_timeframe
+        ENUM('DAY_1','HOUR_1','MINUTE_1','MINUTE_15','MINUTE_5','WEEK_1') NULL;
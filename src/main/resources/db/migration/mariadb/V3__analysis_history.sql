@@ -0,0 +1,41 @@
+-- Analysis history and its daily rollups.
+--
+-- analysis_results is range-partitioned by day on analysis_date. It starts
+-- with a single catch-all partition; AnalysisHistoryMaintenanceJob splits
+-- daily partitions out of p_max ahead of time and drops expired ones.
+-- MariaDB requires the partitioning column in every unique key, hence the
+-- composite primary key.
+--
+-- IF NOT EXISTS: the tables used to be created by an init script, which
+-- databases started between the baseline and Flyway may have run.
+
+CREATE SEQUENCE IF NOT EXISTS analysis_results_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS analysis_results (
+    id BIGINT NOT NULL,
+    strategy_id BIGINT NULL,
+    ticker VARCHAR(20) NOT NULL,
+    analysis_timestamp DATETIME(6) NOT NULL,
+    analysis_date DATE NOT NULL,
+    overall_passed BIT(1) NOT NULL,
+    rule_results VARCHAR(4000) NULL,
+    summary VARCHAR(255) NULL,
+    PRIMARY KEY (id, analysis_date),
+    KEY idx_analysis_results_strategy_date (strategy_id, analysis_date)
+) ENGINE=InnoDB
+PARTITION BY RANGE COLUMNS (analysis_date) (
+    PARTITION p_max VALUES LESS THAN (MAXVALUE)
+);
+
+-- Daily pass counts per strategy. Kept after raw partitions expire, so long
+-- range questions ("how often did strategy X fire last quarter") never scan
+-- raw history.
+CREATE TABLE IF NOT EXISTS analysis_daily_rollups (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    strategy_id BIGINT NOT NULL,
+    rollup_date DATE NOT NULL,
+    evaluated_count BIGINT NOT NULL,
+    passed_count BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_analysis_daily_rollups_strategy_date UNIQUE (strategy_id, rollup_date)
+) ENGINE=InnoDB;
@@ -0,0 +1,25 @@
+-- Strategies and their rules take ids from pooled sequences (allocation
+-- size 50) instead of AUTO_INCREMENT, so Hibernate can batch their inserts.
+--
+-- Existing rows already hold AUTO_INCREMENT ids: each sequence is moved past
+-- the table's AUTO_INCREMENT counter. The pooled optimizer hands out the 50
+-- ids ending at the value it draws, hence the extra 49. SETVAL only accepts
+-- literals, so the statements are prepared from the computed values, and it
+-- never moves a sequence backwards.
+
+CREATE SEQUENCE IF NOT EXISTS strategies_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS strategy_rules_seq START WITH 1 INCREMENT BY 50;
+
+SET @strategies_next = (SELECT COALESCE(MAX(AUTO_INCREMENT), 1) + 49 FROM information_schema.TABLES
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'strategies');
+SET @seed_sql = CONCAT('DO SETVAL(strategies_seq, ', @strategies_next, ')');
+PREPARE seed_sequence FROM @seed_sql;
+EXECUTE seed_sequence;
+DEALLOCATE PREPARE seed_sequence;
+
+SET @strategy_rules_next = (SELECT COALESCE(MAX(AUTO_INCREMENT), 1) + 49 FROM information_schema.TABLES
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'strategy_rules');
+SET @seed_sql = CONCAT('DO SETVAL(strategy_rules_seq, ', @strategy_rules_next, ')');
+PREPARE seed_sequence FROM @seed_sql;
+EXECUTE seed_sequence;
+DEALLOCATE PREPARE seed_sequence;
@@ -0,0 +1,20 @@
+-- Indexes for the catalogue and history queries.
+
+-- Rules of a page of strategies, loaded in rule id order, and orphan
+-- deletes. Also serves the foreign key, which otherwise gets an implicit
+-- single-column index.
+CREATE INDEX IF NOT EXISTS idx_strategy_rules_strategy ON strategy_rules (strategy_id, id);
+
+-- Strategy lookup by name, first match in id order.
+CREATE INDEX IF NOT EXISTS idx_strategies_name ON strategies (name, id);
+
+-- Pass totals of a strategy over a date range read only the index: adding
+-- overall_passed spares one primary key lookup per result.
+ALTER TABLE analysis_results
+    DROP INDEX IF EXISTS idx_analysis_results_strategy_date,
+    ADD INDEX idx_analysis_results_strategy_date_passed (strategy_id, analysis_date, overall_passed);
+
+-- Latest rollup day and per-day rollup rewrites of the maintenance job.
+-- The per-day reads of analysis_results need no index here: partition
+-- pruning limits them to the day's partition.
+CREATE INDEX IF NOT EXISTS idx_analysis_daily_rollups_date ON analysis_daily_rollups (rollup_date);
@@ -0,0 +1,11 @@
+-- Revision of the strategy catalogue (strategies, their rules and rule
+-- definitions), advanced in the same transaction as every write to it. API
+-- entity tags are built from it, so they survive restarts and agree across
+-- instances sharing the database.
+CREATE TABLE catalog_revision (
+    id INT NOT NULL,
+    revision BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO catalog_revision (id, revision) VALUES (1, 0);
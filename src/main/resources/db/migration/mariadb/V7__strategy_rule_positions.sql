@@ -0,0 +1,16 @@
+-- Persisted rule order. Expressions reference rules by position, which was
+-- derived from rule ids until now; existing rows keep that order.
+ALTER TABLE strategy_rules ADD COLUMN IF NOT EXISTS rule_position INT;
+
+UPDATE strategy_rules r
+JOIN (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY strategy_id ORDER BY id) - 1 AS rule_position
+    FROM strategy_rules
+) p ON p.id = r.id
+SET r.rule_position = p.rule_position;
+
+-- Rules of a page of strategies are now loaded in position order. Replaced in
+-- one statement so the foreign key on strategy_id always has an index.
+ALTER TABLE strategy_rules
+    DROP INDEX idx_strategy_rules_strategy,
+    ADD INDEX idx_strategy_rules_strategy (strategy_id, rule_position);
@@ -0,0 +1,41 @@
+package com.market.analysis.benchmark;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the bytes allocated by the current thread, using the per-thread
+ * allocation counters of the HotSpot ThreadMXBean.
+ */
+final class AllocationMeter {
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * Runs a task and returns the bytes it allocated on this thread.
+     *
+     * @param task the measured task
+     * @return allocated bytes
+     */
+    static long allocatedBytes(Runnable task) {
+        long threadId = Thread.currentThread().threadId();
+        long before = THREADS.getThreadAllocatedBytes(threadId);
+        task.run();
+        return THREADS.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    /**
+     * Runs a task and returns the elapsed wall-clock time.
+     *
+     * @param task the measured task
+     * @return elapsed nanoseconds
+     */
+    static long elapsedNanos(Runnable task) {
+        long start = System.nanoTime();
+        task.run();
+        return System.nanoTime() - start;
+    }
+}
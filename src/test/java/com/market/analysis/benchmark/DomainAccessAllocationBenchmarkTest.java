@@ -0,0 +1,146 @@
+package com.market.analysis.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.market.analysis.domain.model.AnalysisResult;
+import com.market.analysis.domain.model.MarketDataPoint;
+import com.market.analysis.domain.model.Rule;
+import com.market.analysis.domain.model.RuleResult;
+import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.domain.model.TickerData;
+
+/**
+ * Allocation benchmark of the collection getters of the domain model, read
+ * the way an evaluation loop reads them, compared with copying the list on
+ * every access.
+ *
+ * Run with {@code mvn -Pbenchmark test}.
+ */
+@Tag("benchmark")
+@DisplayName("Domain Access Allocation Benchmark")
+class DomainAccessAllocationBenchmarkTest {
+
+    private static final int RULES = 8;
+    private static final int BARS = 250;
+    private static final int EVALUATIONS = 100_000;
+    private static final int WARMUP_ROUNDS = 5;
+
+    private static TickerData tickerData;
+    private static AnalysisResult analysisResult;
+
+    @BeforeAll
+    static void setUp() {
+        List<Rule> rules = new ArrayList<>();
+        List<RuleResult> ruleResults = new ArrayList<>();
+        for (int i = 0; i < RULES; i++) {
+            Rule rule = Rule.builder()
+                    .id((long) i)
+                    .subjectCode("SMA")
+                    .subjectParam(10.0 + i)
+                    .operator(">")
+                    .targetCode("CONSTANT")
+                    .targetParam(100.0)
+                    .build();
+            rules.add(rule);
+            ruleResults.add(RuleResult.builder().passed(i % 2 == 0).justification("Rule " + i).rule(rule).build());
+        }
+        Strategy strategy = Strategy.builder().id(1L).name("Benchmark").description("Benchmark").rules(rules).build();
+
+        List<MarketDataPoint> points = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < BARS; i++) {
+            BigDecimal price = BigDecimal.valueOf(100 + i % 10);
+            points.add(MarketDataPoint.builder()
+                    .date(start.plusDays(i))
+                    .open(price)
+                    .high(price)
+                    .low(price)
+                    .close(price)
+                    .volume(1_000L)
+                    .build());
+        }
+        tickerData = TickerData.builder().ticker("AAPL").historicalData(points).build();
+        analysisResult = AnalysisResult.builder()
+                .strategy(strategy)
+                .ticker("AAPL")
+                .analysisTimestamp(LocalDateTime.now())
+                .ruleResults(ruleResults)
+                .calculatedMetrics(Map.of())
+                .overallPassed(false)
+                .summary("Benchmark")
+                .build();
+    }
+
+    @Test
+    @DisplayName("Collection getters should not allocate per evaluation")
+    void benchmarkGetterAllocations() {
+        // Arrange
+        long[] sink = new long[1];
+        Runnable views = () -> {
+            for (int i = 0; i < EVALUATIONS; i++) {
+                sink[0] += readViews();
+            }
+        };
+        Runnable copies = () -> {
+            for (int i = 0; i < EVALUATIONS; i++) {
+                sink[0] += readCopies();
+            }
+        };
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            views.run();
+            copies.run();
+        }
+
+        // Act
+        long viewBytes = AllocationMeter.allocatedBytes(views);
+        long copyBytes = AllocationMeter.allocatedBytes(copies);
+        long viewNanos = AllocationMeter.elapsedNanos(views);
+        long copyNanos = AllocationMeter.elapsedNanos(copies);
+
+        // Assert
+        System.out.printf("Reading %d rules, %d rule results and %d bars per evaluation%n", RULES, RULES, BARS);
+        System.out.printf("  copy on access : %8d bytes/evaluation %8d ns/evaluation%n",
+                copyBytes / EVALUATIONS, copyNanos / EVALUATIONS);
+        System.out.printf("  shared view    : %8d bytes/evaluation %8d ns/evaluation%n",
+                viewBytes / EVALUATIONS, viewNanos / EVALUATIONS);
+        assertTrue(sink[0] > 0);
+        assertEquals(0, viewBytes / EVALUATIONS, "Getters should return the same view without copying");
+        assertTrue(copyBytes > viewBytes);
+    }
+
+    private static long readViews() {
+        analysisResult.validateConsistency();
+        return analysisResult.getStrategy().getRules().size()
+                + countPassed(analysisResult.getRuleResults())
+                + tickerData.getHistoricalData().size();
+    }
+
+    private static long readCopies() {
+        analysisResult.validateConsistency();
+        return List.copyOf(analysisResult.getStrategy().getRules()).size()
+                + countPassed(List.copyOf(analysisResult.getRuleResults()))
+                + List.copyOf(tickerData.getHistoricalData()).size();
+    }
+
+    private static long countPassed(List<RuleResult> ruleResults) {
+        long passed = 0;
+        for (int i = 0; i < ruleResults.size(); i++) {
+            if (ruleResults.get(i).isPassed()) {
+                passed++;
+            }
+        }
+        return passed;
+    }
+}
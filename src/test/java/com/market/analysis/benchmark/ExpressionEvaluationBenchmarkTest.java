@@ -0,0 +1,110 @@
+package com.market.analysis.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.market.analysis.domain.model.StrategyExpression;
+import com.market.analysis.domain.service.StrategyExpressionCompiler;
+
+/**
+ * Throughput benchmark of strategy expressions: the StrategyExpression
+ * interpreter against the MethodHandle trees of StrategyExpressionCompiler,
+ * invoked from an array as a compiled portfolio holds them.
+ *
+ * Run with {@code mvn -Pbenchmark test}.
+ */
+@Tag("benchmark")
+@DisplayName("Expression Evaluation Benchmark")
+class ExpressionEvaluationBenchmarkTest {
+
+    private static final String[] SOURCES = {
+            "(R1 AND R2) OR R3",
+            "ATLEAST(3, R1, R2, R3, R4, R5)",
+            "NOT (R1 OR R2) AND R4",
+            "(R1 OR R2) AND (R3 OR R4) AND NOT R5",
+            "ATLEAST(1, R1 AND R2, NOT R3) OR ATLEAST(4, R1, R2, R3, R4, R5)"
+    };
+    private static final int RULES = 5;
+    private static final int EXPRESSIONS = 40;
+    private static final int OUTCOMES = 1024;
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 2_000;
+
+    private static StrategyExpression[] expressions;
+    private static MethodHandle[] handles;
+    private static boolean[][] outcomes;
+
+    @BeforeAll
+    static void setUp() {
+        int[] slots = { 0, 1, 2, 3, 4 };
+        expressions = new StrategyExpression[EXPRESSIONS];
+        handles = new MethodHandle[EXPRESSIONS];
+        for (int e = 0; e < EXPRESSIONS; e++) {
+            expressions[e] = StrategyExpression.parse(SOURCES[e % SOURCES.length], RULES);
+            handles[e] = StrategyExpressionCompiler.compile(expressions[e], slots);
+        }
+
+        Random random = new Random(42);
+        outcomes = new boolean[OUTCOMES][RULES];
+        for (boolean[] row : outcomes) {
+            for (int r = 0; r < RULES; r++) {
+                row[r] = random.nextBoolean();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Compiled expressions should outrun the interpreter without allocating")
+    void benchmarkExpressionEvaluation() {
+        // Arrange
+        int[] sink = new int[2];
+        Runnable interpreted = () -> {
+            for (boolean[] row : outcomes) {
+                for (StrategyExpression expression : expressions) {
+                    sink[0] += expression.evaluate(row) ? 1 : 0;
+                }
+            }
+        };
+        Runnable handled = () -> {
+            for (boolean[] row : outcomes) {
+                for (MethodHandle handle : handles) {
+                    sink[1] += StrategyExpressionCompiler.invoke(handle, row) ? 1 : 0;
+                }
+            }
+        };
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            interpreted.run();
+            handled.run();
+        }
+        sink[0] = 0;
+        sink[1] = 0;
+
+        // Act
+        long evaluations = (long) OUTCOMES * EXPRESSIONS * MEASURED_ROUNDS;
+        long interpretedNanos = AllocationMeter.elapsedNanos(() -> repeat(interpreted));
+        long handledNanos = AllocationMeter.elapsedNanos(() -> repeat(handled));
+        long handledBytes = AllocationMeter.allocatedBytes(() -> repeat(handled));
+
+        // Assert
+        System.out.printf("Evaluating %d expressions over %d rule outcome sets%n", EXPRESSIONS, OUTCOMES);
+        System.out.printf("  interpreter  : %6.2f ns/evaluation%n", (double) interpretedNanos / evaluations);
+        System.out.printf("  handle tree  : %6.2f ns/evaluation%n", (double) handledNanos / evaluations);
+        assertEquals(sink[0], sink[1] / 2);
+        assertTrue(handledNanos < interpretedNanos, "compiled expressions should beat the interpreter");
+        assertEquals(0, handledBytes / evaluations, "compiled expressions should not allocate");
+    }
+
+    private static void repeat(Runnable task) {
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            task.run();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.market.analysis.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.market.analysis.domain.model.ArrayBarSeries;
+import com.market.analysis.domain.model.Rule;
+import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.domain.model.TickerData;
+import com.market.analysis.domain.service.CompiledPortfolio;
+import com.market.analysis.domain.service.EvaluationBuffer;
+import com.market.analysis.domain.service.IndicatorLibrary;
+import com.market.analysis.domain.service.PortfolioCompiler;
+import com.market.analysis.domain.service.RuleEvaluator;
+
+/**
+ * Allocation benchmark of portfolio screening: materializing every result
+ * versus writing outcomes into a reusable EvaluationBuffer.
+ *
+ * Run with {@code mvn -Pbenchmark test}.
+ */
+@Tag("benchmark")
+@DisplayName("Screening Allocation Benchmark")
+class ScreeningAllocationBenchmarkTest {
+
+    private static final int STRATEGIES = 40;
+    private static final int RULES_PER_STRATEGY = 5;
+    private static final int TICKERS = 200;
+    private static final int BARS = 260;
+    private static final int WARMUP_ROUNDS = 50;
+    private static final int MEASURED_ROUNDS = 20;
+
+    private static CompiledPortfolio portfolio;
+    private static List<TickerData> tickers;
+
+    @BeforeAll
+    static void setUp() {
+        Random random = new Random(42);
+        String[] codes = { "SMA", "EMA", "RSI", "PRICE", "VOLUME_SMA" };
+        double[] params = { 10, 20, 50, 14, 26 };
+        String[] operators = { ">", "<", ">=", "<=" };
+
+        List<Strategy> strategies = new ArrayList<>();
+        for (int s = 0; s < STRATEGIES; s++) {
+            List<Rule> rules = new ArrayList<>();
+            for (int r = 0; r < RULES_PER_STRATEGY; r++) {
+                rules.add(Rule.builder()
+                        .id((long) s * RULES_PER_STRATEGY + r)
+                        .subjectCode(codes[random.nextInt(codes.length)])
+                        .subjectParam(params[random.nextInt(params.length)])
+                        .operator(operators[random.nextInt(operators.length)])
+                        .targetCode(random.nextBoolean() ? "CONSTANT" : codes[random.nextInt(codes.length)])
+                        .targetParam(params[random.nextInt(params.length)])
+                        .build());
+            }
+            strategies.add(Strategy.builder()
+                    .id((long) s)
+                    .name("Strategy " + s)
+                    .description("Benchmark strategy")
+                    .rules(rules)
+                    .expression(s % 4 == 0 ? "ATLEAST(3, R1, R2, R3, R4, R5)" : s % 4 == 1 ? "(R1 AND R2) OR R3" : null)
+                    .build());
+        }
+        portfolio = new PortfolioCompiler(new RuleEvaluator(new IndicatorLibrary())).compile(strategies);
+
+        tickers = new ArrayList<>();
+        for (int t = 0; t < TICKERS; t++) {
+            long[] timestamps = new long[BARS];
+            double[] closes = new double[BARS];
+            double[] volumes = new double[BARS];
+            double price = 20 + random.nextDouble() * 80;
+            for (int i = 0; i < BARS; i++) {
+                price *= 1 + (random.nextGaussian() * 0.02);
+                timestamps[i] = i * 86_400_000L;
+                closes[i] = price;
+                volumes[i] = 1_000_000 + random.nextInt(500_000);
+            }
+            tickers.add(TickerData.ofBars("T" + t, new ArrayBarSeries(timestamps, closes, closes, closes, closes,
+                    volumes)));
+        }
+    }
+
+    @Test
+    @DisplayName("Buffered screening should allocate next to nothing per ticker")
+    void benchmarkScreeningAllocations() {
+        // Arrange
+        EvaluationBuffer buffer = portfolio.newBuffer();
+        long[] sink = new long[1];
+        Runnable materialized = () -> {
+            for (TickerData ticker : tickers) {
+                sink[0] += portfolio.evaluate(ticker).size();
+            }
+        };
+        Runnable buffered = () -> {
+            for (TickerData ticker : tickers) {
+                sink[0] += portfolio.evaluateInto(ticker, buffer);
+            }
+        };
+        Runnable matchesOnly = () -> {
+            for (TickerData ticker : tickers) {
+                sink[0] += portfolio.evaluateMatches(ticker, buffer).size();
+            }
+        };
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            materialized.run();
+            buffered.run();
+            matchesOnly.run();
+        }
+
+        // Act
+        long evaluations = (long) TICKERS * MEASURED_ROUNDS;
+        long materializedBytes = AllocationMeter.allocatedBytes(() -> repeat(materialized));
+        long bufferedBytes = AllocationMeter.allocatedBytes(() -> repeat(buffered));
+        long matchesBytes = AllocationMeter.allocatedBytes(() -> repeat(matchesOnly));
+        long materializedNanos = AllocationMeter.elapsedNanos(() -> repeat(materialized));
+        long bufferedNanos = AllocationMeter.elapsedNanos(() -> repeat(buffered));
+
+        // Assert
+        System.out.printf("Screening %d strategies x %d rules (%d unique predicates), %d tickers x %d bars%n",
+                STRATEGIES, RULES_PER_STRATEGY, portfolio.getPredicateCount(), TICKERS, BARS);
+        System.out.printf("  evaluate        : %8d bytes/ticker %8d ns/ticker%n",
+                materializedBytes / evaluations, materializedNanos / evaluations);
+        System.out.printf("  evaluateInto    : %8d bytes/ticker %8d ns/ticker%n",
+                bufferedBytes / evaluations, bufferedNanos / evaluations);
+        System.out.printf("  evaluateMatches : %8d bytes/ticker%n", matchesBytes / evaluations);
+        assertTrue(sink[0] > 0);
+        assertEquals(0, bufferedBytes / evaluations, "evaluateInto should not allocate per ticker");
+        assertTrue(matchesBytes < materializedBytes / 2, "evaluateMatches should only pay for matches");
+    }
+
+    private static void repeat(Runnable task) {
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            task.run();
+        }
+    }
+}
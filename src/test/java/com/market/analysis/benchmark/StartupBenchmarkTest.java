@@ -0,0 +1,207 @@
+package com.market.analysis.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.FileSystemUtils;
+
+import com.market.analysis.MarketAnalysisApplication;
+
+/**
+ * Startup benchmark: boots the application in a fresh JVM with the prod
+ * profile, pointed at an in-memory H2 database, and measures the time from
+ * launching the process to the first served strategies page, and the
+ * resident set size of the process at that point (read from /proc, so 0
+ * outside Linux). Fails when the median of either regresses by more than
+ * the allowed percentage over the recorded baseline: 14.7 s and 293 MB for the
+ * reflective prod boot on the reference machine.
+ *
+ * When the classes have been processed by Spring AOT the precomputed context
+ * is booted as well, under the same thresholds: run with
+ * {@code mvn -Paot,benchmark test}, otherwise {@code mvn -Pbenchmark test}.
+ * On other machines record a baseline and pass it with
+ * {@code -Dstartup.baseline-first-request-ms} and
+ * {@code -Dstartup.baseline-rss-mb}; the allowed regression and run count can
+ * be overridden with {@code -Dstartup.max-regression-percent} and
+ * {@code -Dstartup.runs}. The output of every run is kept in
+ * {@code target/startup-benchmark}.
+ */
+@Tag("benchmark")
+@DisplayName("Startup Benchmark")
+class StartupBenchmarkTest {
+
+    private static final String AOT_INITIALIZER = MarketAnalysisApplication.class.getName()
+            + "__ApplicationContextInitializer";
+    private static final long BASELINE_FIRST_REQUEST_MILLIS = Long.getLong("startup.baseline-first-request-ms",
+            14_700);
+    private static final long BASELINE_RSS_MB = Long.getLong("startup.baseline-rss-mb", 293);
+    private static final int MAX_REGRESSION_PERCENT = Integer.getInteger("startup.max-regression-percent", 15);
+    private static final long MAX_FIRST_REQUEST_MILLIS = allowed(BASELINE_FIRST_REQUEST_MILLIS);
+    private static final long MAX_RSS_MB = allowed(BASELINE_RSS_MB);
+    private static final int RUNS = Integer.getInteger("startup.runs", 3);
+    private static final Duration BOOT_TIMEOUT = Duration.ofMinutes(2);
+    private static final Path LOG_DIRECTORY = Path.of("target", "startup-benchmark");
+
+    @Test
+    @DisplayName("The first request should be served within the startup time and memory thresholds")
+    void benchmarkStartup() throws IOException, InterruptedException {
+        // Arrange
+        Map<String, List<String>> modes = new LinkedHashMap<>();
+        modes.put("reflective", List.of());
+        if (ClassUtils.isPresent(AOT_INITIALIZER, getClass().getClassLoader())) {
+            modes.put("aot", List.of("-Dspring.aot.enabled=true"));
+        }
+        Files.createDirectories(LOG_DIRECTORY);
+
+        // Act
+        Map<String, List<StartupSample>> samples = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> mode : modes.entrySet()) {
+            List<StartupSample> modeSamples = new ArrayList<>();
+            for (int run = 0; run < RUNS; run++) {
+                modeSamples.add(boot(mode.getKey() + "-" + run, mode.getValue()));
+            }
+            samples.put(mode.getKey(), modeSamples);
+        }
+
+        // Assert
+        System.out.printf("Booting the prod profile against H2, %d runs, median (min - max)%n", RUNS);
+        System.out.printf("  baseline   : first request %6d ms, RSS %5d MB, +%d%% allowed%n",
+                BASELINE_FIRST_REQUEST_MILLIS, BASELINE_RSS_MB, MAX_REGRESSION_PERCENT);
+        for (Map.Entry<String, List<StartupSample>> mode : samples.entrySet()) {
+            long[] firstRequest = mode.getValue().stream().mapToLong(StartupSample::firstRequestMillis).sorted()
+                    .toArray();
+            long[] rss = mode.getValue().stream().mapToLong(StartupSample::rssMegabytes).sorted().toArray();
+            System.out.printf("  %-10s : first request %6d ms (%d - %d), RSS %5d MB (%d - %d)%n", mode.getKey(),
+                    median(firstRequest), firstRequest[0], firstRequest[firstRequest.length - 1],
+                    median(rss), rss[0], rss[rss.length - 1]);
+            assertTrue(median(firstRequest) <= MAX_FIRST_REQUEST_MILLIS, mode.getKey() + " startup regressed more than "
+                    + MAX_REGRESSION_PERCENT + "% over the " + BASELINE_FIRST_REQUEST_MILLIS + " ms baseline: "
+                    + Arrays.toString(firstRequest));
+            assertTrue(median(rss) <= MAX_RSS_MB, mode.getKey() + " resident memory regressed more than "
+                    + MAX_REGRESSION_PERCENT + "% over the " + BASELINE_RSS_MB + " MB baseline: "
+                    + Arrays.toString(rss));
+        }
+    }
+
+    private static long allowed(long baseline) {
+        return baseline + baseline * MAX_REGRESSION_PERCENT / 100;
+    }
+
+    private static StartupSample boot(String name, List<String> jvmArguments)
+            throws IOException, InterruptedException {
+        int port = freePort();
+        Path barStore = Files.createTempDirectory("startup-bars");
+        Path log = LOG_DIRECTORY.resolve(name + ".log");
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArguments);
+        command.addAll(List.of("-cp", applicationClassPath(), MarketAnalysisApplication.class.getName(),
+                "--spring.profiles.active=prod",
+                "--spring.datasource.url=jdbc:h2:mem:startup;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--analysis.history.partitioning-enabled=false",
+                "--analysis.bar-store.directory=" + barStore,
+                "--server.port=" + port));
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        try {
+            awaitFirstRequest(process, URI.create("http://localhost:" + port + "/strategies"), log);
+            long firstRequestMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            return new StartupSample(firstRequestMillis, residentMegabytes(process.pid()));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+            FileSystemUtils.deleteRecursively(barStore);
+        }
+    }
+
+    private static void awaitFirstRequest(Process process, URI uri, Path log)
+            throws IOException, InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(BOOT_TIMEOUT).GET().build();
+        long deadline = System.nanoTime() + BOOT_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                fail("Application exited with status " + process.exitValue() + ", see " + log.toAbsolutePath());
+            }
+            try {
+                int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                if (status != 200) {
+                    fail("First request answered " + status + ", see " + log.toAbsolutePath());
+                }
+                return;
+            } catch (ConnectException e) {
+                Thread.sleep(20);
+            }
+        }
+        fail("Application did not serve " + uri + " within " + BOOT_TIMEOUT + ", see " + log.toAbsolutePath());
+    }
+
+    /**
+     * Classpath of the application: the test runtime classpath without the
+     * test classes and devtools, which would restart the context.
+     */
+    private static String applicationClassPath() {
+        return Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+                .filter(entry -> !entry.contains("test-classes") && !entry.contains("spring-boot-devtools"))
+                .collect(Collectors.joining(File.pathSeparator));
+    }
+
+    private static long residentMegabytes(long pid) throws IOException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (!Files.exists(status)) {
+            return 0;
+        }
+        return Files.readAllLines(status).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .mapToLong(line -> Long.parseLong(line.replaceAll("\\D", "")) / 1024)
+                .findFirst()
+                .orElse(0);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(long[] sorted) {
+        return sorted[sorted.length / 2];
+    }
+
+    private record StartupSample(long firstRequestMillis, long rssMegabytes) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.market.analysis.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+
+import org.h2.tools.Server;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.market.analysis.domain.model.Timeframe;
+import com.market.analysis.infrastructure.persistence.entity.RuleEntity;
+import com.market.analysis.infrastructure.persistence.entity.StrategyEntity;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Write throughput benchmark of strategy persistence against H2, reached over
+ * its TCP server so every statement pays a loopback round trip like it would
+ * against MariaDB: the sequence-backed entities inserted with JDBC batching,
+ * as configured for the application, versus one statement per row.
+ *
+ * Run with {@code mvn -Pbenchmark test}.
+ */
+@Tag("benchmark")
+@DisplayName("Strategy Batch Write Benchmark")
+class StrategyBatchWriteBenchmarkTest {
+
+    private static final int STRATEGIES = 2_000;
+    private static final int RULES_PER_STRATEGY = 4;
+    private static final int ROWS = STRATEGIES * (RULES_PER_STRATEGY + 1);
+    private static final int WARMUP_ROUNDS = 2;
+    private static final int MEASURED_ROUNDS = 3;
+
+    @Test
+    @DisplayName("Batched inserts should need a fraction of the statements of row-by-row inserts")
+    void benchmarkBatchedWrites() throws SQLException {
+        // Arrange
+        Server server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+        try (HikariDataSource unbatchedDataSource = dataSource(server, "unbatched");
+                HikariDataSource batchedDataSource = dataSource(server, "batched");
+                SessionFactory unbatched = sessionFactory(unbatchedDataSource, 0);
+                SessionFactory batched = sessionFactory(batchedDataSource, 500)) {
+            for (int round = 0; round < WARMUP_ROUNDS; round++) {
+                insertStrategies(unbatched);
+                insertStrategies(batched);
+            }
+            unbatched.getStatistics().clear();
+            batched.getStatistics().clear();
+
+            // Act
+            long unbatchedNanos = AllocationMeter.elapsedNanos(() -> repeat(unbatched));
+            long batchedNanos = AllocationMeter.elapsedNanos(() -> repeat(batched));
+
+            // Assert
+            Statistics unbatchedStatistics = unbatched.getStatistics();
+            Statistics batchedStatistics = batched.getStatistics();
+            long rows = (long) ROWS * MEASURED_ROUNDS;
+            System.out.printf("Inserting %d strategies x %d rules (%d rows) into H2 over TCP, %d rounds%n",
+                    STRATEGIES, RULES_PER_STRATEGY, ROWS, MEASURED_ROUNDS);
+            System.out.printf("  row by row : %8d rows/s %6d statements %8d entities%n",
+                    rows * 1_000_000_000L / unbatchedNanos, unbatchedStatistics.getPrepareStatementCount(),
+                    unbatchedStatistics.getEntityInsertCount());
+            System.out.printf("  batched    : %8d rows/s %6d statements %8d entities%n",
+                    rows * 1_000_000_000L / batchedNanos, batchedStatistics.getPrepareStatementCount(),
+                    batchedStatistics.getEntityInsertCount());
+            assertEquals(rows, batchedStatistics.getEntityInsertCount());
+            assertEquals(rows, unbatchedStatistics.getEntityInsertCount());
+            assertTrue(batchedStatistics.getPrepareStatementCount() * 10 < rows,
+                    "Batched inserts should share statements across rows");
+            assertTrue(unbatchedStatistics.getPrepareStatementCount() >= rows);
+        } finally {
+            server.stop();
+        }
+    }
+
+    private static void repeat(SessionFactory sessionFactory) {
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            insertStrategies(sessionFactory);
+        }
+    }
+
+    private static void insertStrategies(SessionFactory sessionFactory) {
+        sessionFactory.inTransaction(session -> {
+            for (int s = 0; s < STRATEGIES; s++) {
+                StrategyEntity strategy = new StrategyEntity();
+                strategy.setName("Strategy " + s);
+                strategy.setDescription("Benchmark strategy");
+                for (int r = 0; r < RULES_PER_STRATEGY; r++) {
+                    RuleEntity rule = new RuleEntity();
+                    rule.setName("Rule " + r);
+                    rule.setSubjectCode("SMA");
+                    rule.setSubjectParam(10.0 + r);
+                    rule.setSubjectTimeframe(Timeframe.DAY_1);
+                    rule.setOperator(">");
+                    rule.setTargetCode("CONSTANT");
+                    rule.setTargetParam(100.0);
+                    strategy.addRule(rule);
+                }
+                session.persist(strategy);
+            }
+        });
+    }
+
+    private static HikariDataSource dataSource(Server server, String name) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:tcp://localhost:" + server.getPort() + "/mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+        dataSource.setMaximumPoolSize(2);
+        return dataSource;
+    }
+
+    private static SessionFactory sessionFactory(HikariDataSource dataSource, int batchSize) {
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(StrategyEntity.class)
+                .addAnnotatedClass(RuleEntity.class)
+                .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize)
+                .setProperty(AvailableSettings.ORDER_INSERTS, true)
+                .setProperty(AvailableSettings.GENERATE_STATISTICS, true)
+                .setProperty(AvailableSettings.LOG_SESSION_METRICS, false);
+        configuration.getProperties().put(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, dataSource);
+        return configuration.buildSessionFactory();
+    }
+}
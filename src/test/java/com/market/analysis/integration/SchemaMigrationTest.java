@@ -0,0 +1,321 @@
+package com.market.analysis.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import com.market.analysis.infrastructure.persistence.entity.AnalysisDailyRollupEntity;
+import com.market.analysis.infrastructure.persistence.entity.AnalysisResultEntity;
+import com.market.analysis.infrastructure.persistence.entity.CatalogRevisionEntity;
+import com.market.analysis.infrastructure.persistence.entity.ProhibitedTickerEntity;
+import com.market.analysis.infrastructure.persistence.entity.RuleDefinitionEntity;
+import com.market.analysis.infrastructure.persistence.entity.RuleEntity;
+import com.market.analysis.infrastructure.persistence.entity.StrategyEntity;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Integration tests for the Flyway migrations: applied to an in-memory H2
+ * database, either empty or holding the schema Hibernate created before
+ * migrations existed, then validated against the JPA mapping.
+ */
+@DisplayName("Schema Migration Integration Tests")
+class SchemaMigrationTest {
+
+    private HikariDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:schema_migration_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUsername("sa");
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("Should migrate an empty database to a schema matching the entities")
+    void testMigrateAndValidate() {
+        // Arrange
+        Flyway flyway = flyway("h2");
+
+        // Act
+        int applied = flyway.migrate().migrationsExecuted;
+
+        // Assert
+        assertEquals(7, applied);
+        try (SessionFactory sessionFactory = sessionFactory()) {
+            assertTrue(sessionFactory.isOpen());
+        }
+    }
+
+    @Test
+    @DisplayName("Should insert strategies with sequence ids after migrating")
+    void testInsertWithSequenceIds() {
+        // Arrange
+        flyway("h2").migrate();
+        StrategyEntity strategy = new StrategyEntity();
+        strategy.setName("Migrated");
+        for (int i = 0; i < 3; i++) {
+            RuleEntity rule = new RuleEntity();
+            rule.setName("Rule " + i);
+            strategy.addRule(rule);
+        }
+
+        // Act
+        try (SessionFactory sessionFactory = sessionFactory()) {
+            sessionFactory.inTransaction(session -> session.persist(strategy));
+        }
+
+        // Assert
+        assertTrue(strategy.getId() > 0);
+        assertEquals(0L, strategy.getVersion());
+        List<Long> ruleIds = strategy.getRules().stream().map(RuleEntity::getId).toList();
+        assertEquals(ruleIds.stream().sorted().toList(), ruleIds);
+    }
+
+    @Test
+    @DisplayName("Should persist the rule order and keep rule rows when reordering")
+    void testRuleOrderPersisted() {
+        // Arrange
+        flyway("h2").migrate();
+        StrategyEntity strategy = new StrategyEntity();
+        strategy.setName("Ordered");
+        for (String name : List.of("A", "B", "C")) {
+            RuleEntity rule = new RuleEntity();
+            rule.setName(name);
+            strategy.addRule(rule);
+        }
+
+        try (SessionFactory sessionFactory = sessionFactory()) {
+            sessionFactory.inTransaction(session -> session.persist(strategy));
+            List<Long> ids = strategy.getRules().stream().map(RuleEntity::getId).toList();
+
+            // Act
+            sessionFactory.inTransaction(session -> {
+                List<RuleEntity> rules = session.find(StrategyEntity.class, strategy.getId()).getRules();
+                rules.add(0, rules.remove(2));
+            });
+            StrategyEntity reloaded = sessionFactory.fromTransaction(session -> session
+                    .createSelectionQuery("from StrategyEntity s join fetch s.rules where s.id = :id",
+                            StrategyEntity.class)
+                    .setParameter("id", strategy.getId())
+                    .getSingleResult());
+
+            // Assert
+            assertEquals(List.of("C", "A", "B"), reloaded.getRules().stream().map(RuleEntity::getName).toList());
+            assertEquals(List.of(ids.get(2), ids.get(0), ids.get(1)),
+                    reloaded.getRules().stream().map(RuleEntity::getId).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Should start from exactly the schema Hibernate created before migrations existed")
+    void testInitialSchemaMatchesBaseline() throws SQLException, IOException {
+        // Arrange
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/h2")
+                .target("1")
+                .load()
+                .migrate();
+        List<String> migrated = columns();
+        dataSource.close();
+        setUp();
+
+        // Act
+        createBaselineSchema();
+        List<String> baseline = columns();
+
+        // Assert
+        assertEquals(baseline, migrated);
+    }
+
+    @Test
+    @DisplayName("Should upgrade a database created by Hibernate and keep its data")
+    void testUpgradeFromBaseline() throws SQLException, IOException {
+        // Arrange
+        createBaselineSchema();
+        execute("INSERT INTO strategies (name) VALUES ('Existing')",
+                "INSERT INTO strategy_rules (strategy_id, name, subject_code, operator, target_code)"
+                        + " SELECT id, 'Rule', 'SMA', '>', 'PRICE' FROM strategies");
+        Flyway flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/h2")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load();
+
+        // Act
+        int applied = flyway.migrate().migrationsExecuted;
+        StrategyEntity strategy = new StrategyEntity();
+        strategy.setName("Added");
+        RuleEntity rule = new RuleEntity();
+        rule.setName("Rule");
+        strategy.addRule(rule);
+        try (SessionFactory sessionFactory = sessionFactory()) {
+            sessionFactory.inTransaction(session -> session.persist(strategy));
+
+            // Assert
+            StrategyEntity existing = sessionFactory.fromTransaction(session -> session
+                    .createSelectionQuery("from StrategyEntity s join fetch s.rules where s.name = 'Existing'",
+                            StrategyEntity.class)
+                    .getSingleResult());
+            assertEquals(0L, existing.getVersion());
+            assertEquals(1, existing.getRules().size());
+            assertTrue(strategy.getId() > existing.getId());
+            assertTrue(rule.getId() > existing.getRules().get(0).getId());
+        }
+        assertEquals(6, applied);
+    }
+
+    @Test
+    @DisplayName("Should create the catalogue revision row and advance it in place")
+    void testCatalogRevision() {
+        // Arrange
+        flyway("h2").migrate();
+
+        // Act
+        try (SessionFactory sessionFactory = sessionFactory()) {
+            int updated = sessionFactory.fromTransaction(session -> session
+                    .createMutationQuery("update CatalogRevisionEntity c set c.revision = c.revision + 1"
+                            + " where c.id = " + CatalogRevisionEntity.ID)
+                    .executeUpdate());
+            Long revision = sessionFactory.fromTransaction(session -> session
+                    .createSelectionQuery("select c.revision from CatalogRevisionEntity c where c.id = "
+                            + CatalogRevisionEntity.ID, Long.class)
+                    .getSingleResult());
+
+            // Assert
+            assertEquals(1, updated);
+            assertEquals(1L, revision);
+        }
+    }
+
+    @Test
+    @DisplayName("Should create the catalogue and history indexes")
+    void testIndexes() throws SQLException {
+        // Arrange
+        flyway("h2").migrate();
+
+        // Act
+        List<String> indexes = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+                ResultSet rows = connection.createStatement().executeQuery(
+                        "SELECT LOWER(INDEX_NAME) FROM INFORMATION_SCHEMA.INDEXES")) {
+            while (rows.next()) {
+                indexes.add(rows.getString(1));
+            }
+        }
+
+        // Assert
+        assertTrue(indexes.containsAll(List.of("idx_strategy_rules_strategy", "idx_strategies_name",
+                "idx_analysis_results_strategy_date_passed", "idx_analysis_results_date",
+                "idx_analysis_daily_rollups_date")), indexes.toString());
+        assertFalse(indexes.contains("idx_analysis_results_strategy_date"));
+    }
+
+    @Test
+    @DisplayName("Should keep the same migration versions for every vendor")
+    void testVendorsInStep() {
+        // Arrange
+        Flyway h2 = flyway("h2");
+        Flyway mariadb = flyway("mariadb");
+
+        // Act
+        List<String> h2Versions = versions(h2.info().pending());
+        List<String> mariadbVersions = versions(mariadb.info().pending());
+
+        // Assert
+        assertEquals(List.of("1", "2", "3", "4", "5", "6", "7"), h2Versions);
+        assertEquals(h2Versions, mariadbVersions);
+    }
+
+    private Flyway flyway(String vendor) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/" + vendor)
+                .load();
+    }
+
+    private void createBaselineSchema() throws SQLException, IOException {
+        String script = new ClassPathResource("db/baseline/h2-hibernate-schema.sql")
+                .getContentAsString(StandardCharsets.UTF_8);
+        execute(Arrays.stream(script.split(";"))
+                .map(statement -> statement.replaceAll("(?m)^--.*$", "").trim())
+                .filter(statement -> !statement.isEmpty())
+                .toArray(String[]::new));
+    }
+
+    private void execute(String... statements) throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    /**
+     * Columns of the application tables, as "table.column type nullability".
+     */
+    private List<String> columns() throws SQLException {
+        List<String> columns = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+                ResultSet rows = connection.createStatement().executeQuery(
+                        "SELECT LOWER(TABLE_NAME), LOWER(COLUMN_NAME), DATA_TYPE, IS_NULLABLE"
+                                + " FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = 'PUBLIC'"
+                                + " AND TABLE_NAME <> 'flyway_schema_history'"
+                                + " ORDER BY TABLE_NAME, COLUMN_NAME")) {
+            while (rows.next()) {
+                columns.add(rows.getString(1) + "." + rows.getString(2) + " " + rows.getString(3) + " "
+                        + rows.getString(4));
+            }
+        }
+        return columns;
+    }
+
+    private SessionFactory sessionFactory() {
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(StrategyEntity.class)
+                .addAnnotatedClass(RuleEntity.class)
+                .addAnnotatedClass(RuleDefinitionEntity.class)
+                .addAnnotatedClass(ProhibitedTickerEntity.class)
+                .addAnnotatedClass(AnalysisResultEntity.class)
+                .addAnnotatedClass(AnalysisDailyRollupEntity.class)
+                .addAnnotatedClass(CatalogRevisionEntity.class)
+                .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "validate");
+        configuration.getProperties().put(AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, dataSource);
+        return configuration.buildSessionFactory();
+    }
+
+    private static List<String> versions(MigrationInfo[] migrations) {
+        return Arrays.stream(migrations)
+                .map(migration -> migration.getVersion().getVersion())
+                .toList();
+    }
+}
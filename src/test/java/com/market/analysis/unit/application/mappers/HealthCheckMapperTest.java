@@ -97,13 +97,12 @@ class HealthCheckMapperTest {
     }
 
     @Test
-    @DisplayName("Should handle null timestamp gracefully")
+    @DisplayName("Should map DEGRADED status to 200 HTTP status code")
     void testMapHandlesAllPossibleStatuses() {
         // Arrange
         LocalDateTime now = LocalDateTime.now();
 
-        // Test DEGRADED status (though currently not used, important for future
-        // extension)
+        // A degraded application still serves requests and must stay in rotation
         HealthStatus healthStatus = HealthStatus.builder()
                 .status("DEGRADED")
                 .timestamp(now)
@@ -117,6 +116,6 @@ class HealthCheckMapperTest {
 
         // Assert
         assertEquals("DEGRADED", response.getStatus());
-        assertEquals(503, response.getHttpStatusCode()); // Non-UP status defaults to 503
+        assertEquals(200, response.getHttpStatusCode());
     }
 }
@@ -3,9 +3,17 @@ package com.market.analysis.unit.application.services;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +22,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.market.analysis.application.usecase.HealthCheckService;
+import com.market.analysis.domain.model.DependencyHealth;
 import com.market.analysis.domain.model.HealthStatus;
 import com.market.analysis.domain.port.out.HealthCheckPort;
 
@@ -26,6 +35,9 @@ import com.market.analysis.domain.port.out.HealthCheckPort;
 @DisplayName("HealthCheckService Unit Tests")
 class HealthCheckServiceTest {
 
+    private static final long PROBE_INTERVAL_MS = 5000;
+    private static final long PROBE_TIMEOUT_MS = 200;
+
     @Mock
     private HealthCheckPort healthCheckPort;
 
@@ -33,15 +45,14 @@ class HealthCheckServiceTest {
 
     @BeforeEach
     void setUp() {
-        healthCheckService = new HealthCheckService(healthCheckPort);
+        healthCheckService = new HealthCheckService(healthCheckPort, PROBE_INTERVAL_MS, PROBE_TIMEOUT_MS, 3);
     }
 
     @Test
     @DisplayName("Should return UP status when database is healthy")
     void testHealthCheckReturnsUpWhenDatabaseHealthy() {
         // Arrange
-        when(healthCheckPort.isDatabaseHealthy()).thenReturn(true);
-        when(healthCheckPort.getDatabaseConnectionTime()).thenReturn(50L);
+        stubProbes(database(true, 50L), dependency("Market data", true), dependency("Caches", true));
 
         // Act
         HealthStatus healthStatus = healthCheckService.performHealthCheck();
@@ -56,14 +67,14 @@ class HealthCheckServiceTest {
         assertNotNull(healthStatus.getDetails());
         assertTrue(healthStatus.getDetails().contains("Healthy"));
         assertTrue(healthStatus.getDetails().contains("50ms"));
+        assertEquals(3, healthStatus.getDependencies().size());
     }
 
     @Test
     @DisplayName("Should return DOWN status when database is unhealthy")
     void testHealthCheckReturnsDownWhenDatabaseUnhealthy() {
         // Arrange
-        when(healthCheckPort.isDatabaseHealthy()).thenReturn(false);
-        when(healthCheckPort.getDatabaseConnectionTime()).thenReturn(-1L);
+        stubProbes(database(false, -1L), dependency("Market data", true), dependency("Caches", true));
 
         // Act
         HealthStatus healthStatus = healthCheckService.performHealthCheck();
@@ -79,12 +90,28 @@ class HealthCheckServiceTest {
         assertTrue(healthStatus.getDetails().contains("Unhealthy"));
     }
 
+    @Test
+    @DisplayName("Should return DEGRADED status when a non-critical dependency is unhealthy")
+    void testHealthCheckReturnsDegradedWhenMarketDataUnhealthy() {
+        // Arrange
+        stubProbes(database(true, 10L), dependency("Market data", false), dependency("Caches", true));
+
+        // Act
+        HealthStatus healthStatus = healthCheckService.performHealthCheck();
+
+        // Assert
+        assertEquals("DEGRADED", healthStatus.getStatus());
+        assertTrue(healthStatus.isDatabaseHealthy());
+        assertEquals("Application is partially operational. Some dependencies have issues.",
+                healthStatus.getDescription());
+        assertTrue(healthStatus.getDetails().contains("Market data: Unhealthy"));
+    }
+
     @Test
     @DisplayName("Should capture current timestamp in health status")
     void testHealthCheckCapturesCurrentTimestamp() {
         // Arrange
-        when(healthCheckPort.isDatabaseHealthy()).thenReturn(true);
-        when(healthCheckPort.getDatabaseConnectionTime()).thenReturn(25L);
+        stubProbes(database(true, 25L), dependency("Market data", true), dependency("Caches", true));
 
         // Act
         HealthStatus healthStatus = healthCheckService.performHealthCheck();
@@ -98,23 +125,20 @@ class HealthCheckServiceTest {
     @DisplayName("Should include database connection time in details")
     void testHealthCheckIncludesDatabaseConnectionTime() {
         // Arrange
-        long connectionTime = 123L;
-        when(healthCheckPort.isDatabaseHealthy()).thenReturn(true);
-        when(healthCheckPort.getDatabaseConnectionTime()).thenReturn(connectionTime);
+        stubProbes(database(true, 123L), dependency("Market data", true), dependency("Caches", true));
 
         // Act
         HealthStatus healthStatus = healthCheckService.performHealthCheck();
 
         // Assert
-        assertTrue(healthStatus.getDetails().contains("123ms"));
+        assertTrue(healthStatus.getDetails().contains("Database: Healthy (123ms)"));
     }
 
     @Test
     @DisplayName("Should handle database connection time -1 for failed connections")
     void testHealthCheckHandlesFailedConnectionTime() {
         // Arrange
-        when(healthCheckPort.isDatabaseHealthy()).thenReturn(false);
-        when(healthCheckPort.getDatabaseConnectionTime()).thenReturn(-1L);
+        stubProbes(database(false, -1L), dependency("Market data", true), dependency("Caches", true));
 
         // Act
         HealthStatus healthStatus = healthCheckService.performHealthCheck();
@@ -127,8 +151,7 @@ class HealthCheckServiceTest {
     @DisplayName("Should provide descriptive message for UP status")
     void testHealthCheckProvidesMeaningfulDescriptionForUpStatus() {
         // Arrange
-        when(healthCheckPort.isDatabaseHealthy()).thenReturn(true);
-        when(healthCheckPort.getDatabaseConnectionTime()).thenReturn(10L);
+        stubProbes(database(true, 10L), dependency("Market data", true), dependency("Caches", true));
 
         // Act
         HealthStatus healthStatus = healthCheckService.performHealthCheck();
@@ -142,8 +165,7 @@ class HealthCheckServiceTest {
     @DisplayName("Should provide descriptive message for DOWN status")
     void testHealthCheckProvidesMeaningfulDescriptionForDownStatus() {
         // Arrange
-        when(healthCheckPort.isDatabaseHealthy()).thenReturn(false);
-        when(healthCheckPort.getDatabaseConnectionTime()).thenReturn(-1L);
+        stubProbes(database(false, -1L), dependency("Market data", true), dependency("Caches", true));
 
         // Act
         HealthStatus healthStatus = healthCheckService.performHealthCheck();
@@ -152,4 +174,158 @@ class HealthCheckServiceTest {
         assertEquals("Application is not operational. Critical dependencies are unavailable.",
                 healthStatus.getDescription());
     }
+
+    @Test
+    @DisplayName("Should serve the cached status until the next refresh")
+    void testHealthCheckServedFromCache() {
+        // Arrange
+        stubProbes(database(true, 5L), dependency("Market data", true), dependency("Caches", true));
+        HealthStatus first = healthCheckService.performHealthCheck();
+
+        // Act
+        HealthStatus second = healthCheckService.performHealthCheck();
+        HealthStatus refreshed = healthCheckService.refresh();
+
+        // Assert
+        assertSame(first, second);
+        assertSame(refreshed, healthCheckService.performHealthCheck());
+        verify(healthCheckPort, times(2)).checkDatabase();
+    }
+
+    @Test
+    @DisplayName("Should report a probe that does not answer in time as unhealthy")
+    void testHealthCheckTimesOutSlowProbe() throws InterruptedException {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        when(healthCheckPort.checkDatabase()).thenReturn(database(true, 1L));
+        when(healthCheckPort.checkMarketData()).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return dependency("Market data", true);
+        });
+        when(healthCheckPort.checkCaches()).thenReturn(dependency("Caches", true));
+
+        // Act
+        long startTime = System.nanoTime();
+        HealthStatus healthStatus = healthCheckService.refresh();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        release.countDown();
+
+        // Assert
+        assertEquals("DEGRADED", healthStatus.getStatus());
+        assertTrue(healthStatus.getDetails().contains("Market data: Unhealthy (-1ms)"));
+        assertTrue(healthStatus.getDependencies().get(1).getDetail().contains("Timed out"));
+        assertTrue(elapsedMillis < 5_000, "Refresh should not wait for the slow probe");
+    }
+
+    @Test
+    @DisplayName("Should report a failing probe as unhealthy")
+    void testHealthCheckHandlesProbeException() {
+        // Arrange
+        when(healthCheckPort.checkDatabase()).thenThrow(new IllegalStateException("Pool closed"));
+        when(healthCheckPort.checkMarketData()).thenReturn(dependency("Market data", true));
+        when(healthCheckPort.checkCaches()).thenReturn(dependency("Caches", true));
+
+        // Act
+        HealthStatus healthStatus = healthCheckService.refresh();
+
+        // Assert
+        assertEquals("DOWN", healthStatus.getStatus());
+        assertFalse(healthStatus.isDatabaseHealthy());
+    }
+
+    @Test
+    @DisplayName("Should report the last probe as stale once several intervals were missed")
+    void testHealthCheckReportsStaleProbe() throws InterruptedException {
+        // Arrange
+        HealthCheckService service = new HealthCheckService(healthCheckPort, 10, 10, 1);
+        stubProbes(database(true, 5L), dependency("Market data", true), dependency("Caches", true));
+        HealthStatus probed = service.refresh();
+        Thread.sleep(100);
+
+        // Act
+        HealthStatus healthStatus = service.performHealthCheck();
+
+        // Assert
+        assertFalse(probed.isStale());
+        assertTrue(healthStatus.isStale());
+        assertEquals("UNKNOWN", healthStatus.getStatus());
+        assertEquals(probed.getTimestamp(), healthStatus.getTimestamp());
+        assertFalse(healthStatus.isDatabaseHealthy());
+        assertTrue(healthStatus.getDescription().contains("last status was UP"));
+        assertTrue(healthStatus.getDependencies().stream().noneMatch(DependencyHealth::isHealthy));
+        assertTrue(healthStatus.getDependencies().get(0).isCritical());
+        assertTrue(healthStatus.getDependencies().get(0).getDetail().startsWith("No probe completed"));
+    }
+
+    @Test
+    @DisplayName("Should probe in the background on its own thread once started")
+    void testStartProbesInBackground() {
+        // Arrange
+        HealthCheckService service = new HealthCheckService(healthCheckPort, 10, PROBE_TIMEOUT_MS, 3);
+        stubProbes(database(true, 5L), dependency("Market data", true), dependency("Caches", true));
+
+        // Act
+        service.start();
+
+        // Assert
+        verify(healthCheckPort, timeout(2000).atLeast(2)).checkDatabase();
+        service.stop();
+        assertFalse(service.performHealthCheck().isStale());
+    }
+
+    @Test
+    @DisplayName("Should interrupt probes still running once stopped")
+    void testStopInterruptsRunningProbes() throws InterruptedException {
+        // Arrange
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(healthCheckPort.checkDatabase()).thenReturn(database(true, 1L));
+        when(healthCheckPort.checkMarketData()).thenAnswer(invocation -> {
+            try {
+                new CountDownLatch(1).await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return dependency("Market data", true);
+        });
+        when(healthCheckPort.checkCaches()).thenReturn(dependency("Caches", true));
+        healthCheckService.refresh();
+
+        // Act
+        healthCheckService.stop();
+
+        // Assert
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "Stop should interrupt the stuck probe");
+    }
+
+    @Test
+    @DisplayName("Should reject invalid probe settings")
+    void testConstructorRejectsInvalidSettings() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new HealthCheckService(healthCheckPort, 0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new HealthCheckService(healthCheckPort, 1, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new HealthCheckService(healthCheckPort, 1, 1, 0));
+    }
+
+    private void stubProbes(DependencyHealth database, DependencyHealth marketData, DependencyHealth caches) {
+        when(healthCheckPort.checkDatabase()).thenReturn(database);
+        when(healthCheckPort.checkMarketData()).thenReturn(marketData);
+        when(healthCheckPort.checkCaches()).thenReturn(caches);
+    }
+
+    private static DependencyHealth database(boolean healthy, long latencyMillis) {
+        return DependencyHealth.builder()
+                .name("Database")
+                .healthy(healthy)
+                .critical(true)
+                .latencyMillis(latencyMillis)
+                .build();
+    }
+
+    private static DependencyHealth dependency(String name, boolean healthy) {
+        return DependencyHealth.builder()
+                .name(name)
+                .healthy(healthy)
+                .latencyMillis(healthy ? 0L : -1L)
+                .build();
+    }
 }
@@ -0,0 +1,187 @@
+package com.market.analysis.unit.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.market.analysis.application.usecase.EvaluateStrategyService;
+import com.market.analysis.domain.model.AnalysisResult;
+import com.market.analysis.domain.model.ArrayBarSeries;
+import com.market.analysis.domain.model.Rule;
+import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.domain.model.TickerData;
+import com.market.analysis.domain.model.Timeframe;
+import com.market.analysis.domain.port.in.FetchMarketDataUseCase;
+import com.market.analysis.domain.port.out.AnalysisHistoryRepository;
+import com.market.analysis.domain.port.out.CatalogRevisionRepository;
+import com.market.analysis.domain.service.CatalogRevision;
+import com.market.analysis.domain.service.CompiledPortfolioCache;
+import com.market.analysis.domain.service.IndicatorLibrary;
+import com.market.analysis.domain.service.PortfolioCompiler;
+import com.market.analysis.domain.service.RuleEvaluator;
+
+/**
+ * Unit tests for EvaluateStrategyService.
+ */
+@DisplayName("EvaluateStrategyService Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class EvaluateStrategyServiceTest {
+
+    @Mock
+    private AnalysisHistoryRepository analysisHistoryRepository;
+
+    @Mock
+    private CatalogRevisionRepository catalogRevisionRepository;
+
+    @Mock
+    private FetchMarketDataUseCase fetchMarketDataUseCase;
+
+    private EvaluateStrategyService evaluateStrategyService;
+    private Strategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        evaluateStrategyService = new EvaluateStrategyService(
+                new CompiledPortfolioCache(new PortfolioCompiler(new RuleEvaluator(new IndicatorLibrary())),
+                        new CatalogRevision(catalogRevisionRepository)),
+                fetchMarketDataUseCase, analysisHistoryRepository);
+        strategy = Strategy.builder()
+                .id(1L)
+                .name("Above 100")
+                .description("Price above 100")
+                .rules(List.of(Rule.builder()
+                        .id(1L)
+                        .name("Price above 100")
+                        .subjectCode("PRICE")
+                        .operator(">")
+                        .targetCode("CONSTANT")
+                        .targetParam(100.0)
+                        .build()))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should evaluate a single strategy")
+    void testEvaluateStrategy() {
+        // Act
+        AnalysisResult result = evaluateStrategyService.evaluateStrategy(strategy, ticker("AAPL", 150));
+
+        // Assert
+        assertTrue(result.isOverallPassed());
+        assertEquals("AAPL", result.getTicker());
+        verify(analysisHistoryRepository, times(1)).save(result);
+    }
+
+    @Test
+    @DisplayName("Should evaluate every strategy against every ticker")
+    void testEvaluateStrategies() {
+        // Act
+        List<AnalysisResult> results = evaluateStrategyService.evaluateStrategies(
+                List.of(strategy), List.of(ticker("AAPL", 150), ticker("MSFT", 50)));
+
+        // Assert
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).isOverallPassed());
+        assertFalse(results.get(1).isOverallPassed());
+        assertEquals("MSFT", results.get(1).getTicker());
+        verify(analysisHistoryRepository, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should only return matches when screening")
+    void testScreenStrategies() {
+        // Act
+        List<AnalysisResult> matches = evaluateStrategyService.screenStrategies(
+                List.of(strategy), List.of(ticker("AAPL", 150), ticker("MSFT", 50), ticker("NVDA", 120)));
+
+        // Assert
+        assertEquals(2, matches.size());
+        assertEquals("AAPL", matches.get(0).getTicker());
+        assertEquals("NVDA", matches.get(1).getTicker());
+        verifyNoInteractions(analysisHistoryRepository);
+    }
+
+    @Test
+    @DisplayName("Should load the rule timeframes of the portfolio when screening tickers")
+    void testScreenTickers() {
+        // Arrange
+        LocalDate from = LocalDate.of(2024, 1, 1);
+        LocalDate to = LocalDate.of(2024, 3, 31);
+        Strategy weekly = Strategy.builder()
+                .id(2L)
+                .name("Weekly above 100")
+                .description("Weekly close above 100")
+                .rules(List.of(Rule.builder()
+                        .id(2L)
+                        .name("Weekly close above 100")
+                        .subjectCode("PRICE")
+                        .subjectTimeframe(Timeframe.WEEK_1)
+                        .operator(">")
+                        .targetCode("CONSTANT")
+                        .targetParam(100.0)
+                        .build()))
+                .build();
+        Map<String, TickerData> loaded = new LinkedHashMap<>();
+        loaded.put("AAPL", ticker("AAPL", 90).withTimeframes(Timeframe.DAY_1,
+                Map.of(Timeframe.WEEK_1, new ArrayBarSeries(new long[] { 0 }, new double[] { 140 },
+                        new double[] { 155 }, new double[] { 135 }, new double[] { 150 }, new double[] { 1 }))));
+        when(fetchMarketDataUseCase.fetchAll(List.of("AAPL", "MSFT"), from, to, Timeframe.DAY_1,
+                EnumSet.of(Timeframe.WEEK_1))).thenReturn(loaded);
+
+        // Act
+        List<AnalysisResult> matches = evaluateStrategyService.screenTickers(List.of(weekly),
+                List.of("AAPL", "MSFT"), from, to, Timeframe.DAY_1);
+
+        // Assert
+        assertEquals(1, matches.size());
+        assertEquals("AAPL", matches.get(0).getTicker());
+        verifyNoInteractions(analysisHistoryRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject null arguments")
+    void testRejectsNullArguments() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> evaluateStrategyService.evaluateStrategy(null, ticker("AAPL", 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> evaluateStrategyService.evaluateStrategy(strategy, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> evaluateStrategyService.evaluateStrategies(null, List.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> evaluateStrategyService.evaluateStrategies(List.of(), null));
+        assertThrows(IllegalArgumentException.class,
+                () -> evaluateStrategyService.screenStrategies(null, List.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> evaluateStrategyService.screenStrategies(List.of(), null));
+        assertThrows(IllegalArgumentException.class,
+                () -> evaluateStrategyService.screenTickers(null, List.of(), null, null, Timeframe.DAY_1));
+    }
+
+    private static TickerData ticker(String symbol, double price) {
+        return TickerData.builder()
+                .ticker(symbol)
+                .currentPrice(BigDecimal.valueOf(price))
+                .build();
+    }
+}
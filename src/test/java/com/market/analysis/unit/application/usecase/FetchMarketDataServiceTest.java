@@ -0,0 +1,137 @@
+package com.market.analysis.unit.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.market.analysis.application.usecase.FetchMarketDataService;
+import com.market.analysis.domain.exception.MarketDataUnavailableException;
+import com.market.analysis.domain.model.ArrayBarSeries;
+import com.market.analysis.domain.model.BarSeries;
+import com.market.analysis.domain.model.TickerData;
+import com.market.analysis.domain.model.Timeframe;
+import com.market.analysis.domain.port.out.MarketDataPort;
+
+/**
+ * Unit tests for FetchMarketDataService.
+ */
+@DisplayName("FetchMarketDataService Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class FetchMarketDataServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 3, 31);
+
+    @Mock
+    private MarketDataPort marketDataPort;
+
+    private FetchMarketDataService fetchMarketDataService;
+
+    @BeforeEach
+    void setUp() {
+        fetchMarketDataService = new FetchMarketDataService(marketDataPort, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("Should fetch every ticker and skip unavailable ones")
+    void testFetchAll() {
+        // Arrange
+        TickerData aapl = TickerData.builder().ticker("AAPL").build();
+        when(marketDataPort.fetchTickerData("AAPL", FROM, TO, Timeframe.DAY_1)).thenReturn(aapl);
+        when(marketDataPort.fetchTickerData("XXXX", FROM, TO, Timeframe.DAY_1))
+                .thenThrow(new MarketDataUnavailableException("unknown ticker"));
+
+        // Act
+        Map<String, TickerData> result = fetchMarketDataService.fetchAll(List.of("AAPL", "XXXX"), FROM, TO,
+                Timeframe.DAY_1);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertSame(aapl, result.get("AAPL"));
+    }
+
+    @Test
+    @DisplayName("Should load each ticker and timeframe once and attach extra timeframes")
+    void testFetchAllWithTimeframes() {
+        // Arrange
+        when(marketDataPort.fetchTickerData("AAPL", FROM, TO, Timeframe.DAY_1))
+                .thenReturn(TickerData.ofBars("AAPL", bars(3)));
+        when(marketDataPort.fetchTickerData("AAPL", FROM, TO, Timeframe.WEEK_1))
+                .thenReturn(TickerData.ofBars("AAPL", bars(1)));
+
+        // Act
+        Map<String, TickerData> result = fetchMarketDataService.fetchAll(List.of("AAPL"), FROM, TO,
+                Timeframe.DAY_1, Set.of(Timeframe.DAY_1, Timeframe.WEEK_1));
+
+        // Assert
+        TickerData aapl = result.get("AAPL");
+        assertEquals(Timeframe.DAY_1, aapl.getTimeframe());
+        assertSame(aapl, aapl.atTimeframe(Timeframe.DAY_1));
+        assertEquals(3, aapl.getBars().size());
+        assertEquals(1, aapl.atTimeframe(Timeframe.WEEK_1).getBars().size());
+        assertTrue(aapl.hasTimeframe(Timeframe.WEEK_1));
+        verify(marketDataPort, times(1)).fetchTickerData("AAPL", FROM, TO, Timeframe.DAY_1);
+    }
+
+    @Test
+    @DisplayName("Should leave out tickers missing one of the extra timeframes")
+    void testFetchAllWithMissingTimeframe() {
+        // Arrange
+        when(marketDataPort.fetchTickerData("AAPL", FROM, TO, Timeframe.DAY_1))
+                .thenReturn(TickerData.ofBars("AAPL", bars(3)));
+        when(marketDataPort.fetchTickerData("AAPL", FROM, TO, Timeframe.HOUR_1))
+                .thenThrow(new MarketDataUnavailableException("no intraday data"));
+        when(marketDataPort.fetchTickerData("MSFT", FROM, TO, Timeframe.DAY_1))
+                .thenReturn(TickerData.ofBars("MSFT", bars(3)));
+        when(marketDataPort.fetchTickerData("MSFT", FROM, TO, Timeframe.HOUR_1))
+                .thenReturn(TickerData.ofBars("MSFT", bars(2)));
+
+        // Act
+        Map<String, TickerData> result = fetchMarketDataService.fetchAll(List.of("AAPL", "MSFT"), FROM, TO,
+                Timeframe.DAY_1, Set.of(Timeframe.HOUR_1));
+
+        // Assert
+        assertEquals(1, result.size());
+        assertTrue(result.get("MSFT").hasTimeframe(Timeframe.HOUR_1));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid arguments")
+    void testRejectsInvalidArguments() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> fetchMarketDataService.fetchAll(null, FROM, TO, Timeframe.DAY_1));
+        assertThrows(IllegalArgumentException.class,
+                () -> fetchMarketDataService.fetchAll(List.of(), FROM, TO, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> fetchMarketDataService.fetchAll(List.of(), TO, FROM, Timeframe.DAY_1));
+        assertThrows(IllegalArgumentException.class,
+                () -> fetchMarketDataService.fetchAll(List.of(), FROM, TO, Timeframe.DAY_1, null));
+    }
+
+    private static BarSeries bars(int size) {
+        long[] timestamps = new long[size];
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            timestamps[i] = i;
+            values[i] = 1;
+        }
+        return new ArrayBarSeries(timestamps, values, values, values, values, values);
+    }
+}
@@ -3,6 +3,7 @@ package com.market.analysis.unit.application.usecase;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
@@ -21,6 +22,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.market.analysis.application.usecase.ManageProhibitedTickerService;
+import com.market.analysis.domain.model.KeysetPage;
 import com.market.analysis.domain.model.ProhibitedTicker;
 import com.market.analysis.domain.port.out.ProhibitedTickerRepository;
 
@@ -132,4 +134,22 @@ class ManageProhibitedTickerServiceTest {
         // Assert
         verify(prohibitedTickerRepository, times(1)).deleteById(tickerId);
     }
+
+    @Test
+    @DisplayName("Should get a page of prohibited tickers keyed on the ticker")
+    void testGetProhibitedTickersPage() {
+        // Arrange
+        when(prohibitedTickerRepository.findPage("AAPL", 2)).thenReturn(
+                List.of(new ProhibitedTicker("GME"), new ProhibitedTicker("TSLA")));
+
+        // Act
+        KeysetPage<ProhibitedTicker, String> result = manageProhibitedTickerService.getProhibitedTickersPage("AAPL", 1);
+
+        // Assert
+        assertEquals(1, result.items().size());
+        assertEquals("GME", result.items().get(0).getTicker());
+        assertEquals("GME", result.nextCursor());
+        assertThrows(IllegalArgumentException.class,
+                () -> manageProhibitedTickerService.getProhibitedTickersPage(null, 0));
+    }
 }
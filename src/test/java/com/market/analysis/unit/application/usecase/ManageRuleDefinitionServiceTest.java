@@ -1,6 +1,7 @@
 package com.market.analysis.unit.application.usecase;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
@@ -22,8 +23,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.market.analysis.application.usecase.ManageRuleDefinitionService;
 import com.market.analysis.domain.exception.RuleDefinitionNotFoundException;
+import com.market.analysis.domain.model.KeysetPage;
 import com.market.analysis.domain.model.RuleDefinition;
 import com.market.analysis.domain.port.out.RuleDefinitionRepository;
+import com.market.analysis.domain.service.RuleDefinitionRegistry;
 
 /**
  * Unit tests for ManageRuleDefinitionService.
@@ -35,6 +38,9 @@ class ManageRuleDefinitionServiceTest {
     @Mock
     private RuleDefinitionRepository ruleDefinitionRepository;
 
+    @Mock
+    private RuleDefinitionRegistry ruleDefinitionRegistry;
+
     @InjectMocks
     private ManageRuleDefinitionService manageRuleDefinitionService;
 
@@ -68,6 +74,7 @@ class ManageRuleDefinitionServiceTest {
         assertEquals(testRuleDefinition.getName(), result.getName());
         verify(ruleDefinitionRepository, times(1)).existsByCode("SMA");
         verify(ruleDefinitionRepository, times(1)).save(testRuleDefinition);
+        verify(ruleDefinitionRegistry).refresh();
     }
 
     @Test
@@ -175,6 +182,7 @@ class ManageRuleDefinitionServiceTest {
         assertEquals(testRuleDefinition.getId(), result.getId());
         verify(ruleDefinitionRepository, times(1)).existsById(1L);
         verify(ruleDefinitionRepository, times(1)).save(testRuleDefinition);
+        verify(ruleDefinitionRegistry).refresh();
     }
 
     @Test
@@ -231,6 +239,23 @@ class ManageRuleDefinitionServiceTest {
         // Assert
         verify(ruleDefinitionRepository, times(1)).existsById(1L);
         verify(ruleDefinitionRepository, times(1)).deleteById(1L);
+        verify(ruleDefinitionRegistry).refresh();
+    }
+
+    @Test
+    @DisplayName("Should get a page of rule definitions")
+    void testGetRuleDefinitionsPage() {
+        // Arrange
+        when(ruleDefinitionRepository.findPage(1L, 11)).thenReturn(List.of(testRuleDefinition));
+
+        // Act
+        KeysetPage<RuleDefinition, Long> result = manageRuleDefinitionService.getRuleDefinitionsPage(1L, 10);
+
+        // Assert
+        assertEquals(List.of(testRuleDefinition), result.items());
+        assertFalse(result.hasNext());
+        assertThrows(IllegalArgumentException.class,
+                () -> manageRuleDefinitionService.getRuleDefinitionsPage(null, KeysetPage.MAX_LIMIT + 1));
     }
 
     @Test
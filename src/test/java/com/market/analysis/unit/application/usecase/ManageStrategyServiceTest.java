@@ -1,10 +1,14 @@
 package com.market.analysis.unit.application.usecase;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -21,6 +25,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.market.analysis.application.usecase.ManageStrategyService;
+import com.market.analysis.domain.exception.StrategyNotFoundException;
+import com.market.analysis.domain.model.KeysetPage;
 import com.market.analysis.domain.model.Rule;
 import com.market.analysis.domain.model.RuleDefinition;
 import com.market.analysis.domain.model.Strategy;
@@ -82,6 +88,34 @@ class ManageStrategyServiceTest {
         verify(strategyRepository, times(1)).save(testStrategy);
     }
 
+    @Test
+    @DisplayName("Should update strategy and advance the catalogue revision")
+    void testUpdateStrategy() {
+        // Arrange
+        when(strategyRepository.save(testStrategy)).thenReturn(testStrategy);
+
+        // Act
+        Strategy result = manageStrategyService.updateStrategy(testStrategy);
+
+        // Assert
+        assertEquals(testStrategy, result);
+    }
+
+    @Test
+    @DisplayName("Should reject updating a strategy without ID")
+    void testUpdateStrategyWithoutId() {
+        // Arrange
+        Strategy strategy = Strategy.builder()
+                .name("Test Strategy")
+                .description("Test Description")
+                .rules(List.of(testRule))
+                .build();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> manageStrategyService.updateStrategy(strategy));
+        verify(strategyRepository, never()).save(any(Strategy.class));
+    }
+
     @Test
     @DisplayName("Should get all strategies")
     void testGetAllStrategies() {
@@ -126,6 +160,7 @@ class ManageStrategyServiceTest {
                 () -> manageStrategyService.getStrategyById(999L));
         
         assertEquals("Strategy not found with id: 999", exception.getMessage());
+        assertInstanceOf(StrategyNotFoundException.class, exception);
         verify(strategyRepository, times(1)).findById(999L);
     }
 
@@ -162,6 +197,36 @@ class ManageStrategyServiceTest {
         verify(strategyRepository, times(1)).deleteById(1L);
     }
 
+    @Test
+    @DisplayName("Should read one row more than the page to find the next cursor")
+    void testGetStrategiesPage() {
+        // Arrange
+        Strategy second = Strategy.builder().id(2L).name("Second").description("Second").build();
+        Strategy third = Strategy.builder().id(3L).name("Third").description("Third").build();
+        when(strategyRepository.findPage(null, 3)).thenReturn(List.of(testStrategy, second, third));
+        when(strategyRepository.findPage(2L, 3)).thenReturn(List.of(third));
+
+        // Act
+        KeysetPage<Strategy, Long> first = manageStrategyService.getStrategiesPage(null, 2);
+        KeysetPage<Strategy, Long> last = manageStrategyService.getStrategiesPage(first.nextCursor(), 2);
+
+        // Assert
+        assertEquals(List.of(testStrategy, second), first.items());
+        assertEquals(2L, first.nextCursor());
+        assertEquals(List.of(third), last.items());
+        assertFalse(last.hasNext());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid page requests")
+    void testGetStrategiesPageValidation() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> manageStrategyService.getStrategiesPage(null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> manageStrategyService.getStrategiesPage(-1L, KeysetPage.MAX_LIMIT));
+        verify(strategyRepository, never()).findPage(any(), anyInt());
+    }
+
     @Test
     @DisplayName("Should validate strategy before creating")
     void testCreateStrategyValidation() {
@@ -0,0 +1,66 @@
+package com.market.analysis.unit.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.market.analysis.application.usecase.QueryAnalysisHistoryService;
+import com.market.analysis.domain.model.StrategyPassSummary;
+import com.market.analysis.domain.port.out.AnalysisHistoryRepository;
+
+/**
+ * Unit tests for QueryAnalysisHistoryService.
+ */
+@DisplayName("QueryAnalysisHistoryService Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class QueryAnalysisHistoryServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 3, 31);
+
+    @Mock
+    private AnalysisHistoryRepository analysisHistoryRepository;
+
+    private QueryAnalysisHistoryService queryAnalysisHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        queryAnalysisHistoryService = new QueryAnalysisHistoryService(analysisHistoryRepository);
+    }
+
+    @Test
+    @DisplayName("Should delegate the summary to the repository")
+    void testGetStrategyPassSummary() {
+        // Arrange
+        StrategyPassSummary summary = StrategyPassSummary.builder()
+                .strategyId(1L).from(FROM).to(TO).evaluatedCount(10).passedCount(4).build();
+        when(analysisHistoryRepository.summarizePasses(1L, FROM, TO)).thenReturn(summary);
+
+        // Act
+        StrategyPassSummary result = queryAnalysisHistoryService.getStrategyPassSummary(1L, FROM, TO);
+
+        // Assert
+        assertSame(summary, result);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid arguments")
+    void testRejectsInvalidArguments() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> queryAnalysisHistoryService.getStrategyPassSummary(null, FROM, TO));
+        assertThrows(IllegalArgumentException.class,
+                () -> queryAnalysisHistoryService.getStrategyPassSummary(1L, null, TO));
+        assertThrows(IllegalArgumentException.class,
+                () -> queryAnalysisHistoryService.getStrategyPassSummary(1L, TO, FROM));
+    }
+}
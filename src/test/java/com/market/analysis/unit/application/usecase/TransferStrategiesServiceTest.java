@@ -0,0 +1,229 @@
+package com.market.analysis.unit.application.usecase;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.market.analysis.application.usecase.TransferStrategiesService;
+import com.market.analysis.domain.model.KeysetPage;
+import com.market.analysis.domain.model.Rule;
+import com.market.analysis.domain.model.RuleDefinition;
+import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.domain.port.in.TransferStrategiesUseCase;
+import com.market.analysis.domain.port.out.RuleDefinitionRepository;
+import com.market.analysis.domain.port.out.StrategyRepository;
+import com.market.analysis.domain.service.CrossingStateStore;
+import com.market.analysis.domain.service.IndicatorLibrary;
+import com.market.analysis.domain.service.PortfolioCompiler;
+import com.market.analysis.domain.service.RuleDefinitionRegistry;
+
+/**
+ * Unit tests for TransferStrategiesService.
+ */
+@DisplayName("TransferStrategiesService Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class TransferStrategiesServiceTest {
+
+    @Mock
+    private StrategyRepository strategyRepository;
+
+    @Mock
+    private RuleDefinitionRepository ruleDefinitionRepository;
+
+    private TransferStrategiesService transferStrategiesService;
+
+    private List<RuleDefinition> definitions;
+
+    @BeforeEach
+    void setUp() {
+        RuleDefinitionRegistry registry = new RuleDefinitionRegistry(new IndicatorLibrary(),
+                ruleDefinitionRepository::findAll);
+        transferStrategiesService = new TransferStrategiesService(strategyRepository, registry,
+                new PortfolioCompiler(registry, new CrossingStateStore()));
+        definitions = List.of(
+                RuleDefinition.builder().id(1L).code("PRICE").name("Price").build(),
+                RuleDefinition.builder().id(2L).code("SMA").name("SMA").requiresParam(true).build(),
+                RuleDefinition.builder().id(3L).code("CONSTANT").name("Constant").requiresParam(true).build(),
+                RuleDefinition.builder().id(4L).code("CUSTOM").name("Not implemented").build());
+    }
+
+    @Test
+    @DisplayName("Should import strategies as new ones resolving codes in memory")
+    @SuppressWarnings("unchecked")
+    void testImportStrategies() {
+        // Arrange
+        when(ruleDefinitionRepository.findAll()).thenReturn(definitions);
+        List<Strategy> strategies = List.of(
+                strategy(10L, rule(7L, "PRICE", null, "SMA", 50.0)),
+                strategy(11L, rule(8L, "SMA", 20.0, "CONSTANT", 100.0)));
+
+        // Act
+        int imported = transferStrategiesService.importStrategies(strategies);
+
+        // Assert
+        assertEquals(2, imported);
+        ArgumentCaptor<List<Strategy>> saved = ArgumentCaptor.forClass(List.class);
+        verify(strategyRepository, times(1)).saveAll(saved.capture());
+        verify(ruleDefinitionRepository, times(1)).findAll();
+        verify(ruleDefinitionRepository, never()).findByCode(any());
+        assertEquals(2, saved.getValue().size());
+        Strategy first = saved.getValue().get(0);
+        assertNull(first.getId());
+        assertNull(first.getVersion());
+        assertNull(first.getRules().get(0).getId());
+        assertEquals("SMA", first.getRules().get(0).getTargetCode());
+        assertEquals("R1", first.getExpression());
+        transferStrategiesService.importStrategies(strategies);
+        verify(ruleDefinitionRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("Should reject the whole import when a rule uses an unknown code")
+    void testImportStrategiesWithUnknownCode() {
+        // Arrange
+        when(ruleDefinitionRepository.findAll()).thenReturn(definitions);
+        List<Strategy> strategies = List.of(
+                strategy(10L, rule(7L, "PRICE", null, "SMA", 50.0)),
+                strategy(11L, rule(8L, "MACD", 14.0, "CONSTANT", 70.0)));
+
+        // Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> transferStrategiesService.importStrategies(strategies));
+
+        // Assert
+        assertTrue(exception.getMessage().startsWith("Strategy 2:"));
+        assertTrue(exception.getMessage().contains("'MACD'"));
+        verify(strategyRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject what the compiler rejects: codes without indicator, operators and expressions")
+    void testImportStrategiesRejectedByCompiler() {
+        // Arrange
+        when(ruleDefinitionRepository.findAll()).thenReturn(definitions);
+        Strategy notImplemented = strategy(1L, rule(1L, "PRICE", null, "CUSTOM", null));
+        Strategy unknownOperator = strategy(2L, Rule.builder()
+                .name("Rule 2")
+                .subjectCode("PRICE")
+                .operator("=>")
+                .targetCode("SMA")
+                .targetParam(50.0)
+                .build());
+        Strategy danglingExpression = Strategy.builder()
+                .name("Strategy 3")
+                .description("Imported")
+                .rules(List.of(rule(3L, "PRICE", null, "SMA", 50.0)))
+                .expression("R1 AND R2")
+                .build();
+
+        // Act & Assert
+        for (Strategy invalid : List.of(notImplemented, unknownOperator, danglingExpression)) {
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> transferStrategiesService.importStrategies(List.of(invalid)), invalid.getName());
+            assertTrue(exception.getMessage().startsWith("Strategy 1:"), exception.getMessage());
+        }
+        verify(strategyRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should reject rules missing a required parameter and invalid strategies")
+    void testImportStrategiesWithInvalidStrategies() {
+        // Arrange
+        when(ruleDefinitionRepository.findAll()).thenReturn(definitions);
+        Strategy missingParam = strategy(1L, rule(1L, "PRICE", null, "SMA", null));
+        Strategy withoutRules = Strategy.builder().name("Empty").description("No rules").build();
+        List<Strategy> withNull = new ArrayList<>();
+        withNull.add(null);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> transferStrategiesService.importStrategies(List.of(missingParam)));
+        assertThrows(IllegalArgumentException.class,
+                () -> transferStrategiesService.importStrategies(List.of(withoutRules)));
+        assertThrows(IllegalArgumentException.class, () -> transferStrategiesService.importStrategies(withNull));
+        verify(strategyRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Should validate the import size before touching the repositories")
+    void testImportStrategiesSize() {
+        // Arrange
+        List<Strategy> tooMany = Collections.nCopies(TransferStrategiesUseCase.MAX_IMPORT_SIZE + 1,
+                strategy(1L, rule(1L, "PRICE", null, "SMA", 50.0)));
+
+        // Act
+        int imported = transferStrategiesService.importStrategies(List.of());
+
+        // Assert
+        assertEquals(0, imported);
+        assertThrows(IllegalArgumentException.class, () -> transferStrategiesService.importStrategies(null));
+        assertThrows(IllegalArgumentException.class, () -> transferStrategiesService.importStrategies(tooMany));
+        verifyNoInteractions(strategyRepository, ruleDefinitionRepository);
+    }
+
+    @Test
+    @DisplayName("Should export every strategy page by page in ID order")
+    void testExportStrategies() {
+        // Arrange
+        List<Strategy> firstPage = LongStream.rangeClosed(1, KeysetPage.MAX_LIMIT)
+                .mapToObj(id -> strategy(id, rule(id, "PRICE", null, "SMA", 50.0)))
+                .toList();
+        Strategy last = strategy(KeysetPage.MAX_LIMIT + 1L, rule(1L, "PRICE", null, "SMA", 50.0));
+        when(strategyRepository.findPage(null, KeysetPage.MAX_LIMIT)).thenReturn(firstPage);
+        when(strategyRepository.findPage((long) KeysetPage.MAX_LIMIT, KeysetPage.MAX_LIMIT)).thenReturn(List.of(last));
+        List<Strategy> exported = new ArrayList<>();
+
+        // Act
+        transferStrategiesService.exportStrategies(exported::add);
+
+        // Assert
+        assertEquals(KeysetPage.MAX_LIMIT + 1, exported.size());
+        assertEquals(last, exported.get(exported.size() - 1));
+        verify(strategyRepository, times(2)).findPage(any(), anyInt());
+    }
+
+    private static Strategy strategy(Long id, Rule rule) {
+        return Strategy.builder()
+                .id(id)
+                .name("Strategy " + id)
+                .description("Imported")
+                .rules(List.of(rule))
+                .expression("R1")
+                .version(3L)
+                .build();
+    }
+
+    private static Rule rule(Long id, String subjectCode, Double subjectParam, String targetCode, Double targetParam) {
+        return Rule.builder()
+                .id(id)
+                .name("Rule " + id)
+                .subjectCode(subjectCode)
+                .subjectParam(subjectParam)
+                .operator(">")
+                .targetCode(targetCode)
+                .targetParam(targetParam)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.market.analysis.unit.domain.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -126,6 +127,7 @@ class AnalysisResultTest {
                 assertThrows(UnsupportedOperationException.class, () -> {
                         retrievedResults.add(newRuleResult);
                 });
+                assertSame(retrievedResults, analysisResult.getRuleResults());
         }
 
         @Test
@@ -0,0 +1,100 @@
+package com.market.analysis.unit.domain.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.market.analysis.domain.model.ArrayBarSeries;
+import com.market.analysis.domain.model.BarSeries;
+import com.market.analysis.domain.model.MarketDataPoint;
+import com.market.analysis.domain.model.TickerData;
+
+/**
+ * Unit tests for ArrayBarSeries domain entity.
+ */
+@DisplayName("ArrayBarSeries Domain Model Tests")
+class ArrayBarSeriesTest {
+
+    @Test
+    @DisplayName("Should convert market data points into primitive bars")
+    void testOfMarketDataPoints() {
+        // Arrange
+        LocalDateTime date = LocalDateTime.of(2026, 3, 2, 0, 0);
+        MarketDataPoint point = MarketDataPoint.builder()
+                .date(date)
+                .open(new BigDecimal("10.5"))
+                .high(new BigDecimal("12"))
+                .low(new BigDecimal("9"))
+                .close(new BigDecimal("11"))
+                .build();
+
+        // Act
+        BarSeries bars = ArrayBarSeries.of(List.of(point));
+
+        // Assert
+        assertEquals(1, bars.size());
+        assertEquals(date.toInstant(ZoneOffset.UTC).toEpochMilli(), bars.timestamp(0));
+        assertEquals(10.5, bars.open(0));
+        assertEquals(12.0, bars.high(0));
+        assertEquals(9.0, bars.low(0));
+        assertEquals(11.0, bars.close(0));
+        assertTrue(Double.isNaN(bars.volume(0)));
+    }
+
+    @Test
+    @DisplayName("Should expose bars derived from historical data on TickerData")
+    void testTickerDataBarsFallback() {
+        // Arrange
+        TickerData data = TickerData.builder()
+                .ticker("AAPL")
+                .historicalData(List.of(MarketDataPoint.builder().close(BigDecimal.ONE).volume(5L).build()))
+                .build();
+
+        // Act
+        BarSeries bars = data.getBars();
+
+        // Assert
+        assertEquals(1.0, bars.close(0));
+        assertEquals(5.0, bars.volume(0));
+        assertTrue(ArrayBarSeries.of(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should slice and search bars by timestamp")
+    void testSliceAndIndexOf() {
+        // Arrange
+        BarSeries bars = new ArrayBarSeries(new long[] { 10, 20, 30, 40 }, new double[4], new double[4],
+                new double[4], new double[] { 1, 2, 3, 4 }, new double[4]);
+
+        // Act
+        BarSeries slice = bars.slice(bars.indexOf(15), bars.indexOf(40));
+
+        // Assert
+        assertEquals(2, slice.size());
+        assertEquals(2.0, slice.close(0));
+        assertEquals(3.0, slice.slice(1, 2).close(0));
+        assertEquals(4, bars.indexOf(41));
+        assertThrows(IndexOutOfBoundsException.class, () -> slice.close(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> bars.slice(3, 5));
+    }
+
+    @Test
+    @DisplayName("Should reject mismatched columns")
+    void testRejectsMismatchedColumns() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new ArrayBarSeries(new long[1], new double[1], new double[1], new double[1], new double[2],
+                        new double[1]));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ArrayBarSeries(null, new double[0], new double[0], new double[0], new double[0],
+                        new double[0]));
+    }
+}
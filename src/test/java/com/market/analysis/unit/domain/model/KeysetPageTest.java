@@ -0,0 +1,71 @@
+package com.market.analysis.unit.domain.model;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.market.analysis.domain.model.KeysetPage;
+
+/**
+ * Unit tests for KeysetPage.
+ */
+@DisplayName("KeysetPage Unit Tests")
+class KeysetPageTest {
+
+    @Test
+    @DisplayName("Should trim the extra row and point the cursor at the last item")
+    void testOfWithNextPage() {
+        // Act
+        KeysetPage<Long, Long> page = KeysetPage.of(List.of(3L, 5L, 8L), 2, id -> id);
+
+        // Assert
+        assertEquals(List.of(3L, 5L), page.items());
+        assertEquals(5L, page.nextCursor());
+        assertTrue(page.hasNext());
+    }
+
+    @Test
+    @DisplayName("Should have no cursor on the last page")
+    void testOfLastPage() {
+        // Act
+        KeysetPage<Long, Long> page = KeysetPage.of(List.of(3L, 5L), 2, id -> id);
+        KeysetPage<Long, Long> empty = new KeysetPage<>(null, null);
+
+        // Assert
+        assertEquals(List.of(3L, 5L), page.items());
+        assertNull(page.nextCursor());
+        assertFalse(page.hasNext());
+        assertTrue(empty.items().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should validate cursor and limit")
+    void testValidate() {
+        // Act & Assert
+        assertDoesNotThrow(() -> KeysetPage.validate(null, 1));
+        assertDoesNotThrow(() -> KeysetPage.validate(0L, KeysetPage.MAX_LIMIT));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPage.validate(-1L, 10));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPage.validate(null, 0));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPage.validate(null, KeysetPage.MAX_LIMIT + 1));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPage.validateLimit(0));
+    }
+
+    @Test
+    @DisplayName("Should page on keys other than IDs")
+    void testOfWithStringKeys() {
+        // Act
+        KeysetPage<String, String> page = KeysetPage.of(List.of("AAPL", "GME", "TSLA"), 2, ticker -> ticker);
+
+        // Assert
+        assertEquals(List.of("AAPL", "GME"), page.items());
+        assertEquals("GME", page.nextCursor());
+    }
+}
@@ -3,11 +3,14 @@ package com.market.analysis.unit.domain.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import com.market.analysis.domain.model.Justification;
 import com.market.analysis.domain.model.Rule;
 import com.market.analysis.domain.model.RuleResult;
 
@@ -202,4 +205,38 @@ class RuleResultTest {
         assertNotNull(result1.getRule());
         assertNotNull(result2.getRule());
     }
+
+    @Test
+    @DisplayName("Should format a deferred justification only when read")
+    void testDeferredJustification() {
+        // Arrange
+        Justification justification = new Justification("SMA(50)", 101.5, ">", "SMA(200)", 98.2, true);
+
+        // Act
+        RuleResult result = RuleResult.builder()
+                .passed(true)
+                .deferredJustification(justification)
+                .build();
+
+        // Assert
+        assertSame(justification, result.getDeferredJustification());
+        assertEquals("SMA(50) = 101.5000 > SMA(200) = 98.2000: passed", result.getJustification());
+        assertTrue(result.toString().contains("justification=SMA(50) = 101.5000"));
+        assertEquals("Insufficient data to evaluate RSI(14) < CONSTANT(30)",
+                new Justification("RSI(14)", Double.NaN, "<", "CONSTANT(30)", 30, false).toString());
+        assertNull(RuleResult.builder().passed(false).build().getJustification());
+    }
+
+    @Test
+    @DisplayName("Should prefer the text justification when both are given")
+    void testTextJustificationWins() {
+        // Act
+        RuleResult result = RuleResult.builder()
+                .justification("manual")
+                .deferredJustification(new Justification("PRICE", 1, ">", "CONSTANT(2)", 2, false))
+                .build();
+
+        // Assert
+        assertEquals("manual", result.getJustification());
+    }
 }
@@ -0,0 +1,90 @@
+package com.market.analysis.unit.domain.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.market.analysis.domain.model.StrategyExpression;
+import com.market.analysis.domain.model.StrategyExpression.And;
+import com.market.analysis.domain.model.StrategyExpression.AtLeast;
+import com.market.analysis.domain.model.StrategyExpression.Not;
+import com.market.analysis.domain.model.StrategyExpression.Or;
+import com.market.analysis.domain.model.StrategyExpression.RuleRef;
+
+/**
+ * Unit tests for StrategyExpression.
+ */
+@DisplayName("StrategyExpression Unit Tests")
+class StrategyExpressionTest {
+
+    @Test
+    @DisplayName("Should bind AND tighter than OR")
+    void testParsePrecedence() {
+        // Act
+        StrategyExpression expression = StrategyExpression.parse("R1 AND R2 OR R3", 3);
+
+        // Assert
+        Or or = assertInstanceOf(Or.class, expression.getRoot());
+        assertEquals(new And(List.of(new RuleRef(0), new RuleRef(1))), or.operands().get(0));
+        assertEquals(new RuleRef(2), or.operands().get(1));
+        assertEquals("R1 AND R2 OR R3", expression.getSource());
+        assertEquals("R1 AND R2 OR R3", expression.toString());
+        assertEquals(3, expression.getRuleCount());
+    }
+
+    @Test
+    @DisplayName("Should parse parentheses, NOT and ATLEAST case-insensitively")
+    void testParseNestedExpression() {
+        // Act
+        StrategyExpression expression = StrategyExpression.parse(" not (r1 or R2) and atLeast(2, R3, R4, R5) ", 5);
+
+        // Assert
+        And and = assertInstanceOf(And.class, expression.getRoot());
+        assertEquals(new Not(new Or(List.of(new RuleRef(0), new RuleRef(1)))), and.operands().get(0));
+        AtLeast atLeast = assertInstanceOf(AtLeast.class, and.operands().get(1));
+        assertEquals(2, atLeast.count());
+        assertEquals(3, atLeast.operands().size());
+        assertEquals("not (r1 or R2) and atLeast(2, R3, R4, R5)", expression.getSource());
+    }
+
+    @Test
+    @DisplayName("Should evaluate the expression against rule outcomes")
+    void testEvaluate() {
+        // Arrange
+        StrategyExpression expression = StrategyExpression.parse("(R1 AND R2) OR ATLEAST(2, R3, R4, NOT R5)", 5);
+
+        // Act & Assert
+        assertTrue(expression.evaluate(new boolean[] { true, true, false, false, true }));
+        assertTrue(expression.evaluate(new boolean[] { false, true, true, false, false }));
+        assertFalse(expression.evaluate(new boolean[] { true, false, true, false, true }));
+        assertFalse(expression.evaluate(new boolean[] { false, false, false, false, false }));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed expressions with their position")
+    void testParseRejectsMalformedExpressions() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> StrategyExpression.parse(null, 1));
+        assertThrows(IllegalArgumentException.class, () -> StrategyExpression.parse(" ", 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> StrategyExpression.parse("R1 OR ".repeat(200) + "R1", 1));
+        assertThrows(IllegalArgumentException.class, () -> StrategyExpression.parse("R1 AND", 1));
+        assertThrows(IllegalArgumentException.class, () -> StrategyExpression.parse("(R1", 1));
+        assertThrows(IllegalArgumentException.class, () -> StrategyExpression.parse("R1 R1", 1));
+        assertThrows(IllegalArgumentException.class, () -> StrategyExpression.parse("ATLEAST(1)", 1));
+        assertThrows(IllegalArgumentException.class, () -> StrategyExpression.parse("ATLEAST(3, R1, R2)", 2));
+        assertThrows(IllegalArgumentException.class, () -> StrategyExpression.parse("R", 1));
+        assertThrows(IllegalArgumentException.class, () -> StrategyExpression.parse("ORR1", 1));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> StrategyExpression.parse("R1 AND R3", 2));
+        assertTrue(exception.getMessage().contains("R3"));
+        assertTrue(exception.getMessage().contains("position 9"));
+    }
+}
@@ -0,0 +1,34 @@
+package com.market.analysis.unit.domain.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.market.analysis.domain.model.StrategyPassSummary;
+
+/**
+ * Unit tests for StrategyPassSummary domain entity.
+ */
+@DisplayName("StrategyPassSummary Domain Model Tests")
+class StrategyPassSummaryTest {
+
+    @Test
+    @DisplayName("Should calculate pass rate as a percentage")
+    void testCalculatePassRate() {
+        // Arrange
+        StrategyPassSummary summary = StrategyPassSummary.builder().evaluatedCount(3).passedCount(1).build();
+
+        // Act & Assert
+        assertEquals(new BigDecimal("33.33"), summary.calculatePassRate());
+    }
+
+    @Test
+    @DisplayName("Should return zero pass rate without evaluations")
+    void testCalculatePassRateWithoutEvaluations() {
+        // Act & Assert
+        assertEquals(BigDecimal.ZERO, StrategyPassSummary.builder().build().calculatePassRate());
+    }
+}
@@ -3,6 +3,8 @@ package com.market.analysis.unit.domain.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -96,6 +98,9 @@ class StrategyTest {
                     .description("Description")
                     .build());
         });
+        rules.clear();
+        assertSame(retrievedRules, strategy.getRules());
+        assertEquals(1, retrievedRules.size());
     }
 
     @Test
@@ -303,4 +308,41 @@ class StrategyTest {
         assertNotNull(strategy.getRules());
         assertTrue(strategy.getRules().isEmpty());
     }
+
+    @Test
+    @DisplayName("Should normalize and parse the rule expression")
+    void testExpression() {
+        // Arrange
+        List<Rule> rules = List.of(Rule.builder().id(1L).build(), Rule.builder().id(2L).build());
+
+        // Act
+        Strategy blank = Strategy.builder().name("Test").description("Test").rules(rules).expression("  ").build();
+        Strategy combined = Strategy.builder().name("Test").description("Test").rules(rules)
+                .expression(" R1 OR R2 ").build();
+
+        // Assert
+        assertNull(blank.getExpression());
+        assertFalse(blank.hasExpression());
+        assertNull(blank.parseExpression());
+        assertEquals("R1 OR R2", combined.getExpression());
+        assertTrue(combined.hasExpression());
+        assertEquals(2, combined.parseExpression().getRuleCount());
+        combined.validateConsistency();
+    }
+
+    @Test
+    @DisplayName("Should validate consistency and throw exception when the expression is invalid")
+    void testValidateConsistencyThrowsExceptionWhenExpressionIsInvalid() {
+        // Arrange
+        Strategy strategy = Strategy.builder()
+                .name("Test")
+                .description("Test")
+                .rules(List.of(Rule.builder().id(1L).build()))
+                .expression("R1 AND R2")
+                .build();
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class, strategy::validateConsistency);
+        assertTrue(exception.getMessage().contains("R2"));
+    }
 }
@@ -1,7 +1,9 @@
 package com.market.analysis.unit.domain.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -15,8 +17,11 @@ import java.util.Map;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import com.market.analysis.domain.model.ArrayBarSeries;
+import com.market.analysis.domain.model.BarSeries;
 import com.market.analysis.domain.model.MarketDataPoint;
 import com.market.analysis.domain.model.TickerData;
+import com.market.analysis.domain.model.Timeframe;
 
 /**
  * Unit tests for TickerData domain entity.
@@ -102,6 +107,9 @@ class TickerDataTest {
                     .volume(1000L)
                     .build());
         });
+        historicalData.clear();
+        assertSame(retrievedData, tickerData.getHistoricalData());
+        assertEquals(1, retrievedData.size());
     }
 
     @Test
@@ -178,4 +186,91 @@ class TickerDataTest {
         assertNotNull(tickerData.getHistoricalData());
         assertTrue(tickerData.getHistoricalData().isEmpty());
     }
+
+    @Test
+    @DisplayName("Should expose views of other loaded timeframes")
+    void testAtTimeframe() {
+        // Arrange
+        BarSeries weekly = new ArrayBarSeries(new long[] { 0, 1 }, new double[] { 1, 2 }, new double[] { 1, 2 },
+                new double[] { 1, 2 }, new double[] { 10, 20 }, new double[] { 5, 6 });
+        TickerData daily = TickerData.builder()
+                .ticker("AAPL")
+                .currentPrice(BigDecimal.valueOf(25.0))
+                .build()
+                .withTimeframes(Timeframe.DAY_1, Map.of(Timeframe.WEEK_1, weekly));
+
+        // Act
+        TickerData weeklyView = daily.atTimeframe(Timeframe.WEEK_1);
+        TickerData missingView = daily.atTimeframe(Timeframe.HOUR_1);
+
+        // Assert
+        assertSame(daily, daily.atTimeframe(null));
+        assertSame(daily, daily.atTimeframe(Timeframe.DAY_1));
+        assertEquals("AAPL", weeklyView.getTicker());
+        assertEquals(BigDecimal.valueOf(20.0), weeklyView.getCurrentPrice());
+        assertEquals(2, weeklyView.getBars().size());
+        assertTrue(missingView.getBars().isEmpty());
+        assertSame(weeklyView, daily.atTimeframe(Timeframe.WEEK_1));
+        assertSame(missingView, daily.atTimeframe(Timeframe.HOUR_1));
+        assertTrue(daily.hasTimeframe(null));
+        assertTrue(daily.hasTimeframe(Timeframe.DAY_1));
+        assertTrue(daily.hasTimeframe(Timeframe.WEEK_1));
+        assertFalse(daily.hasTimeframe(Timeframe.HOUR_1));
+        assertThrows(UnsupportedOperationException.class,
+                () -> daily.getTimeframeBars().put(Timeframe.HOUR_1, weekly));
+    }
+
+    @Test
+    @DisplayName("Should convert the historical data to bars only once")
+    void testGetBarsIsMemoized() {
+        // Arrange
+        TickerData data = TickerData.builder()
+                .ticker("AAPL")
+                .historicalData(List.of(MarketDataPoint.builder()
+                        .date(LocalDateTime.of(2024, 1, 2, 0, 0))
+                        .close(BigDecimal.valueOf(150.0))
+                        .build()))
+                .build();
+
+        // Act
+        BarSeries bars = data.getBars();
+        TickerData combined = data.withTimeframes(Timeframe.DAY_1, Map.of());
+
+        // Assert
+        assertEquals(1, bars.size());
+        assertSame(bars, data.getBars());
+        assertSame(bars, combined.getBars());
+    }
+
+    @Test
+    @DisplayName("Should expose the bars up to a past bar")
+    void testAsOf() {
+        // Arrange
+        BarSeries bars = new ArrayBarSeries(new long[] { 10, 20, 30 }, new double[] { 1, 2, 3 },
+                new double[] { 1, 2, 3 }, new double[] { 1, 2, 3 }, new double[] { 1, 2, 3 }, new double[] { 1, 1, 1 });
+        TickerData data = TickerData.ofBars("AAPL", bars);
+
+        // Act
+        TickerData past = data.asOf(20);
+
+        // Assert
+        assertEquals(2, past.getBars().size());
+        assertEquals(BigDecimal.valueOf(2.0), past.getCurrentPrice());
+        assertTrue(data.asOf(5).getBars().isEmpty());
+        assertEquals(3, data.asOf(99).getBars().size());
+    }
+
+    @Test
+    @DisplayName("Should expose the current price as a primitive")
+    void testGetCurrentPriceValue() {
+        // Arrange
+        BarSeries bars = new ArrayBarSeries(new long[] { 10, 20 }, new double[] { 1, 2 }, new double[] { 1, 2 },
+                new double[] { 1, 2 }, new double[] { 1, 2.123456789012345 }, new double[] { 1, 1 });
+        TickerData quoted = TickerData.builder().ticker("AAPL").currentPrice(new BigDecimal("150.25")).build();
+
+        // Act & Assert
+        assertEquals(2.123456789012345, TickerData.ofBars("AAPL", bars).getCurrentPriceValue());
+        assertEquals(150.25, quoted.getCurrentPriceValue());
+        assertTrue(Double.isNaN(TickerData.builder().ticker("AAPL").build().getCurrentPriceValue()));
+    }
 }
@@ -0,0 +1,154 @@
+package com.market.analysis.unit.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.market.analysis.domain.model.ArrayBarSeries;
+import com.market.analysis.domain.model.BarSeries;
+import com.market.analysis.domain.model.Timeframe;
+import com.market.analysis.domain.service.CandleAggregator;
+
+/**
+ * Unit tests for CandleAggregator.
+ */
+@DisplayName("CandleAggregator Unit Tests")
+class CandleAggregatorTest {
+
+    private static final long START = Instant.parse("2026-03-02T14:30:00Z").toEpochMilli();
+    private static final long MINUTE = 60_000L;
+
+    @Test
+    @DisplayName("Should roll minute bars into OHLCV bars of a higher timeframe")
+    void testAggregatesOhlcv() {
+        // Arrange
+        CandleAggregator aggregator = new CandleAggregator(Timeframe.MINUTE_5);
+
+        // Act
+        for (int i = 0; i < 7; i++) {
+            aggregator.add(START + i * MINUTE, 10 + i, 20 + i, 5 - i, 11 + i, 100);
+        }
+        BarSeries bars = aggregator.snapshot();
+
+        // Assert
+        assertEquals(2, bars.size());
+        assertEquals(START, bars.timestamp(0));
+        assertEquals(10.0, bars.open(0));
+        assertEquals(24.0, bars.high(0));
+        assertEquals(1.0, bars.low(0));
+        assertEquals(15.0, bars.close(0));
+        assertEquals(500.0, bars.volume(0));
+        assertEquals(START + 5 * MINUTE, bars.timestamp(1));
+        assertEquals(17.0, bars.close(1));
+        assertEquals(200.0, bars.volume(1));
+    }
+
+    @Test
+    @DisplayName("Should update the forming bar incrementally and ignore replayed bars")
+    void testIncrementalUpdates() {
+        // Arrange
+        CandleAggregator aggregator = new CandleAggregator(Timeframe.HOUR_1);
+        aggregator.addAll(minutes(0, 30));
+        BarSeries before = aggregator.snapshot();
+
+        // Act
+        int consumed = aggregator.addAll(minutes(0, 45));
+        boolean replayed = aggregator.add(START, 1, 1, 1, 1, 1);
+
+        // Assert
+        assertEquals(15, consumed);
+        assertFalse(replayed);
+        assertEquals(1, before.size());
+        assertEquals(29.0, before.close(0));
+        BarSeries after = aggregator.snapshot();
+        assertEquals(2, after.size());
+        assertEquals(30.0, after.open(1));
+        assertEquals(44.0, after.close(1));
+        assertEquals(START + 44 * MINUTE, aggregator.getLastTimestamp());
+        assertSame(after, aggregator.snapshot());
+    }
+
+    @Test
+    @DisplayName("Should match batch resampling when fed in pieces")
+    void testStreamingMatchesBatch() {
+        // Arrange
+        BarSeries minutes = minutes(0, 600);
+        CandleAggregator streaming = new CandleAggregator(Timeframe.MINUTE_15);
+
+        // Act
+        for (int from = 0; from < 600; from += 37) {
+            streaming.addAll(minutes(from, Math.min(from + 37, 600)));
+        }
+        BarSeries batch = CandleAggregator.resample(minutes, Timeframe.MINUTE_15);
+
+        // Assert
+        BarSeries streamed = streaming.snapshot();
+        assertEquals(batch.size(), streamed.size());
+        for (int i = 0; i < batch.size(); i++) {
+            assertEquals(batch.timestamp(i), streamed.timestamp(i));
+            assertEquals(batch.high(i), streamed.high(i));
+            assertEquals(batch.close(i), streamed.close(i));
+            assertEquals(batch.volume(i), streamed.volume(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Should align daily bars to UTC days and weekly bars to Monday")
+    void testDailyAndWeeklyAlignment() {
+        // Arrange
+        long wednesday = LocalDate.of(2026, 3, 4).atTime(15, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+        long monday = LocalDate.of(2026, 3, 2).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+        long nextMonday = LocalDate.of(2026, 3, 9).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+
+        // Act & Assert
+        assertEquals(monday, Timeframe.WEEK_1.bucketStart(wednesday));
+        assertEquals(monday, Timeframe.WEEK_1.bucketStart(monday));
+        assertEquals(nextMonday, Timeframe.WEEK_1.nextBucketStart(wednesday));
+        assertEquals(monday + 2 * 86_400_000L, Timeframe.DAY_1.bucketStart(wednesday));
+        BarSeries weekly = CandleAggregator.resample(minutes(0, 3), Timeframe.WEEK_1);
+        assertEquals(1, weekly.size());
+        assertEquals(monday, weekly.timestamp(0));
+    }
+
+    @Test
+    @DisplayName("Should handle missing volume and reject a null timeframe")
+    void testMissingVolumeAndValidation() {
+        // Arrange
+        CandleAggregator aggregator = new CandleAggregator(Timeframe.MINUTE_5);
+
+        // Act
+        aggregator.add(START, 1, 1, 1, 1, Double.NaN);
+        aggregator.add(START + MINUTE, 1, 1, 1, 1, 50);
+        aggregator.add(START + 2 * MINUTE, 1, 1, 1, 1, Double.NaN);
+
+        // Assert
+        assertEquals(50.0, aggregator.snapshot().volume(0));
+        assertEquals(Timeframe.MINUTE_5, aggregator.getTimeframe());
+        assertEquals(0, CandleAggregator.resample(ArrayBarSeries.of(null), Timeframe.DAY_1).size());
+        assertThrows(IllegalArgumentException.class, () -> new CandleAggregator(null));
+    }
+
+    /**
+     * Minute bars with open, high, low and close equal to the minute index.
+     */
+    private static BarSeries minutes(int from, int to) {
+        int size = to - from;
+        long[] timestamps = new long[size];
+        double[] prices = new double[size];
+        double[] volumes = new double[size];
+        for (int i = 0; i < size; i++) {
+            timestamps[i] = START + (from + i) * MINUTE;
+            prices[i] = from + i;
+            volumes[i] = 10;
+        }
+        return new ArrayBarSeries(timestamps, prices, prices, prices, prices, volumes);
+    }
+}
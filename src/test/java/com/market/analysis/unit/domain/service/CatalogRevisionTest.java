@@ -0,0 +1,74 @@
+package com.market.analysis.unit.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.market.analysis.domain.port.out.CatalogRevisionRepository;
+import com.market.analysis.domain.service.CatalogRevision;
+
+/**
+ * Unit tests for CatalogRevision.
+ */
+@DisplayName("CatalogRevision Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class CatalogRevisionTest {
+
+    @Mock
+    private CatalogRevisionRepository repository;
+
+    @Test
+    @DisplayName("Should follow the revision persisted by the database")
+    void testCurrent() {
+        // Arrange
+        CatalogRevision revision = new CatalogRevision(repository);
+        when(repository.current()).thenReturn(41L, 41L, 42L);
+
+        // Act
+        String initial = revision.current();
+        String unchanged = revision.current();
+        String advanced = revision.current();
+
+        // Assert
+        assertEquals("r41", initial);
+        assertEquals(initial, unchanged);
+        assertNotEquals(initial, advanced);
+    }
+
+    @Test
+    @DisplayName("Should give every instance sharing the database the same revision")
+    void testSharedAcrossInstances() {
+        // Arrange
+        when(repository.current()).thenReturn(7L);
+
+        // Act
+        String first = new CatalogRevision(repository).current();
+        String second = new CatalogRevision(repository).current();
+
+        // Assert
+        assertEquals(first, second);
+    }
+
+    @Test
+    @DisplayName("Should expose the revision as a number and refresh it from the database")
+    void testValueAndRefresh() {
+        // Arrange
+        CatalogRevision revision = new CatalogRevision(repository);
+        when(repository.current()).thenReturn(7L);
+        when(repository.refresh()).thenReturn(9L);
+
+        // Act
+        long value = revision.value();
+        String refreshed = revision.refresh();
+
+        // Assert
+        assertEquals(7L, value);
+        assertEquals("r9", refreshed);
+    }
+}
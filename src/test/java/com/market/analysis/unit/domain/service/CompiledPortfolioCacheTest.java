@@ -0,0 +1,144 @@
+package com.market.analysis.unit.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.market.analysis.domain.model.Rule;
+import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.domain.port.out.CatalogRevisionRepository;
+import com.market.analysis.domain.service.CatalogRevision;
+import com.market.analysis.domain.service.CompiledPortfolio;
+import com.market.analysis.domain.service.CompiledPortfolioCache;
+import com.market.analysis.domain.service.IndicatorLibrary;
+import com.market.analysis.domain.service.PortfolioCompiler;
+import com.market.analysis.domain.service.RuleEvaluator;
+
+/**
+ * Unit tests for CompiledPortfolioCache.
+ */
+@DisplayName("CompiledPortfolioCache Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class CompiledPortfolioCacheTest {
+
+    @Mock
+    private CatalogRevisionRepository catalogRevisionRepository;
+
+    private PortfolioCompiler portfolioCompiler;
+    private CompiledPortfolioCache cache;
+
+    @BeforeEach
+    void setUp() {
+        portfolioCompiler = new PortfolioCompiler(new RuleEvaluator(new IndicatorLibrary()));
+        cache = new CompiledPortfolioCache(portfolioCompiler, new CatalogRevision(catalogRevisionRepository), 2);
+    }
+
+    @Test
+    @DisplayName("Should reuse the portfolio of the same strategy versions within a revision")
+    void testHit() {
+        // Arrange
+        CompiledPortfolio first = cache.get(List.of(strategy(1L, 0L), strategy(2L, 0L)));
+
+        // Act
+        CompiledPortfolio second = cache.get(List.of(strategy(1L, 0L), strategy(2L, 0L)));
+        CompiledPortfolio reordered = cache.get(List.of(strategy(2L, 0L), strategy(1L, 0L)));
+        CompiledPortfolio updated = cache.get(List.of(strategy(1L, 1L), strategy(2L, 0L)));
+
+        // Assert
+        assertSame(first, second);
+        assertNotSame(first, reordered);
+        assertNotSame(first, updated);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Should drop every portfolio once the catalogue revision changes")
+    void testRevisionChange() {
+        // Arrange
+        when(catalogRevisionRepository.current()).thenReturn(1L, 1L, 2L);
+        List<Strategy> strategies = List.of(strategy(1L, 0L));
+        CompiledPortfolio first = cache.get(strategies);
+        cache.get(List.of(strategy(2L, 0L)));
+
+        // Act
+        CompiledPortfolio afterWrite = cache.get(strategies);
+
+        // Assert
+        assertNotSame(first, afterWrite);
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should compile unsaved strategies every time without caching them")
+    void testUnsavedStrategies() {
+        // Arrange
+        List<Strategy> strategies = List.of(strategy(null, null));
+
+        // Act
+        CompiledPortfolio first = cache.get(strategies);
+        CompiledPortfolio second = cache.get(strategies);
+
+        // Assert
+        assertNotSame(first, second);
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used portfolio beyond the entry limit")
+    void testEviction() {
+        // Arrange
+        CompiledPortfolio first = cache.get(List.of(strategy(1L, 0L)));
+        cache.get(List.of(strategy(2L, 0L)));
+        cache.get(List.of(strategy(1L, 0L)));
+
+        // Act
+        cache.get(List.of(strategy(3L, 0L)));
+
+        // Assert
+        assertEquals(2, cache.size());
+        assertSame(first, cache.get(List.of(strategy(1L, 0L))));
+        assertEquals(2, cache.getHitCount());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid arguments")
+    void testInvalidArguments() {
+        // Arrange
+        CatalogRevision revision = new CatalogRevision(catalogRevisionRepository);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new CompiledPortfolioCache(portfolioCompiler, revision, 0));
+        assertThrows(IllegalArgumentException.class, () -> cache.get(null));
+    }
+
+    private static Strategy strategy(Long id, Long version) {
+        Rule rule = Rule.builder()
+                .id(id)
+                .name("Price above 100")
+                .subjectCode("PRICE")
+                .operator(">")
+                .targetCode("CONSTANT")
+                .targetParam(100.0)
+                .build();
+        return Strategy.builder()
+                .id(id)
+                .version(version)
+                .name("Strategy " + id)
+                .description("Cached")
+                .rules(List.of(rule))
+                .build();
+    }
+}
@@ -0,0 +1,252 @@
+package com.market.analysis.unit.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongToDoubleFunction;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.market.analysis.domain.model.ArrayBarSeries;
+import com.market.analysis.domain.model.BarSeries;
+import com.market.analysis.domain.service.CrossingOperator;
+import com.market.analysis.domain.service.CrossingOperator.Direction;
+import com.market.analysis.domain.service.CrossingState;
+import com.market.analysis.domain.service.CrossingStateStore;
+
+/**
+ * Unit tests for CrossingOperator, CrossingState and CrossingStateStore.
+ */
+@DisplayName("CrossingState Unit Tests")
+class CrossingStateTest {
+
+    @Test
+    @DisplayName("Should parse crossing symbols")
+    void testFromSymbol() {
+        // Act & Assert
+        assertEquals(new CrossingOperator(Direction.ABOVE, 1), CrossingOperator.fromSymbol("crosses above"));
+        assertEquals(new CrossingOperator(Direction.BELOW, 1), CrossingOperator.fromSymbol(" Crosses  Below "));
+        assertEquals(new CrossingOperator(Direction.ABOVE, 5), CrossingOperator.fromSymbol("crossed above within 5"));
+        assertEquals(new CrossingOperator(Direction.BELOW, 3),
+                CrossingOperator.fromSymbol("crossed below within 3 bars"));
+        assertEquals("crossed below within 3", new CrossingOperator(Direction.BELOW, 3).getSymbol());
+        assertEquals("crosses above", new CrossingOperator(Direction.ABOVE, 1).getSymbol());
+        assertTrue(CrossingOperator.isCrossing("Crosses above"));
+        assertFalse(CrossingOperator.isCrossing(">"));
+        assertFalse(CrossingOperator.isCrossing(null));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid crossing symbols")
+    void testFromSymbolRejectsInvalidSymbols() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> CrossingOperator.fromSymbol(null));
+        assertThrows(IllegalArgumentException.class, () -> CrossingOperator.fromSymbol("crosses sideways"));
+        assertThrows(IllegalArgumentException.class, () -> CrossingOperator.fromSymbol("crossed above within 0"));
+        assertThrows(IllegalArgumentException.class, () -> CrossingOperator.fromSymbol("crossed above within 501"));
+        assertThrows(IllegalArgumentException.class, () -> new CrossingOperator(null, 1));
+    }
+
+    @Test
+    @DisplayName("Should count bars since the last cross in each direction")
+    void testAdvanceTracksCrosses() {
+        // Arrange
+        CrossingState state = new CrossingState();
+        CrossingOperator crossesAbove = CrossingOperator.fromSymbol("crosses above");
+        CrossingOperator crossedAboveWithin3 = CrossingOperator.fromSymbol("crossed above within 3");
+        CrossingOperator crossesBelow = CrossingOperator.fromSymbol("crosses below");
+
+        // Act & Assert
+        state.advance(1, 1, 2);
+        assertEquals(CrossingState.NEVER, state.getBarsSinceCrossAbove());
+        state.advance(2, 2, 2);
+        assertFalse(crossesAbove.test(state));
+        state.advance(3, 3, 2);
+        assertTrue(crossesAbove.test(state));
+        assertEquals(0, state.getBarsSinceCrossAbove());
+        state.advance(4, 4, 2);
+        state.advance(5, 5, 2);
+        assertFalse(crossesAbove.test(state));
+        assertTrue(crossedAboveWithin3.test(state));
+        state.advance(6, 1, 2);
+        assertTrue(crossesBelow.test(state));
+        assertFalse(crossedAboveWithin3.test(state));
+        assertEquals(3, state.getBarsSinceCrossAbove());
+        assertEquals(6, state.getTimestamp());
+    }
+
+    @Test
+    @DisplayName("Should refold the forming bar and ignore older bars")
+    void testAdvanceRefoldsLastBar() {
+        // Arrange
+        CrossingState state = new CrossingState();
+        state.advance(1, 1, 2);
+
+        // Act
+        state.advance(2, 3, 2);
+        int crossedOnFirstTick = state.getBarsSinceCrossAbove();
+        state.advance(2, 1.5, 2);
+        state.advance(1, 9, 2);
+
+        // Assert
+        assertEquals(0, crossedOnFirstTick);
+        assertEquals(CrossingState.NEVER, state.getBarsSinceCrossAbove());
+        assertEquals(2, state.getTimestamp());
+    }
+
+    @Test
+    @DisplayName("Should not detect crosses across missing values")
+    void testAdvanceWithNaN() {
+        // Arrange
+        CrossingState state = new CrossingState();
+
+        // Act
+        state.advance(1, 1, 2);
+        state.advance(2, Double.NaN, 2);
+        state.advance(3, 3, 2);
+
+        // Assert
+        assertEquals(CrossingState.NEVER, state.getBarsSinceCrossAbove());
+    }
+
+    @Test
+    @DisplayName("Should seed from the lookback and then fold one bar per update")
+    void testUpdateFoldsOnlyNewBars() {
+        // Arrange: the subject is the bar number and crosses above 5.5 on bar 6
+        BarSeries bars = series(10);
+        AtomicInteger lookups = new AtomicInteger();
+        LongToDoubleFunction subjectAt = timestamp -> {
+            lookups.incrementAndGet();
+            return timestamp;
+        };
+        LongToDoubleFunction target = timestamp -> 5.5;
+        CrossingState state = new CrossingState();
+
+        // Act
+        int seeded = state.update(bars.slice(0, 6), 3, 6, 5.5, subjectAt, target);
+        int lookupsAfterSeed = lookups.get();
+        int next = state.update(bars.slice(0, 7), 3, 7, 5.5, subjectAt, target);
+        int same = state.update(bars.slice(0, 7), 3, 7, 5.5, subjectAt, target);
+
+        // Assert
+        assertEquals(3, seeded);
+        assertEquals(3, lookupsAfterSeed);
+        assertEquals(0, next);
+        assertEquals(0, same);
+        assertEquals(3, lookups.get());
+        assertEquals(1, state.getBarsSinceCrossAbove());
+    }
+
+    @Test
+    @DisplayName("Should replay skipped bars and reseed when too far behind")
+    void testUpdateCatchesUp() {
+        // Arrange
+        BarSeries bars = series(20);
+        LongToDoubleFunction subjectAt = timestamp -> timestamp;
+        LongToDoubleFunction target = timestamp -> 5.5;
+        CrossingState state = new CrossingState();
+        state.update(bars.slice(0, 4), 3, 4, 5.5, subjectAt, target);
+
+        // Act
+        int caughtUp = state.update(bars.slice(0, 7), 3, 7, 5.5, subjectAt, target);
+        int reseeded = state.update(bars, 3, 20, 5.5, subjectAt, target);
+        int empty = state.update(bars.slice(0, 0), 3, 0, 0, subjectAt, target);
+
+        // Assert
+        assertEquals(2, caughtUp);
+        assertEquals(3, reseeded);
+        assertEquals(0, empty);
+        assertEquals(CrossingState.NEVER, state.getBarsSinceCrossAbove());
+        assertEquals(20, state.getTimestamp());
+    }
+
+    @Test
+    @DisplayName("Should keep one state per tuple and evict states not used since the last sweep")
+    void testStoreEvictsUnusedStates() {
+        // Arrange
+        CrossingStateStore store = new CrossingStateStore(2);
+        CrossingState apple = store.get("AAPL", "SMA(5)", "SMA(20)", 1);
+        CrossingState microsoft = store.get("MSFT", "SMA(5)", "SMA(20)", 1);
+
+        // Act
+        CrossingState appleAgain = store.get("AAPL", "SMA(5)", "SMA(20)", 1);
+        store.get("TSLA", "SMA(5)", "SMA(20)", 3);
+        store.get("NVDA", "SMA(5)", "SMA(20)", 1);
+        int size = store.size();
+
+        // Assert
+        assertSame(apple, appleAgain);
+        assertEquals(2, size);
+        assertNotSame(apple, store.get("AAPL", "SMA(5)", "SMA(20)", 1));
+        assertNotSame(microsoft, store.get("MSFT", "SMA(5)", "SMA(20)", 1));
+        assertThrows(IllegalArgumentException.class, () -> new CrossingStateStore(0));
+    }
+
+    @Test
+    @DisplayName("Should keep a new state through a sweep before its second evaluation")
+    void testStoreKeepsNewStateThroughSweep() {
+        // Arrange
+        CrossingStateStore store = new CrossingStateStore(2);
+        store.get("AAPL", "SMA(5)", "SMA(20)", 1);
+        store.get("MSFT", "SMA(5)", "SMA(20)", 1);
+        store.get("AAPL", "SMA(5)", "SMA(20)", 1);
+        store.get("MSFT", "SMA(5)", "SMA(20)", 1);
+        CrossingState tesla = store.get("TSLA", "SMA(5)", "SMA(20)", 1);
+
+        // Act
+        store.get("NVDA", "SMA(5)", "SMA(20)", 1);
+        CrossingState teslaAgain = store.get("TSLA", "SMA(5)", "SMA(20)", 1);
+
+        // Assert
+        assertSame(tesla, teslaAgain);
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    @DisplayName("Should share one slot per predicate and bound the store under concurrent use")
+    void testStoreSlots() throws InterruptedException {
+        // Arrange
+        CrossingStateStore store = new CrossingStateStore(64);
+        CrossingStateStore.Slot slot = store.slot("SMA(5)", "SMA(20)", 1);
+        Thread[] workers = new Thread[4];
+        for (int w = 0; w < workers.length; w++) {
+            workers[w] = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    store.slot("SMA(5)", "SMA(20)", 1 + i % 2).get("T" + i % 500);
+                }
+            });
+        }
+
+        // Act
+        CrossingState apple = slot.get("AAPL");
+        for (Thread worker : workers) {
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        // Assert
+        assertSame(slot, store.slot("SMA(5)", "SMA(20)", 1));
+        assertNotSame(slot, store.slot("SMA(5)", "SMA(20)", 2));
+        assertSame(store.get("MSFT", "SMA(5)", "SMA(20)", 1), slot.get("MSFT"));
+        assertNotSame(apple, slot.get("AAPL"));
+        assertTrue(store.size() <= 64 + 64 / 16 + workers.length, "size " + store.size());
+    }
+
+    private static BarSeries series(int size) {
+        long[] timestamps = new long[size];
+        double[] closes = new double[size];
+        for (int i = 0; i < size; i++) {
+            timestamps[i] = i + 1;
+            closes[i] = i + 1;
+        }
+        return new ArrayBarSeries(timestamps, closes, closes, closes, closes, closes);
+    }
+}
@@ -0,0 +1,164 @@
+package com.market.analysis.unit.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.market.analysis.domain.model.MarketDataPoint;
+import com.market.analysis.domain.model.TickerData;
+import com.market.analysis.domain.service.IndicatorLibrary;
+
+/**
+ * Unit tests for IndicatorLibrary.
+ */
+@DisplayName("IndicatorLibrary Unit Tests")
+class IndicatorLibraryTest {
+
+    private final IndicatorLibrary library = new IndicatorLibrary();
+
+    @Test
+    @DisplayName("Should resolve indicator codes case-insensitively")
+    void testFindIsCaseInsensitive() {
+        // Act & Assert
+        assertTrue(library.supports("sma"));
+        assertTrue(library.supports(" PRICE "));
+        assertFalse(library.supports("UNKNOWN"));
+        assertFalse(library.supports(null));
+    }
+
+    @Test
+    @DisplayName("Should compute simple moving average over the last N closes")
+    void testSmaUsesLastCloses() {
+        // Arrange
+        TickerData data = tickerWithCloses(1, 2, 3, 4, 5);
+
+        // Act
+        double sma = library.find("SMA").orElseThrow().compute(data, 3.0);
+
+        // Assert
+        assertEquals(4.0, sma, 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should return NaN when there is not enough history")
+    void testSmaReturnsNaNWithInsufficientData() {
+        // Arrange
+        TickerData data = tickerWithCloses(1, 2);
+
+        // Act
+        double sma = library.find("SMA").orElseThrow().compute(data, 3.0);
+
+        // Assert
+        assertTrue(Double.isNaN(sma));
+    }
+
+    @Test
+    @DisplayName("Should fall back to last close when current price is missing")
+    void testPriceFallsBackToLastClose() {
+        // Arrange
+        TickerData data = tickerWithCloses(10, 11, 12);
+
+        // Act
+        double price = library.find("PRICE").orElseThrow().compute(data, null);
+
+        // Assert
+        assertEquals(12.0, price, 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should return the parameter for CONSTANT")
+    void testConstantReturnsParameter() {
+        // Act & Assert
+        assertEquals(100.0, library.find("CONSTANT").orElseThrow().compute(tickerWithCloses(), 100.0), 1e-9);
+        assertTrue(Double.isNaN(library.find("CONSTANT").orElseThrow().compute(tickerWithCloses(), null)));
+    }
+
+    @Test
+    @DisplayName("Should compute RSI of 100 for a strictly rising series")
+    void testRsiOfRisingSeries() {
+        // Arrange
+        TickerData data = tickerWithCloses(1, 2, 3, 4, 5, 6);
+
+        // Act
+        double rsi = library.find("RSI").orElseThrow().compute(data, 3.0);
+
+        // Assert
+        assertEquals(100.0, rsi, 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should compute EMA equal to the close for a flat series")
+    void testEmaOfFlatSeries() {
+        // Arrange
+        TickerData data = tickerWithCloses(5, 5, 5, 5, 5);
+
+        // Act
+        double ema = library.find("EMA").orElseThrow().compute(data, 3.0);
+
+        // Assert
+        assertEquals(5.0, ema, 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should compute volume moving average")
+    void testVolumeSma() {
+        // Arrange
+        TickerData data = tickerWithCloses(1, 2, 3, 4);
+
+        // Act
+        double volumeSma = library.find("VOLUME_SMA").orElseThrow().compute(data, 2.0);
+
+        // Assert
+        assertEquals(3500.0, volumeSma, 1e-9);
+    }
+
+    @Test
+    @DisplayName("Should accept custom indicators")
+    void testCustomIndicators() {
+        // Arrange
+        IndicatorLibrary custom = new IndicatorLibrary(Map.of("answer", (data, param) -> 42.0));
+
+        // Act & Assert
+        assertEquals(42.0, custom.find("ANSWER").orElseThrow().compute(tickerWithCloses(), null), 1e-9);
+        assertFalse(custom.supports("SMA"));
+    }
+
+    @Test
+    @DisplayName("Should estimate the history each indicator needs")
+    void testRequiredBars() {
+        // Act & Assert
+        assertEquals(200, IndicatorLibrary.requiredBars("sma", 200.0));
+        assertEquals(15, IndicatorLibrary.requiredBars("RSI", 14.0));
+        assertEquals(60, IndicatorLibrary.requiredBars("EMA", 20.0));
+        assertEquals(1, IndicatorLibrary.requiredBars("PRICE", null));
+        assertEquals(1, IndicatorLibrary.requiredBars(null, null));
+    }
+
+    private static TickerData tickerWithCloses(double... closes) {
+        List<MarketDataPoint> history = new ArrayList<>();
+        LocalDateTime date = LocalDateTime.of(2026, 1, 1, 0, 0);
+        for (int i = 0; i < closes.length; i++) {
+            history.add(MarketDataPoint.builder()
+                    .date(date.plusDays(i))
+                    .open(BigDecimal.valueOf(closes[i]))
+                    .high(BigDecimal.valueOf(closes[i]))
+                    .low(BigDecimal.valueOf(closes[i]))
+                    .close(BigDecimal.valueOf(closes[i]))
+                    .volume(1000L * (i + 1))
+                    .build());
+        }
+        return TickerData.builder()
+                .ticker("TEST")
+                .historicalData(history)
+                .build();
+    }
+}
@@ -0,0 +1,389 @@
+package com.market.analysis.unit.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.market.analysis.domain.model.AnalysisResult;
+import com.market.analysis.domain.model.ArrayBarSeries;
+import com.market.analysis.domain.model.BarSeries;
+import com.market.analysis.domain.model.Rule;
+import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.domain.model.TickerData;
+import com.market.analysis.domain.model.Timeframe;
+import com.market.analysis.domain.model.RuleDefinition;
+import com.market.analysis.domain.service.CompiledPortfolio;
+import com.market.analysis.domain.service.CrossingStateStore;
+import com.market.analysis.domain.service.EvaluationBuffer;
+import com.market.analysis.domain.service.IndicatorLibrary;
+import com.market.analysis.domain.service.PortfolioCompiler;
+import com.market.analysis.domain.service.RuleDefinitionRegistry;
+import com.market.analysis.domain.service.RuleEvaluator;
+
+/**
+ * Unit tests for PortfolioCompiler and CompiledPortfolio.
+ */
+@DisplayName("PortfolioCompiler Unit Tests")
+class PortfolioCompilerTest {
+
+    private final PortfolioCompiler compiler = new PortfolioCompiler(new RuleEvaluator(new IndicatorLibrary()));
+
+    @Test
+    @DisplayName("Should deduplicate identical rules across strategies")
+    void testCompileDeduplicatesPredicates() {
+        // Arrange: 200 strategies of 5 rules drawn from 40 distinct predicates
+        List<Strategy> strategies = new ArrayList<>();
+        long ruleId = 1;
+        for (int s = 0; s < 200; s++) {
+            List<Rule> rules = new ArrayList<>();
+            for (int r = 0; r < 5; r++) {
+                rules.add(priceRule(ruleId++, ">", (double) ((s + r * 7) % 40)));
+            }
+            strategies.add(strategy(s, rules));
+        }
+
+        // Act
+        CompiledPortfolio portfolio = compiler.compile(strategies);
+
+        // Assert
+        assertEquals(1000, portfolio.getRuleCount());
+        assertEquals(40, portfolio.getPredicateCount());
+        assertEquals(41, portfolio.getOperandCount());
+        assertEquals(200, portfolio.evaluate(ticker(20)).size());
+    }
+
+    @Test
+    @DisplayName("Should compute each unique operand once per ticker")
+    void testEvaluateComputesSharedOperandsOnce() {
+        // Arrange
+        AtomicInteger calls = new AtomicInteger();
+        IndicatorLibrary library = new IndicatorLibrary(Map.of(
+                "COUNTED", (data, param) -> {
+                    calls.incrementAndGet();
+                    return 10.0;
+                },
+                "CONSTANT", (data, param) -> param));
+        PortfolioCompiler countingCompiler = new PortfolioCompiler(new RuleEvaluator(library));
+        Rule first = Rule.builder().id(1L).subjectCode("COUNTED").operator(">").targetCode("CONSTANT")
+                .targetParam(5.0).build();
+        Rule second = Rule.builder().id(2L).subjectCode("counted").operator("<").targetCode("CONSTANT")
+                .targetParam(50.0).build();
+        CompiledPortfolio portfolio = countingCompiler.compile(List.of(
+                strategy(1, List.of(first)), strategy(2, List.of(second)), strategy(3, List.of(first, second))));
+
+        // Act
+        List<AnalysisResult> results = portfolio.evaluate(ticker(1));
+
+        // Assert
+        assertEquals(1, calls.get());
+        assertEquals(2, portfolio.getPredicateCount());
+        assertTrue(results.stream().allMatch(AnalysisResult::isOverallPassed));
+    }
+
+    @Test
+    @DisplayName("Should resolve codes through the registry snapshot of each compilation")
+    void testCompileResolvesCodesThroughRegistry() {
+        // Arrange
+        List<RuleDefinition> stored = new ArrayList<>();
+        RuleDefinitionRegistry registry = new RuleDefinitionRegistry(new IndicatorLibrary(), () -> List.copyOf(stored));
+        PortfolioCompiler registryCompiler = new PortfolioCompiler(registry, new CrossingStateStore());
+        Rule defined = Rule.builder().id(1L).subjectCode("Custom").operator(">").targetCode("CONSTANT")
+                .targetParam(5.0).build();
+        Rule builtIn = Rule.builder().id(2L).subjectCode(" price ").operator(">").targetCode("CONSTANT")
+                .targetParam(5.0).build();
+        List<Strategy> definedOnly = List.of(strategy(1, List.of(defined)));
+
+        // Act
+        CompiledPortfolio portfolio = registryCompiler.compile(List.of(strategy(2, List.of(builtIn))));
+        stored.add(RuleDefinition.builder().id(1L).code("CUSTOM").name("No implementation").build());
+        registry.refresh();
+
+        // Assert
+        assertEquals(2, portfolio.getOperandCount());
+        assertTrue(portfolio.evaluate(ticker(10)).get(0).isOverallPassed());
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> registryCompiler.compile(definedOnly));
+        assertEquals("Unsupported indicator code: Custom", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should fan predicate outcomes out to each strategy's own rules")
+    void testEvaluateFansOutResults() {
+        // Arrange
+        Rule passing = priceRule(1L, ">", 100.0);
+        Rule failing = priceRule(2L, "<", 100.0);
+        Rule passingDuplicate = priceRule(3L, ">", 100.0);
+        Strategy mixed = strategy(1, List.of(passing, failing));
+        Strategy allPassing = strategy(2, List.of(passingDuplicate));
+
+        // Act
+        List<AnalysisResult> results = compiler.compile(List.of(mixed, allPassing)).evaluate(ticker(150));
+
+        // Assert
+        AnalysisResult mixedResult = results.get(0);
+        assertSame(mixed, mixedResult.getStrategy());
+        assertEquals("TEST", mixedResult.getTicker());
+        assertFalse(mixedResult.isOverallPassed());
+        assertEquals("1/2 rules passed", mixedResult.getSummary());
+        assertEquals(passing, mixedResult.getRuleResults().get(0).getRule());
+        assertEquals(failing, mixedResult.getRuleResults().get(1).getRule());
+
+        AnalysisResult passingResult = results.get(1);
+        assertTrue(passingResult.isOverallPassed());
+        assertEquals(passingDuplicate, passingResult.getRuleResults().get(0).getRule());
+        assertSame(mixedResult.getRuleResults().get(0).getDeferredJustification(),
+                passingResult.getRuleResults().get(0).getDeferredJustification());
+        assertEquals("PRICE = 150.0000 > CONSTANT(100) = 100.0000: passed",
+                passingResult.getRuleResults().get(0).getJustification());
+        passingResult.validateConsistency();
+    }
+
+    @Test
+    @DisplayName("Should evaluate each rule side on its own timeframe")
+    void testEvaluateMultipleTimeframes() {
+        // Arrange: daily SMA(2) = 25 against weekly SMA(2) = 10
+        Rule rule = Rule.builder().id(1L).subjectCode("SMA").subjectParam(2.0).subjectTimeframe(Timeframe.DAY_1)
+                .operator(">").targetCode("SMA").targetParam(2.0).targetTimeframe(Timeframe.WEEK_1).build();
+        TickerData data = TickerData.ofBars("TEST", closes(10, 20, 30))
+                .withTimeframes(Timeframe.DAY_1, Map.of(Timeframe.WEEK_1, closes(5, 15)));
+        CompiledPortfolio portfolio = compiler.compile(List.of(strategy(1, List.of(rule))));
+
+        // Act
+        AnalysisResult result = portfolio.evaluate(data).get(0);
+
+        // Assert
+        assertTrue(result.isOverallPassed());
+        assertEquals("SMA(2)[DAY_1] = 25.0000 > SMA(2)[WEEK_1] = 10.0000: passed",
+                result.getRuleResults().get(0).getJustification());
+        assertEquals(EnumSet.of(Timeframe.DAY_1, Timeframe.WEEK_1), portfolio.getTimeframes());
+        assertEquals(2, portfolio.getOperandCount());
+    }
+
+    @Test
+    @DisplayName("Should fail when the bars of a referenced timeframe were not loaded")
+    void testEvaluateMissingTimeframe() {
+        // Arrange
+        Rule rule = Rule.builder().id(1L).subjectCode("SMA").subjectParam(2.0).subjectTimeframe(Timeframe.DAY_1)
+                .operator(">").targetCode("SMA").targetParam(2.0).targetTimeframe(Timeframe.WEEK_1).build();
+        TickerData withoutWeekly = TickerData.ofBars("TEST", closes(10, 20, 30))
+                .withTimeframes(Timeframe.DAY_1, Map.of());
+        CompiledPortfolio portfolio = compiler.compile(List.of(strategy(1, List.of(rule))));
+
+        // Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> portfolio.evaluate(withoutWeekly));
+
+        // Assert
+        assertTrue(exception.getMessage().contains("WEEK_1"));
+    }
+
+    @Test
+    @DisplayName("Should resolve each timeframe series once and share it across rules")
+    void testEvaluateSharesTimeframeViews() {
+        // Arrange
+        Set<TickerData> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        IndicatorLibrary library = new IndicatorLibrary(Map.of(
+                "SEEN", (data, param) -> {
+                    seen.add(data);
+                    return param;
+                }));
+        PortfolioCompiler recordingCompiler = new PortfolioCompiler(new RuleEvaluator(library));
+        List<Rule> rules = new ArrayList<>();
+        for (int r = 0; r < 6; r++) {
+            rules.add(Rule.builder().id((long) r).subjectCode("SEEN").subjectParam((double) r)
+                    .subjectTimeframe(Timeframe.WEEK_1).operator(">").targetCode("SEEN").targetParam(-1.0)
+                    .targetTimeframe(Timeframe.HOUR_1).build());
+        }
+        TickerData data = TickerData.ofBars("TEST", closes(1)).withTimeframes(Timeframe.DAY_1,
+                Map.of(Timeframe.WEEK_1, closes(1), Timeframe.HOUR_1, closes(1)));
+
+        // Act
+        recordingCompiler.compile(List.of(strategy(1, rules))).evaluate(data);
+
+        // Assert
+        assertEquals(2, seen.size());
+    }
+
+    @Test
+    @DisplayName("Should not pass strategies without rules")
+    void testEvaluateStrategyWithoutRules() {
+        // Act
+        List<AnalysisResult> results = compiler.compile(List.of(strategy(1, List.of()))).evaluate(ticker(1));
+
+        // Assert
+        assertFalse(results.get(0).isOverallPassed());
+    }
+
+    @Test
+    @DisplayName("Should combine rules with the strategy expression")
+    void testEvaluateStrategyExpression() {
+        // Arrange: at 150, R1 (> 100) passes and R2 (< 100) and R3 (> 200) fail
+        List<Rule> rules = List.of(priceRule(1L, ">", 100.0), priceRule(2L, "<", 100.0), priceRule(3L, ">", 200.0));
+        Strategy either = expressionStrategy(1, rules, "(R1 AND R2) OR NOT R3");
+        Strategy both = expressionStrategy(2, rules, "R1 AND (R2 OR R3)");
+        Strategy twoOfThree = expressionStrategy(3, rules, "ATLEAST(2, R1, R2, R3)");
+        Strategy oneOfThree = expressionStrategy(4, rules, "atleast(1, r1, r2, r3)");
+
+        // Act
+        List<AnalysisResult> results = compiler.compile(List.of(either, both, twoOfThree, oneOfThree))
+                .evaluate(ticker(150));
+
+        // Assert
+        assertTrue(results.get(0).isOverallPassed());
+        assertFalse(results.get(1).isOverallPassed());
+        assertFalse(results.get(2).isOverallPassed());
+        assertTrue(results.get(3).isOverallPassed());
+        assertEquals("1/3 rules passed", results.get(3).getSummary());
+        results.get(3).validateConsistency();
+    }
+
+    @Test
+    @DisplayName("Should reject strategies with an invalid expression")
+    void testCompileRejectsInvalidExpression() {
+        // Arrange
+        Strategy strategy = expressionStrategy(1, List.of(priceRule(1L, ">", 1.0)), "R1 AND R2");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile(List.of(strategy)));
+    }
+
+    @Test
+    @DisplayName("Should keep crossing state across portfolios and fold one bar per evaluation")
+    void testEvaluateCrossingKeepsState() {
+        // Arrange: the close is the bar number and crosses above 5.5 on bar 6
+        AtomicInteger computations = new AtomicInteger();
+        IndicatorLibrary library = new IndicatorLibrary(Map.of(
+                "CLOSE", (data, param) -> {
+                    computations.incrementAndGet();
+                    BarSeries bars = data.getBars();
+                    return bars.isEmpty() ? Double.NaN : bars.close(bars.size() - 1);
+                },
+                "CONSTANT", (data, param) -> param));
+        PortfolioCompiler statefulCompiler = new PortfolioCompiler(new RuleEvaluator(library));
+        Rule rule = Rule.builder().id(1L).subjectCode("CLOSE").operator("crosses above").targetCode("CONSTANT")
+                .targetParam(5.5).build();
+        BarSeries bars = closes(1, 2, 3, 4, 5, 6, 7);
+
+        // Act
+        boolean seeded = statefulCompiler.compile(List.of(strategy(1, List.of(rule))))
+                .evaluate(TickerData.ofBars("TEST", bars.slice(0, 6))).get(0).isOverallPassed();
+        int seedComputations = computations.getAndSet(0);
+        AnalysisResult next = statefulCompiler.compile(List.of(strategy(1, List.of(rule))))
+                .evaluate(TickerData.ofBars("TEST", bars)).get(0);
+
+        // Assert
+        assertTrue(seeded);
+        assertEquals(2, seedComputations);
+        assertFalse(next.isOverallPassed());
+        assertEquals(1, computations.get());
+        assertEquals("CLOSE = 7.0000 crosses above CONSTANT(5.5) = 5.5000: failed",
+                next.getRuleResults().get(0).getJustification());
+    }
+
+    @Test
+    @DisplayName("Should write outcomes into a reusable buffer and only materialize matches")
+    void testEvaluateIntoBuffer() {
+        // Arrange
+        Strategy above = strategy(1, List.of(priceRule(1L, ">", 100.0)));
+        Strategy below = strategy(2, List.of(priceRule(2L, "<", 100.0), priceRule(3L, ">", 10.0)));
+        CompiledPortfolio portfolio = compiler.compile(List.of(above, below));
+        EvaluationBuffer buffer = portfolio.newBuffer();
+
+        // Act
+        int highMatches = portfolio.evaluateInto(ticker(150), buffer);
+        boolean abovePassed = buffer.isStrategyPassed(0);
+        int belowPassedRules = buffer.getPassedRuleCount(1);
+        List<AnalysisResult> lowMatches = portfolio.evaluateMatches(ticker(50), buffer);
+        List<AnalysisResult> noMatches = portfolio.evaluateMatches(ticker(5), buffer);
+
+        // Assert
+        assertEquals(1, highMatches);
+        assertTrue(abovePassed);
+        assertEquals(1, belowPassedRules);
+        assertEquals(1, lowMatches.size());
+        assertSame(below, lowMatches.get(0).getStrategy());
+        assertEquals("2/2 rules passed", lowMatches.get(0).getSummary());
+        assertEquals("PRICE = 50.0000 < CONSTANT(100) = 100.0000: passed",
+                lowMatches.get(0).getRuleResults().get(0).getJustification());
+        assertTrue(noMatches.isEmpty());
+        assertEquals(0, buffer.getMatchCount());
+        assertEquals(5.0, buffer.getOperandValue(0));
+        assertFalse(buffer.isPredicatePassed(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> portfolio.evaluateInto(ticker(1), compiler.compile(List.of(above)).newBuffer()));
+        assertThrows(IllegalArgumentException.class, () -> portfolio.evaluateInto(ticker(1), null));
+    }
+
+    @Test
+    @DisplayName("Should reject invalid input")
+    void testCompileRejectsInvalidInput() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile(null));
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile(Arrays.asList((Strategy) null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> compiler.compile(List.of(strategy(1, List.of(priceRule(1L, "?", 1.0))))));
+        CompiledPortfolio portfolio = compiler.compile(List.of());
+        assertThrows(IllegalArgumentException.class, () -> portfolio.evaluate(null));
+    }
+
+    private static Rule priceRule(long id, String operator, double target) {
+        return Rule.builder()
+                .id(id)
+                .name("Rule " + id)
+                .subjectCode("PRICE")
+                .operator(operator)
+                .targetCode("CONSTANT")
+                .targetParam(target)
+                .build();
+    }
+
+    private static Strategy strategy(long id, List<Rule> rules) {
+        return Strategy.builder()
+                .id(id)
+                .name("Strategy " + id)
+                .description("Description " + id)
+                .rules(rules)
+                .build();
+    }
+
+    private static Strategy expressionStrategy(long id, List<Rule> rules, String expression) {
+        return Strategy.builder()
+                .id(id)
+                .name("Strategy " + id)
+                .description("Description " + id)
+                .rules(rules)
+                .expression(expression)
+                .build();
+    }
+
+    private static BarSeries closes(double... closes) {
+        long[] timestamps = new long[closes.length];
+        for (int i = 0; i < closes.length; i++) {
+            timestamps[i] = i;
+        }
+        return new ArrayBarSeries(timestamps, closes, closes, closes, closes, closes);
+    }
+
+    private static TickerData ticker(double price) {
+        return TickerData.builder()
+                .ticker("TEST")
+                .currentPrice(BigDecimal.valueOf(price))
+                .build();
+    }
+}
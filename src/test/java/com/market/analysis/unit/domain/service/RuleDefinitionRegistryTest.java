@@ -0,0 +1,113 @@
+package com.market.analysis.unit.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.market.analysis.domain.model.RuleDefinition;
+import com.market.analysis.domain.service.IndicatorLibrary;
+import com.market.analysis.domain.service.RuleDefinitionRegistry;
+
+/**
+ * Unit tests for RuleDefinitionRegistry.
+ */
+@DisplayName("RuleDefinitionRegistry Unit Tests")
+class RuleDefinitionRegistryTest {
+
+    private final IndicatorLibrary library = new IndicatorLibrary(Map.of(
+            "PRICE", (data, param) -> 1.0,
+            "SMA", (data, param) -> 2.0));
+
+    @Test
+    @DisplayName("Should assign dense ids to built-in codes and then to defined codes")
+    void testSnapshotAssignsDenseIds() {
+        // Arrange
+        RuleDefinition sma = definition(7L, "sma");
+        RuleDefinition custom = definition(8L, "CUSTOM");
+        RuleDefinitionRegistry registry = new RuleDefinitionRegistry(library, () -> List.of(sma, custom));
+
+        // Act
+        RuleDefinitionRegistry.Snapshot snapshot = registry.snapshot();
+
+        // Assert
+        assertEquals(3, snapshot.size());
+        assertEquals(0, snapshot.idOf("PRICE"));
+        assertEquals(1, snapshot.idOf(" Sma "));
+        assertEquals(2, snapshot.idOf("custom"));
+        assertEquals(RuleDefinitionRegistry.UNKNOWN, snapshot.idOf("RSI"));
+        assertEquals(RuleDefinitionRegistry.UNKNOWN, snapshot.idOf(null));
+        assertEquals("SMA", snapshot.code(1));
+        assertSame(sma, snapshot.definition(1));
+        assertNull(snapshot.definition(0));
+        assertNotNull(snapshot.indicator(0));
+        assertNull(snapshot.indicator(2));
+    }
+
+    @Test
+    @DisplayName("Should only resolve codes that have an indicator implementation")
+    void testRequireIndicator() {
+        // Arrange
+        RuleDefinitionRegistry registry = new RuleDefinitionRegistry(library,
+                () -> List.of(definition(1L, "CUSTOM")));
+        RuleDefinitionRegistry.Snapshot snapshot = registry.snapshot();
+
+        // Act & Assert
+        assertEquals(1, snapshot.requireIndicator("sma"));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.requireIndicator("CUSTOM"));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.requireIndicator("RSI"));
+    }
+
+    @Test
+    @DisplayName("Should load once and swap in a new snapshot on refresh")
+    void testRefreshSwapsSnapshot() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        List<RuleDefinition> stored = new ArrayList<>(List.of(definition(1L, "PRICE")));
+        RuleDefinitionRegistry registry = new RuleDefinitionRegistry(library, () -> {
+            loads.incrementAndGet();
+            return List.copyOf(stored);
+        });
+        RuleDefinitionRegistry.Snapshot before = registry.snapshot();
+
+        // Act
+        RuleDefinitionRegistry.Snapshot again = registry.snapshot();
+        stored.add(definition(2L, "CUSTOM"));
+        RuleDefinitionRegistry.Snapshot refreshed = registry.refresh();
+
+        // Assert
+        assertSame(before, again);
+        assertSame(refreshed, registry.snapshot());
+        assertEquals(2, loads.get());
+        assertEquals(RuleDefinitionRegistry.UNKNOWN, before.idOf("CUSTOM"));
+        assertEquals(2, refreshed.idOf("CUSTOM"));
+    }
+
+    @Test
+    @DisplayName("Should ignore definitions without code")
+    void testSnapshotIgnoresBlankCodes() {
+        // Arrange
+        RuleDefinitionRegistry registry = new RuleDefinitionRegistry(library,
+                () -> List.of(definition(1L, null), definition(2L, "  ")));
+
+        // Act
+        RuleDefinitionRegistry.Snapshot snapshot = registry.snapshot();
+
+        // Assert
+        assertEquals(2, snapshot.size());
+        assertEquals(2, new RuleDefinitionRegistry(library).snapshot().size());
+    }
+
+    private static RuleDefinition definition(Long id, String code) {
+        return RuleDefinition.builder().id(id).code(code).name("Definition " + id).build();
+    }
+}
@@ -0,0 +1,169 @@
+package com.market.analysis.unit.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.market.analysis.domain.model.ArrayBarSeries;
+import com.market.analysis.domain.model.BarSeries;
+import com.market.analysis.domain.model.Rule;
+import com.market.analysis.domain.model.RuleResult;
+import com.market.analysis.domain.model.TickerData;
+import com.market.analysis.domain.model.Timeframe;
+import com.market.analysis.domain.service.ComparisonOperator;
+import com.market.analysis.domain.service.IndicatorLibrary;
+import com.market.analysis.domain.service.RuleEvaluator;
+
+/**
+ * Unit tests for RuleEvaluator and ComparisonOperator.
+ */
+@DisplayName("RuleEvaluator Unit Tests")
+class RuleEvaluatorTest {
+
+    private final RuleEvaluator ruleEvaluator = new RuleEvaluator(new IndicatorLibrary());
+
+    @Test
+    @DisplayName("Should pass rule when price is above constant")
+    void testEvaluatePassingRule() {
+        // Arrange
+        Rule rule = priceRule(">", 100.0);
+        TickerData data = TickerData.builder().ticker("AAPL").currentPrice(BigDecimal.valueOf(150)).build();
+
+        // Act
+        RuleResult result = ruleEvaluator.evaluate(rule, data);
+
+        // Assert
+        assertTrue(result.isPassed());
+        assertEquals(rule, result.getRule());
+        assertEquals("PRICE = 150.0000 > CONSTANT(100) = 100.0000: passed", result.getJustification());
+    }
+
+    @Test
+    @DisplayName("Should fail rule with insufficient data justification")
+    void testEvaluateWithInsufficientData() {
+        // Arrange
+        Rule rule = priceRule("<", 100.0);
+        TickerData data = TickerData.builder().ticker("AAPL").build();
+
+        // Act
+        RuleResult result = ruleEvaluator.evaluate(rule, data);
+
+        // Assert
+        assertFalse(result.isPassed());
+        assertTrue(result.getJustification().startsWith("Insufficient data"));
+    }
+
+    @Test
+    @DisplayName("Should evaluate each side on its own timeframe")
+    void testEvaluateOnTimeframes() {
+        // Arrange
+        Rule rule = Rule.builder().id(1L).subjectCode("PRICE").operator(">").targetCode("PRICE")
+                .targetTimeframe(Timeframe.WEEK_1).build();
+        BarSeries weekly = new ArrayBarSeries(new long[] { 0 }, new double[] { 1 }, new double[] { 1 },
+                new double[] { 1 }, new double[] { 120 }, new double[] { 1 });
+        TickerData data = TickerData.builder().ticker("AAPL").currentPrice(BigDecimal.valueOf(150)).build()
+                .withTimeframes(Timeframe.DAY_1, Map.of(Timeframe.WEEK_1, weekly));
+
+        // Act
+        RuleResult result = ruleEvaluator.evaluate(rule, data);
+
+        // Assert
+        assertTrue(result.isPassed());
+        assertEquals("PRICE = 150.0000 > PRICE[WEEK_1] = 120.0000: passed", result.getJustification());
+    }
+
+    @Test
+    @DisplayName("Should evaluate crossing operators from the bar history")
+    void testEvaluateCrossing() {
+        // Arrange: the price crosses above SMA(2) on bar 3 and stays above it on bar 4
+        BarSeries bars = new ArrayBarSeries(new long[] { 1, 2, 3, 4 }, new double[] { 4, 1, 3, 6 },
+                new double[] { 4, 1, 3, 6 }, new double[] { 4, 1, 3, 6 }, new double[] { 4, 1, 3, 6 },
+                new double[] { 1, 1, 1, 1 });
+        TickerData data = TickerData.ofBars("AAPL", bars);
+        Rule crossesAbove = Rule.builder().id(1L).subjectCode("PRICE").operator("crosses above").targetCode("SMA")
+                .targetParam(2.0).build();
+        Rule crossedAboveWithin2 = Rule.builder().id(2L).subjectCode("PRICE").operator("crossed above within 2")
+                .targetCode("SMA").targetParam(2.0).build();
+
+        // Act
+        RuleResult latest = ruleEvaluator.evaluate(crossesAbove, data);
+        RuleResult within = ruleEvaluator.evaluate(crossedAboveWithin2, data);
+
+        // Assert
+        assertFalse(latest.isPassed());
+        assertEquals("PRICE = 6.0000 crosses above SMA(2) = 4.5000: failed", latest.getJustification());
+        assertTrue(within.isPassed());
+        assertEquals("PRICE = 6.0000 crossed above within 2 SMA(2) = 4.5000: passed", within.getJustification());
+        assertThrows(IllegalArgumentException.class, () -> ruleEvaluator.validate(priceRule("crosses over", 1.0)));
+    }
+
+    @Test
+    @DisplayName("Should reject rules with unknown indicators")
+    void testValidateRejectsUnknownIndicator() {
+        // Arrange
+        Rule rule = Rule.builder().id(1L).subjectCode("MAGIC").operator(">").targetCode("CONSTANT")
+                .targetParam(1.0).build();
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> ruleEvaluator.validate(rule));
+        assertTrue(exception.getMessage().contains("MAGIC"));
+    }
+
+    @Test
+    @DisplayName("Should reject null rules and unknown operators")
+    void testValidateRejectsNullRuleAndUnknownOperator() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> ruleEvaluator.validate(null));
+        assertThrows(IllegalArgumentException.class, () -> ruleEvaluator.validate(priceRule("~", 1.0)));
+    }
+
+    @Test
+    @DisplayName("Should resolve operators from their symbols")
+    void testComparisonOperatorFromSymbol() {
+        // Act & Assert
+        assertEquals(ComparisonOperator.GREATER_THAN, ComparisonOperator.fromSymbol(" > "));
+        assertEquals(ComparisonOperator.EQUAL, ComparisonOperator.fromSymbol("=="));
+        assertEquals(ComparisonOperator.LESS_THAN_OR_EQUAL, ComparisonOperator.fromSymbol("<="));
+        assertThrows(IllegalArgumentException.class, () -> ComparisonOperator.fromSymbol(null));
+    }
+
+    @Test
+    @DisplayName("Should never pass comparisons involving NaN")
+    void testComparisonOperatorWithNaN() {
+        // Act & Assert
+        for (ComparisonOperator operator : ComparisonOperator.values()) {
+            assertFalse(operator.test(Double.NaN, 1.0));
+            assertFalse(operator.test(1.0, Double.NaN));
+        }
+        assertTrue(ComparisonOperator.EQUAL.test(0.1 + 0.2, 0.3));
+        assertTrue(ComparisonOperator.GREATER_THAN_OR_EQUAL.test(2.0, 2.0));
+    }
+
+    @Test
+    @DisplayName("Should build operand labels with and without parameters")
+    void testLabel() {
+        // Act & Assert
+        assertEquals("SMA(50)", RuleEvaluator.label("sma", 50.0));
+        assertEquals("RSI(14.5)", RuleEvaluator.label("RSI", 14.5));
+        assertEquals("PRICE", RuleEvaluator.label("PRICE", null));
+    }
+
+    private static Rule priceRule(String operator, double target) {
+        return Rule.builder()
+                .id(1L)
+                .name("Price check")
+                .subjectCode("PRICE")
+                .operator(operator)
+                .targetCode("CONSTANT")
+                .targetParam(target)
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.market.analysis.unit.domain.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.market.analysis.domain.model.StrategyExpression;
+import com.market.analysis.domain.service.StrategyExpressionCompiler;
+
+/**
+ * Unit tests for StrategyExpressionCompiler.
+ */
+@DisplayName("StrategyExpressionCompiler Unit Tests")
+class StrategyExpressionCompilerTest {
+
+    private static final String[] EXPRESSIONS = {
+            "R1",
+            "NOT R2",
+            "R1 AND R2 AND R3",
+            "R1 OR R2 OR R3",
+            "(R1 AND R2) OR R3",
+            "NOT (R1 OR R2) AND R4",
+            "ATLEAST(2, R1, R2, R3, R4)",
+            "ATLEAST(1, R1 AND R2, NOT R3) OR ATLEAST(4, R1, R2, R3, R4)",
+            "ATLEAST(0, R1)"
+    };
+
+    @Test
+    @DisplayName("Should compile to handles that agree with the interpreter on every input")
+    void testCompiledMatchesInterpreter() {
+        for (String source : EXPRESSIONS) {
+            // Arrange
+            StrategyExpression expression = StrategyExpression.parse(source, 4);
+            MethodHandle compiled = StrategyExpressionCompiler.compile(expression, new int[] { 0, 1, 2, 3 });
+
+            for (int mask = 0; mask < 16; mask++) {
+                boolean[] outcomes = { (mask & 1) != 0, (mask & 2) != 0, (mask & 4) != 0, (mask & 8) != 0 };
+
+                // Act
+                boolean result = StrategyExpressionCompiler.invoke(compiled, outcomes);
+
+                // Assert
+                assertEquals(expression.evaluate(outcomes), result, source + " with mask " + mask);
+            }
+            assertEquals(MethodType.methodType(boolean.class, boolean[].class), compiled.type());
+        }
+    }
+
+    @Test
+    @DisplayName("Should read each rule from its predicate slot")
+    void testCompileUsesSlots() {
+        // Arrange: R1 is predicate 3 and R2 is predicate 0
+        StrategyExpression expression = StrategyExpression.parse("R1 AND NOT R2", 2);
+        MethodHandle compiled = StrategyExpressionCompiler.compile(expression, new int[] { 3, 0 });
+
+        // Act & Assert
+        assertTrue(StrategyExpressionCompiler.invoke(compiled, new boolean[] { false, true, true, true }));
+        assertFalse(StrategyExpressionCompiler.invoke(compiled, new boolean[] { true, true, true, true }));
+        assertFalse(StrategyExpressionCompiler.invoke(compiled, new boolean[] { false, true, true, false }));
+    }
+
+    @Test
+    @DisplayName("Should reject missing slots")
+    void testCompileRejectsMissingSlots() {
+        // Arrange
+        StrategyExpression expression = StrategyExpression.parse("R1 OR R2", 2);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> StrategyExpressionCompiler.compile(expression, new int[] { 0 }));
+        MethodHandle compiled = StrategyExpressionCompiler.compile(expression, new int[] { 0, 5 });
+        assertThrows(ArrayIndexOutOfBoundsException.class,
+                () -> StrategyExpressionCompiler.invoke(compiled, new boolean[] { false }));
+    }
+}
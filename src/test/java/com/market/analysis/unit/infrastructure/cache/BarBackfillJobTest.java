@@ -0,0 +1,230 @@
+package com.market.analysis.unit.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.market.analysis.domain.model.ArrayBarSeries;
+import com.market.analysis.domain.model.ProhibitedTicker;
+import com.market.analysis.domain.model.Rule;
+import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.domain.model.TickerData;
+import com.market.analysis.domain.model.Timeframe;
+import com.market.analysis.domain.port.out.MarketDataPort;
+import com.market.analysis.domain.port.out.ProhibitedTickerRepository;
+import com.market.analysis.domain.port.out.StrategyRepository;
+import com.market.analysis.infrastructure.cache.BarBackfillJob;
+import com.market.analysis.infrastructure.cache.DateRange;
+import com.market.analysis.infrastructure.cache.LocalBarStore;
+import com.market.analysis.infrastructure.cache.OffHeapBarCache;
+import com.market.analysis.infrastructure.cache.TieredMarketDataPort;
+import com.market.analysis.infrastructure.config.BackfillProperties;
+import com.market.analysis.infrastructure.config.BarCacheProperties;
+
+/**
+ * Unit tests for BarBackfillJob.
+ */
+@DisplayName("BarBackfillJob Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class BarBackfillJobTest {
+
+    private static final LocalDate YESTERDAY = LocalDate.of(2026, 3, 19);
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-20T15:00:00Z"), ZoneOffset.UTC);
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private StrategyRepository strategyRepository;
+
+    @Mock
+    private ProhibitedTickerRepository prohibitedTickerRepository;
+
+    private final List<String> remoteCalls = new ArrayList<>();
+    private MarketDataPort remote;
+    private BackfillProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        remote = (ticker, from, to, timeframe) -> {
+            remoteCalls.add(ticker + " " + from + ".." + to);
+            return TickerData.ofBars(ticker, ArrayBarSeries.of(null));
+        };
+        properties = new BackfillProperties();
+        properties.setEnabled(true);
+        properties.setMinLookbackDays(30);
+        properties.setMaxDaysPerRequest(20);
+        properties.setMaxRequestsPerMinute(0);
+    }
+
+    @Test
+    @DisplayName("Should fetch missing ranges newest first, prioritising screened tickers")
+    void testRunBatchPrioritisesDemand() throws InterruptedException {
+        // Arrange
+        properties.setUniverse(List.of("msft", "TSLA", "AAPL"));
+        properties.setBatchSize(2);
+        when(strategyRepository.findAll()).thenReturn(List.of());
+        when(prohibitedTickerRepository.findAll()).thenReturn(List.of(new ProhibitedTicker("TSLA")));
+        TieredMarketDataPort port = new TieredMarketDataPort(remote, new LocalBarStore(directory), hotTier(1 << 20), CLOCK);
+        port.fetchTickerData("AAPL", YESTERDAY.minusDays(4), YESTERDAY, Timeframe.DAY_1);
+        remoteCalls.clear();
+        BarBackfillJob job = job(port, new LocalBarStore(directory));
+
+        // Act
+        int requests = job.runBatch();
+
+        // Assert
+        assertEquals(4, requests);
+        assertEquals(List.of(
+                "AAPL 2026-02-23..2026-03-14",
+                "AAPL 2026-02-18..2026-02-22",
+                "MSFT 2026-02-28..2026-03-19",
+                "MSFT 2026-02-18..2026-02-27"), remoteCalls);
+    }
+
+    @Test
+    @DisplayName("Should resume from stored coverage and only fetch new gaps")
+    void testRunBatchResumesAfterRestart() throws InterruptedException {
+        // Arrange
+        properties.setUniverse(List.of("AAPL", "MSFT"));
+        properties.setBatchSize(1);
+        when(strategyRepository.findAll()).thenReturn(List.of());
+        when(prohibitedTickerRepository.findAll()).thenReturn(List.of());
+        LocalBarStore store = new LocalBarStore(directory);
+        job(new TieredMarketDataPort(remote, store, hotTier(1 << 20), CLOCK), store).runBatch();
+        remoteCalls.clear();
+
+        // Act
+        LocalBarStore restartedStore = new LocalBarStore(directory);
+        BarBackfillJob restarted = job(new TieredMarketDataPort(remote, restartedStore, hotTier(1 << 20), CLOCK), restartedStore);
+        int first = restarted.runBatch();
+        int second = restarted.runBatch();
+
+        // Assert
+        assertEquals(2, first);
+        assertTrue(remoteCalls.stream().allMatch(call -> call.startsWith("MSFT")));
+        assertEquals(0, second);
+    }
+
+    @Test
+    @DisplayName("Should extend the lookback to the deepest indicator used by a rule")
+    void testLookbackFollowsRules() throws InterruptedException {
+        // Arrange
+        properties.setUniverse(List.of("AAPL"));
+        properties.setMaxDaysPerRequest(1000);
+        when(strategyRepository.findAll()).thenReturn(List.of(Strategy.builder()
+                .rules(List.of(Rule.builder()
+                        .subjectCode("PRICE")
+                        .operator(">")
+                        .targetCode("SMA")
+                        .targetParam(200.0)
+                        .build()))
+                .build()));
+        when(prohibitedTickerRepository.findAll()).thenReturn(List.of());
+        LocalBarStore store = new LocalBarStore(directory);
+
+        // Act
+        job(new TieredMarketDataPort(remote, store, hotTier(1 << 20), CLOCK), store).runBatch();
+
+        // Assert
+        // 200 trading days -> 280 calendar days plus a 10 day margin.
+        assertEquals(List.of("AAPL " + YESTERDAY.minusDays(289) + ".." + YESTERDAY), remoteCalls);
+    }
+
+    @Test
+    @DisplayName("Should do nothing when disabled and survive provider failures")
+    void testRunScheduled() {
+        // Arrange
+        LocalBarStore store = new LocalBarStore(directory);
+        properties.setEnabled(false);
+        BarBackfillJob job = job(new TieredMarketDataPort(remote, store, hotTier(1 << 20), CLOCK), store);
+
+        // Act
+        job.runScheduled();
+        properties.setEnabled(true);
+        properties.setUniverse(List.of("AAPL"));
+        when(strategyRepository.findAll()).thenReturn(List.of());
+        when(prohibitedTickerRepository.findAll()).thenReturn(List.of());
+        BarBackfillJob failing = job(new TieredMarketDataPort((ticker, from, to, timeframe) -> {
+            throw new IllegalStateException("provider down");
+        }, store, hotTier(1 << 20), CLOCK), store);
+        failing.runScheduled();
+
+        // Assert
+        verify(strategyRepository).findAll();
+        verify(prohibitedTickerRepository).findAll();
+        assertEquals(List.of(), remoteCalls);
+    }
+
+    @Test
+    @DisplayName("Should run batches on its own thread once started")
+    void testStartRunsOnOwnThread() {
+        // Arrange
+        LocalBarStore store = new LocalBarStore(directory);
+        properties.setIntervalMs(10);
+        List<String> threads = new CopyOnWriteArrayList<>();
+        when(strategyRepository.findAll()).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            return List.of();
+        });
+        when(prohibitedTickerRepository.findAll()).thenReturn(List.of());
+        BarBackfillJob job = job(new TieredMarketDataPort(remote, store, hotTier(1 << 20), CLOCK), store);
+
+        // Act
+        job.start();
+
+        // Assert
+        verify(strategyRepository, timeout(2000).atLeast(2)).findAll();
+        job.stop();
+        assertEquals("bar-backfill", threads.get(0));
+    }
+
+    @Test
+    @DisplayName("Should not schedule any run when disabled")
+    void testStartWhenDisabled() throws InterruptedException {
+        // Arrange
+        LocalBarStore store = new LocalBarStore(directory);
+        properties.setEnabled(false);
+        properties.setIntervalMs(10);
+        BarBackfillJob job = job(new TieredMarketDataPort(remote, store, hotTier(1 << 20), CLOCK), store);
+
+        // Act
+        job.start();
+        properties.setEnabled(true);
+        Thread.sleep(100);
+        job.stop();
+
+        // Assert
+        verifyNoInteractions(strategyRepository, prohibitedTickerRepository);
+    }
+
+    private BarBackfillJob job(TieredMarketDataPort port, LocalBarStore store) {
+        return new BarBackfillJob(port, store, strategyRepository, prohibitedTickerRepository, properties, CLOCK);
+    }
+
+    private static OffHeapBarCache hotTier(long maxBytes) {
+        BarCacheProperties properties = new BarCacheProperties();
+        properties.setMaxBytes(maxBytes);
+        return new OffHeapBarCache(properties);
+    }
+}
@@ -0,0 +1,256 @@
+package com.market.analysis.unit.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+
+import com.market.analysis.domain.model.ArrayBarSeries;
+import com.market.analysis.domain.model.ProhibitedTicker;
+import com.market.analysis.domain.model.Rule;
+import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.domain.model.TickerData;
+import com.market.analysis.domain.model.Timeframe;
+import com.market.analysis.domain.port.in.ManageStrategyUseCase;
+import com.market.analysis.domain.port.out.MarketDataPort;
+import com.market.analysis.domain.port.out.CatalogRevisionRepository;
+import com.market.analysis.domain.port.out.ProhibitedTickerRepository;
+import com.market.analysis.domain.service.CatalogRevision;
+import com.market.analysis.domain.service.CompiledPortfolioCache;
+import com.market.analysis.domain.service.CrossingStateStore;
+import com.market.analysis.domain.service.IndicatorLibrary;
+import com.market.analysis.domain.service.PortfolioCompiler;
+import com.market.analysis.domain.service.RuleDefinitionRegistry;
+import com.market.analysis.infrastructure.cache.CacheWarmer;
+import com.market.analysis.infrastructure.cache.LocalBarStore;
+import com.market.analysis.infrastructure.cache.OffHeapBarCache;
+import com.market.analysis.infrastructure.cache.TieredMarketDataPort;
+import com.market.analysis.infrastructure.config.BackfillProperties;
+import com.market.analysis.infrastructure.config.BarCacheProperties;
+import com.market.analysis.infrastructure.config.WarmUpProperties;
+
+/**
+ * Unit tests for CacheWarmer.
+ */
+@DisplayName("CacheWarmer Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class CacheWarmerTest {
+
+    private static final LocalDate YESTERDAY = LocalDate.of(2026, 3, 19);
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-20T15:00:00Z"), ZoneOffset.UTC);
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private ManageStrategyUseCase manageStrategyUseCase;
+
+    @Mock
+    private ProhibitedTickerRepository prohibitedTickerRepository;
+
+    @Mock
+    private CatalogRevisionRepository catalogRevisionRepository;
+
+    private final List<String> remoteCalls = new ArrayList<>();
+    private MarketDataPort remote;
+    private RuleDefinitionRegistry ruleDefinitionRegistry;
+    private CompiledPortfolioCache compiledPortfolioCache;
+    private BackfillProperties backfillProperties;
+    private WarmUpProperties warmUpProperties;
+
+    @BeforeEach
+    void setUp() {
+        // One daily bar per requested day
+        remote = (ticker, from, to, timeframe) -> {
+            remoteCalls.add(ticker);
+            int days = (int) (to.toEpochDay() - from.toEpochDay()) + 1;
+            long[] timestamps = new long[days];
+            double[] values = new double[days];
+            for (int i = 0; i < days; i++) {
+                timestamps[i] = from.plusDays(i).atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+                values[i] = 1;
+            }
+            return TickerData.ofBars(ticker, new ArrayBarSeries(timestamps, values, values, values, values, values));
+        };
+        ruleDefinitionRegistry = new RuleDefinitionRegistry(new IndicatorLibrary());
+        compiledPortfolioCache = new CompiledPortfolioCache(
+                new PortfolioCompiler(ruleDefinitionRegistry, new CrossingStateStore()),
+                new CatalogRevision(catalogRevisionRepository));
+        backfillProperties = new BackfillProperties();
+        warmUpProperties = new WarmUpProperties();
+        warmUpProperties.setRetryIntervalMs(1);
+    }
+
+    @Test
+    @DisplayName("Should load the catalogue, the registry and the stored series into the off-heap tier")
+    void testWarmUpLoadsEveryCache() {
+        // Arrange
+        store("AAPL", "MSFT", "TSLA");
+        backfillProperties.setUniverse(List.of("msft"));
+        List<Strategy> strategies = List.of(strategy("SMA"));
+        when(manageStrategyUseCase.getAllStrategies()).thenReturn(strategies);
+        when(prohibitedTickerRepository.findAll()).thenReturn(List.of(new ProhibitedTicker("TSLA")));
+        TieredMarketDataPort port = port(1 << 20);
+        CacheWarmer warmer = warmer(port);
+
+        // Act
+        warmer.warmUp();
+        port.fetchTickerData("AAPL", YESTERDAY.minusDays(4), YESTERDAY, Timeframe.DAY_1);
+        port.fetchTickerData("MSFT", YESTERDAY.minusDays(4), YESTERDAY, Timeframe.DAY_1);
+        port.fetchTickerData("TSLA", YESTERDAY.minusDays(4), YESTERDAY, Timeframe.DAY_1);
+
+        // Assert
+        assertTrue(warmer.isWarm());
+        assertEquals(1, warmer.getDetails().get("strategies"));
+        assertEquals(1, warmer.getDetails().get("compiledPortfolios"));
+        compiledPortfolioCache.get(strategies);
+        assertEquals(1, compiledPortfolioCache.getHitCount());
+        assertEquals(ruleDefinitionRegistry.snapshot().size(), warmer.getDetails().get("ruleCodes"));
+        assertEquals(2, warmer.getDetails().get("hotSeries"));
+        assertEquals(2, port.getHotHits());
+        assertEquals(1, port.getWarmHits());
+        assertTrue(remoteCalls.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should load no more series than the off-heap tier holds, universe first")
+    void testWarmUpRespectsHotTierCapacity() {
+        // Arrange
+        store("AAPL", "MSFT");
+        backfillProperties.setUniverse(List.of("MSFT"));
+        when(manageStrategyUseCase.getAllStrategies()).thenReturn(List.of());
+        when(prohibitedTickerRepository.findAll()).thenReturn(List.of());
+        // Room for one series of ten bars
+        TieredMarketDataPort port = port(600);
+        CacheWarmer warmer = warmer(port);
+
+        // Act
+        warmer.warmUp();
+        port.fetchTickerData("MSFT", YESTERDAY.minusDays(4), YESTERDAY, Timeframe.DAY_1);
+
+        // Assert
+        assertEquals(1, warmer.getDetails().get("hotSeries"));
+        assertEquals(1, port.getHotHits());
+    }
+
+    @Test
+    @DisplayName("Should complete the warm-up even if the catalogue does not compile")
+    void testWarmUpToleratesInvalidStrategies() {
+        // Arrange
+        when(manageStrategyUseCase.getAllStrategies()).thenReturn(List.of(strategy("UNKNOWN")));
+        when(prohibitedTickerRepository.findAll()).thenReturn(List.of());
+        CacheWarmer warmer = warmer(port(1 << 20));
+
+        // Act
+        warmer.warmUp();
+
+        // Assert
+        assertTrue(warmer.isWarm());
+    }
+
+    @Test
+    @DisplayName("Should stay cold and report the error when a step fails")
+    void testWarmUpFailure() {
+        // Arrange
+        when(manageStrategyUseCase.getAllStrategies()).thenThrow(new IllegalStateException("Database down"));
+        CacheWarmer warmer = warmer(port(1 << 20));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, warmer::warmUp);
+        assertFalse(warmer.isWarm());
+        assertTrue(warmer.getDetails().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should retry until the warm-up succeeds")
+    void testWarmUntilDoneRetries() {
+        // Arrange
+        when(manageStrategyUseCase.getAllStrategies())
+                .thenThrow(new IllegalStateException("Database down"))
+                .thenReturn(List.of());
+        when(prohibitedTickerRepository.findAll()).thenReturn(List.of());
+        CacheWarmer warmer = warmer(port(1 << 20));
+
+        // Act
+        warmer.warmUntilDone();
+
+        // Assert
+        assertTrue(warmer.isWarm());
+        assertNull(warmer.getLastError());
+        verify(manageStrategyUseCase, times(2)).getAllStrategies();
+    }
+
+    @Test
+    @DisplayName("Should be warm at once without loading anything when disabled")
+    void testDisabled() {
+        // Arrange
+        warmUpProperties.setEnabled(false);
+        CacheWarmer warmer = warmer(port(1 << 20));
+
+        // Act
+        warmer.onApplicationReady(mock(ApplicationReadyEvent.class));
+
+        // Assert
+        assertTrue(warmer.isWarm());
+        verifyNoInteractions(manageStrategyUseCase, prohibitedTickerRepository);
+    }
+
+    private void store(String... tickers) {
+        TieredMarketDataPort seeding = new TieredMarketDataPort(remote, new LocalBarStore(directory),
+                hotTier(1 << 20), CLOCK);
+        for (String ticker : tickers) {
+            seeding.fetchTickerData(ticker, YESTERDAY.minusDays(9), YESTERDAY, Timeframe.DAY_1);
+        }
+        remoteCalls.clear();
+    }
+
+    private TieredMarketDataPort port(long hotTierBytes) {
+        return new TieredMarketDataPort(remote, new LocalBarStore(directory), hotTier(hotTierBytes), CLOCK);
+    }
+
+    private static OffHeapBarCache hotTier(long maxBytes) {
+        BarCacheProperties properties = new BarCacheProperties();
+        properties.setMaxBytes(maxBytes);
+        return new OffHeapBarCache(properties);
+    }
+
+    private CacheWarmer warmer(TieredMarketDataPort port) {
+        return new CacheWarmer(manageStrategyUseCase, compiledPortfolioCache, ruleDefinitionRegistry, port, new LocalBarStore(directory), prohibitedTickerRepository,
+                backfillProperties, warmUpProperties);
+    }
+
+    private static Strategy strategy(String subjectCode) {
+        Rule rule = Rule.builder()
+                .id(1L)
+                .subjectCode(subjectCode)
+                .subjectParam(10.0)
+                .operator(">")
+                .targetCode("CONSTANT")
+                .targetParam(100.0)
+                .build();
+        return Strategy.builder().id(1L).version(0L).name("Warm").rules(List.of(rule)).build();
+    }
+}
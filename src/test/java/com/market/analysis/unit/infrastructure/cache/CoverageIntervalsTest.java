@@ -0,0 +1,74 @@
+package com.market.analysis.unit.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.market.analysis.infrastructure.cache.CoverageIntervals;
+import com.market.analysis.infrastructure.cache.DateRange;
+
+/**
+ * Unit tests for CoverageIntervals.
+ */
+@DisplayName("CoverageIntervals Unit Tests")
+class CoverageIntervalsTest {
+
+    @Test
+    @DisplayName("Should merge overlapping and adjacent ranges")
+    void testAddMerges() {
+        // Arrange
+        CoverageIntervals coverage = new CoverageIntervals();
+
+        // Act
+        coverage.add(range(10, 12));
+        coverage.add(range(1, 3));
+        coverage.add(range(4, 5));
+        coverage.add(range(11, 20));
+
+        // Assert
+        assertEquals(List.of(range(1, 5), range(10, 20)), coverage.getRanges());
+        assertEquals(day(1), coverage.getEarliest());
+        assertEquals(day(20), coverage.getLatest());
+    }
+
+    @Test
+    @DisplayName("Should report only the uncovered parts of a range")
+    void testMissing() {
+        // Arrange
+        CoverageIntervals coverage = new CoverageIntervals();
+        coverage.add(range(5, 10));
+        coverage.add(range(15, 20));
+
+        // Act & Assert
+        assertEquals(List.of(range(1, 4), range(11, 14), range(21, 25)), coverage.missing(range(1, 25)));
+        assertTrue(coverage.missing(range(6, 9)).isEmpty());
+        assertEquals(List.of(range(11, 12)), coverage.missing(range(8, 12)));
+    }
+
+    @Test
+    @DisplayName("Should report the whole range when nothing is covered")
+    void testMissingWhenEmpty() {
+        // Arrange
+        CoverageIntervals coverage = new CoverageIntervals();
+
+        // Act & Assert
+        assertEquals(List.of(range(1, 2)), coverage.missing(range(1, 2)));
+        assertNull(coverage.getEarliest());
+        assertThrows(IllegalArgumentException.class, () -> range(2, 1));
+    }
+
+    private static DateRange range(int from, int to) {
+        return new DateRange(day(from), day(to));
+    }
+
+    private static LocalDate day(int day) {
+        return LocalDate.of(2026, 3, day);
+    }
+}
@@ -0,0 +1,160 @@
+package com.market.analysis.unit.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.market.analysis.domain.model.ArrayBarSeries;
+import com.market.analysis.domain.model.BarSeries;
+import com.market.analysis.domain.model.Timeframe;
+import com.market.analysis.infrastructure.cache.DateRange;
+import com.market.analysis.infrastructure.cache.LocalBarStore;
+
+/**
+ * Unit tests for LocalBarStore.
+ */
+@DisplayName("LocalBarStore Unit Tests")
+class LocalBarStoreTest {
+
+    private static final DateRange MARCH = new DateRange(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should merge bars in timestamp order, replacing duplicates")
+    void testMerge() {
+        // Arrange
+        LocalBarStore store = new LocalBarStore(directory);
+        store.merge("AAPL", Timeframe.DAY_1, bars(new long[] { 1, 3, 5 }, 10), null);
+
+        // Act
+        store.merge("AAPL", Timeframe.DAY_1, bars(new long[] { 2, 3, 6 }, 20), null);
+
+        // Assert
+        BarSeries stored = store.read("AAPL", Timeframe.DAY_1).orElseThrow();
+        assertEquals(5, stored.size());
+        assertEquals(List.of(1L, 2L, 3L, 5L, 6L), timestamps(stored));
+        assertEquals(22.0, stored.close(2));
+        assertEquals(13.0, stored.close(3));
+    }
+
+    @Test
+    @DisplayName("Should append newer bars in place without changing earlier views")
+    void testAppend() throws IOException {
+        // Arrange
+        LocalBarStore store = new LocalBarStore(directory);
+        store.merge("AAPL", Timeframe.DAY_1, bars(new long[] { 1, 2 }, 10), null);
+        BarSeries before = store.read("AAPL", Timeframe.DAY_1).orElseThrow();
+        Object fileKey = Files.readAttributes(directory.resolve("AAPL_DAY_1.bars"),
+                BasicFileAttributes.class).fileKey();
+
+        // Act
+        store.merge("AAPL", Timeframe.DAY_1, bars(new long[] { 3, 4 }, 20), null);
+
+        // Assert
+        BarSeries after = new LocalBarStore(directory).read("AAPL", Timeframe.DAY_1).orElseThrow();
+        assertEquals(List.of(1L, 2L, 3L, 4L), timestamps(after));
+        assertEquals(22.0, after.close(3));
+        assertEquals(List.of(1L, 2L), timestamps(before));
+        assertEquals(fileKey, Files.readAttributes(directory.resolve("AAPL_DAY_1.bars"),
+                BasicFileAttributes.class).fileKey());
+    }
+
+    @Test
+    @DisplayName("Should persist bars and coverage across instances")
+    void testSurvivesRestart() {
+        // Arrange
+        LocalBarStore store = new LocalBarStore(directory);
+        store.merge("aapl", Timeframe.DAY_1, bars(new long[] { 1, 2 }, 10),
+                new DateRange(LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 15)));
+
+        // Act
+        LocalBarStore restarted = new LocalBarStore(directory);
+
+        // Assert
+        assertEquals(2, restarted.read("AAPL", Timeframe.DAY_1).orElseThrow().size());
+        assertEquals(List.of(new DateRange(LocalDate.of(2026, 3, 16), LocalDate.of(2026, 3, 31))),
+                restarted.missing("AAPL", Timeframe.DAY_1, MARCH));
+        assertEquals(List.of("AAPL"), restarted.tickers(Timeframe.DAY_1));
+        assertTrue(restarted.tickers(Timeframe.HOUR_1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep coverage for ranges without bars")
+    void testCoverageWithoutBars() {
+        // Arrange
+        LocalBarStore store = new LocalBarStore(directory);
+
+        // Act
+        store.merge("AAPL", Timeframe.DAY_1, ArrayBarSeries.of(null), MARCH);
+
+        // Assert
+        LocalBarStore restarted = new LocalBarStore(directory);
+        assertTrue(restarted.missing("AAPL", Timeframe.DAY_1, MARCH).isEmpty());
+        assertFalse(restarted.read("AAPL", Timeframe.DAY_1).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should write series larger than one write chunk")
+    void testLargeSeries() {
+        // Arrange
+        LocalBarStore store = new LocalBarStore(directory);
+        long[] timestamps = new long[10_000];
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = i;
+        }
+
+        // Act
+        store.merge("AAPL", Timeframe.MINUTE_1, bars(timestamps, 0), null);
+
+        // Assert
+        BarSeries stored = store.read("AAPL", Timeframe.MINUTE_1).orElseThrow();
+        assertEquals(10_000, stored.size());
+        assertEquals(9_999L, stored.timestamp(9_999));
+        assertEquals(10_000.0, stored.close(9_999));
+    }
+
+    @Test
+    @DisplayName("Should ignore corrupt files and reject invalid tickers")
+    void testCorruptFileAndInvalidTicker() throws IOException {
+        // Arrange
+        Files.writeString(directory.resolve("AAPL_DAY_1.bars"), "garbage");
+        LocalBarStore store = new LocalBarStore(directory);
+
+        // Act & Assert
+        assertFalse(store.read("AAPL", Timeframe.DAY_1).isPresent());
+        assertThrows(IllegalArgumentException.class, () -> store.read("../etc", Timeframe.DAY_1));
+    }
+
+    private static ArrayBarSeries bars(long[] timestamps, double closeBase) {
+        int size = timestamps.length;
+        double[] values = new double[size];
+        double[] closes = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = 1;
+            closes[i] = closeBase + i + 1;
+        }
+        return new ArrayBarSeries(timestamps, values, values, values, closes, values);
+    }
+
+    private static List<Long> timestamps(BarSeries bars) {
+        Long[] result = new Long[bars.size()];
+        for (int i = 0; i < bars.size(); i++) {
+            result[i] = bars.timestamp(i);
+        }
+        return List.of(result);
+    }
+}
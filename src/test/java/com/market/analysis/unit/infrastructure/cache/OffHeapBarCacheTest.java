@@ -0,0 +1,151 @@
+package com.market.analysis.unit.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.market.analysis.domain.model.ArrayBarSeries;
+import com.market.analysis.domain.model.BarSeries;
+import com.market.analysis.infrastructure.cache.OffHeapBarCache;
+import com.market.analysis.infrastructure.config.BarCacheProperties;
+
+/**
+ * Unit tests for OffHeapBarCache.
+ */
+@DisplayName("OffHeapBarCache Unit Tests")
+class OffHeapBarCacheTest {
+
+    private static final int BYTES_PER_BAR = 48;
+
+    private OffHeapBarCache cache;
+
+    @BeforeEach
+    void setUp() {
+        BarCacheProperties properties = new BarCacheProperties();
+        properties.setMaxBytes(10L * BYTES_PER_BAR);
+        cache = new OffHeapBarCache(properties);
+    }
+
+    @Test
+    @DisplayName("Should return an off-heap copy of the stored bars")
+    void testPutAndGet() {
+        // Arrange
+        ArrayBarSeries bars = bars(3, 100);
+
+        // Act
+        assertTrue(cache.put("AAPL", bars));
+        BarSeries cached = cache.get("AAPL").orElseThrow();
+
+        // Assert
+        assertNotSame(bars, cached);
+        assertEquals(3, cached.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(bars.timestamp(i), cached.timestamp(i));
+            assertEquals(bars.open(i), cached.open(i));
+            assertEquals(bars.high(i), cached.high(i));
+            assertEquals(bars.low(i), cached.low(i));
+            assertEquals(bars.close(i), cached.close(i));
+            assertEquals(bars.volume(i), cached.volume(i));
+        }
+        assertEquals(3L * BYTES_PER_BAR, cache.getUsedBytes());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used tickers when full")
+    void testEvictsLeastRecentlyUsed() {
+        // Arrange
+        cache.put("AAPL", bars(4, 1));
+        cache.put("MSFT", bars(4, 2));
+        cache.get("AAPL");
+
+        // Act
+        cache.put("GOOGL", bars(4, 3));
+
+        // Assert
+        assertTrue(cache.get("AAPL").isPresent());
+        assertFalse(cache.get("MSFT").isPresent());
+        assertTrue(cache.get("GOOGL").isPresent());
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(8L * BYTES_PER_BAR, cache.getUsedBytes());
+    }
+
+    @Test
+    @DisplayName("Should keep evicted views readable")
+    void testEvictedViewStaysValid() {
+        // Arrange
+        cache.put("AAPL", bars(2, 50));
+        BarSeries view = cache.get("AAPL").orElseThrow();
+
+        // Act
+        cache.evict("AAPL");
+
+        // Assert
+        assertEquals(51.0, view.close(1));
+        assertEquals(0, cache.getEntryCount());
+        assertEquals(0, cache.getUsedBytes());
+    }
+
+    @Test
+    @DisplayName("Should replace existing entries without leaking capacity")
+    void testReplaceEntry() {
+        // Arrange
+        cache.put("AAPL", bars(5, 1));
+
+        // Act
+        cache.put("AAPL", bars(2, 1));
+
+        // Assert
+        assertEquals(2, cache.get("AAPL").orElseThrow().size());
+        assertEquals(2L * BYTES_PER_BAR, cache.getUsedBytes());
+    }
+
+    @Test
+    @DisplayName("Should reject series larger than the capacity")
+    void testRejectsOversizedSeries() {
+        // Act & Assert
+        assertFalse(cache.put("AAPL", bars(11, 1)));
+        assertFalse(cache.get("AAPL").isPresent());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    @DisplayName("Should reject out of range indexes and invalid input")
+    void testInvalidAccess() {
+        // Arrange
+        cache.put("AAPL", bars(2, 1));
+        BarSeries view = cache.get("AAPL").orElseThrow();
+
+        // Act & Assert
+        assertThrows(IndexOutOfBoundsException.class, () -> view.close(2));
+        assertThrows(IllegalArgumentException.class, () -> cache.put(null, bars(1, 1)));
+        assertThrows(IllegalArgumentException.class, () -> cache.put("AAPL", null));
+        BarCacheProperties invalid = new BarCacheProperties();
+        invalid.setMaxBytes(0);
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapBarCache(invalid));
+    }
+
+    private static ArrayBarSeries bars(int size, double firstClose) {
+        long[] timestamps = new long[size];
+        double[] opens = new double[size];
+        double[] highs = new double[size];
+        double[] lows = new double[size];
+        double[] closes = new double[size];
+        double[] volumes = new double[size];
+        for (int i = 0; i < size; i++) {
+            timestamps[i] = 1_700_000_000_000L + i * 60_000L;
+            closes[i] = firstClose + i;
+            opens[i] = closes[i] - 0.5;
+            highs[i] = closes[i] + 1;
+            lows[i] = closes[i] - 1;
+            volumes[i] = 1000 + i;
+        }
+        return new ArrayBarSeries(timestamps, opens, highs, lows, closes, volumes);
+    }
+}
@@ -0,0 +1,150 @@
+package com.market.analysis.unit.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.market.analysis.domain.model.ArrayBarSeries;
+import com.market.analysis.domain.model.TickerData;
+import com.market.analysis.domain.model.Timeframe;
+import com.market.analysis.domain.port.out.MarketDataPort;
+import com.market.analysis.infrastructure.cache.ResamplingMarketDataPort;
+
+/**
+ * Unit tests for ResamplingMarketDataPort.
+ */
+@DisplayName("ResamplingMarketDataPort Unit Tests")
+class ResamplingMarketDataPortTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-20T15:00:00Z"), ZoneOffset.UTC);
+    private static final long HOUR = 3_600_000L;
+
+    private final List<String> remoteCalls = new ArrayList<>();
+    private MarketDataPort remote;
+
+    @BeforeEach
+    void setUp() {
+        // Two hours of minute bars per day (14:00-15:59 UTC), closing at the minute index of the day.
+        remote = (ticker, from, to, timeframe) -> {
+            remoteCalls.add(timeframe + " " + from + ".." + to);
+            int days = (int) (to.toEpochDay() - from.toEpochDay()) + 1;
+            int size = timeframe == Timeframe.MINUTE_1 ? days * 120 : days;
+            long[] timestamps = new long[size];
+            double[] values = new double[size];
+            double[] closes = new double[size];
+            for (int i = 0; i < size; i++) {
+                LocalDate day = from.plusDays(timeframe == Timeframe.MINUTE_1 ? i / 120 : i);
+                long dayStart = day.atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+                timestamps[i] = timeframe == Timeframe.MINUTE_1 ? dayStart + 14 * HOUR + (i % 120) * 60_000L
+                        : dayStart;
+                values[i] = 1;
+                closes[i] = i % 120;
+            }
+            return TickerData.ofBars(ticker, new ArrayBarSeries(timestamps, values, values, values, closes, values));
+        };
+    }
+
+    @Test
+    @DisplayName("Should build configured timeframes from minute bars")
+    void testResamplesFromMinuteBars() {
+        // Arrange
+        ResamplingMarketDataPort port = new ResamplingMarketDataPort(remote, List.of(Timeframe.HOUR_1), 10, CLOCK);
+
+        // Act
+        TickerData data = port.fetchTickerData("aapl", day(2), day(3), Timeframe.HOUR_1);
+
+        // Assert
+        assertEquals(List.of("MINUTE_1 2026-03-02..2026-03-03"), remoteCalls);
+        assertEquals("AAPL", data.getTicker());
+        assertEquals(4, data.getBars().size());
+        assertEquals(59.0, data.getBars().close(0));
+        assertEquals(119.0, data.getBars().close(1));
+        assertEquals(60.0, data.getBars().volume(1));
+        assertEquals(240, port.getMinuteBarsConsumed());
+    }
+
+    @Test
+    @DisplayName("Should only fetch and fold new minute bars on later requests")
+    void testExtendsIncrementally() {
+        // Arrange
+        ResamplingMarketDataPort port = new ResamplingMarketDataPort(remote, List.of(Timeframe.HOUR_1), 10, CLOCK);
+        port.fetchTickerData("AAPL", day(2), day(3), Timeframe.HOUR_1);
+        remoteCalls.clear();
+
+        // Act
+        TickerData covered = port.fetchTickerData("AAPL", day(3), day(3), Timeframe.HOUR_1);
+        TickerData extended = port.fetchTickerData("AAPL", day(2), day(5), Timeframe.HOUR_1);
+
+        // Assert
+        assertEquals(List.of("MINUTE_1 2026-03-03..2026-03-05"), remoteCalls);
+        assertEquals(2, covered.getBars().size());
+        assertEquals(8, extended.getBars().size());
+        assertEquals(1, port.getRebuilds());
+        assertEquals(480, port.getMinuteBarsConsumed());
+    }
+
+    @Test
+    @DisplayName("Should rebuild when a request reaches before the aggregated range")
+    void testRebuildsForEarlierRange() {
+        // Arrange
+        ResamplingMarketDataPort port = new ResamplingMarketDataPort(remote, List.of(Timeframe.WEEK_1), 10, CLOCK);
+        port.fetchTickerData("AAPL", day(9), day(10), Timeframe.WEEK_1);
+        remoteCalls.clear();
+
+        // Act
+        TickerData data = port.fetchTickerData("AAPL", day(4), day(10), Timeframe.WEEK_1);
+
+        // Assert
+        assertEquals(List.of("MINUTE_1 2026-03-02..2026-03-10"), remoteCalls);
+        assertEquals(2, data.getBars().size());
+        assertEquals(2, port.getRebuilds());
+    }
+
+    @Test
+    @DisplayName("Should refresh today and pass other timeframes through")
+    void testRefreshesTodayAndPassesThrough() {
+        // Arrange
+        ResamplingMarketDataPort port = new ResamplingMarketDataPort(remote, List.of(Timeframe.MINUTE_5), 10, CLOCK);
+
+        // Act
+        port.fetchTickerData("AAPL", day(20), day(20), Timeframe.MINUTE_5);
+        port.fetchTickerData("AAPL", day(20), day(20), Timeframe.MINUTE_5);
+        TickerData daily = port.fetchTickerData("AAPL", day(1), day(3), Timeframe.DAY_1);
+
+        // Assert
+        assertEquals(List.of("MINUTE_1 2026-03-20..2026-03-20", "MINUTE_1 2026-03-20..2026-03-20",
+                "DAY_1 2026-03-01..2026-03-03"), remoteCalls);
+        assertEquals(3, daily.getBars().size());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid configuration and requests")
+    void testValidation() {
+        // Arrange
+        ResamplingMarketDataPort port = new ResamplingMarketDataPort(remote, List.of(Timeframe.HOUR_1), 10, CLOCK);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> new ResamplingMarketDataPort(remote, List.of(Timeframe.MINUTE_1), 10, CLOCK));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ResamplingMarketDataPort(remote, List.of(), 0, CLOCK));
+        assertThrows(IllegalArgumentException.class,
+                () -> port.fetchTickerData(" ", day(1), day(2), Timeframe.HOUR_1));
+        assertThrows(IllegalArgumentException.class,
+                () -> port.fetchTickerData("AAPL", day(2), day(1), Timeframe.HOUR_1));
+    }
+
+    private static LocalDate day(int day) {
+        return LocalDate.of(2026, 3, day);
+    }
+}
@@ -0,0 +1,273 @@
+package com.market.analysis.unit.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.market.analysis.domain.exception.MarketDataUnavailableException;
+import com.market.analysis.domain.model.TickerData;
+import com.market.analysis.domain.model.Timeframe;
+import com.market.analysis.domain.port.out.MarketDataPort;
+import com.market.analysis.infrastructure.cache.SingleFlightMarketDataPort;
+
+/**
+ * Unit tests for SingleFlightMarketDataPort.
+ */
+@DisplayName("SingleFlightMarketDataPort Unit Tests")
+class SingleFlightMarketDataPortTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 3, 2);
+    private static final LocalDate TO = LocalDate.of(2026, 3, 3);
+    private static final Duration WAIT_TIMEOUT = Duration.ofSeconds(5);
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2026-03-03T14:30:10Z"));
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    @DisplayName("Should share one in-flight load between concurrent callers")
+    void testCoalescesConcurrentRequests() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        MarketDataPort slowDelegate = (ticker, from, to, timeframe) -> {
+            calls.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return TickerData.builder().ticker(ticker).build();
+        };
+        SingleFlightMarketDataPort port = port(slowDelegate, Duration.ofSeconds(30));
+
+        // Act
+        List<Future<TickerData>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 50; i++) {
+                futures.add(executor.submit(() -> port.fetchTickerData("AAPL", FROM, TO, Timeframe.MINUTE_1)));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (port.getCoalescedCount() < 49 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+        }
+
+        // Assert
+        TickerData first = futures.get(0).get();
+        for (Future<TickerData> future : futures) {
+            assertSame(first, future.get());
+        }
+        assertEquals(1, calls.get());
+        assertEquals(49, port.getCoalescedCount());
+    }
+
+    @Test
+    @DisplayName("Should reuse results until the current bar closes")
+    void testExpiresAtBarClose() {
+        // Arrange
+        SingleFlightMarketDataPort port = port(countingDelegate(), Duration.ofMinutes(10));
+
+        // Act
+        port.fetchTickerData("AAPL", FROM, TO, Timeframe.MINUTE_1);
+        clock.advance(Duration.ofSeconds(40));
+        port.fetchTickerData("AAPL", FROM, TO, Timeframe.MINUTE_1);
+        clock.advance(Duration.ofSeconds(15));
+        port.fetchTickerData("AAPL", FROM, TO, Timeframe.MINUTE_1);
+
+        // Assert
+        assertEquals(2, calls.get());
+        assertEquals(1, port.getHitCount());
+    }
+
+    @Test
+    @DisplayName("Should expire results after the TTL and keep keys separate")
+    void testExpiresAfterTtl() {
+        // Arrange
+        SingleFlightMarketDataPort port = port(countingDelegate(), Duration.ofSeconds(5));
+
+        // Act
+        port.fetchTickerData("AAPL", FROM, TO, Timeframe.DAY_1);
+        port.fetchTickerData("AAPL", FROM, TO, Timeframe.HOUR_1);
+        clock.advance(Duration.ofSeconds(6));
+        port.fetchTickerData("AAPL", FROM, TO, Timeframe.DAY_1);
+
+        // Assert
+        assertEquals(3, calls.get());
+        assertEquals(0, port.getHitCount());
+    }
+
+    @Test
+    @DisplayName("Should not cache failures")
+    void testDoesNotCacheFailures() {
+        // Arrange
+        MarketDataPort failing = (ticker, from, to, timeframe) -> {
+            calls.incrementAndGet();
+            throw new MarketDataUnavailableException("rate limited");
+        };
+        SingleFlightMarketDataPort port = port(failing, Duration.ofSeconds(30));
+
+        // Act & Assert
+        assertThrows(MarketDataUnavailableException.class,
+                () -> port.fetchTickerData("AAPL", FROM, TO, Timeframe.DAY_1));
+        assertThrows(MarketDataUnavailableException.class,
+                () -> port.fetchTickerData("AAPL", FROM, TO, Timeframe.DAY_1));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    @DisplayName("Should evict results beyond the configured capacity")
+    void testEvictsBeyondCapacity() {
+        // Arrange
+        SingleFlightMarketDataPort port = new SingleFlightMarketDataPort(countingDelegate(), Duration.ofSeconds(30),
+                WAIT_TIMEOUT, 1, clock);
+
+        // Act
+        port.fetchTickerData("AAPL", FROM, TO, Timeframe.DAY_1);
+        port.fetchTickerData("MSFT", FROM, TO, Timeframe.DAY_1);
+        port.fetchTickerData("AAPL", FROM, TO, Timeframe.DAY_1);
+
+        // Assert
+        assertEquals(3, calls.get());
+        assertEquals(3, port.getLoadCount());
+        assertThrows(IllegalArgumentException.class,
+                () -> new SingleFlightMarketDataPort(countingDelegate(), Duration.ofSeconds(1), WAIT_TIMEOUT, 0, clock));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SingleFlightMarketDataPort(countingDelegate(), Duration.ofSeconds(1), Duration.ZERO, 1,
+                        clock));
+    }
+
+    @Test
+    @DisplayName("Should share errors of the leading load with the waiting callers")
+    void testSharesErrors() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        MarketDataPort broken = (ticker, from, to, timeframe) -> {
+            calls.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new NoClassDefFoundError("com/vendor/Parser");
+        };
+        SingleFlightMarketDataPort port = port(broken, Duration.ofSeconds(30));
+
+        // Act
+        Future<TickerData> leader;
+        Future<TickerData> follower;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            leader = executor.submit(() -> port.fetchTickerData("AAPL", FROM, TO, Timeframe.DAY_1));
+            while (calls.get() == 0) {
+                Thread.sleep(1);
+            }
+            follower = executor.submit(() -> port.fetchTickerData("AAPL", FROM, TO, Timeframe.DAY_1));
+            while (port.getCoalescedCount() == 0) {
+                Thread.sleep(1);
+            }
+            release.countDown();
+        }
+
+        // Assert
+        ExecutionException leaderFailure = assertThrows(ExecutionException.class, leader::get);
+        ExecutionException followerFailure = assertThrows(ExecutionException.class, follower::get);
+        assertInstanceOf(NoClassDefFoundError.class, leaderFailure.getCause());
+        assertSame(leaderFailure.getCause(), followerFailure.getCause());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("Should stop waiting for a hung load after the wait timeout")
+    void testBoundsFollowerWait() throws Exception {
+        // Arrange
+        CountDownLatch release = new CountDownLatch(1);
+        MarketDataPort hung = (ticker, from, to, timeframe) -> {
+            calls.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return TickerData.builder().ticker(ticker).build();
+        };
+        SingleFlightMarketDataPort port = new SingleFlightMarketDataPort(hung, Duration.ofSeconds(30),
+                Duration.ofMillis(50), 100, clock);
+
+        // Act
+        MarketDataUnavailableException exception;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<TickerData> leader = executor.submit(() -> port.fetchTickerData("AAPL", FROM, TO,
+                    Timeframe.DAY_1));
+            while (calls.get() == 0) {
+                Thread.sleep(1);
+            }
+            exception = assertThrows(MarketDataUnavailableException.class,
+                    () -> port.fetchTickerData("AAPL", FROM, TO, Timeframe.DAY_1));
+            release.countDown();
+            leader.get();
+        }
+
+        // Assert
+        assertTrue(exception.getMessage().contains("Timed out after 50ms"));
+        assertEquals(1, calls.get());
+    }
+
+    private MarketDataPort countingDelegate() {
+        return (ticker, from, to, timeframe) -> {
+            calls.incrementAndGet();
+            return TickerData.builder().ticker(ticker).build();
+        };
+    }
+
+    private SingleFlightMarketDataPort port(MarketDataPort delegate, Duration ttl) {
+        return new SingleFlightMarketDataPort(delegate, ttl, WAIT_TIMEOUT, 100, clock);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
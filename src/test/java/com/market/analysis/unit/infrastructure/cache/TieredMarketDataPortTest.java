@@ -0,0 +1,310 @@
+package com.market.analysis.unit.infrastructure.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.market.analysis.domain.exception.MarketDataUnavailableException;
+import com.market.analysis.domain.model.ArrayBarSeries;
+import com.market.analysis.domain.model.TickerData;
+import com.market.analysis.domain.model.Timeframe;
+import com.market.analysis.domain.port.out.MarketDataPort;
+import com.market.analysis.infrastructure.cache.DateRange;
+import com.market.analysis.infrastructure.cache.LocalBarStore;
+import com.market.analysis.infrastructure.cache.OffHeapBarCache;
+import com.market.analysis.infrastructure.cache.TieredMarketDataPort;
+import com.market.analysis.infrastructure.config.BarCacheProperties;
+
+/**
+ * Unit tests for TieredMarketDataPort.
+ */
+@DisplayName("TieredMarketDataPort Unit Tests")
+class TieredMarketDataPortTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 20);
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-20T15:00:00Z"), ZoneOffset.UTC);
+
+    @TempDir
+    Path directory;
+
+    private final List<DateRange> remoteCalls = new ArrayList<>();
+    private MarketDataPort remote;
+
+    @BeforeEach
+    void setUp() {
+        // One daily bar per requested day, closing at the day of month.
+        remote = (ticker, from, to, timeframe) -> {
+            remoteCalls.add(new DateRange(from, to));
+            int days = (int) (to.toEpochDay() - from.toEpochDay()) + 1;
+            long[] timestamps = new long[days];
+            double[] values = new double[days];
+            double[] closes = new double[days];
+            for (int i = 0; i < days; i++) {
+                LocalDate day = from.plusDays(i);
+                timestamps[i] = day.atStartOfDay().toInstant(ZoneOffset.UTC).toEpochMilli();
+                values[i] = 1;
+                closes[i] = day.getDayOfMonth();
+            }
+            return TickerData.ofBars(ticker, new ArrayBarSeries(timestamps, values, values, values, closes, values));
+        };
+    }
+
+    @Test
+    @DisplayName("Should fetch only missing ranges and serve the rest locally")
+    void testFetchesOnlyGaps() {
+        // Arrange
+        TieredMarketDataPort port = new TieredMarketDataPort(remote, new LocalBarStore(directory), hotTier(1 << 20), CLOCK);
+        port.fetchTickerData("AAPL", day(5), day(10), Timeframe.DAY_1);
+
+        // Act
+        TickerData data = port.fetchTickerData("AAPL", day(1), day(12), Timeframe.DAY_1);
+
+        // Assert
+        assertEquals(List.of(range(5, 10), range(1, 4), range(11, 12)), remoteCalls);
+        assertEquals(12, data.getBars().size());
+        assertEquals(1.0, data.getBars().close(0));
+        assertEquals(12.0, data.getCurrentPrice().doubleValue());
+    }
+
+    @Test
+    @DisplayName("Should serve covered ranges from the off-heap tier without remote calls")
+    void testServesFromHotTier() {
+        // Arrange
+        TieredMarketDataPort port = new TieredMarketDataPort(remote, new LocalBarStore(directory), hotTier(1 << 20), CLOCK);
+        port.fetchTickerData("AAPL", day(1), day(10), Timeframe.DAY_1);
+
+        // Act
+        TickerData first = port.fetchTickerData("AAPL", day(3), day(4), Timeframe.DAY_1);
+        TickerData second = port.fetchTickerData("aapl", day(3), day(4), Timeframe.DAY_1);
+
+        // Assert
+        assertEquals(1, port.getRemoteFetches());
+        assertEquals(2, first.getBars().size());
+        assertEquals(4.0, second.getBars().close(1));
+        assertEquals(2, port.getHotHits());
+    }
+
+    @Test
+    @DisplayName("Should replace the off-heap copy of a series when the store grows")
+    void testReplacesOutdatedHotCopy() {
+        // Arrange
+        OffHeapBarCache hot = hotTier(1 << 20);
+        TieredMarketDataPort port = new TieredMarketDataPort(remote, new LocalBarStore(directory), hot, CLOCK);
+        port.fetchTickerData("AAPL", day(1), day(5), Timeframe.DAY_1);
+
+        // Act
+        TickerData data = port.fetchTickerData("AAPL", day(1), day(10), Timeframe.DAY_1);
+
+        // Assert
+        assertEquals(10, data.getBars().size());
+        assertEquals(1, hot.getEntryCount());
+        assertEquals(10 * 48L, hot.getUsedBytes());
+    }
+
+    @Test
+    @DisplayName("Should serve stored history after a restart")
+    void testServesFromDiskAfterRestart() {
+        // Arrange
+        new TieredMarketDataPort(remote, new LocalBarStore(directory), hotTier(1 << 20), CLOCK)
+                .fetchTickerData("AAPL", day(1), day(10), Timeframe.DAY_1);
+        remoteCalls.clear();
+
+        // Act
+        TieredMarketDataPort restarted = new TieredMarketDataPort(remote, new LocalBarStore(directory), hotTier(1 << 20), CLOCK);
+        TickerData data = restarted.fetchTickerData("AAPL", day(1), day(10), Timeframe.DAY_1);
+
+        // Assert
+        assertEquals(List.of(), remoteCalls);
+        assertEquals(10, data.getBars().size());
+        assertEquals(1, restarted.getWarmHits());
+    }
+
+    @Test
+    @DisplayName("Should refresh today only after the intraday TTL without writing the store")
+    void testRefreshesTodayAfterTtl() {
+        // Arrange
+        MutableClock clock = new MutableClock(CLOCK.instant());
+        LocalBarStore store = new LocalBarStore(directory);
+        TieredMarketDataPort port = new TieredMarketDataPort(remote, store, hotTier(1 << 20), Duration.ofMinutes(1), clock);
+        port.fetchTickerData("AAPL", day(18), TODAY, Timeframe.DAY_1);
+        long version = store.version("AAPL", Timeframe.DAY_1);
+
+        // Act
+        port.fetchTickerData("AAPL", day(18), TODAY, Timeframe.DAY_1);
+        clock.advance(Duration.ofMinutes(2));
+        TickerData data = port.fetchTickerData("AAPL", day(18), TODAY, Timeframe.DAY_1);
+
+        // Assert
+        assertEquals(List.of(range(18, 19), range(20, 20), range(20, 20)), remoteCalls);
+        assertEquals(version, store.version("AAPL", Timeframe.DAY_1));
+        assertEquals(3, data.getBars().size());
+        assertEquals(20.0, data.getCurrentPrice().doubleValue());
+        assertEquals(2, port.getHotHits());
+        assertThrows(IllegalArgumentException.class,
+                () -> port.fetchTickerData(" ", day(1), day(2), Timeframe.DAY_1));
+    }
+
+    @Test
+    @DisplayName("Should serve stored bars when the provider fails to refresh today")
+    void testServesStoredBarsWhenTodayFails() {
+        // Arrange
+        boolean[] failing = { false };
+        MarketDataPort flaky = (ticker, from, to, timeframe) -> {
+            if (failing[0]) {
+                throw new MarketDataUnavailableException("Provider down");
+            }
+            return remote.fetchTickerData(ticker, from, to, timeframe);
+        };
+        TieredMarketDataPort port = new TieredMarketDataPort(flaky, new LocalBarStore(directory), hotTier(1 << 20),
+                Duration.ZERO, CLOCK);
+        port.fetchTickerData("AAPL", day(10), day(19), Timeframe.DAY_1);
+        port.fetchTickerData("MSFT", day(10), day(19), Timeframe.DAY_1);
+        port.fetchTickerData("AAPL", day(10), TODAY, Timeframe.DAY_1);
+        failing[0] = true;
+
+        // Act
+        TickerData withLastTail = port.fetchTickerData("AAPL", day(10), TODAY, Timeframe.DAY_1);
+        TickerData withoutTail = port.fetchTickerData("MSFT", day(10), TODAY, Timeframe.DAY_1);
+
+        // Assert
+        assertEquals(11, withLastTail.getBars().size());
+        assertEquals(20.0, withLastTail.getCurrentPrice().doubleValue());
+        assertEquals(10, withoutTail.getBars().size());
+        assertEquals(19.0, withoutTail.getCurrentPrice().doubleValue());
+        assertEquals(2, port.getStaleTailServes());
+        assertFalse(port.isRemoteAvailable());
+    }
+
+    @Test
+    @DisplayName("Should prefetch gaps without counting demand and drop stale heap copies")
+    void testPrefetchAndDemand() {
+        // Arrange
+        TieredMarketDataPort port = new TieredMarketDataPort(remote, new LocalBarStore(directory), hotTier(1 << 20), CLOCK);
+        port.fetchTickerData("AAPL", day(5), day(6), Timeframe.DAY_1);
+        port.fetchTickerData("aapl", day(5), day(6), Timeframe.DAY_1);
+
+        // Act
+        int requests = port.prefetch("AAPL", range(1, 10), Timeframe.DAY_1);
+        int open = port.prefetch("AAPL", new DateRange(TODAY, TODAY), Timeframe.DAY_1);
+        int repeated = port.prefetch("AAPL", range(1, 10), Timeframe.DAY_1);
+        TickerData data = port.fetchTickerData("AAPL", day(1), day(10), Timeframe.DAY_1);
+
+        // Assert
+        assertEquals(2, requests);
+        assertEquals(0, open);
+        assertEquals(0, repeated);
+        assertEquals(10, data.getBars().size());
+        assertEquals(Map.of("AAPL", 3L), port.getDemand());
+    }
+
+    @Test
+    @DisplayName("Should track whether the last remote fetch succeeded")
+    void testTracksRemoteAvailability() {
+        // Arrange
+        boolean[] failing = { true };
+        MarketDataPort flaky = (ticker, from, to, timeframe) -> {
+            if (failing[0]) {
+                throw new MarketDataUnavailableException("Provider down");
+            }
+            return remote.fetchTickerData(ticker, from, to, timeframe);
+        };
+        TieredMarketDataPort port = new TieredMarketDataPort(flaky, new LocalBarStore(directory), hotTier(1 << 20), CLOCK);
+        assertTrue(port.isRemoteAvailable());
+
+        // Act
+        assertThrows(MarketDataUnavailableException.class,
+                () -> port.fetchTickerData("AAPL", day(1), day(5), Timeframe.DAY_1));
+        boolean availableAfterFailure = port.isRemoteAvailable();
+        failing[0] = false;
+        port.fetchTickerData("AAPL", day(1), day(5), Timeframe.DAY_1);
+
+        // Assert
+        assertFalse(availableAfterFailure);
+        assertTrue(port.isRemoteAvailable());
+        assertEquals(2, port.getRemoteFetches());
+        assertEquals(1, port.getRemoteFailures());
+    }
+
+    @Test
+    @DisplayName("Should load stored series into the off-heap tier until it is full without remote calls")
+    void testWarmLoadsStoredSeries() {
+        // Arrange
+        TieredMarketDataPort seeding = new TieredMarketDataPort(remote, new LocalBarStore(directory), hotTier(1 << 20), CLOCK);
+        seeding.fetchTickerData("AAPL", day(1), day(5), Timeframe.DAY_1);
+        seeding.fetchTickerData("MSFT", day(1), day(5), Timeframe.DAY_1);
+        remoteCalls.clear();
+        // Room for one series of five bars
+        TieredMarketDataPort port = new TieredMarketDataPort(remote, new LocalBarStore(directory), hotTier(300), CLOCK);
+
+        // Act
+        int warmed = port.warm(List.of("NVDA", "AAPL", "MSFT"), Timeframe.DAY_1);
+        port.fetchTickerData("AAPL", day(1), day(5), Timeframe.DAY_1);
+        port.fetchTickerData("MSFT", day(1), day(5), Timeframe.DAY_1);
+
+        // Assert
+        assertEquals(1, warmed);
+        assertEquals(1, port.getHotHits());
+        assertEquals(1, port.getWarmHits());
+        assertTrue(remoteCalls.isEmpty());
+        assertEquals(1L, port.getDemand().get("AAPL"));
+    }
+
+    private static OffHeapBarCache hotTier(long maxBytes) {
+        BarCacheProperties properties = new BarCacheProperties();
+        properties.setMaxBytes(maxBytes);
+        return new OffHeapBarCache(properties);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    private static DateRange range(int from, int to) {
+        return new DateRange(day(from), day(to));
+    }
+
+    private static LocalDate day(int day) {
+        return LocalDate.of(2026, 3, day);
+    }
+}
@@ -0,0 +1,89 @@
+package com.market.analysis.unit.infrastructure.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.market.analysis.infrastructure.concurrency.ConnectionLimitingDataSource;
+
+/**
+ * Unit tests for ConnectionLimitingDataSource.
+ */
+@DisplayName("ConnectionLimitingDataSource Unit Tests")
+class ConnectionLimitingDataSourceTest {
+
+    @Test
+    @DisplayName("Should hold a permit until the connection is closed")
+    void testPermitReleasedOnClose() throws SQLException {
+        // Arrange
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.isValid(5)).thenReturn(true);
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 2, 1000);
+
+        // Act
+        Connection obtained = dataSource.getConnection();
+
+        // Assert
+        assertEquals(1, dataSource.getAvailablePermits());
+        assertTrue(obtained.isValid(5));
+        obtained.close();
+        obtained.close();
+        verify(connection, times(2)).close();
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("Should release the permit when the pool fails")
+    void testPermitReleasedOnFailure() throws SQLException {
+        // Arrange
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenThrow(new SQLException("timeout"));
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, 1000);
+
+        // Act & Assert
+        assertThrows(SQLException.class, dataSource::getConnection);
+        assertEquals(1, dataSource.getAvailablePermits());
+        assertThrows(IllegalArgumentException.class, () -> new ConnectionLimitingDataSource(target, 0, 1000));
+        assertThrows(IllegalArgumentException.class, () -> new ConnectionLimitingDataSource(target, 1, 0));
+    }
+
+    @Test
+    @DisplayName("Should time out like the pool when no permit frees up")
+    void testAcquireTimesOut() throws SQLException {
+        // Arrange
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        ConnectionLimitingDataSource dataSource = new ConnectionLimitingDataSource(target, 1, 50);
+        Connection held = dataSource.getConnection();
+
+        // Act
+        long startTime = System.nanoTime();
+        SQLTransientConnectionException exception = assertThrows(SQLTransientConnectionException.class,
+                dataSource::getConnection);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        // Assert
+        assertTrue(exception.getMessage().contains("50ms"));
+        assertTrue(elapsedMillis >= 40, "Should wait for the timeout before failing");
+        assertEquals(0, dataSource.getAvailablePermits());
+        held.close();
+        assertEquals(1, dataSource.getAvailablePermits());
+        verify(target, times(1)).getConnection();
+    }
+}
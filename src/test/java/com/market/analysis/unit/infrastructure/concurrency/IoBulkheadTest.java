@@ -0,0 +1,62 @@
+package com.market.analysis.unit.infrastructure.concurrency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.market.analysis.infrastructure.concurrency.IoBulkhead;
+
+/**
+ * Unit tests for IoBulkhead.
+ */
+@DisplayName("IoBulkhead Unit Tests")
+class IoBulkheadTest {
+
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    @DisplayName("Should never run more tasks than the concurrency limit")
+    void testLimitsConcurrency(boolean virtualThreads) throws InterruptedException {
+        // Arrange
+        int tasks = 200;
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(tasks);
+
+        try (IoBulkhead bulkhead = new IoBulkhead("test", 4, virtualThreads)) {
+            // Act
+            for (int i = 0; i < tasks; i++) {
+                bulkhead.execute(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(1);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    running.decrementAndGet();
+                    done.countDown();
+                });
+            }
+
+            // Assert
+            assertTrue(done.await(10, TimeUnit.SECONDS));
+            assertTrue(maxRunning.get() <= 4);
+            assertEquals(4, bulkhead.getMaxConcurrency());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive limit")
+    void testRejectsInvalidLimit() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new IoBulkhead("test", 0, true));
+    }
+}
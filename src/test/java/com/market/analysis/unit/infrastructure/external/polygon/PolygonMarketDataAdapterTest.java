@@ -0,0 +1,103 @@
+package com.market.analysis.unit.infrastructure.external.polygon;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.market.analysis.domain.exception.MarketDataUnavailableException;
+import com.market.analysis.domain.model.BarSeries;
+import com.market.analysis.domain.model.TickerData;
+import com.market.analysis.domain.model.Timeframe;
+import com.market.analysis.infrastructure.external.polygon.PolygonMarketDataAdapter;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Unit tests for PolygonMarketDataAdapter.
+ */
+@DisplayName("PolygonMarketDataAdapter Unit Tests")
+class PolygonMarketDataAdapterTest {
+
+    private static final LocalDate FROM = LocalDate.of(2026, 3, 2);
+    private static final LocalDate TO = LocalDate.of(2026, 3, 3);
+
+    private final List<URI> requested = new ArrayList<>();
+
+    @Test
+    @DisplayName("Should map aggregates into bars and follow pagination")
+    void testFetchTickerData() {
+        // Arrange
+        PolygonMarketDataAdapter adapter = adapter(HttpStatus.OK,
+                "{\"status\":\"OK\",\"results\":[{\"t\":1000,\"o\":1,\"h\":2,\"l\":0.5,\"c\":1.5,\"v\":10}],"
+                        + "\"next_url\":\"https://api.test/v2/aggs/next?cursor=abc\"}",
+                "{\"status\":\"OK\",\"results\":[{\"t\":2000,\"o\":1.5,\"h\":3,\"l\":1,\"c\":2.5,\"v\":20}]}");
+
+        // Act
+        TickerData data = adapter.fetchTickerData("AAPL", FROM, TO, Timeframe.MINUTE_5);
+
+        // Assert
+        BarSeries bars = data.getBars();
+        assertEquals(2, bars.size());
+        assertEquals(1000L, bars.timestamp(0));
+        assertEquals(2.5, bars.close(1));
+        assertEquals(new BigDecimal("2.5"), data.getCurrentPrice());
+        assertEquals(20L, data.getVolume());
+        assertEquals("/v2/aggs/ticker/AAPL/range/5/minute/2026-03-02/2026-03-03", requested.get(0).getPath());
+        assertTrue(requested.get(1).getQuery().contains("cursor=abc"));
+        assertTrue(requested.get(1).getQuery().contains("apiKey=token"));
+    }
+
+    @Test
+    @DisplayName("Should translate provider failures into domain exceptions")
+    void testProviderFailure() {
+        // Arrange
+        PolygonMarketDataAdapter adapter = adapter(HttpStatus.TOO_MANY_REQUESTS, "{}");
+
+        // Act & Assert
+        assertThrows(MarketDataUnavailableException.class,
+                () -> adapter.fetchTickerData("AAPL", FROM, TO, Timeframe.DAY_1));
+    }
+
+    @Test
+    @DisplayName("Should fail fast without an API token")
+    void testMissingToken() {
+        // Arrange
+        PolygonMarketDataAdapter adapter = new PolygonMarketDataAdapter(WebClient.create(), "https://api.test", "",
+                Duration.ofSeconds(1));
+
+        // Act & Assert
+        assertThrows(MarketDataUnavailableException.class,
+                () -> adapter.fetchTickerData("AAPL", FROM, TO, Timeframe.DAY_1));
+        assertThrows(IllegalArgumentException.class,
+                () -> adapter.fetchTickerData(" ", FROM, TO, Timeframe.DAY_1));
+    }
+
+    private PolygonMarketDataAdapter adapter(HttpStatus status, String... bodies) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    requested.add(request.url());
+                    String body = bodies[Math.min(requested.size() - 1, bodies.length - 1)];
+                    return Mono.just(ClientResponse.create(status)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(body)
+                            .build());
+                })
+                .build();
+        return new PolygonMarketDataAdapter(webClient, "https://api.test", "token", Duration.ofSeconds(5));
+    }
+}
@@ -0,0 +1,82 @@
+package com.market.analysis.unit.infrastructure.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import com.market.analysis.infrastructure.monitoring.AnalysisHistoryHealthIndicator;
+import com.market.analysis.infrastructure.monitoring.DependencyHealthIndicator;
+import com.market.analysis.infrastructure.persistence.repository.SqlAnalysisHistoryRepository;
+
+/**
+ * Unit tests for AnalysisHistoryHealthIndicator.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnalysisHistoryHealthIndicator Unit Tests")
+class AnalysisHistoryHealthIndicatorTest {
+
+    @Mock
+    private SqlAnalysisHistoryRepository analysisHistoryRepository;
+
+    @InjectMocks
+    private AnalysisHistoryHealthIndicator analysisHistoryHealthIndicator;
+
+    @Test
+    @DisplayName("Should report UP with the queue counters while the writer keeps up")
+    void testUpWhileWriterKeepsUp() {
+        // Arrange
+        when(analysisHistoryRepository.isWriterRunning()).thenReturn(true);
+        when(analysisHistoryRepository.getPendingCount()).thenReturn(3);
+        when(analysisHistoryRepository.getQueueCapacity()).thenReturn(10);
+        when(analysisHistoryRepository.getWrittenCount()).thenReturn(100L);
+        when(analysisHistoryRepository.getDroppedCount()).thenReturn(7L);
+
+        // Act
+        Health health = analysisHistoryHealthIndicator.health();
+
+        // Assert
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(3, health.getDetails().get("pending"));
+        assertEquals(100L, health.getDetails().get("written"));
+        assertEquals(7L, health.getDetails().get("dropped"));
+        assertEquals(0L, health.getDetails().get("failed"));
+    }
+
+    @Test
+    @DisplayName("Should report DEGRADED while the queue is full")
+    void testDegradedWhileQueueFull() {
+        // Arrange
+        when(analysisHistoryRepository.isWriterRunning()).thenReturn(true);
+        when(analysisHistoryRepository.getPendingCount()).thenReturn(10);
+        when(analysisHistoryRepository.getQueueCapacity()).thenReturn(10);
+
+        // Act
+        Health health = analysisHistoryHealthIndicator.health();
+
+        // Assert
+        assertEquals(DependencyHealthIndicator.DEGRADED, health.getStatus());
+    }
+
+    @Test
+    @DisplayName("Should report DEGRADED when the writer is not running")
+    void testDegradedWithoutWriter() {
+        // Arrange
+        when(analysisHistoryRepository.isWriterRunning()).thenReturn(false);
+        when(analysisHistoryRepository.getQueueCapacity()).thenReturn(10);
+
+        // Act
+        Health health = analysisHistoryHealthIndicator.health();
+
+        // Assert
+        assertEquals(DependencyHealthIndicator.DEGRADED, health.getStatus());
+        assertEquals(false, health.getDetails().get("writerRunning"));
+    }
+}
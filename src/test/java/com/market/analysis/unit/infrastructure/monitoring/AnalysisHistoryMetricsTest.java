@@ -0,0 +1,50 @@
+package com.market.analysis.unit.infrastructure.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.market.analysis.infrastructure.monitoring.AnalysisHistoryMetrics;
+import com.market.analysis.infrastructure.persistence.repository.SqlAnalysisHistoryRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for AnalysisHistoryMetrics.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnalysisHistoryMetrics Unit Tests")
+class AnalysisHistoryMetricsTest {
+
+    @Mock
+    private SqlAnalysisHistoryRepository analysisHistoryRepository;
+
+    @Test
+    @DisplayName("Should read the repository counters on every scrape")
+    void testBindsRepositoryCounters() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new AnalysisHistoryMetrics(analysisHistoryRepository).bindTo(registry);
+        when(analysisHistoryRepository.getPendingCount()).thenReturn(4);
+        when(analysisHistoryRepository.getWrittenCount()).thenReturn(90L);
+        when(analysisHistoryRepository.getDroppedCount()).thenReturn(12L);
+        when(analysisHistoryRepository.getFailedCount()).thenReturn(2L);
+
+        // Act
+        double pending = registry.get("analysis.history.pending").gauge().value();
+        double written = registry.get("analysis.history.written").functionCounter().count();
+        double dropped = registry.get("analysis.history.dropped").functionCounter().count();
+        double failed = registry.get("analysis.history.failed").functionCounter().count();
+
+        // Assert
+        assertEquals(4, pending);
+        assertEquals(90, written);
+        assertEquals(12, dropped);
+        assertEquals(2, failed);
+    }
+}
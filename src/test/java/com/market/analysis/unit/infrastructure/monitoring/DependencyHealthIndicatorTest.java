@@ -0,0 +1,132 @@
+package com.market.analysis.unit.infrastructure.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import com.market.analysis.application.usecase.HealthCheckService;
+import com.market.analysis.domain.model.DependencyHealth;
+import com.market.analysis.domain.model.HealthStatus;
+import com.market.analysis.infrastructure.monitoring.DependencyHealthIndicator;
+
+/**
+ * Unit tests for DependencyHealthIndicator.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DependencyHealthIndicator Unit Tests")
+class DependencyHealthIndicatorTest {
+
+    @Mock
+    private HealthCheckService healthCheckService;
+
+    @Test
+    @DisplayName("Should report UP with the probe details for a healthy dependency")
+    void testHealthyDependency() {
+        // Arrange
+        stubDependencies(dependency(DependencyHealth.DATABASE, true, true, 12L, null));
+
+        // Act
+        Health health = indicator(DependencyHealth.DATABASE).health();
+
+        // Assert
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(12L, health.getDetails().get("latencyMs"));
+    }
+
+    @Test
+    @DisplayName("Should report DOWN for an unhealthy critical dependency")
+    void testUnhealthyCriticalDependency() {
+        // Arrange
+        stubDependencies(dependency(DependencyHealth.DATABASE, false, true, -1L, "Connection refused"));
+
+        // Act
+        Health health = indicator(DependencyHealth.DATABASE).health();
+
+        // Assert
+        assertEquals(Status.DOWN, health.getStatus());
+        assertEquals("Connection refused", health.getDetails().get("detail"));
+    }
+
+    @Test
+    @DisplayName("Should report DEGRADED for an unhealthy non-critical dependency")
+    void testUnhealthyNonCriticalDependency() {
+        // Arrange
+        stubDependencies(dependency(DependencyHealth.MARKET_DATA, false, false, -1L, "4 remote fetches, 1 failed"));
+
+        // Act
+        Health health = indicator(DependencyHealth.MARKET_DATA).health();
+
+        // Assert
+        assertEquals(DependencyHealthIndicator.DEGRADED, health.getStatus());
+    }
+
+    @Test
+    @DisplayName("Should report DOWN for a critical and UNKNOWN for any other dependency once stale")
+    void testStaleDependencies() {
+        // Arrange
+        LocalDateTime probedAt = LocalDateTime.of(2026, 10, 19, 9, 30);
+        when(healthCheckService.performHealthCheck()).thenReturn(HealthStatus.builder()
+                .status("UNKNOWN")
+                .timestamp(probedAt)
+                .stale(true)
+                .dependencies(List.of(
+                        dependency(DependencyHealth.DATABASE, false, true, -1L, "No probe completed for 30000ms"),
+                        dependency(DependencyHealth.CACHES, false, false, -1L, "No probe completed for 30000ms")))
+                .build());
+
+        // Act
+        Health database = indicator(DependencyHealth.DATABASE).health();
+        Health caches = indicator(DependencyHealth.CACHES).health();
+
+        // Assert
+        assertEquals(Status.DOWN, database.getStatus());
+        assertEquals(Status.UNKNOWN, caches.getStatus());
+        assertEquals(probedAt.toString(), caches.getDetails().get("probedAt"));
+    }
+
+    @Test
+    @DisplayName("Should report UNKNOWN for a dependency that is not probed")
+    void testUnknownDependency() {
+        // Arrange
+        stubDependencies(dependency(DependencyHealth.DATABASE, true, true, 1L, null));
+
+        // Act
+        Health health = indicator("Message broker").health();
+
+        // Assert
+        assertEquals(Status.UNKNOWN, health.getStatus());
+    }
+
+    private DependencyHealthIndicator indicator(String dependency) {
+        return new DependencyHealthIndicator(healthCheckService, dependency);
+    }
+
+    private void stubDependencies(DependencyHealth... dependencies) {
+        when(healthCheckService.performHealthCheck()).thenReturn(HealthStatus.builder()
+                .status("UP")
+                .timestamp(LocalDateTime.now())
+                .dependencies(List.of(dependencies))
+                .build());
+    }
+
+    private static DependencyHealth dependency(String name, boolean healthy, boolean critical, long latencyMillis,
+            String detail) {
+        return DependencyHealth.builder()
+                .name(name)
+                .healthy(healthy)
+                .critical(critical)
+                .latencyMillis(latencyMillis)
+                .detail(detail)
+                .build();
+    }
+}
@@ -3,8 +3,12 @@ package com.market.analysis.unit.infrastructure.monitoring;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
 
 import javax.sql.DataSource;
@@ -13,14 +17,19 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 
+import com.market.analysis.domain.model.DependencyHealth;
+import com.market.analysis.infrastructure.cache.LocalBarStore;
+import com.market.analysis.infrastructure.cache.TieredMarketDataPort;
 import com.market.analysis.infrastructure.monitoring.HealthCheckAdapter;
 
 /**
  * Unit tests for HealthCheckAdapter.
- * Tests the infrastructure adapter for database health verification.
+ * Tests the infrastructure adapter for dependency health verification.
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("HealthCheckAdapter Unit Tests")
@@ -32,111 +41,154 @@ class HealthCheckAdapterTest {
     @Mock
     private Connection connection;
 
+    @Mock
+    private ObjectProvider<TieredMarketDataPort> tieredMarketDataPortProvider;
+
+    @Mock
+    private ObjectProvider<LocalBarStore> localBarStoreProvider;
+
+    @Mock
+    private TieredMarketDataPort tieredMarketDataPort;
+
+    @TempDir
+    private Path directory;
+
     private HealthCheckAdapter healthCheckAdapter;
 
     @BeforeEach
     void setUp() {
-        healthCheckAdapter = new HealthCheckAdapter(dataSource);
+        healthCheckAdapter = new HealthCheckAdapter(dataSource, tieredMarketDataPortProvider, localBarStoreProvider);
     }
 
     @Test
-    @DisplayName("Should return true when database connection is valid")
-    void testIsDatabaseHealthyReturnsTrueWhenValid() throws Exception {
+    @DisplayName("Should report a healthy critical database when the connection is valid")
+    void testCheckDatabaseHealthyWhenValid() throws Exception {
         // Arrange
         when(dataSource.getConnection()).thenReturn(connection);
         when(connection.isValid(5)).thenReturn(true);
 
         // Act
-        boolean result = healthCheckAdapter.isDatabaseHealthy();
+        DependencyHealth health = healthCheckAdapter.checkDatabase();
 
         // Assert
-        assertTrue(result);
+        assertTrue(health.isHealthy());
+        assertTrue(health.isCritical());
+        assertTrue(health.getLatencyMillis() >= 0);
+        assertTrue(health.getLatencyMillis() < 5000);
     }
 
     @Test
-    @DisplayName("Should return false when database connection is invalid")
-    void testIsDatabaseHealthyReturnsFalseWhenInvalid() throws Exception {
+    @DisplayName("Should check out a single connection per database probe")
+    void testCheckDatabaseUsesOneConnection() throws Exception {
         // Arrange
         when(dataSource.getConnection()).thenReturn(connection);
-        when(connection.isValid(5)).thenReturn(false);
+        when(connection.isValid(5)).thenReturn(true);
 
         // Act
-        boolean result = healthCheckAdapter.isDatabaseHealthy();
+        healthCheckAdapter.checkDatabase();
 
         // Assert
-        assertFalse(result);
+        verify(dataSource, times(1)).getConnection();
+        verify(connection).close();
     }
 
     @Test
-    @DisplayName("Should return false when connection acquisition fails")
-    void testIsDatabaseHealthyReturnsFalseOnException() throws Exception {
+    @DisplayName("Should report an unhealthy database when the connection is invalid")
+    void testCheckDatabaseUnhealthyWhenInvalid() throws Exception {
         // Arrange
-        when(dataSource.getConnection()).thenThrow(new RuntimeException("Connection failed"));
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.isValid(5)).thenReturn(false);
 
         // Act
-        boolean result = healthCheckAdapter.isDatabaseHealthy();
+        DependencyHealth health = healthCheckAdapter.checkDatabase();
 
         // Assert
-        assertFalse(result);
+        assertFalse(health.isHealthy());
+        assertEquals(-1L, health.getLatencyMillis());
     }
 
     @Test
-    @DisplayName("Should return positive connection time when database is healthy")
-    void testGetDatabaseConnectionTimeReturnsPositiveWhenHealthy() throws Exception {
+    @DisplayName("Should report an unhealthy database when connection acquisition fails")
+    void testCheckDatabaseUnhealthyOnException() throws Exception {
         // Arrange
-        when(dataSource.getConnection()).thenReturn(connection);
-        when(connection.isValid(5)).thenReturn(true);
+        when(dataSource.getConnection()).thenThrow(new RuntimeException("Connection failed"));
 
         // Act
-        long connectionTime = healthCheckAdapter.getDatabaseConnectionTime();
+        DependencyHealth health = healthCheckAdapter.checkDatabase();
 
         // Assert
-        assertTrue(connectionTime >= 0);
+        assertFalse(health.isHealthy());
+        assertEquals(-1L, health.getLatencyMillis());
+        assertEquals("Connection failed", health.getDetail());
     }
 
     @Test
-    @DisplayName("Should return -1 connection time when connection validation fails")
-    void testGetDatabaseConnectionTimeReturnsMinusOneWhenConnectionFails() throws Exception {
+    @DisplayName("Should follow the outcome of the last remote market data fetch")
+    void testCheckMarketDataFollowsRemoteOutcome() {
         // Arrange
-        when(dataSource.getConnection()).thenReturn(connection);
-        when(connection.isValid(5)).thenReturn(false);
+        when(tieredMarketDataPortProvider.getIfAvailable()).thenReturn(tieredMarketDataPort);
+        when(tieredMarketDataPort.isRemoteAvailable()).thenReturn(true, false);
+        when(tieredMarketDataPort.getRemoteFetches()).thenReturn(4L);
+        when(tieredMarketDataPort.getRemoteFailures()).thenReturn(0L, 1L);
 
         // Act
-        long connectionTime = healthCheckAdapter.getDatabaseConnectionTime();
+        DependencyHealth healthy = healthCheckAdapter.checkMarketData();
+        DependencyHealth unhealthy = healthCheckAdapter.checkMarketData();
 
         // Assert
-        assertEquals(-1L, connectionTime);
+        assertTrue(healthy.isHealthy());
+        assertFalse(healthy.isCritical());
+        assertEquals("4 remote fetches, 0 failed", healthy.getDetail());
+        assertFalse(unhealthy.isHealthy());
+        assertEquals("4 remote fetches, 1 failed", unhealthy.getDetail());
     }
 
     @Test
-    @DisplayName("Should return -1 connection time when connection acquisition fails")
-    void testGetDatabaseConnectionTimeReturnsMinusOneOnException() throws Exception {
+    @DisplayName("Should report unhealthy market data when no provider is configured")
+    void testCheckMarketDataUnhealthyWithoutProvider() {
         // Arrange
-        when(dataSource.getConnection()).thenThrow(new RuntimeException("Connection failed"));
+        when(tieredMarketDataPortProvider.getIfAvailable()).thenReturn(null);
 
         // Act
-        long connectionTime = healthCheckAdapter.getDatabaseConnectionTime();
+        DependencyHealth health = healthCheckAdapter.checkMarketData();
 
         // Assert
-        assertEquals(-1L, connectionTime);
+        assertFalse(health.isHealthy());
+        assertEquals(-1L, health.getLatencyMillis());
     }
 
     @Test
-    @DisplayName("Should measure reasonable connection time")
-    void testGetDatabaseConnectionTimeMeasuresReasonableTime() throws Exception {
+    @DisplayName("Should report healthy caches when the bar store is writable")
+    void testCheckCachesHealthyWhenWritable() {
         // Arrange
-        when(dataSource.getConnection()).thenReturn(connection);
-        when(connection.isValid(5)).thenReturn(true);
+        when(localBarStoreProvider.getIfAvailable()).thenReturn(new LocalBarStore(directory));
+        when(tieredMarketDataPortProvider.getIfAvailable()).thenReturn(tieredMarketDataPort);
+        when(tieredMarketDataPort.getHotHits()).thenReturn(7L);
+        when(tieredMarketDataPort.getWarmHits()).thenReturn(3L);
 
         // Act
-        long connectionTime = healthCheckAdapter.getDatabaseConnectionTime();
+        DependencyHealth health = healthCheckAdapter.checkCaches();
 
         // Assert
-        assertTrue(connectionTime >= 0);
-        assertLessThan(connectionTime, 5000); // Should complete within 5 seconds
+        assertTrue(health.isHealthy());
+        assertEquals("7 hot hits, 3 warm hits", health.getDetail());
     }
 
-    private void assertLessThan(long actual, long expected) {
-        assertTrue(actual < expected, String.format("Expected %d to be less than %d", actual, expected));
+    @Test
+    @DisplayName("Should report unhealthy caches when the bar store directory is gone")
+    void testCheckCachesUnhealthyWhenDirectoryMissing() throws Exception {
+        // Arrange
+        Path storeDirectory = directory.resolve("bars");
+        LocalBarStore store = new LocalBarStore(storeDirectory);
+        Files.delete(storeDirectory);
+        when(localBarStoreProvider.getIfAvailable()).thenReturn(store);
+        when(tieredMarketDataPortProvider.getIfAvailable()).thenReturn(tieredMarketDataPort);
+
+        // Act
+        DependencyHealth health = healthCheckAdapter.checkCaches();
+
+        // Assert
+        assertFalse(health.isHealthy());
+        assertEquals("Bar store directory is not writable", health.getDetail());
     }
 }
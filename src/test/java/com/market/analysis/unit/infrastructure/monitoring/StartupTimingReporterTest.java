@@ -0,0 +1,120 @@
+package com.market.analysis.unit.infrastructure.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+import com.market.analysis.infrastructure.monitoring.StartupTimingReporter;
+
+/**
+ * Unit tests for StartupTimingReporter.
+ */
+@DisplayName("StartupTimingReporter Unit Tests")
+class StartupTimingReporterTest {
+
+    private StartupTimingReporter reporter;
+    private BufferingApplicationStartup startup;
+
+    @BeforeEach
+    void setUp() {
+        reporter = new StartupTimingReporter();
+        startup = new BufferingApplicationStartup(100);
+    }
+
+    @Test
+    @DisplayName("Should list the slowest bean instantiations first")
+    void testSummarizeSlowestBeans() {
+        // Arrange
+        List<StartupTimeline.TimelineEvent> events = List.of(
+                event("spring.beans.instantiate", "fastBean", 1),
+                event("spring.beans.instantiate", "slowBean", 30),
+                event("spring.beans.instantiate", "mediumBean", 10),
+                event("spring.context.refresh", null, 2000));
+        StartupTimeline timeline = mock(StartupTimeline.class);
+        when(timeline.getEvents()).thenReturn(events);
+
+        // Act
+        String summary = reporter.summarize(timeline, Duration.ofMillis(1500));
+
+        // Assert
+        assertEquals("Ready in 1500 ms, 4 startup steps, slowest beans: slowBean 30 ms, mediumBean 10 ms, "
+                + "fastBean 1 ms", summary);
+    }
+
+    @Test
+    @DisplayName("Should summarize a timeline without bean instantiations")
+    void testSummarizeWithoutBeans() {
+        // Arrange
+        startup.start("spring.context.refresh").end();
+
+        // Act
+        String summary = reporter.summarize(startup.getBufferedTimeline(), null);
+
+        // Assert
+        assertEquals("Ready in ? ms, 1 startup steps, slowest beans: none", summary);
+    }
+
+    @Test
+    @DisplayName("Should keep the buffered steps for the startup endpoint")
+    void testReadyEventKeepsTimeline() {
+        // Arrange
+        startup.start("spring.context.refresh").end();
+        ApplicationReadyEvent event = readyEvent(startup);
+
+        // Act
+        reporter.onApplicationReady(event);
+
+        // Assert
+        assertEquals(1, startup.getBufferedTimeline().getEvents().size());
+        verify(event).getTimeTaken();
+    }
+
+    @Test
+    @DisplayName("Should skip the report when startup steps are not recorded")
+    void testReadyEventWithoutBuffering() {
+        // Arrange
+        ApplicationReadyEvent event = readyEvent(ApplicationStartup.DEFAULT);
+
+        // Act
+        reporter.onApplicationReady(event);
+
+        // Assert
+        verify(event, never()).getTimeTaken();
+    }
+
+    // Steps with fixed durations, so the order does not depend on the scheduler
+    private static StartupTimeline.TimelineEvent event(String name, String beanName, long millis) {
+        StartupStep step = new BufferingApplicationStartup(1).start(name);
+        if (beanName != null) {
+            step.tag("beanName", beanName);
+        }
+        StartupTimeline.TimelineEvent event = mock(StartupTimeline.TimelineEvent.class);
+        when(event.getStartupStep()).thenReturn(step);
+        when(event.getDuration()).thenReturn(Duration.ofMillis(millis));
+        return event;
+    }
+
+    private static ApplicationReadyEvent readyEvent(ApplicationStartup applicationStartup) {
+        ConfigurableApplicationContext context = mock(ConfigurableApplicationContext.class);
+        when(context.getApplicationStartup()).thenReturn(applicationStartup);
+        ApplicationReadyEvent event = mock(ApplicationReadyEvent.class);
+        when(event.getApplicationContext()).thenReturn(context);
+        return event;
+    }
+}
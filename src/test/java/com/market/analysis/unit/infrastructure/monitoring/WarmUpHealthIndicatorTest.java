@@ -0,0 +1,77 @@
+package com.market.analysis.unit.infrastructure.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import com.market.analysis.infrastructure.cache.CacheWarmer;
+import com.market.analysis.infrastructure.monitoring.WarmUpHealthIndicator;
+
+/**
+ * Unit tests for WarmUpHealthIndicator.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WarmUpHealthIndicator Unit Tests")
+class WarmUpHealthIndicatorTest {
+
+    @Mock
+    private CacheWarmer cacheWarmer;
+
+    @InjectMocks
+    private WarmUpHealthIndicator warmUpHealthIndicator;
+
+    @Test
+    @DisplayName("Should report OUT_OF_SERVICE while the caches are cold")
+    void testOutOfServiceWhileCold() {
+        // Arrange
+        when(cacheWarmer.isWarm()).thenReturn(false);
+
+        // Act
+        Health health = warmUpHealthIndicator.health();
+
+        // Assert
+        assertEquals(Status.OUT_OF_SERVICE, health.getStatus());
+        assertTrue(health.getDetails().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should report the last warm-up error while the caches are cold")
+    void testReportsLastError() {
+        // Arrange
+        when(cacheWarmer.isWarm()).thenReturn(false);
+        when(cacheWarmer.getLastError()).thenReturn("Database down");
+
+        // Act
+        Health health = warmUpHealthIndicator.health();
+
+        // Assert
+        assertEquals(Status.OUT_OF_SERVICE, health.getStatus());
+        assertEquals("Database down", health.getDetails().get("error"));
+    }
+
+    @Test
+    @DisplayName("Should report UP with what was loaded once the caches are warm")
+    void testUpWhenWarm() {
+        // Arrange
+        when(cacheWarmer.isWarm()).thenReturn(true);
+        when(cacheWarmer.getDetails()).thenReturn(Map.of("strategies", 3, "hotSeries", 12));
+
+        // Act
+        Health health = warmUpHealthIndicator.health();
+
+        // Assert
+        assertEquals(Status.UP, health.getStatus());
+        assertEquals(12, health.getDetails().get("hotSeries"));
+    }
+}
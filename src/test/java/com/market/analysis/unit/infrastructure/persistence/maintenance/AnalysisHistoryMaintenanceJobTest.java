@@ -0,0 +1,136 @@
+package com.market.analysis.unit.infrastructure.persistence.maintenance;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.market.analysis.infrastructure.config.AnalysisHistoryProperties;
+import com.market.analysis.infrastructure.persistence.maintenance.AnalysisHistoryMaintenanceJob;
+
+/**
+ * Unit tests for AnalysisHistoryMaintenanceJob.
+ */
+@DisplayName("AnalysisHistoryMaintenanceJob Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class AnalysisHistoryMaintenanceJobTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private AnalysisHistoryProperties properties;
+    private AnalysisHistoryMaintenanceJob job;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AnalysisHistoryProperties();
+        properties.setRetentionDays(5);
+        properties.setPartitionsAhead(2);
+        job = new AnalysisHistoryMaintenanceJob(jdbcTemplate, TransactionOperations.withoutTransaction(), properties);
+    }
+
+    @Test
+    @DisplayName("Should roll up each completed day after the latest rollup")
+    void testRollsUpPendingDays() {
+        // Arrange
+        when(jdbcTemplate.queryForObject(startsWith("SELECT MAX(rollup_date)"), eq(LocalDate.class)))
+                .thenReturn(TODAY.minusDays(3));
+
+        // Act
+        job.runMaintenance(TODAY);
+
+        // Assert
+        verify(jdbcTemplate).update(startsWith("INSERT INTO analysis_daily_rollups"),
+                eq(Date.valueOf(TODAY.minusDays(2))));
+        verify(jdbcTemplate).update(startsWith("INSERT INTO analysis_daily_rollups"),
+                eq(Date.valueOf(TODAY.minusDays(1))));
+        verify(jdbcTemplate, never()).update(startsWith("INSERT INTO analysis_daily_rollups"),
+                eq(Date.valueOf(TODAY)));
+        verify(jdbcTemplate).update(startsWith("DELETE FROM analysis_results"),
+                eq(Date.valueOf(TODAY.minusDays(5))));
+    }
+
+    @Test
+    @DisplayName("Should start rolling up from the retention window on first run")
+    void testFirstRunStartsAtRetentionWindow() {
+        // Arrange
+        when(jdbcTemplate.queryForObject(startsWith("SELECT MAX(rollup_date)"), eq(LocalDate.class)))
+                .thenReturn(null);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT MIN(analysis_date)"), eq(LocalDate.class)))
+                .thenReturn(TODAY.minusDays(30));
+
+        // Act
+        job.runMaintenance(TODAY);
+
+        // Assert
+        verify(jdbcTemplate, times(5)).update(startsWith("INSERT INTO analysis_daily_rollups"),
+                any(Date.class));
+    }
+
+    @Test
+    @DisplayName("Should not expire anything when history is empty")
+    void testEmptyHistory() {
+        // Arrange
+        when(jdbcTemplate.queryForObject(anyString(), eq(LocalDate.class))).thenReturn(null);
+
+        // Act
+        job.runMaintenance(TODAY);
+
+        // Assert
+        verify(jdbcTemplate, never()).update(startsWith("DELETE FROM analysis_results"),
+                any(Date.class));
+    }
+
+    @Test
+    @DisplayName("Should drop expired partitions and create upcoming ones")
+    void testManagesPartitions() {
+        // Arrange
+        properties.setPartitioningEnabled(true);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT MAX(rollup_date)"), eq(LocalDate.class)))
+                .thenReturn(TODAY.minusDays(1));
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                .thenReturn(List.of("p20260304", "p20260305", "p20260310", "p_max"));
+
+        // Act
+        job.runMaintenance(TODAY);
+
+        // Assert
+        verify(jdbcTemplate).execute("ALTER TABLE analysis_results DROP PARTITION p20260304");
+        verify(jdbcTemplate).execute("ALTER TABLE analysis_results REORGANIZE PARTITION p_max INTO ("
+                + "PARTITION p20260311 VALUES LESS THAN ('2026-03-12'), "
+                + "PARTITION p20260312 VALUES LESS THAN ('2026-03-13'), "
+                + "PARTITION p_max VALUES LESS THAN (MAXVALUE))");
+        verify(jdbcTemplate, never()).update(startsWith("DELETE FROM analysis_results"),
+                any(Date.class));
+    }
+
+    @Test
+    @DisplayName("Should swallow failures from the scheduled run")
+    void testScheduledRunSwallowsFailures() {
+        // Arrange
+        when(jdbcTemplate.queryForObject(anyString(), eq(LocalDate.class)))
+                .thenThrow(new IllegalStateException("db down"));
+
+        // Act & Assert
+        job.runScheduled();
+    }
+}
@@ -0,0 +1,63 @@
+package com.market.analysis.unit.infrastructure.persistence.maintenance;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.market.analysis.domain.port.out.CatalogRevisionRepository;
+import com.market.analysis.infrastructure.persistence.maintenance.CatalogRevisionRefreshJob;
+
+/**
+ * Unit tests for CatalogRevisionRefreshJob.
+ */
+@DisplayName("CatalogRevisionRefreshJob Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class CatalogRevisionRefreshJobTest {
+
+    @Mock
+    private CatalogRevisionRepository catalogRevisionRepository;
+
+    @Test
+    @DisplayName("Should refresh the revision on its own thread once started")
+    void testStartRefreshesOnOwnThread() {
+        // Arrange
+        List<String> threads = new CopyOnWriteArrayList<>();
+        when(catalogRevisionRepository.refresh()).thenAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            return 1L;
+        });
+        CatalogRevisionRefreshJob job = new CatalogRevisionRefreshJob(catalogRevisionRepository, 10);
+
+        // Act
+        job.start();
+
+        // Assert
+        verify(catalogRevisionRepository, timeout(2000).atLeast(2)).refresh();
+        job.stop();
+        assertEquals("catalog-revision-refresh", threads.get(0));
+    }
+
+    @Test
+    @DisplayName("Should survive database failures and reject invalid intervals")
+    void testRunScheduled() {
+        // Arrange
+        when(catalogRevisionRepository.refresh()).thenThrow(new IllegalStateException("database down"));
+        CatalogRevisionRefreshJob job = new CatalogRevisionRefreshJob(catalogRevisionRepository, 1000);
+
+        // Act & Assert
+        assertDoesNotThrow(job::runScheduled);
+        assertThrows(IllegalArgumentException.class, () -> new CatalogRevisionRefreshJob(catalogRevisionRepository, 0));
+    }
+}
@@ -0,0 +1,93 @@
+package com.market.analysis.unit.infrastructure.persistence.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.market.analysis.domain.model.AnalysisResult;
+import com.market.analysis.domain.model.Rule;
+import com.market.analysis.domain.model.RuleResult;
+import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.infrastructure.persistence.entity.AnalysisResultEntity;
+import com.market.analysis.infrastructure.persistence.mapper.AnalysisResultMapper;
+
+/**
+ * Unit tests for AnalysisResultMapper.
+ */
+@DisplayName("AnalysisResultMapper Unit Tests")
+class AnalysisResultMapperTest {
+
+    private final AnalysisResultMapper mapper = new AnalysisResultMapper();
+
+    @Test
+    @DisplayName("Should map domain to entity with encoded rule results")
+    void testToEntity() {
+        // Arrange
+        LocalDateTime timestamp = LocalDateTime.of(2026, 3, 2, 15, 30);
+        AnalysisResult result = AnalysisResult.builder()
+                .strategy(Strategy.builder().id(7L).name("S").build())
+                .ticker("AAPL")
+                .analysisTimestamp(timestamp)
+                .ruleResults(List.of(
+                        RuleResult.builder().passed(true).rule(Rule.builder().id(12L).build()).build(),
+                        RuleResult.builder().passed(false).rule(Rule.builder().id(13L).build()).build()))
+                .calculatedMetrics(Map.of())
+                .overallPassed(false)
+                .summary("1/2 rules passed")
+                .build();
+
+        // Act
+        AnalysisResultEntity entity = mapper.toEntity(result);
+
+        // Assert
+        assertEquals(7L, entity.getStrategyId());
+        assertEquals("AAPL", entity.getTicker());
+        assertEquals(timestamp, entity.getAnalysisTimestamp());
+        assertEquals(timestamp.toLocalDate(), entity.getAnalysisDate());
+        assertFalse(entity.isOverallPassed());
+        assertEquals("12:1,13:0", entity.getRuleResults());
+        assertEquals("1/2 rules passed", entity.getSummary());
+    }
+
+    @Test
+    @DisplayName("Should map entity back to domain with rule references")
+    void testToDomain() {
+        // Arrange
+        AnalysisResultEntity entity = new AnalysisResultEntity();
+        entity.setStrategyId(7L);
+        entity.setTicker("AAPL");
+        entity.setAnalysisTimestamp(LocalDateTime.of(2026, 3, 2, 15, 30));
+        entity.setOverallPassed(true);
+        entity.setRuleResults("12:1,:1");
+
+        // Act
+        AnalysisResult result = mapper.toDomain(entity);
+
+        // Assert
+        assertEquals(7L, result.getStrategy().getId());
+        assertTrue(result.isOverallPassed());
+        assertEquals(2, result.getRuleResults().size());
+        assertEquals(12L, result.getRuleResults().get(0).getRule().getId());
+        assertTrue(result.getRuleResults().get(0).isPassed());
+        assertNull(result.getRuleResults().get(1).getRule().getId());
+    }
+
+    @Test
+    @DisplayName("Should handle null and empty values")
+    void testNullAndEmptyValues() {
+        // Act & Assert
+        assertNull(mapper.toEntity(null));
+        assertNull(mapper.toDomain(null));
+        assertTrue(mapper.decodeRuleResults(null).isEmpty());
+        assertTrue(mapper.decodeRuleResults("").isEmpty());
+        assertEquals("", mapper.encodeRuleResults(List.of()));
+    }
+}
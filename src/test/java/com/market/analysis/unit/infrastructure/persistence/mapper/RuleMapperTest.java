@@ -1,14 +1,17 @@
 package com.market.analysis.unit.infrastructure.persistence.mapper;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import com.market.analysis.domain.model.Rule;
+import com.market.analysis.domain.model.Timeframe;
 import com.market.analysis.infrastructure.persistence.entity.RuleEntity;
 import com.market.analysis.infrastructure.persistence.mapper.RuleMapper;
 
@@ -34,9 +37,11 @@ class RuleMapperTest {
                 .name("SMA Crossover")
                 .subjectCode("SMA")
                 .subjectParam(50.0)
+                .subjectTimeframe(Timeframe.DAY_1)
                 .operator(">")
                 .targetCode("SMA")
                 .targetParam(200.0)
+                .targetTimeframe(Timeframe.WEEK_1)
                 .description("50-day SMA crosses above 200-day SMA")
                 .build();
 
@@ -52,6 +57,8 @@ class RuleMapperTest {
         assertEquals(">", entity.getOperator());
         assertEquals("SMA", entity.getTargetCode());
         assertEquals(200.0, entity.getTargetParam());
+        assertEquals(Timeframe.DAY_1, entity.getSubjectTimeframe());
+        assertEquals(Timeframe.WEEK_1, entity.getTargetTimeframe());
         assertEquals("50-day SMA crosses above 200-day SMA", entity.getDescription());
     }
 
@@ -139,6 +146,7 @@ class RuleMapperTest {
                 .name("Volume Rule")
                 .subjectCode("VOLUME")
                 .subjectParam(null)
+                .subjectTimeframe(Timeframe.HOUR_1)
                 .operator(">")
                 .targetCode("AVG_VOLUME")
                 .targetParam(20.0)
@@ -157,6 +165,44 @@ class RuleMapperTest {
         assertEquals(originalRule.getOperator(), convertedRule.getOperator());
         assertEquals(originalRule.getTargetCode(), convertedRule.getTargetCode());
         assertEquals(originalRule.getTargetParam(), convertedRule.getTargetParam());
+        assertEquals(Timeframe.HOUR_1, convertedRule.getSubjectTimeframe());
+        assertNull(convertedRule.getTargetTimeframe());
         assertEquals(originalRule.getDescription(), convertedRule.getDescription());
     }
+
+    @Test
+    @DisplayName("Should copy changed fields onto an entity and keep its ID")
+    void testUpdateEntity() {
+        // Arrange
+        RuleEntity entity = ruleMapper.toEntity(Rule.builder()
+                .id(5L)
+                .name("Price above 100")
+                .subjectCode("PRICE")
+                .operator(">")
+                .targetCode("CONSTANT")
+                .targetParam(100.0)
+                .build());
+        Rule unchanged = ruleMapper.toDomain(entity);
+        Rule changed = Rule.builder()
+                .id(5L)
+                .name("Price above 120")
+                .subjectCode("PRICE")
+                .operator(">")
+                .targetCode("CONSTANT")
+                .targetParam(120.0)
+                .targetTimeframe(Timeframe.WEEK_1)
+                .build();
+
+        // Act
+        boolean firstUpdate = ruleMapper.updateEntity(unchanged, entity);
+        boolean secondUpdate = ruleMapper.updateEntity(changed, entity);
+
+        // Assert
+        assertFalse(firstUpdate);
+        assertTrue(secondUpdate);
+        assertEquals(5L, entity.getId());
+        assertEquals("Price above 120", entity.getName());
+        assertEquals(120.0, entity.getTargetParam());
+        assertEquals(Timeframe.WEEK_1, entity.getTargetTimeframe());
+    }
 }
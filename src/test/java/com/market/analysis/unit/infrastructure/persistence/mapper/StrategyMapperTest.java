@@ -1,9 +1,16 @@
 package com.market.analysis.unit.infrastructure.persistence.mapper;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
@@ -73,6 +80,8 @@ class StrategyMapperTest {
                 .name("Test Strategy")
                 .description("Test Description")
                 .rules(List.of(testRule))
+                .expression("NOT R1")
+                .version(4L)
                 .build();
 
         // Act
@@ -83,8 +92,11 @@ class StrategyMapperTest {
         assertEquals(1L, entity.getId());
         assertEquals("Test Strategy", entity.getName());
         assertEquals("Test Description", entity.getDescription());
+        assertEquals("NOT R1", entity.getExpression());
+        assertEquals(4L, entity.getVersion());
         assertNotNull(entity.getRules());
         assertEquals(1, entity.getRules().size());
+        assertSame(entity, entity.getRules().get(0).getStrategy());
     }
 
     @Test
@@ -97,6 +109,8 @@ class StrategyMapperTest {
         entity.setId(2L);
         entity.setName("RSI Strategy");
         entity.setDescription("RSI based strategy");
+        entity.setExpression("R1");
+        entity.setVersion(7L);
         entity.setRules(new ArrayList<>(List.of(testRuleEntity)));
 
         // Act
@@ -107,6 +121,8 @@ class StrategyMapperTest {
         assertEquals(2L, strategy.getId());
         assertEquals("RSI Strategy", strategy.getName());
         assertEquals("RSI based strategy", strategy.getDescription());
+        assertEquals("R1", strategy.getExpression());
+        assertEquals(7L, strategy.getVersion());
         assertNotNull(strategy.getRules());
         assertEquals(1, strategy.getRules().size());
     }
@@ -170,4 +186,140 @@ class StrategyMapperTest {
         assertNotNull(entity);
         assertEquals(2, entity.getRules().size());
     }
+
+    @Test
+    @DisplayName("Should update matching rules in place, append new ones and remove missing ones")
+    void testUpdateEntityDiffsRulesById() {
+        // Arrange
+        RuleEntity second = ruleEntity(2L);
+        RuleEntity third = ruleEntity(3L);
+        StrategyEntity entity = strategyEntity(testRuleEntity, second, third);
+        Rule newRule = rule(null);
+        RuleEntity newRuleEntity = ruleEntity(99L);
+        when(ruleMapper.updateEntity(any(Rule.class), any(RuleEntity.class))).thenReturn(false);
+        when(ruleMapper.toEntity(newRule)).thenReturn(newRuleEntity);
+        Strategy strategy = strategy(testRule, rule(3L), newRule);
+
+        // Act
+        boolean changed = strategyMapper.updateEntity(strategy, entity);
+
+        // Assert
+        assertTrue(changed);
+        assertEquals(3, entity.getRules().size());
+        assertSame(testRuleEntity, entity.getRules().get(0));
+        assertSame(third, entity.getRules().get(1));
+        assertSame(newRuleEntity, entity.getRules().get(2));
+        assertNull(newRuleEntity.getId());
+        assertSame(entity, newRuleEntity.getStrategy());
+        verify(ruleMapper, never()).updateEntity(any(Rule.class), eq(second));
+    }
+
+    @Test
+    @DisplayName("Should report no change when nothing differs")
+    void testUpdateEntityWithoutChanges() {
+        // Arrange
+        StrategyEntity entity = strategyEntity(testRuleEntity);
+        when(ruleMapper.updateEntity(testRule, testRuleEntity)).thenReturn(false);
+
+        // Act
+        boolean changed = strategyMapper.updateEntity(strategy(testRule), entity);
+
+        // Assert
+        assertFalse(changed);
+        assertEquals(List.of(testRuleEntity), entity.getRules());
+    }
+
+    @Test
+    @DisplayName("Should report a change when only a rule row differs")
+    void testUpdateEntityWithChangedRule() {
+        // Arrange
+        StrategyEntity entity = strategyEntity(testRuleEntity);
+        when(ruleMapper.updateEntity(testRule, testRuleEntity)).thenReturn(true);
+
+        // Act
+        boolean changed = strategyMapper.updateEntity(strategy(testRule), entity);
+
+        // Assert
+        assertTrue(changed);
+        assertSame(testRuleEntity, entity.getRules().get(0));
+    }
+
+    @Test
+    @DisplayName("Should keep each rule on its own row when the rule order changes")
+    void testUpdateEntityReordered() {
+        // Arrange
+        RuleEntity second = ruleEntity(2L);
+        StrategyEntity entity = strategyEntity(testRuleEntity, second);
+        Rule movedSecond = rule(2L);
+        when(ruleMapper.updateEntity(movedSecond, second)).thenReturn(false);
+        when(ruleMapper.updateEntity(testRule, testRuleEntity)).thenReturn(false);
+
+        // Act
+        boolean changed = strategyMapper.updateEntity(strategy(movedSecond, testRule), entity);
+
+        // Assert
+        assertTrue(changed);
+        assertEquals(List.of(second, testRuleEntity), entity.getRules());
+        verify(ruleMapper, never()).toEntity(any(Rule.class));
+    }
+
+    @Test
+    @DisplayName("Should give a repeated or unknown rule ID a new row")
+    void testUpdateEntityNeverReusesRows() {
+        // Arrange
+        StrategyEntity entity = strategyEntity(testRuleEntity);
+        Rule repeated = rule(1L);
+        Rule unknown = rule(7L);
+        RuleEntity repeatedEntity = ruleEntity(1L);
+        RuleEntity unknownEntity = ruleEntity(7L);
+        when(ruleMapper.updateEntity(testRule, testRuleEntity)).thenReturn(false);
+        when(ruleMapper.toEntity(repeated)).thenReturn(repeatedEntity);
+        when(ruleMapper.toEntity(unknown)).thenReturn(unknownEntity);
+
+        // Act
+        boolean changed = strategyMapper.updateEntity(strategy(testRule, repeated, unknown), entity);
+
+        // Assert
+        assertTrue(changed);
+        assertEquals(List.of(testRuleEntity, repeatedEntity, unknownEntity), entity.getRules());
+        assertNull(repeatedEntity.getId());
+        assertNull(unknownEntity.getId());
+        verify(ruleMapper, times(1)).updateEntity(any(Rule.class), any(RuleEntity.class));
+    }
+
+    private Strategy strategy(Rule... rules) {
+        return Strategy.builder()
+                .id(1L)
+                .name("Test Strategy")
+                .description("Test Description")
+                .rules(List.of(rules))
+                .build();
+    }
+
+    private StrategyEntity strategyEntity(RuleEntity... rules) {
+        StrategyEntity entity = new StrategyEntity();
+        entity.setId(1L);
+        entity.setName("Test Strategy");
+        entity.setDescription("Test Description");
+        entity.setRules(new ArrayList<>(List.of(rules)));
+        return entity;
+    }
+
+    private static Rule rule(Long id) {
+        return Rule.builder()
+                .id(id)
+                .name("Rule " + id)
+                .subjectCode("PRICE")
+                .operator(">")
+                .targetCode("CONSTANT")
+                .targetParam(100.0)
+                .build();
+    }
+
+    private static RuleEntity ruleEntity(Long id) {
+        RuleEntity entity = new RuleEntity();
+        entity.setId(id);
+        entity.setName("Rule " + id);
+        return entity;
+    }
 }
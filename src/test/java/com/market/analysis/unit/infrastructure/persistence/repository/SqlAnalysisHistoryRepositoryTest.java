@@ -0,0 +1,314 @@
+package com.market.analysis.unit.infrastructure.persistence.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.market.analysis.domain.model.AnalysisResult;
+import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.domain.model.StrategyPassSummary;
+import com.market.analysis.infrastructure.config.AnalysisHistoryProperties;
+import com.market.analysis.infrastructure.persistence.entity.AnalysisResultEntity;
+import com.market.analysis.infrastructure.persistence.mapper.AnalysisResultMapper;
+import com.market.analysis.infrastructure.persistence.repository.AnalysisHistoryBatchWriter;
+import com.market.analysis.infrastructure.persistence.repository.AnalysisPassTotals;
+import com.market.analysis.infrastructure.persistence.repository.JpaAnalysisDailyRollupRepository;
+import com.market.analysis.infrastructure.persistence.repository.JpaAnalysisResultRepository;
+import com.market.analysis.infrastructure.persistence.repository.SqlAnalysisHistoryRepository;
+
+/**
+ * Unit tests for SqlAnalysisHistoryRepository and AnalysisHistoryBatchWriter.
+ */
+@DisplayName("SqlAnalysisHistoryRepository Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class SqlAnalysisHistoryRepositoryTest {
+
+    @Mock
+    private AnalysisHistoryBatchWriter batchWriter;
+
+    @Mock
+    private JpaAnalysisResultRepository jpaResultRepository;
+
+    @Mock
+    private JpaAnalysisDailyRollupRepository jpaRollupRepository;
+
+    private SqlAnalysisHistoryRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = repository(new AnalysisHistoryProperties().getOfferTimeoutMs());
+    }
+
+    @Test
+    @DisplayName("Should enqueue results without writing synchronously")
+    void testSaveEnqueuesResult() {
+        // Act
+        boolean accepted = repository.save(result("AAPL"));
+
+        // Assert
+        assertTrue(accepted);
+        assertEquals(1, repository.getPendingCount());
+        verify(batchWriter, times(0)).writeBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("Should drop results instead of blocking when the queue is full")
+    void testSaveDropsWhenQueueFull() {
+        // Arrange
+        assertEquals(0, new AnalysisHistoryProperties().getOfferTimeoutMs());
+        List<AnalysisResult> results = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            results.add(result("T" + i));
+        }
+
+        // Act
+        int accepted = repository.saveAll(results);
+
+        // Assert
+        assertEquals(5, accepted);
+        assertEquals(2, repository.getDroppedCount());
+        assertFalse(repository.save(result("LATE")));
+    }
+
+    @Test
+    @DisplayName("Should wait for the writer to make room when back-pressure is enabled")
+    void testSaveWaitsForRoomWhileWriterDrains() {
+        // Arrange
+        repository = repository(100);
+        List<AnalysisResult> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            results.add(result("T" + i));
+        }
+        repository.start();
+
+        // Act
+        int accepted = repository.saveAll(results);
+
+        // Assert
+        repository.stop();
+        assertEquals(20, accepted);
+        assertEquals(0, repository.getDroppedCount());
+        assertEquals(20, repository.getWrittenCount());
+        assertFalse(repository.isWriterRunning());
+    }
+
+    @Test
+    @DisplayName("Should drop results once the offer timeout passes while the writer is stuck")
+    void testSaveDropsAfterOfferTimeout() throws InterruptedException {
+        // Arrange
+        repository = repository(100);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            return null;
+        }).when(batchWriter).writeBatch(anyList());
+        List<AnalysisResult> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            results.add(result("T" + i));
+        }
+        repository.start();
+
+        // Act
+        int accepted = repository.saveAll(results);
+
+        // Assert
+        assertTrue(repository.isWriterRunning());
+        assertEquals(5, repository.getQueueCapacity());
+        assertTrue(accepted < 10);
+        assertEquals(10 - accepted, repository.getDroppedCount());
+        release.countDown();
+        repository.stop();
+    }
+
+    @Test
+    @DisplayName("Should flush pending results in batches")
+    void testFlushWritesInBatches() {
+        // Arrange
+        repository.saveAll(List.of(result("A"), result("B"), result("C")));
+
+        // Act
+        int written = repository.flush();
+
+        // Assert
+        assertEquals(3, written);
+        assertEquals(3, repository.getWrittenCount());
+        assertEquals(0, repository.getPendingCount());
+        verify(batchWriter, times(2)).writeBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("Should count failed batches without propagating the error")
+    void testFlushCountsFailures() {
+        // Arrange
+        doThrow(new IllegalStateException("db down")).when(batchWriter).writeBatch(anyList());
+        repository.save(result("A"));
+
+        // Act
+        int written = repository.flush();
+
+        // Assert
+        assertEquals(0, written);
+        assertEquals(1, repository.getFailedCount());
+    }
+
+    @Test
+    @DisplayName("Should write queued results from the background writer")
+    void testBackgroundWriterFlushesQueue() {
+        // Arrange
+        repository.start();
+
+        // Act
+        repository.save(result("A"));
+
+        // Assert
+        verify(batchWriter, timeout(2000).times(1)).writeBatch(anyList());
+        repository.stop();
+        assertEquals(1, repository.getWrittenCount());
+    }
+
+    @Test
+    @DisplayName("Should reject null input")
+    void testRejectsNull() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> repository.save(null));
+        assertThrows(IllegalArgumentException.class, () -> repository.saveAll(null));
+    }
+
+    @Test
+    @DisplayName("Should map and save a batch through JPA")
+    @SuppressWarnings("unchecked")
+    void testBatchWriterSavesEntities() {
+        // Arrange
+        JpaAnalysisResultRepository jpaRepository = mock(JpaAnalysisResultRepository.class);
+        AnalysisHistoryBatchWriter writer = new AnalysisHistoryBatchWriter(jpaRepository, new AnalysisResultMapper());
+
+        // Act
+        writer.writeBatch(List.of(result("A"), result("B")));
+
+        // Assert
+        ArgumentCaptor<List<AnalysisResultEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jpaRepository).saveAll(captor.capture());
+        assertEquals(2, captor.getValue().size());
+        assertEquals("A", captor.getValue().get(0).getTicker());
+    }
+
+    @Test
+    @DisplayName("Should combine rollups with raw rows after the latest rollup")
+    void testSummarizePassesCombinesRollupsAndRawRows() {
+        // Arrange
+        LocalDate from = LocalDate.of(2026, 1, 1);
+        LocalDate to = LocalDate.of(2026, 3, 31);
+        LocalDate latestRollup = LocalDate.of(2026, 3, 29);
+        when(jpaRollupRepository.findLatestRollupDate()).thenReturn(latestRollup);
+        when(jpaRollupRepository.sumByStrategyIdAndRollupDateBetween(1L, from, latestRollup))
+                .thenReturn(totals(900, 90));
+        when(jpaResultRepository.sumByStrategyIdAndAnalysisDateBetween(1L, latestRollup.plusDays(1), to))
+                .thenReturn(totals(100, 10));
+
+        // Act
+        StrategyPassSummary summary = repository.summarizePasses(1L, from, to);
+
+        // Assert
+        assertEquals(1000, summary.getEvaluatedCount());
+        assertEquals(100, summary.getPassedCount());
+        assertEquals(from, summary.getFrom());
+        assertEquals(to, summary.getTo());
+    }
+
+    @Test
+    @DisplayName("Should only read rollups when the period is fully rolled up")
+    void testSummarizePassesFromRollupsOnly() {
+        // Arrange
+        LocalDate from = LocalDate.of(2026, 1, 1);
+        LocalDate to = LocalDate.of(2026, 1, 31);
+        when(jpaRollupRepository.findLatestRollupDate()).thenReturn(LocalDate.of(2026, 3, 29));
+        when(jpaRollupRepository.sumByStrategyIdAndRollupDateBetween(1L, from, to)).thenReturn(totals(10, 4));
+
+        // Act
+        StrategyPassSummary summary = repository.summarizePasses(1L, from, to);
+
+        // Assert
+        assertEquals(10, summary.getEvaluatedCount());
+        assertEquals(4, summary.getPassedCount());
+        verify(jpaResultRepository, never()).sumByStrategyIdAndAnalysisDateBetween(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should only read raw rows when nothing was rolled up")
+    void testSummarizePassesFromRawRowsOnly() {
+        // Arrange
+        LocalDate day = LocalDate.of(2026, 3, 2);
+        when(jpaRollupRepository.findLatestRollupDate()).thenReturn(null);
+        when(jpaResultRepository.sumByStrategyIdAndAnalysisDateBetween(eq(1L), eq(day), eq(day)))
+                .thenReturn(totals(3, 1));
+
+        // Act
+        StrategyPassSummary summary = repository.summarizePasses(1L, day, day);
+
+        // Assert
+        assertEquals(3, summary.getEvaluatedCount());
+        assertEquals(1, summary.getPassedCount());
+    }
+
+    private static AnalysisPassTotals totals(long evaluated, long passed) {
+        return new AnalysisPassTotals() {
+            @Override
+            public Long getEvaluated() {
+                return evaluated;
+            }
+
+            @Override
+            public Long getPassed() {
+                return passed;
+            }
+        };
+    }
+
+    private static AnalysisResult result(String ticker) {
+        return AnalysisResult.builder()
+                .strategy(Strategy.builder().id(1L).build())
+                .ticker(ticker)
+                .analysisTimestamp(LocalDateTime.now())
+                .ruleResults(List.of())
+                .calculatedMetrics(Map.of())
+                .overallPassed(true)
+                .summary("0/0 rules passed")
+                .build();
+    }
+
+    private SqlAnalysisHistoryRepository repository(long offerTimeoutMs) {
+        AnalysisHistoryProperties properties = new AnalysisHistoryProperties();
+        properties.setQueueCapacity(5);
+        properties.setBatchSize(2);
+        properties.setFlushIntervalMs(10);
+        properties.setOfferTimeoutMs(offerTimeoutMs);
+        return new SqlAnalysisHistoryRepository(batchWriter, jpaResultRepository, jpaRollupRepository, properties);
+    }
+}
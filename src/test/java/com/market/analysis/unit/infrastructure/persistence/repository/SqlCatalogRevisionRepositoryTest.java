@@ -0,0 +1,103 @@
+package com.market.analysis.unit.infrastructure.persistence.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.market.analysis.infrastructure.persistence.repository.JpaCatalogRevisionRepository;
+import com.market.analysis.infrastructure.persistence.repository.SqlCatalogRevisionRepository;
+
+/**
+ * Unit tests for SqlCatalogRevisionRepository.
+ */
+@DisplayName("SqlCatalogRevisionRepository Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class SqlCatalogRevisionRepositoryTest {
+
+    @Mock
+    private JpaCatalogRevisionRepository jpaRepository;
+
+    @InjectMocks
+    private SqlCatalogRevisionRepository sqlRepository;
+
+    @Test
+    @DisplayName("Should read the persisted revision once and then serve it from memory")
+    void testCurrent() {
+        // Arrange
+        when(jpaRepository.findRevision()).thenReturn(Optional.of(42L));
+
+        // Act
+        long first = sqlRepository.current();
+        long second = sqlRepository.current();
+
+        // Assert
+        assertEquals(42L, first);
+        assertEquals(42L, second);
+        verify(jpaRepository, times(1)).findRevision();
+    }
+
+    @Test
+    @DisplayName("Should pick up writes of other instances on refresh, never going back")
+    void testRefresh() {
+        // Arrange
+        when(jpaRepository.findRevision()).thenReturn(Optional.of(42L), Optional.of(45L), Optional.of(44L));
+        sqlRepository.current();
+
+        // Act
+        long refreshed = sqlRepository.refresh();
+        long stale = sqlRepository.refresh();
+
+        // Assert
+        assertEquals(45L, refreshed);
+        assertEquals(45L, stale);
+        assertEquals(45L, sqlRepository.current());
+    }
+
+    @Test
+    @DisplayName("Should increment the revision row and raise the known revision on commit")
+    void testAdvance() {
+        // Arrange
+        when(jpaRepository.findRevision()).thenReturn(Optional.of(42L), Optional.of(43L));
+        when(jpaRepository.increment()).thenReturn(1);
+        sqlRepository.current();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            sqlRepository.advance();
+            long beforeCommit = sqlRepository.current();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // Assert
+            verify(jpaRepository).increment();
+            assertEquals(42L, beforeCommit);
+            assertEquals(43L, sqlRepository.current());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail when the revision row is missing")
+    void testMissingRow() {
+        // Arrange
+        when(jpaRepository.findRevision()).thenReturn(Optional.empty());
+        when(jpaRepository.increment()).thenReturn(0);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> sqlRepository.current());
+        assertThrows(IllegalStateException.class, () -> sqlRepository.advance());
+    }
+}
@@ -18,8 +18,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import com.market.analysis.domain.model.ProhibitedTicker;
+import com.market.analysis.domain.port.out.CatalogRevisionRepository;
 import com.market.analysis.infrastructure.persistence.entity.ProhibitedTickerEntity;
 import com.market.analysis.infrastructure.persistence.mapper.ProhibitedTickerMapper;
 import com.market.analysis.infrastructure.persistence.repository.JpaProhibitedTickerRepository;
@@ -38,6 +40,9 @@ class SqlProhibitedTickerRepositoryTest {
     @Mock
     private ProhibitedTickerMapper mapper;
 
+    @Mock
+    private CatalogRevisionRepository catalogRevisionRepository;
+
     @InjectMocks
     private SqlProhibitedTickerRepository sqlRepository;
 
@@ -139,6 +144,7 @@ class SqlProhibitedTickerRepositoryTest {
         verify(mapper, times(1)).toEntity(testProhibitedTicker);
         verify(jpaRepository, times(1)).save(testEntity);
         verify(mapper, times(1)).toDomain(testEntity);
+        verify(catalogRevisionRepository).advance();
     }
 
     @Test
@@ -149,5 +155,26 @@ class SqlProhibitedTickerRepositoryTest {
 
         // Assert
         verify(jpaRepository, times(1)).deleteById(1L);
+        verify(catalogRevisionRepository).advance();
+    }
+
+    @Test
+    @DisplayName("Should find a page of prohibited tickers in ticker order")
+    void testFindPage() {
+        // Arrange
+        ProhibitedTickerEntity entity2 = new ProhibitedTickerEntity();
+        entity2.setTicker("GOOGL");
+        when(jpaRepository.findAllByOrderByTickerAsc(Limit.of(2))).thenReturn(List.of(testEntity));
+        when(jpaRepository.findByTickerGreaterThanOrderByTickerAsc("AAPL", Limit.of(2))).thenReturn(List.of(entity2));
+        when(mapper.toDomain(testEntity)).thenReturn(testProhibitedTicker);
+        when(mapper.toDomain(entity2)).thenReturn(new ProhibitedTicker("GOOGL"));
+
+        // Act
+        List<ProhibitedTicker> first = sqlRepository.findPage(null, 2);
+        List<ProhibitedTicker> next = sqlRepository.findPage("AAPL", 2);
+
+        // Assert
+        assertEquals(List.of(testProhibitedTicker), first);
+        assertEquals("GOOGL", next.get(0).getTicker());
     }
 }
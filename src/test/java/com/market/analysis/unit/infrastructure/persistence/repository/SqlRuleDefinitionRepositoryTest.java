@@ -18,8 +18,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import com.market.analysis.domain.model.RuleDefinition;
+import com.market.analysis.domain.port.out.CatalogRevisionRepository;
 import com.market.analysis.infrastructure.persistence.entity.RuleDefinitionEntity;
 import com.market.analysis.infrastructure.persistence.mapper.RuleDefinitionMapper;
 import com.market.analysis.infrastructure.persistence.repository.JpaRuleDefinitionRepository;
@@ -38,6 +40,9 @@ class SqlRuleDefinitionRepositoryTest {
     @Mock
     private RuleDefinitionMapper mapper;
 
+    @Mock
+    private CatalogRevisionRepository catalogRevisionRepository;
+
     @InjectMocks
     private SqlRuleDefinitionRepository sqlRepository;
 
@@ -79,6 +84,7 @@ class SqlRuleDefinitionRepositoryTest {
         verify(mapper, times(1)).toEntity(testRuleDefinition);
         verify(jpaRepository, times(1)).save(testEntity);
         verify(mapper, times(1)).toDomain(testEntity);
+        verify(catalogRevisionRepository).advance();
     }
 
     @Test
@@ -172,6 +178,7 @@ class SqlRuleDefinitionRepositoryTest {
 
         // Assert
         verify(jpaRepository, times(1)).deleteById(1L);
+        verify(catalogRevisionRepository).advance();
     }
 
     @Test
@@ -229,4 +236,18 @@ class SqlRuleDefinitionRepositoryTest {
         assertFalse(result);
         verify(jpaRepository, times(1)).existsByCode("UNKNOWN");
     }
+
+    @Test
+    @DisplayName("Should find a page of rule definitions after a cursor")
+    void testFindPage() {
+        // Arrange
+        when(jpaRepository.findByIdGreaterThanOrderByIdAsc(5L, Limit.of(2))).thenReturn(List.of(testEntity));
+        when(mapper.toDomain(testEntity)).thenReturn(testRuleDefinition);
+
+        // Act
+        List<RuleDefinition> result = sqlRepository.findPage(5L, 2);
+
+        // Assert
+        assertEquals(List.of(testRuleDefinition), result);
+    }
 }
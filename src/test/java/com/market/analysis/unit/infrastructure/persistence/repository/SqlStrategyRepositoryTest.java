@@ -3,9 +3,13 @@ package com.market.analysis.unit.infrastructure.persistence.repository;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -21,9 +25,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
+import com.market.analysis.domain.exception.StrategyNotFoundException;
+import com.market.analysis.domain.exception.StrategyVersionConflictException;
 import com.market.analysis.domain.model.Rule;
 import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.domain.port.out.CatalogRevisionRepository;
 import com.market.analysis.infrastructure.persistence.entity.RuleEntity;
 import com.market.analysis.infrastructure.persistence.entity.StrategyEntity;
 import com.market.analysis.infrastructure.persistence.mapper.StrategyMapper;
@@ -43,6 +52,9 @@ class SqlStrategyRepositoryTest {
     @Mock
     private StrategyMapper mapper;
 
+    @Mock
+    private CatalogRevisionRepository catalogRevisionRepository;
+
     @InjectMocks
     private SqlStrategyRepository sqlStrategyRepository;
 
@@ -89,19 +101,120 @@ class SqlStrategyRepositoryTest {
     @DisplayName("Should save strategy")
     void testSave() {
         // Arrange
+        Strategy newStrategy = Strategy.builder()
+                .name("Test Strategy")
+                .description("Test Description")
+                .rules(List.of(testRule))
+                .build();
         when(mapper.toEntity(any(Strategy.class))).thenReturn(testEntity);
         when(jpaRepository.save(any(StrategyEntity.class))).thenReturn(testEntity);
         when(mapper.toDomain(any(StrategyEntity.class))).thenReturn(testStrategy);
 
         // Act
-        Strategy result = sqlStrategyRepository.save(testStrategy);
+        Strategy result = sqlStrategyRepository.save(newStrategy);
 
         // Assert
         assertNotNull(result);
         assertEquals(testStrategy.getId(), result.getId());
-        verify(mapper, times(1)).toEntity(testStrategy);
+        assertNotNull(testEntity.getUpdatedAt());
+        verify(mapper, times(1)).toEntity(newStrategy);
         verify(jpaRepository, times(1)).save(testEntity);
         verify(mapper, times(1)).toDomain(testEntity);
+        verify(catalogRevisionRepository).advance();
+    }
+
+    @Test
+    @DisplayName("Should insert a set of strategies with one saveAll")
+    void testSaveAll() {
+        // Arrange
+        StrategyEntity secondEntity = new StrategyEntity();
+        when(mapper.toEntity(any(Strategy.class))).thenReturn(testEntity, secondEntity);
+
+        // Act
+        sqlStrategyRepository.saveAll(List.of(testStrategy, testStrategy));
+
+        // Assert
+        verify(jpaRepository, times(1)).saveAll(List.of(testEntity, secondEntity));
+        assertNotNull(secondEntity.getUpdatedAt());
+        verify(jpaRepository, never()).save(any(StrategyEntity.class));
+        verify(catalogRevisionRepository).advance();
+    }
+
+    @Test
+    @DisplayName("Should merge an existing strategy into its managed entity")
+    void testSaveUpdatesManagedEntity() {
+        // Arrange
+        testEntity.setVersion(3L);
+        Strategy update = strategyWithVersion(3L);
+        when(jpaRepository.findById(1L)).thenReturn(Optional.of(testEntity));
+        when(mapper.updateEntity(update, testEntity)).thenReturn(true);
+        when(jpaRepository.saveAndFlush(testEntity)).thenReturn(testEntity);
+        when(mapper.toDomain(testEntity)).thenReturn(testStrategy);
+
+        // Act
+        Strategy result = sqlStrategyRepository.save(update);
+
+        // Assert
+        assertEquals(testStrategy, result);
+        assertNotNull(testEntity.getUpdatedAt());
+        verify(mapper, never()).toEntity(any(Strategy.class));
+        verify(jpaRepository, never()).save(any(StrategyEntity.class));
+        verify(catalogRevisionRepository).advance();
+    }
+
+    @Test
+    @DisplayName("Should leave the strategy row untouched when nothing changed")
+    void testSaveWithoutChanges() {
+        // Arrange
+        when(jpaRepository.findById(1L)).thenReturn(Optional.of(testEntity));
+        when(mapper.updateEntity(testStrategy, testEntity)).thenReturn(false);
+        when(jpaRepository.saveAndFlush(testEntity)).thenReturn(testEntity);
+        when(mapper.toDomain(testEntity)).thenReturn(testStrategy);
+
+        // Act
+        sqlStrategyRepository.save(testStrategy);
+
+        // Assert
+        assertNull(testEntity.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("Should reject an update from a stale version")
+    void testSaveWithStaleVersion() {
+        // Arrange
+        testEntity.setVersion(4L);
+        when(jpaRepository.findById(1L)).thenReturn(Optional.of(testEntity));
+
+        // Act & Assert
+        assertThrows(StrategyVersionConflictException.class,
+                () -> sqlStrategyRepository.save(strategyWithVersion(3L)));
+        verify(mapper, never()).updateEntity(any(Strategy.class), any(StrategyEntity.class));
+    }
+
+    @Test
+    @DisplayName("Should report a concurrent update as a version conflict")
+    void testSaveWithConcurrentUpdate() {
+        // Arrange
+        testEntity.setVersion(3L);
+        Strategy update = strategyWithVersion(3L);
+        when(jpaRepository.findById(1L)).thenReturn(Optional.of(testEntity));
+        when(mapper.updateEntity(update, testEntity)).thenReturn(true);
+        doThrow(new ObjectOptimisticLockingFailureException(StrategyEntity.class, 1L))
+                .when(jpaRepository).saveAndFlush(testEntity);
+
+        // Act & Assert
+        assertThrows(StrategyVersionConflictException.class, () -> sqlStrategyRepository.save(update));
+        verify(catalogRevisionRepository, never()).advance();
+    }
+
+    @Test
+    @DisplayName("Should throw when updating a strategy that does not exist")
+    void testSaveMissingStrategy() {
+        // Arrange
+        when(jpaRepository.findById(1L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(StrategyNotFoundException.class, () -> sqlStrategyRepository.save(testStrategy));
     }
 
     @Test
@@ -140,7 +253,7 @@ class SqlStrategyRepositoryTest {
     @DisplayName("Should find strategy by name")
     void testFindByName() {
         // Arrange
-        when(jpaRepository.findAll()).thenReturn(List.of(testEntity));
+        when(jpaRepository.findFirstByNameOrderByIdAsc("Test Strategy")).thenReturn(Optional.of(testEntity));
         when(mapper.toDomain(any(StrategyEntity.class))).thenReturn(testStrategy);
 
         // Act
@@ -149,7 +262,8 @@ class SqlStrategyRepositoryTest {
         // Assert
         assertTrue(result.isPresent());
         assertEquals("Test Strategy", result.get().getName());
-        verify(jpaRepository, times(1)).findAll();
+        verify(jpaRepository, times(1)).findFirstByNameOrderByIdAsc("Test Strategy");
+        verify(jpaRepository, never()).findAll();
         verify(mapper, times(1)).toDomain(testEntity);
     }
 
@@ -157,15 +271,14 @@ class SqlStrategyRepositoryTest {
     @DisplayName("Should return empty when strategy not found by name")
     void testFindByNameNotFound() {
         // Arrange
-        when(jpaRepository.findAll()).thenReturn(List.of(testEntity));
-        when(mapper.toDomain(any(StrategyEntity.class))).thenReturn(testStrategy);
+        when(jpaRepository.findFirstByNameOrderByIdAsc("Nonexistent Strategy")).thenReturn(Optional.empty());
 
         // Act
         Optional<Strategy> result = sqlStrategyRepository.findByName("Nonexistent Strategy");
 
         // Assert
         assertFalse(result.isPresent());
-        verify(jpaRepository, times(1)).findAll();
+        verify(mapper, never()).toDomain(any(StrategyEntity.class));
     }
 
     @Test
@@ -207,6 +320,7 @@ class SqlStrategyRepositoryTest {
 
         // Assert
         verify(jpaRepository, times(1)).deleteById(1L);
+        verify(catalogRevisionRepository).advance();
     }
 
     @Test
@@ -236,4 +350,34 @@ class SqlStrategyRepositoryTest {
         assertFalse(result);
         verify(jpaRepository, times(1)).existsById(999L);
     }
+
+    @Test
+    @DisplayName("Should page strategy IDs and then fetch them with their rules")
+    void testFindPage() {
+        // Arrange
+        when(jpaRepository.findIdsAfter(0L, Limit.of(10))).thenReturn(List.of(1L));
+        when(jpaRepository.findByIdInOrderByIdAsc(List.of(1L))).thenReturn(List.of(testEntity));
+        when(mapper.toDomain(testEntity)).thenReturn(testStrategy);
+        when(jpaRepository.findIdsAfter(1L, Limit.of(10))).thenReturn(List.of());
+
+        // Act
+        List<Strategy> firstPage = sqlStrategyRepository.findPage(null, 10);
+        List<Strategy> nextPage = sqlStrategyRepository.findPage(1L, 10);
+
+        // Assert
+        assertEquals(List.of(testStrategy), firstPage);
+        assertTrue(nextPage.isEmpty());
+        verify(jpaRepository, times(1)).findByIdInOrderByIdAsc(any());
+        verify(jpaRepository, never()).findAll();
+    }
+
+    private Strategy strategyWithVersion(Long version) {
+        return Strategy.builder()
+                .id(1L)
+                .name("Renamed Strategy")
+                .description("Test Description")
+                .rules(List.of(testRule))
+                .version(version)
+                .build();
+    }
 }
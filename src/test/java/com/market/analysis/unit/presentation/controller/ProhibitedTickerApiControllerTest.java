@@ -0,0 +1,111 @@
+package com.market.analysis.unit.presentation.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.market.analysis.domain.model.KeysetPage;
+import com.market.analysis.domain.model.ProhibitedTicker;
+import com.market.analysis.domain.port.in.ManageProhibitedTickerUseCase;
+import com.market.analysis.domain.port.out.CatalogRevisionRepository;
+import com.market.analysis.domain.service.CatalogRevision;
+import com.market.analysis.presentation.controller.ProhibitedTickerApiController;
+import com.market.analysis.presentation.dto.PageResponse;
+import com.market.analysis.presentation.mapper.FieldProjection;
+import com.market.analysis.presentation.mapper.ProhibitedTickerDTOMapper;
+
+/**
+ * Unit tests for ProhibitedTickerApiController.
+ */
+@DisplayName("ProhibitedTickerApiController Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class ProhibitedTickerApiControllerTest {
+
+    @Mock
+    private ManageProhibitedTickerUseCase manageProhibitedTickerUseCase;
+
+    @Mock
+    private CatalogRevisionRepository catalogRevisionRepository;
+
+    private ProhibitedTickerApiController controller;
+
+    @BeforeEach
+    void setUp() {
+        controller = new ProhibitedTickerApiController(manageProhibitedTickerUseCase, new ProhibitedTickerDTOMapper(),
+                new FieldProjection(new ObjectMapper()), new CatalogRevision(catalogRevisionRepository));
+    }
+
+    @Test
+    @DisplayName("Should list a page of tickers with the last ticker as cursor")
+    void testListProhibitedTickers() {
+        // Arrange
+        when(manageProhibitedTickerUseCase.getProhibitedTickersPage("AAPL", 2)).thenReturn(
+                new KeysetPage<>(List.of(new ProhibitedTicker("GME"), new ProhibitedTicker("TSLA")), "TSLA"));
+
+        // Act
+        ResponseEntity<PageResponse> result = controller.listProhibitedTickers("AAPL", 2, new ServletWebRequest(
+                new MockHttpServletRequest("GET", "/api/v1/prohibited-tickers"), new MockHttpServletResponse()));
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(List.of(Map.of("ticker", "GME"), Map.of("ticker", "TSLA")), result.getBody().getItems());
+        assertEquals("TSLA", result.getBody().getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should answer 304 while the catalogue is unchanged")
+    void testListProhibitedTickersNotModified() {
+        // Arrange
+        when(manageProhibitedTickerUseCase.getProhibitedTickersPage(null, 50))
+                .thenReturn(new KeysetPage<>(List.of(new ProhibitedTicker("GME")), null));
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        controller.listProhibitedTickers(null, 50, new ServletWebRequest(
+                new MockHttpServletRequest("GET", "/api/v1/prohibited-tickers"), firstResponse));
+        MockHttpServletRequest repeat = new MockHttpServletRequest("GET", "/api/v1/prohibited-tickers");
+        repeat.addHeader("If-None-Match", firstResponse.getHeader("ETag"));
+        MockHttpServletResponse repeatResponse = new MockHttpServletResponse();
+
+        // Act
+        ResponseEntity<PageResponse> second = controller.listProhibitedTickers(null, 50,
+                new ServletWebRequest(repeat, repeatResponse));
+
+        // Assert
+        assertNull(second);
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), repeatResponse.getStatus());
+        verify(manageProhibitedTickerUseCase, times(1)).getProhibitedTickersPage(null, 50);
+        verify(catalogRevisionRepository, times(1)).refresh();
+    }
+
+    @Test
+    @DisplayName("Should reject invalid limits before loading anything")
+    void testListProhibitedTickersInvalidLimit() {
+        // Arrange
+        ServletWebRequest request = new ServletWebRequest(
+                new MockHttpServletRequest("GET", "/api/v1/prohibited-tickers"), new MockHttpServletResponse());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> controller.listProhibitedTickers(null, KeysetPage.MAX_LIMIT + 1, request));
+        verifyNoInteractions(manageProhibitedTickerUseCase);
+    }
+}
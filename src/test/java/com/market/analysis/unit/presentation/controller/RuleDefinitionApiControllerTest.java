@@ -0,0 +1,117 @@
+package com.market.analysis.unit.presentation.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.market.analysis.domain.model.KeysetPage;
+import com.market.analysis.domain.model.RuleDefinition;
+import com.market.analysis.domain.port.in.ManageRuleDefinitionUseCase;
+import com.market.analysis.domain.port.out.CatalogRevisionRepository;
+import com.market.analysis.domain.service.CatalogRevision;
+import com.market.analysis.presentation.controller.RuleDefinitionApiController;
+import com.market.analysis.presentation.dto.PageResponse;
+import com.market.analysis.presentation.dto.RuleDefinitionDTO;
+import com.market.analysis.presentation.mapper.FieldProjection;
+import com.market.analysis.presentation.mapper.RuleDefinitionDTOMapper;
+
+/**
+ * Unit tests for RuleDefinitionApiController.
+ */
+@DisplayName("RuleDefinitionApiController Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class RuleDefinitionApiControllerTest {
+
+    @Mock
+    private ManageRuleDefinitionUseCase manageRuleDefinitionUseCase;
+
+    @Mock
+    private RuleDefinitionDTOMapper ruleDefinitionDTOMapper;
+
+    @Mock
+    private CatalogRevisionRepository catalogRevisionRepository;
+
+    private RuleDefinitionApiController controller;
+    private RuleDefinition testRuleDefinition;
+    private RuleDefinitionDTO testRuleDefinitionDTO;
+
+    @BeforeEach
+    void setUp() {
+        controller = new RuleDefinitionApiController(manageRuleDefinitionUseCase, ruleDefinitionDTOMapper,
+                new FieldProjection(new ObjectMapper()), new CatalogRevision(catalogRevisionRepository));
+        testRuleDefinition = RuleDefinition.builder().id(4L).code("SMA").name("Simple Moving Average").build();
+        testRuleDefinitionDTO = RuleDefinitionDTO.builder().id(4L).code("SMA").name("Simple Moving Average").build();
+    }
+
+    @Test
+    @DisplayName("Should list a projected page of rule definitions")
+    void testListRuleDefinitions() {
+        // Arrange
+        when(manageRuleDefinitionUseCase.getRuleDefinitionsPage(3L, 10))
+                .thenReturn(new KeysetPage<>(List.of(testRuleDefinition), null));
+        when(ruleDefinitionDTOMapper.toDTO(testRuleDefinition)).thenReturn(testRuleDefinitionDTO);
+
+        // Act
+        ResponseEntity<PageResponse> result = controller.listRuleDefinitions(3L, 10, "code",
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/api/v1/rule-definitions"),
+                        new MockHttpServletResponse()));
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(List.of(Map.of("code", "SMA")), result.getBody().getItems());
+        assertNull(result.getBody().getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid limits before loading anything")
+    void testListRuleDefinitionsInvalidLimit() {
+        // Arrange
+        ServletWebRequest request = new ServletWebRequest(
+                new MockHttpServletRequest("GET", "/api/v1/rule-definitions"), new MockHttpServletResponse());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> controller.listRuleDefinitions(null, 0, null, request));
+        verifyNoInteractions(manageRuleDefinitionUseCase);
+    }
+
+    @Test
+    @DisplayName("Should get a single rule definition and answer 304 on repeat")
+    void testGetRuleDefinition() {
+        // Arrange
+        when(manageRuleDefinitionUseCase.getRuleDefinitionById(4L)).thenReturn(testRuleDefinition);
+        when(ruleDefinitionDTOMapper.toDTO(testRuleDefinition)).thenReturn(testRuleDefinitionDTO);
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        ResponseEntity<Object> first = controller.getRuleDefinition(4L, null, new ServletWebRequest(
+                new MockHttpServletRequest("GET", "/api/v1/rule-definitions/4"), firstResponse));
+        MockHttpServletRequest repeat = new MockHttpServletRequest("GET", "/api/v1/rule-definitions/4");
+        repeat.addHeader("If-None-Match", firstResponse.getHeader("ETag"));
+        MockHttpServletResponse repeatResponse = new MockHttpServletResponse();
+
+        // Act
+        ResponseEntity<Object> second = controller.getRuleDefinition(4L, null,
+                new ServletWebRequest(repeat, repeatResponse));
+
+        // Assert
+        assertEquals(testRuleDefinitionDTO, first.getBody());
+        assertNull(second);
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), repeatResponse.getStatus());
+    }
+}
@@ -0,0 +1,311 @@
+package com.market.analysis.unit.presentation.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.market.analysis.domain.exception.StrategyNotFoundException;
+import com.market.analysis.domain.exception.StrategyVersionConflictException;
+import com.market.analysis.domain.model.KeysetPage;
+import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.domain.port.in.ManageStrategyUseCase;
+import com.market.analysis.domain.port.out.CatalogRevisionRepository;
+import com.market.analysis.domain.service.CatalogRevision;
+import com.market.analysis.presentation.controller.ApiExceptionHandler;
+import com.market.analysis.presentation.controller.StrategyApiController;
+import com.market.analysis.presentation.dto.PageResponse;
+import com.market.analysis.presentation.dto.StrategyDTO;
+import com.market.analysis.presentation.mapper.FieldProjection;
+import com.market.analysis.presentation.mapper.StrategyDTOMapper;
+
+/**
+ * Unit tests for StrategyApiController.
+ */
+@DisplayName("StrategyApiController Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class StrategyApiControllerTest {
+
+    @Mock
+    private ManageStrategyUseCase manageStrategyUseCase;
+
+    @Mock
+    private StrategyDTOMapper strategyDTOMapper;
+
+    @Mock
+    private CatalogRevisionRepository catalogRevisionRepository;
+
+    private StrategyApiController controller;
+    private Strategy testStrategy;
+    private StrategyDTO testStrategyDTO;
+
+    @BeforeEach
+    void setUp() {
+        controller = new StrategyApiController(manageStrategyUseCase, strategyDTOMapper,
+                new FieldProjection(new ObjectMapper()), new CatalogRevision(catalogRevisionRepository));
+        testStrategy = Strategy.builder().id(1L).name("Test Strategy").description("Test Description")
+                .version(2L).build();
+        testStrategyDTO = StrategyDTO.builder()
+                .id(1L)
+                .name("Test Strategy")
+                .description("Test Description")
+                .rules(List.of())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should list a page of strategies with an ETag")
+    void testListStrategies() {
+        // Arrange
+        when(manageStrategyUseCase.getStrategiesPage(null, 1))
+                .thenReturn(new KeysetPage<>(List.of(testStrategy), 1L));
+        when(strategyDTOMapper.toDTO(testStrategy)).thenReturn(testStrategyDTO);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        ResponseEntity<PageResponse> result = controller.listStrategies(null, 1, null,
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/api/v1/strategies"), response));
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(List.of(testStrategyDTO), result.getBody().getItems());
+        assertEquals(1L, result.getBody().getNextCursor());
+        assertNotNull(response.getHeader("ETag"));
+        assertEquals("no-cache", result.getHeaders().getCacheControl());
+    }
+
+    @Test
+    @DisplayName("Should answer 304 without loading strategies while the catalogue is unchanged")
+    void testListStrategiesNotModified() {
+        // Arrange
+        String etag = firstETag();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/strategies");
+        request.addHeader("If-None-Match", etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        ResponseEntity<PageResponse> result = controller.listStrategies(null, 1, null,
+                new ServletWebRequest(request, response));
+
+        // Assert
+        assertNull(result);
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), response.getStatus());
+        verify(manageStrategyUseCase, times(1)).getStrategiesPage(any(), anyInt());
+        verify(catalogRevisionRepository, times(1)).refresh();
+    }
+
+    @Test
+    @DisplayName("Should re-read the revision before answering a tag newer than the one in memory")
+    void testListStrategiesNotModifiedAfterRemoteWrite() {
+        // Arrange
+        when(catalogRevisionRepository.refresh()).thenReturn(1L);
+        String etag = firstETag();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/strategies");
+        request.addHeader("If-None-Match", etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        ResponseEntity<PageResponse> result = controller.listStrategies(null, 1, null,
+                new ServletWebRequest(request, response));
+
+        // Assert
+        assertNull(result);
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), response.getStatus());
+        verify(catalogRevisionRepository, times(2)).refresh();
+        verify(manageStrategyUseCase, times(1)).getStrategiesPage(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should reload strategies once the catalogue changed")
+    void testListStrategiesModified() {
+        // Arrange
+        String etag = firstETag();
+        when(catalogRevisionRepository.current()).thenReturn(1L);
+        when(catalogRevisionRepository.refresh()).thenReturn(1L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/strategies");
+        request.addHeader("If-None-Match", etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        ResponseEntity<PageResponse> result = controller.listStrategies(null, 1, null,
+                new ServletWebRequest(request, response));
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(HttpStatus.OK.value(), response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Should tag each projection separately and project the items")
+    void testListStrategiesProjection() {
+        // Arrange
+        String etag = firstETag();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/strategies");
+        request.addHeader("If-None-Match", etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        ResponseEntity<PageResponse> result = controller.listStrategies(null, 1, "id,name",
+                new ServletWebRequest(request, response));
+
+        // Assert
+        assertEquals(List.of(Map.of("id", 1L, "name", "Test Strategy")), result.getBody().getItems());
+        assertThrows(IllegalArgumentException.class,
+                () -> controller.listStrategies(null, 1, "secret", new ServletWebRequest(request, response)));
+    }
+
+    @Test
+    @DisplayName("Should get a single strategy and answer 304 on repeat")
+    void testGetStrategy() {
+        // Arrange
+        when(manageStrategyUseCase.getStrategyById(1L)).thenReturn(testStrategy);
+        when(strategyDTOMapper.toDTO(testStrategy)).thenReturn(testStrategyDTO);
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        ResponseEntity<Object> first = controller.getStrategy(1L, null,
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/api/v1/strategies/1"), firstResponse));
+        MockHttpServletRequest repeat = new MockHttpServletRequest("GET", "/api/v1/strategies/1");
+        repeat.addHeader("If-None-Match", firstResponse.getHeader("ETag"));
+
+        // Act
+        ResponseEntity<Object> second = controller.getStrategy(1L, null,
+                new ServletWebRequest(repeat, new MockHttpServletResponse()));
+
+        // Assert
+        assertEquals(testStrategyDTO, first.getBody());
+        assertTrue(firstResponse.getHeader("ETag").startsWith("\"v2-"));
+        assertNull(second);
+        verify(manageStrategyUseCase, times(1)).getStrategyById(1L);
+    }
+
+    @Test
+    @DisplayName("Should reload a strategy whose tag predates a catalogue change")
+    void testGetStrategyAfterCatalogChange() {
+        // Arrange
+        when(manageStrategyUseCase.getStrategyById(1L)).thenReturn(testStrategy);
+        when(strategyDTOMapper.toDTO(testStrategy)).thenReturn(testStrategyDTO);
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        controller.getStrategy(1L, null,
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/api/v1/strategies/1"), firstResponse));
+        when(catalogRevisionRepository.current()).thenReturn(1L);
+        when(catalogRevisionRepository.refresh()).thenReturn(1L);
+        MockHttpServletRequest repeat = new MockHttpServletRequest("GET", "/api/v1/strategies/1");
+        repeat.addHeader("If-None-Match", firstResponse.getHeader("ETag"));
+
+        // Act
+        ResponseEntity<Object> second = controller.getStrategy(1L, null,
+                new ServletWebRequest(repeat, new MockHttpServletResponse()));
+
+        // Assert
+        assertNotNull(second);
+        verify(manageStrategyUseCase, times(2)).getStrategyById(1L);
+    }
+
+    @Test
+    @DisplayName("Should update a strategy at the version of its If-Match tag")
+    void testUpdateStrategy() {
+        // Arrange
+        Strategy updated = Strategy.builder().id(1L).name("Renamed").description("Test Description")
+                .version(3L).build();
+        StrategyDTO body = StrategyDTO.builder().name("Renamed").description("Test Description").build();
+        when(strategyDTOMapper.toDomain(body)).thenReturn(testStrategy);
+        when(manageStrategyUseCase.updateStrategy(testStrategy)).thenReturn(updated);
+        when(strategyDTOMapper.toDTO(updated)).thenReturn(testStrategyDTO);
+
+        // Act
+        ResponseEntity<Object> response = controller.updateStrategy(1L, "\"v2-abc-1-0\"", body);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1L, body.getId());
+        assertEquals(2L, body.getVersion());
+        assertTrue(response.getHeaders().getETag().startsWith("\"v3-"));
+        assertEquals(testStrategyDTO, response.getBody());
+    }
+
+    @Test
+    @DisplayName("Should require a valid If-Match tag to update a strategy")
+    void testUpdateStrategyPreconditions() {
+        // Arrange
+        StrategyDTO body = StrategyDTO.builder().name("Renamed").build();
+
+        // Act
+        ResponseEntity<Object> missing = controller.updateStrategy(1L, null, body);
+
+        // Assert
+        assertEquals(HttpStatus.PRECONDITION_REQUIRED, missing.getStatusCode());
+        assertThrows(IllegalArgumentException.class, () -> controller.updateStrategy(1L, "W/\"v2-abc\"", body));
+        assertThrows(IllegalArgumentException.class, () -> controller.updateStrategy(1L, "\"vx-abc\"", body));
+        verify(manageStrategyUseCase, times(0)).updateStrategy(any());
+    }
+
+    @Test
+    @DisplayName("Should update unconditionally with If-Match any")
+    void testUpdateStrategyWithAnyTag() {
+        // Arrange
+        StrategyDTO body = StrategyDTO.builder().name("Renamed").version(9L).build();
+        when(strategyDTOMapper.toDomain(body)).thenReturn(testStrategy);
+        when(manageStrategyUseCase.updateStrategy(testStrategy)).thenReturn(testStrategy);
+
+        // Act
+        controller.updateStrategy(1L, "*", body);
+
+        // Assert
+        assertNull(body.getVersion());
+    }
+
+    @Test
+    @DisplayName("Should map missing strategies and bad requests to JSON errors")
+    void testExceptionHandler() {
+        // Arrange
+        ApiExceptionHandler handler = new ApiExceptionHandler();
+
+        // Act
+        ResponseEntity<Map<String, String>> notFound = handler
+                .handleNotFound(new StrategyNotFoundException("Strategy not found with id: 9"));
+        ResponseEntity<Map<String, String>> badRequest = handler
+                .handleBadRequest(new IllegalArgumentException("Limit must be between 1 and 500"));
+        ResponseEntity<Map<String, String>> invalid = handler
+                .handleBadRequest(new IllegalStateException("Strategy must contain at least one rule"));
+        ResponseEntity<Map<String, String>> conflict = handler
+                .handleVersionConflict(new StrategyVersionConflictException("Strategy 1 was modified concurrently"));
+
+        // Assert
+        assertEquals(HttpStatus.NOT_FOUND, notFound.getStatusCode());
+        assertEquals("Strategy not found with id: 9", notFound.getBody().get("error"));
+        assertEquals(HttpStatus.BAD_REQUEST, badRequest.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, invalid.getStatusCode());
+        assertEquals(HttpStatus.PRECONDITION_FAILED, conflict.getStatusCode());
+    }
+
+    private String firstETag() {
+        when(manageStrategyUseCase.getStrategiesPage(any(), anyInt()))
+                .thenReturn(new KeysetPage<>(List.of(testStrategy), null));
+        when(strategyDTOMapper.toDTO(testStrategy)).thenReturn(testStrategyDTO);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.listStrategies(null, 1, null,
+                new ServletWebRequest(new MockHttpServletRequest("GET", "/api/v1/strategies"), response));
+        return response.getHeader("ETag");
+    }
+}
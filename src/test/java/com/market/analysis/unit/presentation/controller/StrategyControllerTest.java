@@ -2,6 +2,7 @@ package com.market.analysis.unit.presentation.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -19,6 +20,7 @@ import org.springframework.ui.Model;
 
 import com.market.analysis.domain.model.Rule;
 import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.domain.model.Timeframe;
 import com.market.analysis.domain.port.in.ManageRuleDefinitionUseCase;
 import com.market.analysis.domain.port.in.ManageStrategyUseCase;
 import com.market.analysis.presentation.controller.StrategyController;
@@ -99,7 +101,8 @@ class StrategyControllerTest {
         // Assert
         assertEquals("strategies/create", viewName);
         verify(manageRuleDefinitionUseCase, times(1)).getAllRuleDefinitions();
-        verify(model, times(2)).addAttribute(any(String.class), any());
+        verify(model, times(3)).addAttribute(any(String.class), any());
+        verify(model, times(1)).addAttribute("timeframes", Timeframe.values());
     }
 
     @Test
@@ -142,7 +145,33 @@ class StrategyControllerTest {
 
         // Assert
         assertEquals("redirect:/strategies", viewName);
-        verify(manageStrategyUseCase, times(1)).createStrategy(any(Strategy.class));
+        verify(manageStrategyUseCase, times(1)).updateStrategy(testStrategy);
+        verify(manageStrategyUseCase, never()).createStrategy(any(Strategy.class));
+    }
+
+    @Test
+    @DisplayName("Should create a strategy without ID and redirect")
+    void testSaveNewStrategy() {
+        // Arrange
+        StrategyDTO strategyDTO = StrategyDTO.builder()
+                .name("New Strategy")
+                .description("Test Description")
+                .rules(List.of())
+                .build();
+        Strategy newStrategy = Strategy.builder()
+                .name("New Strategy")
+                .description("Test Description")
+                .build();
+
+        when(strategyDTOMapper.toDomain(any(StrategyDTO.class))).thenReturn(newStrategy);
+
+        // Act
+        String viewName = strategyController.saveStrategy(strategyDTO);
+
+        // Assert
+        assertEquals("redirect:/strategies", viewName);
+        verify(manageStrategyUseCase, times(1)).createStrategy(newStrategy);
+        verify(manageStrategyUseCase, never()).updateStrategy(any(Strategy.class));
     }
 
     @Test
@@ -0,0 +1,122 @@
+package com.market.analysis.unit.presentation.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.market.analysis.domain.model.Strategy;
+import com.market.analysis.domain.port.in.TransferStrategiesUseCase;
+import com.market.analysis.presentation.controller.StrategyTransferController;
+import com.market.analysis.presentation.dto.StrategyDTO;
+import com.market.analysis.presentation.mapper.StrategyDTOMapper;
+
+/**
+ * Unit tests for StrategyTransferController.
+ */
+@DisplayName("StrategyTransferController Unit Tests")
+@ExtendWith(MockitoExtension.class)
+class StrategyTransferControllerTest {
+
+    @Mock
+    private TransferStrategiesUseCase transferStrategiesUseCase;
+
+    @Mock
+    private StrategyDTOMapper strategyDTOMapper;
+
+    private StrategyTransferController controller;
+    private Strategy testStrategy;
+
+    @BeforeEach
+    void setUp() {
+        controller = new StrategyTransferController(transferStrategiesUseCase, strategyDTOMapper, new ObjectMapper());
+        testStrategy = Strategy.builder().id(1L).name("Test Strategy").description("Test Description").build();
+    }
+
+    @Test
+    @DisplayName("Should stream one JSON line per exported strategy")
+    void testExportStrategies() throws Exception {
+        // Arrange
+        doAnswer(invocation -> {
+            Consumer<Strategy> sink = invocation.getArgument(0);
+            sink.accept(testStrategy);
+            sink.accept(testStrategy);
+            return null;
+        }).when(transferStrategiesUseCase).exportStrategies(any());
+        when(strategyDTOMapper.toDTO(testStrategy))
+                .thenReturn(StrategyDTO.builder().id(1L).name("Test Strategy").version(2L).build());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        ResponseEntity<StreamingResponseBody> response = controller.exportStrategies();
+        response.getBody().writeTo(out);
+
+        // Assert
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,\"name\":\"Test Strategy\""));
+        assertTrue(lines[0].contains("\"version\":2"));
+    }
+
+    @Test
+    @DisplayName("Should parse every non-blank line and import them together")
+    @SuppressWarnings("unchecked")
+    void testImportStrategies() throws Exception {
+        // Arrange
+        String body = "{\"name\":\"A\",\"description\":\"d\"}\n\n{\"name\":\"B\",\"description\":\"d\",\"rules\":[]}\n";
+        when(strategyDTOMapper.toDomain(any(StrategyDTO.class))).thenReturn(testStrategy);
+        when(transferStrategiesUseCase.importStrategies(anyList())).thenReturn(2);
+
+        // Act
+        ResponseEntity<Map<String, Integer>> response = controller
+                .importStrategies(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals(2, response.getBody().get("imported"));
+        ArgumentCaptor<StrategyDTO> parsed = ArgumentCaptor.forClass(StrategyDTO.class);
+        verify(strategyDTOMapper, times(2)).toDomain(parsed.capture());
+        assertEquals(List.of("A", "B"), parsed.getAllValues().stream().map(StrategyDTO::getName).toList());
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed line before importing anything")
+    void testImportStrategiesWithMalformedLine() {
+        // Arrange
+        String body = "{\"name\":\"A\"}\n{\"name\":\n";
+        when(strategyDTOMapper.toDomain(any(StrategyDTO.class))).thenReturn(testStrategy);
+
+        // Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> controller.importStrategies(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))));
+
+        // Assert
+        assertEquals("Line 2 is not a valid strategy", exception.getMessage());
+        verify(transferStrategiesUseCase, never()).importStrategies(anyList());
+    }
+}
@@ -177,4 +177,37 @@ class HealthCheckControllerTest {
                                 .andExpect(jsonPath("$.details", containsString("Database")))
                                 .andExpect(jsonPath("$.details", containsString("ms")));
         }
+
+        @Test
+        @DisplayName("Should return 200 OK with DEGRADED status when a non-critical dependency is unhealthy")
+        void testGetHealthReturnsOkWhenDegraded() throws Exception {
+                // Arrange
+                LocalDateTime now = LocalDateTime.now();
+                HealthStatus healthStatus = HealthStatus.builder()
+                                .status("DEGRADED")
+                                .timestamp(now)
+                                .databaseHealthy(true)
+                                .description("Application is partially operational. Some dependencies have issues.")
+                                .details("Database: Healthy (5ms), Market data: Unhealthy (0ms)")
+                                .build();
+
+                HealthCheckResponse response = HealthCheckResponse.builder()
+                                .status("DEGRADED")
+                                .timestamp(now)
+                                .databaseHealthy(true)
+                                .description("Application is partially operational. Some dependencies have issues.")
+                                .details("Database: Healthy (5ms), Market data: Unhealthy (0ms)")
+                                .httpStatusCode(200)
+                                .build();
+
+                when(healthCheckService.performHealthCheck()).thenReturn(healthStatus);
+                when(healthCheckMapper.toResponse(healthStatus)).thenReturn(response);
+
+                // Act & Assert
+                mockMvc.perform(get("/health")
+                                .accept(MediaType.APPLICATION_JSON))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.status", is("DEGRADED")))
+                                .andExpect(jsonPath("$.details", containsString("Market data")));
+        }
 }
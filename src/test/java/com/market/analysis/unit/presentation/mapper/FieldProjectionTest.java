@@ -0,0 +1,73 @@
+package com.market.analysis.unit.presentation.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.market.analysis.presentation.dto.RuleDefinitionDTO;
+import com.market.analysis.presentation.mapper.FieldProjection;
+
+/**
+ * Unit tests for FieldProjection.
+ */
+@DisplayName("FieldProjection Unit Tests")
+class FieldProjectionTest {
+
+    private static final Set<String> ALLOWED = Set.of("id", "code", "name", "requiresParam", "description");
+
+    private final FieldProjection fieldProjection = new FieldProjection(new ObjectMapper());
+
+    @Test
+    @DisplayName("Should parse field lists in a canonical order")
+    void testParse() {
+        // Act
+        Set<String> fields = FieldProjection.parse(" name, id,,name ", ALLOWED);
+
+        // Assert
+        assertEquals(List.of("id", "name"), List.copyOf(fields));
+        assertTrue(FieldProjection.parse(null, ALLOWED).isEmpty());
+        assertTrue(FieldProjection.parse(" ", ALLOWED).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown fields")
+    void testParseUnknownField() {
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> FieldProjection.parse("id,password", ALLOWED));
+        assertTrue(exception.getMessage().contains("password"));
+    }
+
+    @Test
+    @DisplayName("Should keep only the requested fields")
+    void testProject() {
+        // Arrange
+        RuleDefinitionDTO dto = RuleDefinitionDTO.builder()
+                .id(1L)
+                .code("SMA")
+                .name("Simple Moving Average")
+                .requiresParam(true)
+                .build();
+        Map<String, Object> expected = new LinkedHashMap<>();
+        expected.put("id", 1L);
+        expected.put("code", "SMA");
+
+        // Act
+        Object projected = fieldProjection.project(dto, FieldProjection.parse("code,id", ALLOWED));
+        Object full = fieldProjection.project(dto, Set.of());
+
+        // Assert
+        assertEquals(expected, projected);
+        assertSame(dto, full);
+    }
+}
@@ -11,6 +11,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import com.market.analysis.domain.model.Rule;
+import com.market.analysis.domain.model.Timeframe;
 import com.market.analysis.presentation.dto.RuleDTO;
 import com.market.analysis.presentation.mapper.RuleDTOMapper;
 
@@ -34,6 +35,7 @@ class RuleDTOMapperTest {
                 .operator(">")
                 .targetCode("SMA")
                 .targetParam(200.0)
+                .targetTimeframe(Timeframe.WEEK_1)
                 .description("SMA 50 crosses above SMA 200")
                 .build();
 
@@ -49,6 +51,7 @@ class RuleDTOMapperTest {
         assertEquals(">", dto.getOperator());
         assertEquals("SMA", dto.getTargetCode());
         assertEquals(200.0, dto.getTargetParam());
+        assertEquals(Timeframe.WEEK_1, dto.getTargetTimeframe());
         assertEquals("SMA 50 crosses above SMA 200", dto.getDescription());
     }
 
@@ -61,6 +64,7 @@ class RuleDTOMapperTest {
                 .name("RSI Overbought")
                 .subjectCode("RSI")
                 .subjectParam(14.0)
+                .subjectTimeframe(Timeframe.HOUR_1)
                 .operator(">")
                 .targetCode("CONSTANT")
                 .targetParam(70.0)
@@ -79,6 +83,7 @@ class RuleDTOMapperTest {
         assertEquals(">", rule.getOperator());
         assertEquals("CONSTANT", rule.getTargetCode());
         assertEquals(70.0, rule.getTargetParam());
+        assertEquals(Timeframe.HOUR_1, rule.getSubjectTimeframe());
         assertEquals("RSI 14 above 70", rule.getDescription());
     }
 
@@ -44,6 +44,8 @@ class StrategyDTOMapperTest {
                 .name("Trend Strategy")
                 .description("A trend following strategy")
                 .rules(List.of(rule1))
+                .expression("R1")
+                .version(3L)
                 .build();
 
         // Act
@@ -54,6 +56,8 @@ class StrategyDTOMapperTest {
         assertEquals(10L, dto.getId());
         assertEquals("Trend Strategy", dto.getName());
         assertEquals("A trend following strategy", dto.getDescription());
+        assertEquals("R1", dto.getExpression());
+        assertEquals(3L, dto.getVersion());
         assertNotNull(dto.getRules());
         assertEquals(1, dto.getRules().size());
         assertEquals("SMA Rule", dto.getRules().get(0).getName());
@@ -78,6 +82,8 @@ class StrategyDTOMapperTest {
                 .name("Momentum Strategy")
                 .description("A momentum based strategy")
                 .rules(List.of(ruleDTO1))
+                .expression("NOT R1")
+                .version(5L)
                 .build();
 
         // Act
@@ -88,6 +94,8 @@ class StrategyDTOMapperTest {
         assertEquals(10L, strategy.getId());
         assertEquals("Momentum Strategy", strategy.getName());
         assertEquals("A momentum based strategy", strategy.getDescription());
+        assertEquals("NOT R1", strategy.getExpression());
+        assertEquals(5L, strategy.getVersion());
         assertNotNull(strategy.getRules());
         assertEquals(1, strategy.getRules().size());
         assertEquals("RSI Rule", strategy.getRules().get(0).getName());
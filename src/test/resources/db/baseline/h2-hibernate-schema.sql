@@ -0,0 +1,7 @@
+-- Schema Hibernate 6.6 generated (ddl-auto=update) for the baseline entities on
+-- H2, before Flyway owned the schema. Used to test upgrading such databases.
+create table prohibited_tickers (created_at timestamp(6), id bigint generated by default as identity, reason varchar(255), ticker varchar(255) not null unique, primary key (id));
+create table rule_definitions (requires_param boolean not null, id bigint generated by default as identity, description varchar(1000), code varchar(255) not null unique, name varchar(255) not null, primary key (id));
+create table strategies (id bigint generated by default as identity, description varchar(255), name varchar(255), primary key (id));
+create table strategy_rules (subject_param float(53), target_param float(53), id bigint generated by default as identity, strategy_id bigint, description varchar(255), name varchar(255), operator varchar(255), subject_code varchar(255), target_code varchar(255), primary key (id));
+alter table if exists strategy_rules add constraint FKaun50yo0xn5helred42mmotor foreign key (strategy_id) references strategies;